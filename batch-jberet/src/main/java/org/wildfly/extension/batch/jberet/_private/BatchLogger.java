@@ -202,4 +202,15 @@ public interface BatchLogger extends BasicLogger {
 
     @Message(id = 21, value = "Duplicate virtual file %s.")
     IllegalStateException duplicateVirtualFile(VirtualFile file);
+
+    /**
+     * Logs a warning indicating the checkpoint interval of a job is not a valid number of milliseconds.
+     *
+     * @param value the configured value
+     * @param property the name of the job property or parameter
+     * @param jobName the name of the job
+     */
+    @LogMessage(level = Level.WARN)
+    @Message(id = 22, value = "Ignoring invalid value '%s' of %s for job %s, checkpoints will not be coalesced.")
+    void invalidCheckpointInterval(String value, String property, String jobName);
 }
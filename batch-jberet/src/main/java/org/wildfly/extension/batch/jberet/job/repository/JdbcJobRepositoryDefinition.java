@@ -9,6 +9,7 @@ import javax.sql.DataSource;
 
 import org.jberet.repository.JobRepository;
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathElement;
@@ -27,9 +28,12 @@ import org.jboss.msc.service.ServiceTarget;
 import org.wildfly.extension.batch.jberet.BatchResourceDescriptionResolver;
 import org.wildfly.extension.batch.jberet._private.Capabilities;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 /**
  * Represents a JDBC job repository.
@@ -50,13 +54,35 @@ public class JdbcJobRepositoryDefinition extends SimpleResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    /**
+     * The number of writes issued to the database.
+     */
+    public static final SimpleAttributeDefinition WRITE_COUNT = SimpleAttributeDefinitionBuilder.create("write-count", ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    /**
+     * The number of checkpoint writes coalesced with a subsequent checkpoint.
+     */
+    public static final SimpleAttributeDefinition COALESCED_WRITE_COUNT = SimpleAttributeDefinitionBuilder.create("coalesced-write-count", ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    // Started job repositories, by resource name
+    private final Map<String, JdbcJobRepositoryService> repositories;
+
     public JdbcJobRepositoryDefinition() {
+        this(new ConcurrentHashMap<>());
+    }
+
+    private JdbcJobRepositoryDefinition(final Map<String, JdbcJobRepositoryService> repositories) {
         super(
                 new Parameters(PATH, BatchResourceDescriptionResolver.getResourceDescriptionResolver(NAME))
-                        .setAddHandler(new JdbcRepositoryAddHandler())
+                        .setAddHandler(new JdbcRepositoryAddHandler(repositories))
                         .setRemoveHandler(ReloadRequiredRemoveStepHandler.INSTANCE)
                         .setCapabilities(Capabilities.JOB_REPOSITORY_CAPABILITY)
         );
+        this.repositories = repositories;
     }
 
     @Override
@@ -66,12 +92,34 @@ public class JdbcJobRepositoryDefinition extends SimpleResourceDefinition {
                 new ReloadRequiredWriteAttributeHandler(DATA_SOURCE));
         resourceRegistration.registerReadWriteAttribute(CommonAttributes.EXECUTION_RECORDS_LIMIT, null,
                 new ReloadRequiredWriteAttributeHandler(CommonAttributes.EXECUTION_RECORDS_LIMIT));
+        resourceRegistration.registerMetric(WRITE_COUNT, new MetricHandler(repositories, JdbcJobRepositoryService::getWriteCount));
+        resourceRegistration.registerMetric(COALESCED_WRITE_COUNT, new MetricHandler(repositories, JdbcJobRepositoryService::getCoalescedWriteCount));
+    }
+
+    private static class MetricHandler extends AbstractRuntimeOnlyHandler {
+        private final Map<String, JdbcJobRepositoryService> repositories;
+        private final ToLongFunction<JdbcJobRepositoryService> metric;
+
+        MetricHandler(final Map<String, JdbcJobRepositoryService> repositories, final ToLongFunction<JdbcJobRepositoryService> metric) {
+            this.repositories = repositories;
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final JdbcJobRepositoryService repository = repositories.get(context.getCurrentAddressValue());
+            if (repository != null) {
+                context.getResult().set(metric.applyAsLong(repository));
+            }
+        }
     }
 
     private static class JdbcRepositoryAddHandler extends AbstractAddStepHandler {
+        private final Map<String, JdbcJobRepositoryService> repositories;
 
-        JdbcRepositoryAddHandler() {
+        JdbcRepositoryAddHandler(final Map<String, JdbcJobRepositoryService> repositories) {
             super(DATA_SOURCE, CommonAttributes.EXECUTION_RECORDS_LIMIT);
+            this.repositories = repositories;
         }
 
         @Override
@@ -83,7 +131,15 @@ public class JdbcJobRepositoryDefinition extends SimpleResourceDefinition {
             final ServiceTarget target = context.getServiceTarget();
             final ServiceName sn = context.getCapabilityServiceName(Capabilities.JOB_REPOSITORY_CAPABILITY.getName(), name, JobRepository.class);
             final ServiceBuilder<?> sb = target.addService(sn);
-            final Consumer<JobRepository> jobRepositoryConsumer = sb.provides(sn);
+            // The service provides itself once started, and null once stopped
+            final Consumer<JobRepository> provider = sb.provides(sn);
+            final Consumer<JobRepository> jobRepositoryConsumer = provider.andThen(repository -> {
+                if (repository instanceof JdbcJobRepositoryService) {
+                    repositories.put(name, (JdbcJobRepositoryService) repository);
+                } else {
+                    repositories.remove(name);
+                }
+            });
             final Supplier<ExecutorService> executorSupplier = Services.requireServerExecutor(sb);
             final Supplier<DataSource> dataSourceSupplier = sb.requires(context.getCapabilityServiceName(Capabilities.DATA_SOURCE_CAPABILITY, dsName, DataSource.class));
             final JdbcJobRepositoryService service = new JdbcJobRepositoryService(jobRepositoryConsumer, dataSourceSupplier, executorSupplier, executionRecordsLimit);
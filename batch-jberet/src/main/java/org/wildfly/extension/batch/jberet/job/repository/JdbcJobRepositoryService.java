@@ -5,14 +5,30 @@
 
 package org.wildfly.extension.batch.jberet.job.repository;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.sql.DataSource;
 
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobExecution;
+import jakarta.batch.runtime.StepExecution;
+
+import org.jberet.job.model.Job;
 import org.jberet.repository.JdbcRepository;
 import org.jberet.repository.JobRepository;
+import org.jberet.runtime.AbstractStepExecution;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -21,14 +37,35 @@ import org.wildfly.extension.batch.jberet._private.BatchLogger;
 
 /**
  * A service which provides a JDBC job repository.
+ * <p>
+ * A job may opt into coalescing the checkpoints of its running step and partition executions by specifying a positive
+ * number of milliseconds via the {@link #CHECKPOINT_INTERVAL_PROPERTY} job parameter, or job property of its job XML.
+ * Checkpoints of such a job are written at most once per interval: intermediate checkpoints are coalesced, i.e. only kept in
+ * memory, and the next checkpoint due is written with the then current state of the execution. Status changes other than
+ * the start of an execution, and the final state of an execution, are always written, so a restart resumes from a
+ * consistent checkpoint. Coalescing however weakens the delivery guarantee of the job to at-least-once: after a crash,
+ * items processed since the last written checkpoint are processed again, so their writers must be idempotent. A stop
+ * request issued by another process is only detected on the next written checkpoint.
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
  */
 public class JdbcJobRepositoryService extends JobRepositoryService implements Service<JobRepository> {
 
+    /**
+     * Job parameter or job property specifying the minimum interval, in milliseconds, between two checkpoint writes of a
+     * running step or partition execution of the job.
+     */
+    public static final String CHECKPOINT_INTERVAL_PROPERTY = "jboss.batch.checkpoint-interval";
+
     private final Supplier<DataSource> dataSourceSupplier;
     private final Supplier<ExecutorService> executorSupplier;
+    // Time of the last written checkpoint of running step and partition executions
+    private final Map<Object, Long> checkpoints = new ConcurrentHashMap<>();
+    // Checkpoint interval of running job executions
+    private final Map<Long, Long> checkpointIntervals = new ConcurrentHashMap<>();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder coalescedWrites = new LongAdder();
     private volatile JdbcRepository jobRepository;
 
     public JdbcJobRepositoryService(final Consumer<JobRepository> jobRepositoryConsumer,
@@ -64,6 +101,140 @@ public class JdbcJobRepositoryService extends JobRepositoryService implements Se
     @Override
     public void stopJobRepository(final StopContext context) {
         jobRepository = null;
+        checkpoints.clear();
+        checkpointIntervals.clear();
+    }
+
+    @Override
+    public JobInstanceImpl createJobInstance(final Job job, final String applicationName, final ClassLoader classLoader) {
+        writes.increment();
+        return super.createJobInstance(job, applicationName, classLoader);
+    }
+
+    @Override
+    public JobExecutionImpl createJobExecution(final JobInstanceImpl jobInstance, final Properties jobParameters) {
+        writes.increment();
+        return super.createJobExecution(jobInstance, jobParameters);
+    }
+
+    @Override
+    public void updateJobExecution(final JobExecutionImpl jobExecution, final boolean fullUpdate, final boolean saveJobParameters) {
+        final BatchStatus status = jobExecution.getBatchStatus();
+        if (status != BatchStatus.STARTING && status != BatchStatus.STARTED && status != BatchStatus.STOPPING) {
+            checkpointIntervals.remove(jobExecution.getExecutionId());
+        }
+        writes.increment();
+        super.updateJobExecution(jobExecution, fullUpdate, saveJobParameters);
+    }
+
+    @Override
+    public void stopJobExecution(final JobExecutionImpl jobExecution) {
+        writes.increment();
+        super.stopJobExecution(jobExecution);
+    }
+
+    @Override
+    public void addStepExecution(final JobExecutionImpl jobExecution, final StepExecutionImpl stepExecution) {
+        writes.increment();
+        super.addStepExecution(jobExecution, stepExecution);
+    }
+
+    @Override
+    public void updateStepExecution(final StepExecution stepExecution) {
+        // Writes the complete state of the step execution, including any coalesced checkpoint
+        checkpoints.remove(stepExecution.getStepExecutionId());
+        writes.increment();
+        super.updateStepExecution(stepExecution);
+    }
+
+    @Override
+    public void addPartitionExecution(final StepExecutionImpl enclosingStepExecution, final PartitionExecutionImpl partitionExecution) {
+        writes.increment();
+        super.addPartitionExecution(enclosingStepExecution, partitionExecution);
+    }
+
+    @Override
+    public void savePersistentData(final JobExecution jobExecution, final AbstractStepExecution stepOrPartitionExecution) {
+        if (coalesce(jobExecution, stepOrPartitionExecution)) {
+            return;
+        }
+        writes.increment();
+        super.savePersistentData(jobExecution, stepOrPartitionExecution);
+    }
+
+    @Override
+    public int savePersistentDataIfNotStopping(final JobExecution jobExecution, final AbstractStepExecution abstractStepExecution) {
+        if (coalesce(jobExecution, abstractStepExecution)) {
+            // A stop request by another process will be detected on the next written checkpoint
+            return 1;
+        }
+        writes.increment();
+        return super.savePersistentDataIfNotStopping(jobExecution, abstractStepExecution);
+    }
+
+    /**
+     * Determines whether the checkpoint of the specified execution can be coalesced with a subsequent checkpoint.
+     *
+     * @return true, if the write of the checkpoint should be skipped, false otherwise
+     */
+    boolean coalesce(final JobExecution jobExecution, final AbstractStepExecution execution) {
+        final Object key = (execution instanceof PartitionExecutionImpl) ? List.of(execution.getStepExecutionId(), ((PartitionExecutionImpl) execution).getPartitionId()) : execution.getStepExecutionId();
+        final long checkpointInterval = checkpointIntervals.computeIfAbsent(jobExecution.getExecutionId(), id -> checkpointInterval(jobExecution));
+        if (checkpointInterval <= 0 || execution.getBatchStatus() != BatchStatus.STARTED) {
+            checkpoints.remove(key);
+            return false;
+        }
+        final long now = System.nanoTime();
+        final Long lastWrite = checkpoints.get(key);
+        if (lastWrite != null && now - lastWrite < checkpointInterval) {
+            coalescedWrites.increment();
+            return true;
+        }
+        checkpoints.put(key, now);
+        return false;
+    }
+
+    /**
+     * Returns the checkpoint interval the specified job opted into, preferring its job parameters over its job properties.
+     *
+     * @return the checkpoint interval in nanoseconds, or 0, if checkpoints of the job should not be coalesced
+     */
+    private static long checkpointInterval(final JobExecution jobExecution) {
+        final Properties parameters = jobExecution.getJobParameters();
+        String value = (parameters != null) ? parameters.getProperty(CHECKPOINT_INTERVAL_PROPERTY) : null;
+        if (value == null && jobExecution instanceof JobExecutionImpl) {
+            final Job job = ((JobExecutionImpl) jobExecution).getSubstitutedJob();
+            if (job != null && job.getProperties() != null) {
+                value = job.getProperties().get(CHECKPOINT_INTERVAL_PROPERTY);
+            }
+        }
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return TimeUnit.MILLISECONDS.toNanos(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            BatchLogger.LOGGER.invalidCheckpointInterval(value, CHECKPOINT_INTERVAL_PROPERTY, jobExecution.getJobName());
+            return 0L;
+        }
+    }
+
+    /**
+     * Returns the number of writes issued to the database.
+     *
+     * @return the number of writes
+     */
+    public long getWriteCount() {
+        return writes.sum();
+    }
+
+    /**
+     * Returns the number of checkpoint writes that were coalesced with a subsequent checkpoint.
+     *
+     * @return the number of skipped writes
+     */
+    public long getCoalescedWriteCount() {
+        return coalescedWrites.sum();
     }
 
     @Override
@@ -0,0 +1,112 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.batch.jberet.job.repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.job.model.Job;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the checkpoint coalescing of {@link JdbcJobRepositoryService}.
+ */
+public class JdbcJobRepositoryServiceTestCase {
+
+    private final JdbcJobRepositoryService service = new JdbcJobRepositoryService(repository -> { }, null, null, null);
+
+    private static JobExecutionImpl createJobExecution(final long id, final Map<String, String> jobProperties, final Properties jobParameters) {
+        final Job job = new Job("test-job");
+        if (jobProperties != null) {
+            final org.jberet.job.model.Properties properties = new org.jberet.job.model.Properties();
+            properties.setNameValues(new LinkedHashMap<>(jobProperties));
+            job.setProperties(properties);
+        }
+        final JobExecutionImpl execution = new JobExecutionImpl(new JobInstanceImpl(job, "test-app", job.getId()), jobParameters);
+        execution.setId(id);
+        return execution;
+    }
+
+    private static StepExecutionImpl createStepExecution(final long id) {
+        final StepExecutionImpl execution = new StepExecutionImpl("test-step");
+        execution.setId(id);
+        execution.setBatchStatus(BatchStatus.STARTED);
+        return execution;
+    }
+
+    @Test
+    public void testNotOptedIn() {
+        final JobExecutionImpl jobExecution = createJobExecution(1L, null, null);
+        final StepExecutionImpl stepExecution = createStepExecution(1L);
+        for (int i = 0; i < 10; ++i) {
+            Assert.assertFalse(service.coalesce(jobExecution, stepExecution));
+        }
+        Assert.assertEquals(0L, service.getCoalescedWriteCount());
+    }
+
+    @Test
+    public void testJobParameter() {
+        final Properties parameters = new Properties();
+        parameters.setProperty(JdbcJobRepositoryService.CHECKPOINT_INTERVAL_PROPERTY, "60000");
+        final JobExecutionImpl jobExecution = createJobExecution(2L, null, parameters);
+        final StepExecutionImpl stepExecution = createStepExecution(2L);
+
+        // The first checkpoint is written, subsequent ones within the interval are coalesced
+        Assert.assertFalse(service.coalesce(jobExecution, stepExecution));
+        Assert.assertTrue(service.coalesce(jobExecution, stepExecution));
+        Assert.assertTrue(service.coalesce(jobExecution, stepExecution));
+        Assert.assertEquals(2L, service.getCoalescedWriteCount());
+
+        // Checkpoints of other executions of the same job are tracked separately
+        final PartitionExecutionImpl partitionExecution = new PartitionExecutionImpl(stepExecution);
+        partitionExecution.setPartitionId(1);
+        partitionExecution.setBatchStatus(BatchStatus.STARTED);
+        Assert.assertFalse(service.coalesce(jobExecution, partitionExecution));
+        Assert.assertTrue(service.coalesce(jobExecution, partitionExecution));
+
+        // Any status other than STARTED is always written
+        stepExecution.setBatchStatus(BatchStatus.STOPPING);
+        Assert.assertFalse(service.coalesce(jobExecution, stepExecution));
+        stepExecution.setBatchStatus(BatchStatus.STARTED);
+        Assert.assertFalse(service.coalesce(jobExecution, stepExecution));
+        Assert.assertTrue(service.coalesce(jobExecution, stepExecution));
+    }
+
+    @Test
+    public void testJobProperty() {
+        final JobExecutionImpl jobExecution = createJobExecution(3L, Map.of(JdbcJobRepositoryService.CHECKPOINT_INTERVAL_PROPERTY, "60000"), null);
+        final StepExecutionImpl stepExecution = createStepExecution(3L);
+        Assert.assertFalse(service.coalesce(jobExecution, stepExecution));
+        Assert.assertTrue(service.coalesce(jobExecution, stepExecution));
+
+        // Job parameters take precedence over job properties
+        final Properties parameters = new Properties();
+        parameters.setProperty(JdbcJobRepositoryService.CHECKPOINT_INTERVAL_PROPERTY, "0");
+        final JobExecutionImpl restartedExecution = createJobExecution(4L, Map.of(JdbcJobRepositoryService.CHECKPOINT_INTERVAL_PROPERTY, "60000"), parameters);
+        final StepExecutionImpl restartedStepExecution = createStepExecution(4L);
+        Assert.assertFalse(service.coalesce(restartedExecution, restartedStepExecution));
+        Assert.assertFalse(service.coalesce(restartedExecution, restartedStepExecution));
+    }
+
+    @Test
+    public void testInvalidInterval() {
+        final Properties parameters = new Properties();
+        parameters.setProperty(JdbcJobRepositoryService.CHECKPOINT_INTERVAL_PROPERTY, "1 minute");
+        final JobExecutionImpl jobExecution = createJobExecution(5L, null, parameters);
+        final StepExecutionImpl stepExecution = createStepExecution(5L);
+        Assert.assertFalse(service.coalesce(jobExecution, stepExecution));
+        Assert.assertFalse(service.coalesce(jobExecution, stepExecution));
+        Assert.assertEquals(0L, service.getCoalescedWriteCount());
+    }
+}
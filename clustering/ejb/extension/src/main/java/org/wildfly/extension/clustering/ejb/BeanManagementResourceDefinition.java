@@ -5,26 +5,32 @@
 
 package org.wildfly.extension.clustering.ejb;
 
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.zip.Deflater;
 
 import org.jboss.as.clustering.controller.CapabilityProvider;
 import org.jboss.as.clustering.controller.ChildResourceDefinition;
+import org.jboss.as.clustering.controller.MetricHandler;
 import org.jboss.as.clustering.controller.ResourceDescriptor;
-import org.jboss.as.clustering.controller.ResourceServiceConfiguratorFactory;
 import org.jboss.as.clustering.controller.ResourceServiceHandler;
+import org.jboss.as.clustering.controller.ServiceValueExecutorRegistry;
 import org.jboss.as.clustering.controller.SimpleResourceRegistrar;
-import org.jboss.as.clustering.controller.SimpleResourceServiceHandler;
 import org.jboss.as.clustering.controller.UnaryCapabilityNameResolver;
 import org.jboss.as.clustering.controller.UnaryRequirementCapability;
 import org.jboss.as.clustering.controller.validation.IntRangeValidatorBuilder;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.AttributeAccess.Flag;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.ejb.bean.BeanProviderRequirement;
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
 import org.wildfly.clustering.service.UnaryRequirement;
 
 /**
@@ -61,6 +67,22 @@ public class BeanManagementResourceDefinition extends ChildResourceDefinition<Ma
                 return builder.setAllowExpression(true).setValidator(new IntRangeValidatorBuilder().min(1).configure(builder).build());
             }
         },
+        COMPRESSION_THRESHOLD("compression-threshold", ModelType.INT) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setAllowExpression(true)
+                        .setMeasurementUnit(MeasurementUnit.BYTES)
+                        .setValidator(new IntRangeValidatorBuilder().min(0).configure(builder).build());
+            }
+        },
+        COMPRESSION_LEVEL("compression-level", ModelType.INT) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setAllowExpression(true)
+                        .setDefaultValue(new ModelNode(Deflater.BEST_SPEED))
+                        .setValidator(new IntRangeValidatorBuilder().min(Deflater.BEST_SPEED).max(Deflater.BEST_COMPRESSION).configure(builder).build());
+            }
+        },
         ;
         private final AttributeDefinition definition;
 
@@ -78,9 +100,9 @@ public class BeanManagementResourceDefinition extends ChildResourceDefinition<Ma
     }
 
     private final UnaryOperator<ResourceDescriptor> configurator;
-    private final ResourceServiceConfiguratorFactory factory;
+    private final Function<PathAddress, BeanManagementServiceConfigurator> factory;
 
-    BeanManagementResourceDefinition(PathElement path, UnaryOperator<ResourceDescriptor> configurator, ResourceServiceConfiguratorFactory factory) {
+    BeanManagementResourceDefinition(PathElement path, UnaryOperator<ResourceDescriptor> configurator, Function<PathAddress, BeanManagementServiceConfigurator> factory) {
         super(path, DistributableEjbExtension.SUBSYSTEM_RESOLVER.createChildResolver(path, PathElement.pathElement("bean-management")));
         this.configurator = configurator;
         this.factory = factory;
@@ -95,10 +117,15 @@ public class BeanManagementResourceDefinition extends ChildResourceDefinition<Ma
                 .addCapabilities(Capability.class)
                 ;
 
-        ResourceServiceHandler handler = new SimpleResourceServiceHandler(this.factory);
+        ServiceValueExecutorRegistry<ByteBufferCompression> executors = new ServiceValueExecutorRegistry<>();
+        ResourceServiceHandler handler = new BeanManagementServiceHandler(this.factory, executors);
 
         new SimpleResourceRegistrar(this.configurator.apply(descriptor), handler).register(registration);
 
+        if (registration.getProcessType().isServer()) {
+            new MetricHandler<>(new BeanManagementMetricExecutor(executors), CompressionMetric.class).register(registration);
+        }
+
         return registration;
     }
 }
\ No newline at end of file
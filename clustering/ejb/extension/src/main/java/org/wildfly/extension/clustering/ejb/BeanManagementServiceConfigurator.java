@@ -5,6 +5,8 @@
 
 package org.wildfly.extension.clustering.ejb;
 
+import static org.wildfly.extension.clustering.ejb.BeanManagementResourceDefinition.Attribute.COMPRESSION_LEVEL;
+import static org.wildfly.extension.clustering.ejb.BeanManagementResourceDefinition.Attribute.COMPRESSION_THRESHOLD;
 import static org.wildfly.extension.clustering.ejb.BeanManagementResourceDefinition.Attribute.MAX_ACTIVE_BEANS;
 
 import java.util.function.Consumer;
@@ -26,6 +28,7 @@ import org.wildfly.clustering.ejb.bean.BeanManagementConfiguration;
 import org.wildfly.clustering.ejb.bean.BeanManagementProvider;
 import org.wildfly.clustering.ejb.bean.BeanDeploymentMarshallingContext;
 import org.wildfly.clustering.ejb.cache.bean.BeanMarshallerFactory;
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.service.FunctionalService;
 import org.wildfly.clustering.service.ServiceConfigurator;
@@ -38,6 +41,7 @@ public abstract class BeanManagementServiceConfigurator  extends CapabilityServi
 
     private final String name;
     private volatile Integer maxActiveBeans;
+    private volatile ByteBufferCompression compression;
 
     public BeanManagementServiceConfigurator(PathAddress address) {
         super(BeanManagementResourceDefinition.Capability.BEAN_MANAGEMENT_PROVIDER, address);
@@ -48,6 +52,8 @@ public abstract class BeanManagementServiceConfigurator  extends CapabilityServi
     @Override
     public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
         this.maxActiveBeans = MAX_ACTIVE_BEANS.resolveModelAttribute(context, model).asIntOrNull();
+        ModelNode threshold = COMPRESSION_THRESHOLD.resolveModelAttribute(context, model);
+        this.compression = threshold.isDefined() ? new ByteBufferCompression(threshold.asInt(), COMPRESSION_LEVEL.resolveModelAttribute(context, model).asInt()) : null;
         return this;
     }
 
@@ -70,6 +76,11 @@ public abstract class BeanManagementServiceConfigurator  extends CapabilityServi
         return this.maxActiveBeans;
     }
 
+    @Override
+    public ByteBufferCompression getCompression() {
+        return this.compression;
+    }
+
     @Override
     public Function<BeanDeploymentMarshallingContext, ByteBufferMarshaller> getMarshallerFactory() {
         return BeanMarshallerFactory.JBOSS;
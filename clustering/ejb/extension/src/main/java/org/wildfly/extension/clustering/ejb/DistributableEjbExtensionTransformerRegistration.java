@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.ejb;
+
+import java.util.EnumSet;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescription;
+import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.kohsuke.MetaInfServices;
+
+/**
+ * Registers transformers for the distributable-ejb subsystem.
+ */
+@MetaInfServices(ExtensionTransformerRegistration.class)
+public class DistributableEjbExtensionTransformerRegistration implements ExtensionTransformerRegistration {
+
+    @Override
+    public String getSubsystemName() {
+        return DistributableEjbExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration registration) {
+        // Register transformers for all but the current model
+        for (DistributableEjbSubsystemModel model : EnumSet.complementOf(EnumSet.of(DistributableEjbSubsystemModel.CURRENT))) {
+            ModelVersion version = model.getVersion();
+            ResourceTransformationDescriptionBuilder builder = TransformationDescriptionBuilder.Factory.createSubsystemInstance();
+
+            if (DistributableEjbSubsystemModel.VERSION_2_0_0.requiresTransformation(version)) {
+                builder.addChildResource(InfinispanBeanManagementResourceDefinition.WILDCARD_PATH).getAttributeBuilder()
+                        .setDiscard(DiscardAttributeChecker.UNDEFINED, BeanManagementResourceDefinition.Attribute.COMPRESSION_THRESHOLD.getName())
+                        .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, BeanManagementResourceDefinition.Attribute.COMPRESSION_LEVEL.getName())
+                        .addRejectCheck(RejectAttributeChecker.DEFINED, BeanManagementResourceDefinition.Attribute.COMPRESSION_THRESHOLD.getName(), BeanManagementResourceDefinition.Attribute.COMPRESSION_LEVEL.getName())
+                        .end();
+            }
+
+            TransformationDescription.Tools.register(builder.build(), registration, version);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import org.wildfly.clustering.ejb.cache.bean.BeanGroupManager;
 import org.wildfly.clustering.ejb.cache.bean.BeanGroupManagerServiceNameProvider;
 import org.wildfly.clustering.ejb.cache.bean.DefaultBeanGroupManager;
 import org.wildfly.clustering.ejb.cache.bean.DefaultBeanGroupManagerConfiguration;
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshalledValueFactory;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.marshalling.spi.MarshalledValue;
@@ -44,11 +45,13 @@ public class InfinispanBeanGroupManagerServiceConfigurator<K, V extends BeanInst
 
     private final SupplierDependency<Cache<?, ?>> cache;
     private final SupplierDependency<ByteBufferMarshaller> marshaller;
+    private final ByteBufferCompression compression;
 
-    public InfinispanBeanGroupManagerServiceConfigurator(DeploymentConfiguration config, SupplierDependency<Cache<?, ?>> cache, SupplierDependency<ByteBufferMarshaller> marshaller) {
+    public InfinispanBeanGroupManagerServiceConfigurator(DeploymentConfiguration config, SupplierDependency<Cache<?, ?>> cache, SupplierDependency<ByteBufferMarshaller> marshaller, ByteBufferCompression compression) {
         super(config);
         this.cache = cache;
         this.marshaller = marshaller;
+        this.compression = compression;
     }
 
     @Override
@@ -63,7 +66,7 @@ public class InfinispanBeanGroupManagerServiceConfigurator<K, V extends BeanInst
     public BeanGroupManager<K, V> get() {
         CacheProperties properties = this.getCacheProperties();
         InfinispanBeanGroupManager<K, V, ByteBufferMarshaller> factory = new InfinispanBeanGroupManager<>(this);
-        MarshalledValueFactory<ByteBufferMarshaller> marshalledValueFactory = new ByteBufferMarshalledValueFactory(this.marshaller.get());
+        MarshalledValueFactory<ByteBufferMarshaller> marshalledValueFactory = new ByteBufferMarshalledValueFactory(this.marshaller.get(), this.compression);
         return new DefaultBeanGroupManager<>(new DefaultBeanGroupManagerConfiguration<K, V, ByteBufferMarshaller>() {
             @Override
             public Creator<K, MarshalledValue<Map<K, V>, ByteBufferMarshaller>, MarshalledValue<Map<K, V>, ByteBufferMarshaller>> getCreator() {
@@ -7,6 +7,7 @@ package org.wildfly.clustering.ejb.bean;
 
 import java.util.function.Function;
 
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 
 /**
@@ -20,4 +21,12 @@ public interface BeanManagementConfiguration extends BeanPassivationConfiguratio
      * @return a marshaller factory
      */
     Function<BeanDeploymentMarshallingContext, ByteBufferMarshaller> getMarshallerFactory();
+
+    /**
+     * Returns the compression of the bean groups of this provider.
+     * @return a compression, or null, if bean groups are not compressed
+     */
+    default ByteBufferCompression getCompression() {
+        return null;
+    }
 }
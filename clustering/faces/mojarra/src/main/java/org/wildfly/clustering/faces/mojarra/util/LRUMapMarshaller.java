@@ -5,14 +5,25 @@
 
 package org.wildfly.clustering.faces.mojarra.util;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 import org.infinispan.protostream.descriptors.WireType;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
 import org.wildfly.clustering.marshalling.protostream.ProtoStreamReader;
 import org.wildfly.clustering.marshalling.protostream.ProtoStreamWriter;
 import org.wildfly.clustering.marshalling.protostream.util.AbstractMapMarshaller;
@@ -21,12 +32,27 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 import com.sun.faces.util.LRUMap;
 
 /**
+ * Marshaller for the {@link LRUMap} used by Mojarra to store the views of a session with server-side state saving.
+ * If enabled via the {@value #COMPACT_VIEW_STATES_PROPERTY} system property, values other than nested maps (i.e. the state of a view) are marshalled individually,
+ * such that views whose state is identical to a preceding view of the same map are written as a reference to that view, and such that large view states are compressed.
+ * Members that predate this encoding cannot read it, so it must only be enabled once every member of the cluster was upgraded.
  * @author Paul Ferraro
  */
 public class LRUMapMarshaller extends AbstractMapMarshaller<LRUMap<Object, Object>> {
 
+    /**
+     * System property enabling the compact encoding of view states.
+     */
+    public static final String COMPACT_VIEW_STATES_PROPERTY = "jboss.clustering.faces.mojarra.compact-view-states";
+
     private static final int MAX_CAPACITY_INDEX = VALUE_INDEX + 1;
+    private static final int SERIALIZED_VALUE_INDEX = MAX_CAPACITY_INDEX + 1;
+    private static final int COMPRESSED_VALUE_INDEX = SERIALIZED_VALUE_INDEX + 1;
+    private static final int DUPLICATE_VALUE_INDEX = COMPRESSED_VALUE_INDEX + 1;
+
     private static final int DEFAULT_MAX_CAPACITY = 15;
+    // Serialized values larger than this number of bytes are compressed
+    private static final int COMPRESSION_THRESHOLD = 2048;
     private static final Field MAX_CAPACITY_FIELD = WildFlySecurityManager.doUnchecked(new PrivilegedAction<Field>() {
         @Override
         public Field run() {
@@ -40,16 +66,27 @@ public class LRUMapMarshaller extends AbstractMapMarshaller<LRUMap<Object, Objec
         }
     });
 
-    @SuppressWarnings("unchecked")
+    private final boolean compact;
+
     public LRUMapMarshaller() {
+        this(Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(COMPACT_VIEW_STATES_PROPERTY, Boolean.FALSE.toString())));
+    }
+
+    @SuppressWarnings("unchecked")
+    LRUMapMarshaller(boolean compact) {
         super((Class<LRUMap<Object, Object>>) (Class<?>) LRUMap.class);
+        this.compact = compact;
     }
 
     @Override
     public LRUMap<Object, Object> readFrom(ProtoStreamReader reader) throws IOException {
+        ProtoStreamByteBufferMarshaller marshaller = new ProtoStreamByteBufferMarshaller(reader.getSerializationContext());
         int maxCapacity = DEFAULT_MAX_CAPACITY;
         List<Object> keys = new LinkedList<>();
         List<Object> values = new LinkedList<>();
+        // Serialized form of each value, indexed by entry, used to resolve duplicate values
+        List<byte[]> serializedValues = new ArrayList<>();
+        List<Boolean> compressedValues = new ArrayList<>();
         while (!reader.isAtEnd()) {
             int tag = reader.readTag();
             switch (WireType.getTagFieldNumber(tag)) {
@@ -58,7 +95,28 @@ public class LRUMapMarshaller extends AbstractMapMarshaller<LRUMap<Object, Objec
                     break;
                 case VALUE_INDEX:
                     values.add(reader.readAny());
+                    serializedValues.add(null);
+                    compressedValues.add(Boolean.FALSE);
+                    break;
+                case SERIALIZED_VALUE_INDEX:
+                case COMPRESSED_VALUE_INDEX: {
+                    byte[] bytes = reader.readByteArray();
+                    boolean compressed = WireType.getTagFieldNumber(tag) == COMPRESSED_VALUE_INDEX;
+                    values.add(read(marshaller, bytes, compressed));
+                    serializedValues.add(bytes);
+                    compressedValues.add(compressed);
+                    break;
+                }
+                case DUPLICATE_VALUE_INDEX: {
+                    int index = reader.readUInt32();
+                    byte[] bytes = serializedValues.get(index);
+                    boolean compressed = compressedValues.get(index);
+                    // Read duplicate value independently, so that views do not share mutable state
+                    values.add(read(marshaller, bytes, compressed));
+                    serializedValues.add(bytes);
+                    compressedValues.add(compressed);
                     break;
+                }
                 case MAX_CAPACITY_INDEX:
                     maxCapacity = reader.readUInt32();
                     break;
@@ -77,7 +135,32 @@ public class LRUMapMarshaller extends AbstractMapMarshaller<LRUMap<Object, Objec
 
     @Override
     public void writeTo(ProtoStreamWriter writer, LRUMap<Object, Object> map) throws IOException {
-        super.writeTo(writer, map);
+        ProtoStreamByteBufferMarshaller marshaller = new ProtoStreamByteBufferMarshaller(writer.getSerializationContext());
+        Map<ByteBuffer, Integer> serializedValues = new HashMap<>();
+        synchronized (map) { // Avoid ConcurrentModificationException
+            int index = 0;
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                writer.writeAny(KEY_INDEX, entry.getKey());
+                Object value = entry.getValue();
+                if (!this.compact || (value == null) || (value instanceof Map)) {
+                    // Nested maps marshal their own values individually
+                    writer.writeAny(VALUE_INDEX, value);
+                } else {
+                    ByteArrayOutputStream output = new ByteArrayOutputStream();
+                    marshaller.writeTo(output, value);
+                    byte[] bytes = output.toByteArray();
+                    Integer duplicateIndex = serializedValues.putIfAbsent(ByteBuffer.wrap(bytes), index);
+                    if (duplicateIndex != null) {
+                        writer.writeUInt32(DUPLICATE_VALUE_INDEX, duplicateIndex);
+                    } else if (bytes.length > COMPRESSION_THRESHOLD) {
+                        writer.writeBytes(COMPRESSED_VALUE_INDEX, compress(bytes));
+                    } else {
+                        writer.writeBytes(SERIALIZED_VALUE_INDEX, bytes);
+                    }
+                }
+                index += 1;
+            }
+        }
         try {
             int maxCapacity = MAX_CAPACITY_FIELD.getInt(map);
             if (maxCapacity != DEFAULT_MAX_CAPACITY) {
@@ -87,4 +170,22 @@ public class LRUMapMarshaller extends AbstractMapMarshaller<LRUMap<Object, Objec
             throw new IllegalStateException(e);
         }
     }
+
+    private static Object read(ProtoStreamByteBufferMarshaller marshaller, byte[] bytes, boolean compressed) throws IOException {
+        InputStream input = new ByteArrayInputStream(bytes);
+        try (InputStream stream = compressed ? new InflaterInputStream(input) : input) {
+            return marshaller.readFrom(stream);
+        }
+    }
+
+    private static byte[] compress(byte[] bytes) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream stream = new DeflaterOutputStream(output, deflater)) {
+            stream.write(bytes);
+        } finally {
+            deflater.end();
+        }
+        return output.toByteArray();
+    }
 }
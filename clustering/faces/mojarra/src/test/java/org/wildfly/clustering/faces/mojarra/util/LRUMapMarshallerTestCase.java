@@ -4,11 +4,23 @@
  */
 package org.wildfly.clustering.faces.mojarra.util;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
+import org.infinispan.protostream.SerializationContext;
+import org.infinispan.protostream.SerializationContextInitializer;
 import org.junit.Test;
 import org.wildfly.clustering.marshalling.Tester;
+import org.wildfly.clustering.marshalling.protostream.AbstractSerializationContextInitializer;
 import org.wildfly.clustering.marshalling.protostream.ProtoStreamTesterFactory;
+import org.wildfly.clustering.marshalling.protostream.TestProtoStreamByteBufferMarshallerFactory;
+import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 
 import com.sun.faces.util.LRUMap;
 
@@ -17,6 +29,14 @@ import com.sun.faces.util.LRUMap;
  */
 public class LRUMapMarshallerTestCase {
 
+    // Overrides the default marshaller, which writes the legacy encoding
+    private static final SerializationContextInitializer COMPACT = new AbstractSerializationContextInitializer("com.sun.faces.util.proto") {
+        @Override
+        public void registerMarshallers(SerializationContext context) {
+            context.registerMarshaller(new LRUMapMarshaller(true));
+        }
+    };
+
     @Test
     public void test() throws IOException {
         Tester<LRUMap<Object, Object>> tester = ProtoStreamTesterFactory.INSTANCE.createTester();
@@ -26,4 +46,72 @@ public class LRUMapMarshallerTestCase {
         map.put(2, "2");
         tester.test(map);
     }
+
+    @Test
+    public void testViewStates() throws IOException {
+        testViewStates(ProtoStreamTesterFactory.INSTANCE.createTester());
+    }
+
+    @Test
+    public void testCompactViewStates() throws IOException {
+        testViewStates(ProtoStreamTesterFactory.createTester(List.of(COMPACT)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testDuplicateViewStates() throws IOException {
+        ByteBufferMarshaller legacy = new TestProtoStreamByteBufferMarshallerFactory().get();
+        ByteBufferMarshaller compact = new TestProtoStreamByteBufferMarshallerFactory(List.of(COMPACT)).get();
+        // A view state below the compression threshold
+        String state = UUID.randomUUID().toString().repeat(20);
+        LRUMap<Object, Object> single = new LRUMap<>(15);
+        single.put("1", new Object[] { "structure", state });
+        LRUMap<Object, Object> duplicate = new LRUMap<>(15);
+        duplicate.put("1", new Object[] { "structure", state });
+        // Equal, but distinct, state, as restored by separate requests
+        duplicate.put("2", new Object[] { "structure", new String(state) });
+
+        // The legacy encoding writes the state of each view
+        int legacyDuplicateSize = legacy.write(duplicate).remaining() - legacy.write(single).remaining();
+        assertTrue(String.valueOf(legacyDuplicateSize), legacyDuplicateSize > state.length());
+        // The compact encoding writes a view whose state duplicates a preceding view as a reference to that view
+        int compactDuplicateSize = compact.write(duplicate).remaining() - compact.write(single).remaining();
+        assertTrue(String.valueOf(compactDuplicateSize), compactDuplicateSize < 32);
+        assertMapEquals(duplicate, (Map<Object, Object>) compact.read(compact.write(duplicate)));
+
+        // The compact encoding compresses large view states
+        LRUMap<Object, Object> large = new LRUMap<>(15);
+        large.put("1", new Object[] { "structure", "state".repeat(1000) });
+        int compactSize = compact.write(large).remaining();
+        assertTrue(String.valueOf(compactSize), compactSize < legacy.write(large).remaining() / 10);
+        assertMapEquals(large, (Map<Object, Object>) compact.read(compact.write(large)));
+    }
+
+    private static void testViewStates(Tester<LRUMap<Object, Object>> tester) throws IOException {
+        LRUMap<Object, Object> map = new LRUMap<>(10);
+        map.put(1, "1");
+        // Large and duplicate view states
+        String state = "state".repeat(1000);
+        map.put(2, new Object[] { "structure", state });
+        map.put(3, new Object[] { "structure", state });
+        LRUMap<Object, Object> views = new LRUMap<>(15);
+        views.put("view", new Object[] { "structure", state });
+        map.put(4, views);
+        tester.test(map, LRUMapMarshallerTestCase::assertMapEquals);
+    }
+
+    @SuppressWarnings("unchecked")
+    static void assertMapEquals(Map<Object, Object> expected, Map<Object, Object> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<Object, Object> entry : expected.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof Object[]) {
+                assertArrayEquals((Object[]) value, (Object[]) actual.get(entry.getKey()));
+            } else if (value instanceof Map) {
+                assertMapEquals((Map<Object, Object>) value, (Map<Object, Object>) actual.get(entry.getKey()));
+            } else {
+                assertEquals(value, actual.get(entry.getKey()));
+            }
+        }
+    }
 }
@@ -24,15 +24,13 @@ import org.wildfly.clustering.marshalling.protostream.ProtoStreamWriter;
 public abstract class AbstractMemberMarshaller<T, M extends Member> implements ProtoStreamMarshaller<T>, Function<Object[], T> {
 
     private final Class<? extends T> type;
-    private final BiFunction<Object, M, Object> accessor;
-    private final List<M> members;
+    private final List<Function<Object, Object>> accessors;
 
-    public AbstractMemberMarshaller(Class<? extends T> type, BiFunction<Object, M, Object> accessor, BiFunction<Class<?>, Class<?>, M> memberLocator, Class<?>... memberTypes) {
+    public AbstractMemberMarshaller(Class<? extends T> type, Function<M, Function<Object, Object>> accessorFactory, BiFunction<Class<?>, Class<?>, M> memberLocator, Class<?>... memberTypes) {
         this.type = type;
-        this.accessor = accessor;
-        this.members = new ArrayList<>(memberTypes.length);
+        this.accessors = new ArrayList<>(memberTypes.length);
         for (Class<?> memberType : memberTypes) {
-            this.members.add(memberLocator.apply(type, memberType));
+            this.accessors.add(accessorFactory.apply(memberLocator.apply(type, memberType)));
         }
     }
 
@@ -43,7 +41,7 @@ public abstract class AbstractMemberMarshaller<T, M extends Member> implements P
 
     @Override
     public T readFrom(ProtoStreamReader reader) throws IOException {
-        Object[] values = new Object[this.members.size()];
+        Object[] values = new Object[this.accessors.size()];
         while (!reader.isAtEnd()) {
             int tag = reader.readTag();
             int index = WireType.getTagFieldNumber(tag);
@@ -58,8 +56,8 @@ public abstract class AbstractMemberMarshaller<T, M extends Member> implements P
 
     @Override
     public void writeTo(ProtoStreamWriter writer, T source) throws IOException {
-        for (int i = 0; i < this.members.size(); ++i) {
-            Object value = this.accessor.apply(source, this.members.get(i));
+        for (int i = 0; i < this.accessors.size(); ++i) {
+            Object value = this.accessors.get(i).apply(source);
             if (value != null) {
                 writer.writeAny(i + 1, value);
             }
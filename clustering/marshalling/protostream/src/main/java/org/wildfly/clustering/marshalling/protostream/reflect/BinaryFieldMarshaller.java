@@ -15,6 +15,6 @@ import java.util.function.BiFunction;
 public class BinaryFieldMarshaller<T, F1, F2> extends BinaryMemberMarshaller<T, Field, F1, F2> {
 
     public BinaryFieldMarshaller(Class<? extends T> type, Class<F1> field1Type, Class<F2> field2Type, BiFunction<F1, F2, T> factory) {
-        super(type, Reflect::getValue, Reflect::findField, field1Type, field2Type, factory);
+        super(type, Reflect::getter, Reflect::findField, field1Type, field2Type, factory);
     }
 }
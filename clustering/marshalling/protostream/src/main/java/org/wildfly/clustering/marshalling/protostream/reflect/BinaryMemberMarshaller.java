@@ -7,6 +7,7 @@ package org.wildfly.clustering.marshalling.protostream.reflect;
 
 import java.lang.reflect.Member;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Generic marshaller based on two non-public members.
@@ -18,8 +19,8 @@ public class BinaryMemberMarshaller<T, M extends Member, M1, M2> extends Abstrac
     private final Class<M2> member2Type;
     private final BiFunction<M1, M2, T> factory;
 
-    public BinaryMemberMarshaller(Class<? extends T> type, BiFunction<Object, M, Object> accessor, BiFunction<Class<?>, Class<?>, M> memberLocator, Class<M1> member1Type, Class<M2> member2Type, BiFunction<M1, M2, T> factory) {
-        super(type, accessor, memberLocator, member1Type, member2Type);
+    public BinaryMemberMarshaller(Class<? extends T> type, Function<M, Function<Object, Object>> accessorFactory, BiFunction<Class<?>, Class<?>, M> memberLocator, Class<M1> member1Type, Class<M2> member2Type, BiFunction<M1, M2, T> factory) {
+        super(type, accessorFactory, memberLocator, member1Type, member2Type);
         this.member1Type = member1Type;
         this.member2Type = member2Type;
         this.factory = factory;
@@ -15,6 +15,6 @@ import java.util.function.BiFunction;
 public class BinaryMethodMarshaller<T, M1, M2> extends BinaryMemberMarshaller<T, Method, M1, M2> {
 
     public BinaryMethodMarshaller(Class<? extends T> type, Class<M1> member1Type, Class<M2> member2Type, BiFunction<M1, M2, T> factory) {
-        super(type, Reflect::invoke, Reflect::findMethod, member1Type, member2Type, factory);
+        super(type, Reflect::getter, Reflect::findMethod, member1Type, member2Type, factory);
     }
 }
\ No newline at end of file
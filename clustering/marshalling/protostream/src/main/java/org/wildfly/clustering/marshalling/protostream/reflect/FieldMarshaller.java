@@ -6,8 +6,11 @@
 package org.wildfly.clustering.marshalling.protostream.reflect;
 
 import java.io.IOException;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.infinispan.protostream.descriptors.WireType;
@@ -23,23 +26,26 @@ public class FieldMarshaller<T> implements ProtoStreamMarshaller<T> {
 
     private final Class<? extends T> type;
     private final Supplier<? extends T> factory;
-    private final Field[] fields;
+    private final List<Function<Object, Object>> getters;
+    private final List<BiConsumer<Object, Object>> setters;
 
     public FieldMarshaller(Class<? extends T> type, Class<?>... memberTypes) {
         this(type, defaultFactory(type), memberTypes);
     }
 
     private static <T> Supplier<T> defaultFactory(Class<T> type) {
-        Constructor<T> constructor = Reflect.getConstructor(type);
-        return () -> Reflect.newInstance(constructor);
+        return Reflect.factory(Reflect.getConstructor(type));
     }
 
     public FieldMarshaller(Class<? extends T> type, Supplier<? extends T> factory, Class<?>... memberTypes) {
         this.type = type;
         this.factory = factory;
-        this.fields = new Field[memberTypes.length];
-        for (int i = 0; i < this.fields.length; ++i) {
-            this.fields[i] = Reflect.findField(type, memberTypes[i]);
+        this.getters = new ArrayList<>(memberTypes.length);
+        this.setters = new ArrayList<>(memberTypes.length);
+        for (Class<?> memberType : memberTypes) {
+            Field field = Reflect.findField(type, memberType);
+            this.getters.add(Reflect.getter(field));
+            this.setters.add(Reflect.setter(field));
         }
     }
 
@@ -54,8 +60,8 @@ public class FieldMarshaller<T> implements ProtoStreamMarshaller<T> {
         while (!reader.isAtEnd()) {
             int tag = reader.readTag();
             int index = WireType.getTagFieldNumber(tag);
-            if ((index > 0) || (index <= this.fields.length)) {
-                Reflect.setValue(result, this.fields[index - 1], reader.readAny());
+            if ((index > 0) || (index <= this.setters.size())) {
+                this.setters.get(index - 1).accept(result, reader.readAny());
             } else {
                 reader.skipField(tag);
             }
@@ -65,8 +71,8 @@ public class FieldMarshaller<T> implements ProtoStreamMarshaller<T> {
 
     @Override
     public void writeTo(ProtoStreamWriter writer, T source) throws IOException {
-        for (int i = 0; i < this.fields.length; ++i) {
-            Object value = Reflect.getValue(source, this.fields[i]);
+        for (int i = 0; i < this.getters.size(); ++i) {
+            Object value = this.getters.get(i).apply(source);
             if (value != null) {
                 writer.writeAny(i + 1, value);
             }
@@ -6,7 +6,7 @@
 package org.wildfly.clustering.marshalling.protostream.reflect;
 
 import java.io.IOException;
-import java.lang.reflect.Method;
+import java.util.function.Function;
 
 import org.wildfly.clustering.marshalling.protostream.FunctionalScalarMarshaller;
 import org.wildfly.clustering.marshalling.protostream.Scalar;
@@ -18,19 +18,34 @@ import org.wildfly.common.function.ExceptionFunction;
  */
 public class ProxyMarshaller<T> extends FunctionalScalarMarshaller<T, Object> {
 
+    // Proxy classes are typically generated, so resolve their methods lazily, once per class
+    private static final ClassValue<Function<Object, Object>> WRITE_REPLACE = new ProxyMethodValue("writeReplace");
+    private static final ClassValue<Function<Object, Object>> READ_RESOLVE = new ProxyMethodValue("readResolve");
+
     public ProxyMarshaller(Class<? extends T> targetClass) {
         super(targetClass, Scalar.ANY, new ExceptionFunction<T, Object, IOException>() {
             @Override
             public Object apply(T object) throws IOException {
-                Method method = Reflect.findMethod(object.getClass(), "writeReplace");
-                return Reflect.invoke(object, method);
+                return WRITE_REPLACE.get(object.getClass()).apply(object);
             }
         }, new ExceptionFunction<Object, T, IOException>() {
             @Override
             public T apply(Object proxy) throws IOException {
-                Method method = Reflect.findMethod(proxy.getClass(), "readResolve");
-                return Reflect.invoke(proxy, method, targetClass);
+                return targetClass.cast(READ_RESOLVE.get(proxy.getClass()).apply(proxy));
             }
         });
     }
+
+    private static class ProxyMethodValue extends ClassValue<Function<Object, Object>> {
+        private final String methodName;
+
+        ProxyMethodValue(String methodName) {
+            this.methodName = methodName;
+        }
+
+        @Override
+        protected Function<Object, Object> computeValue(Class<?> proxyClass) {
+            return Reflect.getter(Reflect.findMethod(proxyClass, this.methodName));
+        }
+    }
 }
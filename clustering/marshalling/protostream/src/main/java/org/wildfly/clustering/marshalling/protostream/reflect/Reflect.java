@@ -5,24 +5,34 @@
 
 package org.wildfly.clustering.marshalling.protostream.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.security.PrivilegedAction;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Utility methods requiring privileged actions for use by reflection-based marshallers.
+ * Members are located and resolved to method handles once, such that their subsequent invocation does not require a privileged action.
  * Do not change class/method visibility to avoid being called from other {@link java.security.CodeSource}s, thus granting privilege escalation to external code.
  * @author Paul Ferraro
  */
 final class Reflect {
 
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+
     static Field findField(Class<?> sourceClass, Class<?> fieldType) {
         return WildFlySecurityManager.doUnchecked(new PrivilegedAction<Field>() {
             @Override
@@ -121,78 +131,128 @@ final class Reflect {
         });
     }
 
-    static <T> T newInstance(Constructor<T> constructor, Object... parameters) {
-        return WildFlySecurityManager.doUnchecked(new PrivilegedAction<T>() {
+    /**
+     * Returns a function that reads the value of the specified accessible field.
+     * @param field an accessible field
+     * @return a function returning the field value of a given object
+     */
+    static Function<Object, Object> getter(Field field) {
+        MethodHandle handle = unreflect(field, Lookup::unreflectGetter).asType(MethodType.methodType(Object.class, Object.class));
+        return new Function<>() {
             @Override
-            public T run() {
+            public Object apply(Object source) {
                 try {
-                    return constructor.newInstance(parameters);
-                } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
+                    return handle.invokeExact(source);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
                     throw new IllegalStateException(e);
                 }
             }
-        });
-    }
-
-    static Object getValue(Object source, Field field) {
-        return getValue(source, field, Object.class);
+        };
     }
 
-    static <T> T getValue(Object source, Field field, Class<T> fieldType) {
-        return WildFlySecurityManager.doUnchecked(new PrivilegedAction<T>() {
+    /**
+     * Returns a function that writes the value of the specified accessible field.
+     * @param field an accessible field
+     * @return a consumer of an object and the value of its field
+     */
+    static BiConsumer<Object, Object> setter(Field field) {
+        MethodHandle handle = unreflect(field, Lookup::unreflectSetter).asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return new BiConsumer<>() {
             @Override
-            public T run() {
+            public void accept(Object source, Object value) {
                 try {
-                    return fieldType.cast(field.get(source));
-                } catch (IllegalAccessException e) {
+                    handle.invokeExact(source, value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
                     throw new IllegalStateException(e);
                 }
             }
-        });
+        };
     }
 
-    static void setValue(Object source, Field field, Object value) {
-        WildFlySecurityManager.doUnchecked(new PrivilegedAction<Void>() {
+    /**
+     * Returns a function that invokes the specified accessible method, which accepts no parameters.
+     * @param method an accessible method
+     * @return a function returning the result of the method invoked on a given object
+     */
+    static Function<Object, Object> getter(Method method) {
+        MethodHandle handle = unreflect(method, Lookup::unreflect).asType(MethodType.methodType(Object.class, Object.class));
+        return new Function<>() {
             @Override
-            public Void run() {
+            public Object apply(Object source) {
                 try {
-                    field.set(source, value);
-                    return null;
-                } catch (IllegalAccessException e) {
+                    return handle.invokeExact(source);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
                     throw new IllegalStateException(e);
                 }
             }
-        });
+        };
     }
 
-    static Object invoke(Object source, Method method) {
-        return invoke(source, method, Object.class);
-    }
-
-    static <T> T invoke(Object source, Method method, Class<T> returnClass) {
-        return WildFlySecurityManager.doUnchecked(new PrivilegedAction<T>() {
+    /**
+     * Returns a factory that invokes the specified accessible constructor, which accepts no parameters.
+     * @param constructor an accessible constructor
+     * @return an object factory
+     */
+    static <T> Supplier<T> factory(Constructor<T> constructor) {
+        Class<T> type = constructor.getDeclaringClass();
+        MethodHandle handle = unreflect(constructor, Lookup::unreflectConstructor).asType(MethodType.methodType(Object.class));
+        return new Supplier<>() {
             @Override
-            public T run() {
+            public T get() {
                 try {
-                    return returnClass.cast(method.invoke(source));
-                } catch (IllegalAccessException | InvocationTargetException e) {
+                    return type.cast(handle.invokeExact());
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
                     throw new IllegalStateException(e);
                 }
             }
-        });
+        };
     }
 
-    static Object invoke(Object source, String methodName) {
-        return invoke(source, methodName, Object.class);
+    /**
+     * Returns a factory that invokes the specified accessible constructor, which accepts a single parameter.
+     * @param constructor an accessible constructor
+     * @return an object factory
+     */
+    static <T, P> Function<P, T> unaryFactory(Constructor<? extends T> constructor) {
+        Class<? extends T> type = constructor.getDeclaringClass();
+        MethodHandle handle = unreflect(constructor, Lookup::unreflectConstructor).asType(MethodType.methodType(Object.class, Object.class));
+        return new Function<>() {
+            @Override
+            public T apply(P parameter) {
+                try {
+                    return type.cast(handle.invokeExact((Object) parameter));
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
     }
 
-    static <T> T invoke(Object source, String methodName, Class<T> returnType) {
-        return WildFlySecurityManager.doUnchecked(new PrivilegedAction<T>() {
+    private static <M extends AccessibleObject> MethodHandle unreflect(M member, MemberUnreflector<M> unreflector) {
+        // Access checks are suppressed for accessible members, thus handles are resolved once and invoked without privileges
+        return WildFlySecurityManager.doUnchecked(new PrivilegedAction<MethodHandle>() {
             @Override
-            public T run() {
-                Method method = findMethod(source.getClass(), methodName);
-                return invoke(source, method, returnType);
+            public MethodHandle run() {
+                try {
+                    return unreflector.unreflect(LOOKUP, member);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
             }
         });
     }
+
+    private interface MemberUnreflector<M extends AccessibleObject> {
+        MethodHandle unreflect(Lookup lookup, M member) throws IllegalAccessException;
+    }
 }
@@ -14,6 +14,6 @@ import java.lang.reflect.Field;
 public class TernaryFieldMarshaller<T, F1, F2, F3> extends TernaryMemberMarshaller<T, Field, F1, F2, F3> {
 
     public TernaryFieldMarshaller(Class<? extends T> type, Class<F1> field1Type, Class<F2> field2Type, Class<F3> field3Type, TriFunction<F1, F2, F3, T> factory) {
-        super(type, Reflect::getValue, Reflect::findField, field1Type, field2Type, field3Type, factory);
+        super(type, Reflect::getter, Reflect::findField, field1Type, field2Type, field3Type, factory);
     }
 }
@@ -7,6 +7,7 @@ package org.wildfly.clustering.marshalling.protostream.reflect;
 
 import java.lang.reflect.Member;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * Generic marshaller based on three non-public members.
@@ -19,8 +20,8 @@ public class TernaryMemberMarshaller<T, M extends Member, M1, M2, M3> extends Ab
     private final Class<M3> member3Type;
     private final TriFunction<M1, M2, M3, T> factory;
 
-    public TernaryMemberMarshaller(Class<? extends T> type, BiFunction<Object, M, Object> accessor, BiFunction<Class<?>, Class<?>, M> memberLocator, Class<M1> member1Type, Class<M2> member2Type, Class<M3> member3Type, TriFunction<M1, M2, M3, T> factory) {
-        super(type, accessor, memberLocator, member1Type, member2Type, member3Type);
+    public TernaryMemberMarshaller(Class<? extends T> type, Function<M, Function<Object, Object>> accessorFactory, BiFunction<Class<?>, Class<?>, M> memberLocator, Class<M1> member1Type, Class<M2> member2Type, Class<M3> member3Type, TriFunction<M1, M2, M3, T> factory) {
+        super(type, accessorFactory, memberLocator, member1Type, member2Type, member3Type);
         this.member1Type = member1Type;
         this.member2Type = member2Type;
         this.member3Type = member3Type;
@@ -14,6 +14,6 @@ import java.lang.reflect.Method;
 public class TernaryMethodMarshaller<T, M1, M2, M3> extends TernaryMemberMarshaller<T, Method, M1, M2, M3> {
 
     public TernaryMethodMarshaller(Class<? extends T> type, Class<M1> member1Type, Class<M2> member2Type, Class<M3> member3Type, TriFunction<M1, M2, M3, T> factory) {
-        super(type, Reflect::invoke, Reflect::findMethod, member1Type, member2Type, member3Type, factory);
+        super(type, Reflect::getter, Reflect::findMethod, member1Type, member2Type, member3Type, factory);
     }
 }
@@ -5,14 +5,9 @@
 
 package org.wildfly.clustering.marshalling.protostream.reflect;
 
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.security.PrivilegedAction;
 import java.util.function.Function;
 
-import org.wildfly.security.manager.WildFlySecurityManager;
-
 /**
  * Generic marshaller based on a single non-public field.
  * @author Paul Ferraro
@@ -20,28 +15,10 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 public class UnaryFieldMarshaller<T, F> extends UnaryMemberMarshaller<T, Field, F> {
 
     public UnaryFieldMarshaller(Class<? extends T> targetClass, Class<F> fieldClass, Function<F, T> factory) {
-        super(targetClass, Reflect::getValue, Reflect::findField, fieldClass, factory);
+        super(targetClass, Reflect::getter, Reflect::findField, fieldClass, factory);
     }
 
     public UnaryFieldMarshaller(Class<? extends T> targetClass, Class<F> fieldClass) {
-        this(targetClass, fieldClass, Reflect.getConstructor(targetClass, fieldClass));
-    }
-
-    private UnaryFieldMarshaller(Class<? extends T> targetClass, Class<F> fieldClass, Constructor<? extends T> constructor) {
-        this(targetClass, fieldClass, new Function<>() {
-            @Override
-            public T apply(F value) {
-                return WildFlySecurityManager.doUnchecked(new PrivilegedAction<>() {
-                    @Override
-                    public T run() {
-                        try {
-                            return constructor.newInstance(value);
-                        } catch (IllegalAccessException | InstantiationException | InvocationTargetException e) {
-                            throw new IllegalStateException(e);
-                        }
-                    }
-                });
-            }
-        });
+        this(targetClass, fieldClass, Reflect.<T, F>unaryFactory(Reflect.getConstructor(targetClass, fieldClass)));
     }
 }
@@ -18,8 +18,8 @@ public class UnaryMemberMarshaller<T, M extends Member, M1> extends AbstractMemb
     private final Class<M1> memberType;
     private final Function<M1, T> factory;
 
-    public UnaryMemberMarshaller(Class<? extends T> type, BiFunction<Object, M, Object> accessor, BiFunction<Class<?>, Class<?>, M> memberLocator, Class<M1> memberType, Function<M1, T> factory) {
-        super(type, accessor, memberLocator, memberType);
+    public UnaryMemberMarshaller(Class<? extends T> type, Function<M, Function<Object, Object>> accessorFactory, BiFunction<Class<?>, Class<?>, M> memberLocator, Class<M1> memberType, Function<M1, T> factory) {
+        super(type, accessorFactory, memberLocator, memberType);
         this.memberType = memberType;
         this.factory = factory;
     }
@@ -15,6 +15,6 @@ import java.util.function.Function;
 public class UnaryMethodMarshaller<T, M> extends UnaryMemberMarshaller<T, Method, M> {
 
     public UnaryMethodMarshaller(Class<? extends T> targetClass, Class<M> fieldClass, Function<M, T> factory) {
-        super(targetClass, Reflect::invoke, Reflect::findMethod, fieldClass, factory);
+        super(targetClass, Reflect::getter, Reflect::findMethod, fieldClass, factory);
     }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.protostream.reflect;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.junit.Test;
+import org.wildfly.clustering.marshalling.Tester;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamTesterFactory;
+
+/**
+ * Round trip tests for the reflection-based marshallers, whose members are invoked via method handles.
+ */
+public class ReflectMarshallerTestCase {
+
+    @Test
+    public void field() throws IOException {
+        Tester<FieldPair> tester = ProtoStreamTesterFactory.INSTANCE.createTester();
+        tester.test(new FieldPair("foo", 1));
+        tester.test(new FieldPair(null, null));
+    }
+
+    @Test
+    public void method() throws IOException {
+        Tester<MethodPair> tester = ProtoStreamTesterFactory.INSTANCE.createTester();
+        tester.test(new MethodPair("foo", 1));
+        tester.test(new MethodPair(null, null));
+    }
+
+    @Test
+    public void constructor() throws IOException {
+        Tester<Label> tester = ProtoStreamTesterFactory.INSTANCE.createTester();
+        tester.test(new Label("foo"));
+    }
+
+    @Test
+    public void proxy() throws IOException {
+        Tester<Token> tester = ProtoStreamTesterFactory.INSTANCE.createTester();
+        tester.test(new Token("foo"));
+        // Methods resolved for the proxy class are reused
+        tester.test(new Token("bar"));
+    }
+
+    static class FieldPair {
+        private final String name;
+        private final Integer value;
+
+        FieldPair(String name, Integer value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof FieldPair)) return false;
+            FieldPair pair = (FieldPair) object;
+            return Objects.equals(this.name, pair.name) && Objects.equals(this.value, pair.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name, this.value);
+        }
+    }
+
+    static class MethodPair {
+        private final String name;
+        private final Integer value;
+
+        MethodPair(String name, Integer value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        private String getName() {
+            return this.name;
+        }
+
+        private Integer getValue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof MethodPair)) return false;
+            MethodPair pair = (MethodPair) object;
+            return Objects.equals(this.getName(), pair.getName()) && Objects.equals(this.getValue(), pair.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.name, this.value);
+        }
+    }
+
+    static class Label {
+        private final String value;
+
+        private Label(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return (object instanceof Label) && this.value.equals(((Label) object).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.value.hashCode();
+        }
+    }
+
+    static class Token {
+        private final String value;
+
+        Token(String value) {
+            this.value = value;
+        }
+
+        private Object writeReplace() {
+            return new TokenProxy(this.value);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return (object instanceof Token) && this.value.equals(((Token) object).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.value.hashCode();
+        }
+    }
+
+    static class TokenProxy {
+        private final String value;
+
+        TokenProxy(String value) {
+            this.value = value;
+        }
+
+        private Object readResolve() {
+            return new Token(this.value);
+        }
+    }
+}
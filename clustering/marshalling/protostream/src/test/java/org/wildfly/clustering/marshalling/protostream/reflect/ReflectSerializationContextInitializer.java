@@ -0,0 +1,22 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.protostream.reflect;
+
+import org.infinispan.protostream.SerializationContext;
+import org.wildfly.clustering.marshalling.protostream.AbstractSerializationContextInitializer;
+
+public class ReflectSerializationContextInitializer extends AbstractSerializationContextInitializer {
+
+    @Override
+    public void registerMarshallers(SerializationContext context) {
+        context.registerMarshaller(new BinaryFieldMarshaller<>(ReflectMarshallerTestCase.FieldPair.class, String.class, Integer.class, ReflectMarshallerTestCase.FieldPair::new));
+        context.registerMarshaller(new BinaryMethodMarshaller<>(ReflectMarshallerTestCase.MethodPair.class, String.class, Integer.class, ReflectMarshallerTestCase.MethodPair::new));
+        // Uses the reflected constructor
+        context.registerMarshaller(new UnaryFieldMarshaller<>(ReflectMarshallerTestCase.Label.class, String.class));
+        context.registerMarshaller(new ProxyMarshaller<>(ReflectMarshallerTestCase.Token.class));
+        context.registerMarshaller(new UnaryFieldMarshaller<>(ReflectMarshallerTestCase.TokenProxy.class, String.class, ReflectMarshallerTestCase.TokenProxy::new));
+    }
+}
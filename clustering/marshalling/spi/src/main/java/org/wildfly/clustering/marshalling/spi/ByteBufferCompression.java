@@ -0,0 +1,209 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compresses marshalled values whose size exceeds a given threshold, and records statistics of its compressions and decompressions.
+ * A compressed buffer is self-describing: it starts with a two byte marker that never starts the output of a {@link ByteBufferMarshaller}
+ * (i.e. a protobuf tag, a JBoss Marshalling version followed by a River protocol version, or a Java serialization stream header), followed by a byte identifying the compression format.
+ * Consequently, compressed and uncompressed buffers can be read interchangeably, regardless of whether compression is enabled.
+ * N.B. Servers that predate this format cannot read compressed buffers, so compression should only be enabled once all members of a cluster support it.
+ */
+public class ByteBufferCompression {
+
+    private static final byte[] MARKER = new byte[] { 0, (byte) 0xFF };
+    private static final byte DEFLATE = 1;
+    private static final int HEADER_SIZE = MARKER.length + 1;
+
+    private final int threshold;
+    private final int level;
+
+    private final LongAdder compressedValues = new LongAdder();
+    private final LongAdder uncompressedBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressionTime = new LongAdder();
+    private final LongAdder decompressedValues = new LongAdder();
+    private final LongAdder decompressionTime = new LongAdder();
+
+    /**
+     * Creates a deflate compression.
+     * @param threshold the size, in bytes, above which buffers are compressed
+     * @param level a deflate compression level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}
+     * @throws IllegalArgumentException if the threshold is negative, or if the level is not a valid deflate compression level
+     */
+    public ByteBufferCompression(int threshold, int level) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException(String.format("Invalid compression threshold: %d", threshold));
+        }
+        if ((level < Deflater.BEST_SPEED) || (level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException(String.format("Invalid compression level: %d", level));
+        }
+        this.threshold = Math.max(HEADER_SIZE, threshold);
+        this.level = level;
+    }
+
+    /**
+     * Returns a marshaller that compresses the buffers written by the specified marshaller using this compression.
+     * @param marshaller a marshaller
+     * @return a compressing marshaller
+     */
+    public ByteBufferMarshaller compress(ByteBufferMarshaller marshaller) {
+        return new CompressingByteBufferMarshaller(marshaller, this);
+    }
+
+    /**
+     * Returns the number of marshalled values compressed by this compression.
+     * @return a number of values
+     */
+    public long getCompressedValues() {
+        return this.compressedValues.sum();
+    }
+
+    /**
+     * Returns the number of compressed values decompressed by this compression.
+     * @return a number of values
+     */
+    public long getDecompressedValues() {
+        return this.decompressedValues.sum();
+    }
+
+    /**
+     * Returns the ratio of the uncompressed to the compressed size of the values compressed by this compression.
+     * @return a compression ratio, or 1, if no value was compressed
+     */
+    public double getCompressionRatio() {
+        long compressed = this.compressedBytes.sum();
+        return (compressed > 0) ? (double) this.uncompressedBytes.sum() / compressed : 1d;
+    }
+
+    /**
+     * Returns the time spent compressing values, including values that turned out to be incompressible.
+     * @param unit the unit of the returned time
+     * @return the compression time
+     */
+    public long getCompressionTime(TimeUnit unit) {
+        return unit.convert(this.compressionTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the time spent decompressing values.
+     * @param unit the unit of the returned time
+     * @return the decompression time
+     */
+    public long getDecompressionTime(TimeUnit unit) {
+        return unit.convert(this.decompressionTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the exact size of the buffer resulting from the specified predicted size, if known.
+     * Since the size of a compressed buffer is not known in advance, only the size of buffers that will not be compressed are predictable.
+     * @param size the predicted size of an uncompressed buffer
+     * @return the predicted size of the buffer
+     */
+    OptionalInt size(OptionalInt size) {
+        return (size.isPresent() && (size.getAsInt() <= this.threshold)) ? size : OptionalInt.empty();
+    }
+
+    /**
+     * Compresses the specified buffer, if its size exceeds the configured threshold.
+     * @param buffer a marshalled buffer
+     * @return a compressed buffer, or the specified buffer if it was not compressible
+     * @throws IOException if the buffer could not be compressed
+     */
+    ByteBuffer compress(ByteBuffer buffer) throws IOException {
+        int length = buffer.limit() - buffer.arrayOffset();
+        if (length <= this.threshold) return buffer;
+        long start = System.nanoTime();
+        Deflater deflater = new Deflater(this.level);
+        try (ByteBufferOutputStream output = new ByteBufferOutputStream(length / 2)) {
+            output.write(MARKER);
+            output.write(DEFLATE);
+            try (DeflaterOutputStream stream = new DeflaterOutputStream(output, deflater)) {
+                stream.write(buffer.array(), buffer.arrayOffset(), length);
+            }
+            ByteBuffer result = output.getBuffer();
+            int compressedLength = result.limit();
+            if (compressedLength >= length) {
+                // Incompressible
+                return buffer;
+            }
+            this.compressedValues.increment();
+            this.uncompressedBytes.add(length);
+            this.compressedBytes.add(compressedLength);
+            return result;
+        } finally {
+            deflater.end();
+            this.compressionTime.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Decompresses the specified buffer, if it is compressed.
+     * @param buffer a compressed or uncompressed buffer
+     * @return an uncompressed buffer
+     * @throws IOException if the buffer could not be decompressed
+     */
+    ByteBuffer decompress(ByteBuffer buffer) throws IOException {
+        if (!isCompressed(buffer)) return buffer;
+        long start = System.nanoTime();
+        try {
+            return inflate(buffer);
+        } finally {
+            this.decompressedValues.increment();
+            this.decompressionTime.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Reads an object from the specified buffer, decompressing it, if necessary.
+     * Decompressions are only recorded if the specified marshaller was created via {@link #compress(ByteBufferMarshaller)}.
+     * @param marshaller a marshaller
+     * @param buffer a compressed or uncompressed buffer
+     * @return the unmarshalled object
+     * @throws IOException if the object could not be read
+     */
+    static Object read(ByteBufferMarshaller marshaller, ByteBuffer buffer) throws IOException {
+        // A compressing marshaller decompresses, and records the decompression, itself
+        return marshaller.read((marshaller instanceof CompressingByteBufferMarshaller) || !isCompressed(buffer) ? buffer : inflate(buffer));
+    }
+
+    private static ByteBuffer inflate(ByteBuffer buffer) throws IOException {
+        int offset = buffer.arrayOffset();
+        int length = buffer.limit() - offset;
+        byte format = buffer.array()[offset + MARKER.length];
+        if (format != DEFLATE) {
+            throw new StreamCorruptedException(String.format("Unsupported compression format: %d", format));
+        }
+        try (InputStream input = new InflaterInputStream(new ByteArrayInputStream(buffer.array(), offset + HEADER_SIZE, length - HEADER_SIZE))) {
+            try (ByteBufferOutputStream output = new ByteBufferOutputStream(length * 2)) {
+                input.transferTo(output);
+                return output.getBuffer();
+            }
+        }
+    }
+
+    private static boolean isCompressed(ByteBuffer buffer) {
+        byte[] bytes = buffer.array();
+        int offset = buffer.arrayOffset();
+        if (buffer.limit() - offset < HEADER_SIZE) return false;
+        for (int i = 0; i < MARKER.length; ++i) {
+            if (bytes[offset + i] != MARKER[i]) return false;
+        }
+        return true;
+    }
+}
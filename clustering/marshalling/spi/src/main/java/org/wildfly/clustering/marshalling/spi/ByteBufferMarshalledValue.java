@@ -84,7 +84,7 @@ public class ByteBufferMarshalledValue<T> implements MarshalledValue<T, ByteBuff
             this.marshaller = marshaller;
             if (this.buffer != null) {
                 // Invalidate buffer after reading object
-                this.object = (T) this.marshaller.read(this.buffer);
+                this.object = (T) ByteBufferCompression.read(this.marshaller, this.buffer);
                 this.buffer = null;
             }
         }
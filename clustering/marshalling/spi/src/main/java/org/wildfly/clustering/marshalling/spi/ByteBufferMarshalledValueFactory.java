@@ -14,7 +14,16 @@ public class ByteBufferMarshalledValueFactory implements MarshalledValueFactory<
     private final ByteBufferMarshaller marshaller;
 
     public ByteBufferMarshalledValueFactory(ByteBufferMarshaller marshaller) {
-        this.marshaller = marshaller;
+        this(marshaller, null);
+    }
+
+    /**
+     * Creates a factory for marshalled values that are compressed using the specified compression.
+     * @param marshaller a marshaller
+     * @param compression an optional compression
+     */
+    public ByteBufferMarshalledValueFactory(ByteBufferMarshaller marshaller, ByteBufferCompression compression) {
+        this.marshaller = (compression != null) ? compression.compress(marshaller) : marshaller;
     }
 
     @Override
@@ -0,0 +1,57 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
+
+/**
+ * {@link ByteBufferMarshaller} decorator that compresses the buffers written by, and decompresses the buffers read by, a given marshaller.
+ * Streams are neither compressed nor decompressed.
+ */
+class CompressingByteBufferMarshaller implements ByteBufferMarshaller {
+
+    private final ByteBufferMarshaller marshaller;
+    private final ByteBufferCompression compression;
+
+    CompressingByteBufferMarshaller(ByteBufferMarshaller marshaller, ByteBufferCompression compression) {
+        this.marshaller = marshaller;
+        this.compression = compression;
+    }
+
+    @Override
+    public boolean isMarshallable(Object object) {
+        return this.marshaller.isMarshallable(object);
+    }
+
+    @Override
+    public Object read(ByteBuffer buffer) throws IOException {
+        return this.marshaller.read(this.compression.decompress(buffer));
+    }
+
+    @Override
+    public ByteBuffer write(Object object) throws IOException {
+        return this.compression.compress(this.marshaller.write(object));
+    }
+
+    @Override
+    public OptionalInt size(Object object) {
+        return this.compression.size(this.marshaller.size(object));
+    }
+
+    @Override
+    public Object readFrom(InputStream input) throws IOException {
+        return this.marshaller.readFrom(input);
+    }
+
+    @Override
+    public void writeTo(OutputStream output, Object object) throws IOException {
+        this.marshaller.writeTo(output, object);
+    }
+}
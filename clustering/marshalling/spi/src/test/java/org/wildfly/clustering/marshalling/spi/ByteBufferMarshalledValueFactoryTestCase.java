@@ -10,6 +10,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -109,6 +110,43 @@ public class ByteBufferMarshalledValueFactoryTestCase {
         assertEquals(0, mv.hashCode());
     }
 
+    @Test
+    public void compression() throws Exception {
+        String value = "0123456789".repeat(1000);
+        ByteBufferCompression compression = new ByteBufferCompression(1024, 1);
+        ByteBufferMarshalledValueFactory factory = new ByteBufferMarshalledValueFactory(this.marshaller, compression);
+
+        ByteBufferMarshalledValue<String> uncompressed = this.factory.createMarshalledValue(value);
+        ByteBufferMarshalledValue<String> compressed = factory.createMarshalledValue(value);
+        assertTrue(compressed.getBuffer().remaining() < uncompressed.getBuffer().remaining());
+        assertEquals(1, compression.getCompressedValues());
+        assertTrue(compression.getCompressionRatio() > 1);
+
+        // Compressed and uncompressed values are readable regardless of compression
+        assertEquals(value, replicate(compressed).get(this.marshaller));
+        assertEquals(value, replicate(uncompressed).get(this.marshaller));
+        assertEquals(0, compression.getDecompressedValues());
+
+        // Decompressions via the marshalling context of the factory are recorded
+        assertEquals(value, replicate(compressed).get(factory.getMarshallingContext()));
+        assertEquals(value, replicate(uncompressed).get(factory.getMarshallingContext()));
+        assertEquals(1, compression.getDecompressedValues());
+
+        // Values below threshold are not compressed
+        long compressedValues = compression.getCompressedValues();
+        ByteBufferMarshalledValue<String> small = factory.createMarshalledValue("0123456789");
+        assertEquals(this.factory.createMarshalledValue("0123456789").getBuffer(), small.getBuffer());
+        assertEquals("0123456789", replicate(small).get(this.marshaller));
+        assertEquals(compressedValues, compression.getCompressedValues());
+    }
+
+    @Test
+    public void invalidCompression() {
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferCompression(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferCompression(1024, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferCompression(1024, 10));
+    }
+
     @SuppressWarnings("unchecked")
     <V> ByteBufferMarshalledValue<V> replicate(ByteBufferMarshalledValue<V> value) throws IOException {
         OptionalInt size = this.marshaller.size(value);
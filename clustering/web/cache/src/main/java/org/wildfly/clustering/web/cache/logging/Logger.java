@@ -5,7 +5,10 @@
 
 package org.wildfly.clustering.web.cache.logging;
 
+import static org.jboss.logging.Logger.Level.WARN;
+
 import org.jboss.logging.BasicLogger;
+import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
 
@@ -20,4 +23,8 @@ public interface Logger extends BasicLogger {
 
     @Message(id = 1, value = "Session %s is not valid")
     IllegalStateException invalidSession(String sessionId);
+
+    @LogMessage(level = WARN)
+    @Message(id = 2, value = "Ignoring invalid value '%s' of system property %s, expected a positive number of milliseconds")
+    void invalidDurationProperty(String value, String property);
 }
@@ -30,7 +30,7 @@ public abstract class MarshalledValueSessionAttributesFactoryConfiguration<S, SC
 
     protected MarshalledValueSessionAttributesFactoryConfiguration(SessionManagerFactoryConfiguration<S, SC, AL, LC> configuration) {
         this.immutability = configuration.getImmutability();
-        this.marshaller = new MarshalledValueMarshaller<>(new ByteBufferMarshalledValueFactory(configuration.getMarshaller()));
+        this.marshaller = new MarshalledValueMarshaller<>(new ByteBufferMarshalledValueFactory(configuration.getMarshaller(), configuration.getCompression()));
         this.provider = configuration.getSpecificationProvider();
     }
 
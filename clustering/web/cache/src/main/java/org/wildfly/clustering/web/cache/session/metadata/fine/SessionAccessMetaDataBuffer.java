@@ -0,0 +1,171 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.metadata.fine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.wildfly.clustering.ee.Mutator;
+import org.wildfly.clustering.ee.cache.offset.Offset;
+import org.wildfly.clustering.web.cache.logging.Logger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Buffers the session access meta data of requests locally, so that the accesses of a session are written to its cache entry in batches, instead of on every request.
+ * Consecutive accesses of a session are coalesced into a single pending update, which is written via the offset-based {@link SessionAccessMetaDataEntryFunction}.
+ * Pending updates are applied to the access meta data read from the cache, so that local readers (e.g. expiration checks) observe the most recent access of a session.
+ * The accesses of a session are only buffered if its timeout exceeds the flush interval, since its cache entry could otherwise expire before a buffered access is written.
+ */
+public class SessionAccessMetaDataBuffer {
+
+    /** The interval, in milliseconds, at which buffered session access meta data is written. Buffering is disabled if undefined. */
+    public static final String FLUSH_INTERVAL_PROPERTY = "jboss.clustering.web.session.access-meta-data.flush-interval";
+
+    private final Map<String, PendingAccess> pending = new ConcurrentHashMap<>();
+    private final Duration flushInterval;
+
+    /**
+     * Returns the flush interval configured via system properties, if any.
+     * @return a flush interval, or null if buffering is disabled, or if the configured flush interval is invalid
+     */
+    public static Duration getFlushInterval() {
+        String interval = WildFlySecurityManager.getPropertyPrivileged(FLUSH_INTERVAL_PROPERTY, null);
+        if (interval == null) return null;
+        try {
+            long millis = Long.parseLong(interval.trim());
+            if (millis > 0) {
+                return Duration.ofMillis(millis);
+            }
+        } catch (NumberFormatException e) {
+            // Fall through
+        }
+        Logger.ROOT_LOGGER.invalidDurationProperty(interval, FLUSH_INTERVAL_PROPERTY);
+        return null;
+    }
+
+    /**
+     * Creates a buffer of session access meta data.
+     * @param flushInterval the interval at which buffered accesses are written
+     */
+    public SessionAccessMetaDataBuffer(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Indicates whether the accesses of a session with the specified timeout are buffered.
+     * Accesses of sessions whose timeout does not exceed the flush interval must be written immediately, otherwise the session could expire before its last access is written.
+     * @param timeout the timeout of a session
+     * @return true, if accesses of the session should be buffered, false if they should be written immediately
+     */
+    public boolean isBuffered(Duration timeout) {
+        // Sessions without a timeout never expire
+        return timeout.isZero() || timeout.isNegative() || (this.flushInterval.compareTo(timeout) < 0);
+    }
+
+    /**
+     * Buffers the access of a session.
+     * @param id a session identifier
+     * @param values the access meta data values of a request, whose basis is the access meta data returned by {@link #apply(String, SessionAccessMetaDataEntry)}
+     * @param mutatorFactory creates the mutator that writes the offsets of buffered accesses to the cache
+     */
+    public void add(String id, MutableSessionAccessMetaDataOffsetValues values, Function<SessionAccessMetaDataEntryOffsets, Mutator> mutatorFactory) {
+        Duration basisSinceCreation = values.getSinceCreation().getBasis();
+        Duration basisLastAccess = values.getLastAccess().getBasis();
+        Duration sinceCreation = values.getSinceCreation().get();
+        Duration lastAccess = values.getLastAccess().get();
+        this.pending.compute(id, (key, current) -> {
+            // If this access was based on the pending access, coalesce them, otherwise the pending access is obsolete
+            boolean coalesce = (current != null) && current.sinceCreation.equals(basisSinceCreation) && current.lastAccess.equals(basisLastAccess);
+            return coalesce ? new PendingAccess(current.basisSinceCreation, current.basisLastAccess, sinceCreation, lastAccess, mutatorFactory) : new PendingAccess(basisSinceCreation, basisLastAccess, sinceCreation, lastAccess, mutatorFactory);
+        });
+    }
+
+    /**
+     * Applies the pending access of a session, if any, to the specified access meta data read from the cache.
+     * @param id a session identifier
+     * @param entry the access meta data entry of a session
+     * @return the access meta data of the session, including any pending access
+     */
+    public SessionAccessMetaDataEntry apply(String id, SessionAccessMetaDataEntry entry) {
+        PendingAccess access = this.pending.get(id);
+        // Ignore pending access if the entry already reflects a more recent access, e.g. from another member
+        if ((access == null) || (entry.getSinceCreationDuration().compareTo(access.sinceCreation) > 0)) return entry;
+        SessionAccessMetaDataEntry result = new DefaultSessionAccessMetaDataEntry();
+        result.setLastAccessDuration(access.sinceCreation, access.lastAccess);
+        return result;
+    }
+
+    /**
+     * Discards the pending access of a session, e.g. if the session was removed.
+     * @param id a session identifier
+     */
+    public void discard(String id) {
+        this.pending.remove(id);
+    }
+
+    private void flush(String id) {
+        PendingAccess access = this.pending.get(id);
+        if (access != null) {
+            access.mutatorFactory.apply(access).mutate();
+            // Remove the written access, or rebase any access coalesced with it while writing
+            this.pending.computeIfPresent(id, (key, current) -> (current == access) ? null : current.rebase(access));
+        }
+    }
+
+    /**
+     * Writes the pending accesses of all sessions.
+     */
+    public synchronized void flush() {
+        for (String id : this.pending.keySet()) {
+            try {
+                this.flush(id);
+            } catch (RuntimeException e) {
+                Logger.ROOT_LOGGER.debugf(e, "Failed to write last access of session %s", id);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of sessions with a pending access.
+     * @return a number of sessions
+     */
+    public int size() {
+        return this.pending.size();
+    }
+
+    private static class PendingAccess implements SessionAccessMetaDataEntryOffsets {
+        final Duration basisSinceCreation;
+        final Duration basisLastAccess;
+        final Duration sinceCreation;
+        final Duration lastAccess;
+        final Function<SessionAccessMetaDataEntryOffsets, Mutator> mutatorFactory;
+
+        PendingAccess(Duration basisSinceCreation, Duration basisLastAccess, Duration sinceCreation, Duration lastAccess, Function<SessionAccessMetaDataEntryOffsets, Mutator> mutatorFactory) {
+            this.basisSinceCreation = basisSinceCreation;
+            this.basisLastAccess = basisLastAccess;
+            this.sinceCreation = sinceCreation;
+            this.lastAccess = lastAccess;
+            this.mutatorFactory = mutatorFactory;
+        }
+
+        PendingAccess rebase(PendingAccess written) {
+            boolean coalesced = this.basisSinceCreation.equals(written.basisSinceCreation) && this.basisLastAccess.equals(written.basisLastAccess);
+            return coalesced ? new PendingAccess(written.sinceCreation, written.lastAccess, this.sinceCreation, this.lastAccess, this.mutatorFactory) : this;
+        }
+
+        @Override
+        public Offset<Duration> getSinceCreationOffset() {
+            return Offset.forDuration(this.sinceCreation.minus(this.basisSinceCreation));
+        }
+
+        @Override
+        public Offset<Duration> getLastAccessOffset() {
+            return Offset.forDuration(this.lastAccess.minus(this.basisLastAccess));
+        }
+    }
+}
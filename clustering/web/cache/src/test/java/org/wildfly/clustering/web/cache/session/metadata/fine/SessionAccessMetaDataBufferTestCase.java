@@ -0,0 +1,128 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.cache.session.metadata.fine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.wildfly.clustering.ee.Mutator;
+
+/**
+ * Unit test for {@link SessionAccessMetaDataBuffer}.
+ */
+public class SessionAccessMetaDataBufferTestCase {
+
+    private final AtomicReference<SessionAccessMetaDataEntry> cache = new AtomicReference<>();
+    private final AtomicInteger writes = new AtomicInteger();
+    private final Function<SessionAccessMetaDataEntryOffsets, Mutator> mutatorFactory = offsets -> () -> {
+        this.writes.incrementAndGet();
+        this.cache.set(new SessionAccessMetaDataEntryFunction(offsets).apply(null, this.cache.get()));
+    };
+
+    @Test
+    public void test() {
+        SessionAccessMetaDataBuffer buffer = new SessionAccessMetaDataBuffer(Duration.ofMinutes(1));
+        SessionAccessMetaDataEntry entry = new DefaultSessionAccessMetaDataEntry();
+        entry.setLastAccessDuration(Duration.ofSeconds(10), Duration.ofSeconds(1));
+        this.cache.set(entry);
+
+        // Consecutive accesses are coalesced into a single write
+        this.access(buffer, Duration.ofSeconds(20), Duration.ofSeconds(2));
+        this.access(buffer, Duration.ofSeconds(30), Duration.ofSeconds(3));
+        assertEquals(0, this.writes.get());
+        assertEquals(1, buffer.size());
+        assertSame(entry, this.cache.get());
+
+        // Pending access is visible to readers
+        SessionAccessMetaDataEntry result = buffer.apply("id", this.cache.get());
+        assertEquals(Duration.ofSeconds(30), result.getSinceCreationDuration());
+        assertEquals(Duration.ofSeconds(3), result.getLastAccessDuration());
+
+        buffer.flush();
+        assertEquals(1, this.writes.get());
+        assertEquals(0, buffer.size());
+        assertEquals(Duration.ofSeconds(30), this.cache.get().getSinceCreationDuration());
+        assertEquals(Duration.ofSeconds(3), this.cache.get().getLastAccessDuration());
+
+        // Nothing to write
+        buffer.flush();
+        assertEquals(1, this.writes.get());
+
+        // Discarded access is never written
+        this.access(buffer, Duration.ofSeconds(40), Duration.ofSeconds(1));
+        buffer.discard("id");
+        buffer.flush();
+        assertEquals(1, this.writes.get());
+    }
+
+    @Test
+    public void concurrentAccess() {
+        SessionAccessMetaDataBuffer buffer = new SessionAccessMetaDataBuffer(Duration.ofMinutes(1));
+        SessionAccessMetaDataEntry entry = new DefaultSessionAccessMetaDataEntry();
+        entry.setLastAccessDuration(Duration.ofSeconds(10), Duration.ofSeconds(1));
+        this.cache.set(entry);
+
+        this.access(buffer, Duration.ofSeconds(20), Duration.ofSeconds(1));
+
+        // Simulate a more recent access written by another member
+        SessionAccessMetaDataEntry remote = new DefaultSessionAccessMetaDataEntry();
+        remote.setLastAccessDuration(Duration.ofSeconds(25), Duration.ofSeconds(2));
+        this.cache.set(remote);
+
+        // Obsolete pending access is ignored by readers
+        assertSame(remote, buffer.apply("id", remote));
+
+        // Access based on the remote entry replaces the obsolete pending access
+        this.access(buffer, Duration.ofSeconds(30), Duration.ofSeconds(1));
+        buffer.flush();
+        assertEquals(1, this.writes.get());
+        assertEquals(Duration.ofSeconds(30), this.cache.get().getSinceCreationDuration());
+        assertEquals(Duration.ofSeconds(1), this.cache.get().getLastAccessDuration());
+    }
+
+    @Test
+    public void isBuffered() {
+        SessionAccessMetaDataBuffer buffer = new SessionAccessMetaDataBuffer(Duration.ofMinutes(1));
+        assertTrue(buffer.isBuffered(Duration.ofMinutes(30)));
+        // Sessions that could expire before a buffered access is written are not buffered
+        assertFalse(buffer.isBuffered(Duration.ofMinutes(1)));
+        assertFalse(buffer.isBuffered(Duration.ofSeconds(30)));
+        // Sessions without a timeout never expire
+        assertTrue(buffer.isBuffered(Duration.ZERO));
+        assertTrue(buffer.isBuffered(Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    public void getFlushInterval() {
+        try {
+            assertNull(SessionAccessMetaDataBuffer.getFlushInterval());
+            System.setProperty(SessionAccessMetaDataBuffer.FLUSH_INTERVAL_PROPERTY, "500");
+            assertEquals(Duration.ofMillis(500), SessionAccessMetaDataBuffer.getFlushInterval());
+            // Invalid intervals disable buffering
+            System.setProperty(SessionAccessMetaDataBuffer.FLUSH_INTERVAL_PROPERTY, "1s");
+            assertNull(SessionAccessMetaDataBuffer.getFlushInterval());
+            System.setProperty(SessionAccessMetaDataBuffer.FLUSH_INTERVAL_PROPERTY, "0");
+            assertNull(SessionAccessMetaDataBuffer.getFlushInterval());
+        } finally {
+            System.clearProperty(SessionAccessMetaDataBuffer.FLUSH_INTERVAL_PROPERTY);
+        }
+    }
+
+    private void access(SessionAccessMetaDataBuffer buffer, Duration sinceCreation, Duration lastAccess) {
+        MutableSessionAccessMetaDataOffsetValues values = MutableSessionAccessMetaDataOffsetValues.from(buffer.apply("id", this.cache.get()));
+        new MutableSessionAccessMetaData(this.cache.get(), values).setLastAccessDuration(sinceCreation, lastAccess);
+        buffer.add("id", values, this.mutatorFactory);
+    }
+}
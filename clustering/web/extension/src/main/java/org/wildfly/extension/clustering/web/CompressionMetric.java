@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.registry.AttributeAccess.Flag;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
+
+/**
+ * Metrics of the compression of the session attributes of a session management provider.
+ */
+public enum CompressionMetric implements Metric<ByteBufferCompression> {
+
+    COMPRESSED_VALUES("compressed-values", ModelType.LONG, Flag.COUNTER_METRIC, null) {
+        @Override
+        public ModelNode execute(ByteBufferCompression compression) {
+            return new ModelNode(compression.getCompressedValues());
+        }
+    },
+    COMPRESSION_RATIO("compression-ratio", ModelType.DOUBLE, Flag.GAUGE_METRIC, null) {
+        @Override
+        public ModelNode execute(ByteBufferCompression compression) {
+            return new ModelNode(compression.getCompressionRatio());
+        }
+    },
+    COMPRESSION_TIME("compression-time", ModelType.LONG, Flag.COUNTER_METRIC, MeasurementUnit.MILLISECONDS) {
+        @Override
+        public ModelNode execute(ByteBufferCompression compression) {
+            return new ModelNode(compression.getCompressionTime(TimeUnit.MILLISECONDS));
+        }
+    },
+    DECOMPRESSED_VALUES("decompressed-values", ModelType.LONG, Flag.COUNTER_METRIC, null) {
+        @Override
+        public ModelNode execute(ByteBufferCompression compression) {
+            return new ModelNode(compression.getDecompressedValues());
+        }
+    },
+    DECOMPRESSION_TIME("decompression-time", ModelType.LONG, Flag.COUNTER_METRIC, MeasurementUnit.MILLISECONDS) {
+        @Override
+        public ModelNode execute(ByteBufferCompression compression) {
+            return new ModelNode(compression.getDecompressionTime(TimeUnit.MILLISECONDS));
+        }
+    },
+    ;
+    private final AttributeDefinition definition;
+
+    CompressionMetric(String name, ModelType type, Flag metricType, MeasurementUnit unit) {
+        this.definition = new SimpleAttributeDefinitionBuilder(name, type)
+                .setFlags(metricType)
+                .setMeasurementUnit(unit)
+                .setStorageRuntime()
+                .build();
+    }
+
+    @Override
+    public AttributeDefinition getDefinition() {
+        return this.definition;
+    }
+}
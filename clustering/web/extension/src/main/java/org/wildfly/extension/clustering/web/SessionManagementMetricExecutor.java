@@ -0,0 +1,38 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web;
+
+import java.util.function.Function;
+
+import org.jboss.as.clustering.controller.FunctionExecutor;
+import org.jboss.as.clustering.controller.FunctionExecutorRegistry;
+import org.jboss.as.clustering.controller.Metric;
+import org.jboss.as.clustering.controller.MetricExecutor;
+import org.jboss.as.clustering.controller.MetricFunction;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
+
+/**
+ * Executes metrics against the compression of the session attributes of a session management provider.
+ */
+public class SessionManagementMetricExecutor implements MetricExecutor<ByteBufferCompression> {
+
+    private final FunctionExecutorRegistry<ByteBufferCompression> executors;
+
+    SessionManagementMetricExecutor(FunctionExecutorRegistry<ByteBufferCompression> executors) {
+        this.executors = executors;
+    }
+
+    @Override
+    public ModelNode execute(OperationContext context, Metric<ByteBufferCompression> metric) throws OperationFailedException {
+        ServiceName name = SessionManagementResourceDefinition.Capability.SESSION_MANAGEMENT_PROVIDER.getServiceName(context.getCurrentAddress());
+        FunctionExecutor<ByteBufferCompression> executor = this.executors.get(name);
+        return (executor != null) ? executor.execute(new MetricFunction<>(Function.identity(), metric)) : null;
+    }
+}
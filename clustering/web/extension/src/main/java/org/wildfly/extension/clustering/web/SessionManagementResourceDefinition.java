@@ -5,26 +5,32 @@
 
 package org.wildfly.extension.clustering.web;
 
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
+import java.util.zip.Deflater;
 
 import org.jboss.as.clustering.controller.CapabilityProvider;
 import org.jboss.as.clustering.controller.ChildResourceDefinition;
+import org.jboss.as.clustering.controller.MetricHandler;
 import org.jboss.as.clustering.controller.ResourceDescriptor;
-import org.jboss.as.clustering.controller.ResourceServiceConfiguratorFactory;
 import org.jboss.as.clustering.controller.ResourceServiceHandler;
 import org.jboss.as.clustering.controller.SimpleResourceRegistrar;
-import org.jboss.as.clustering.controller.SimpleResourceServiceHandler;
+import org.jboss.as.clustering.controller.ServiceValueExecutorRegistry;
 import org.jboss.as.clustering.controller.UnaryCapabilityNameResolver;
 import org.jboss.as.clustering.controller.UnaryRequirementCapability;
+import org.jboss.as.clustering.controller.validation.IntRangeValidatorBuilder;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.AttributeAccess.Flag;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
 import org.wildfly.clustering.service.UnaryRequirement;
 import org.wildfly.clustering.web.service.WebProviderRequirement;
 import org.wildfly.clustering.web.service.WebRequirement;
@@ -68,7 +74,21 @@ public class SessionManagementResourceDefinition extends ChildResourceDefinition
             public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
                 return builder.setValidator(EnumValidator.create(SessionMarshallerFactory.class));
             }
-        }
+        },
+        COMPRESSION_THRESHOLD("compression-threshold", ModelType.INT, null) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setRequired(false)
+                        .setMeasurementUnit(MeasurementUnit.BYTES)
+                        .setValidator(new IntRangeValidatorBuilder().min(0).configure(builder).build());
+            }
+        },
+        COMPRESSION_LEVEL("compression-level", ModelType.INT, new ModelNode(Deflater.BEST_SPEED)) {
+            @Override
+            public SimpleAttributeDefinitionBuilder apply(SimpleAttributeDefinitionBuilder builder) {
+                return builder.setValidator(new IntRangeValidatorBuilder().min(Deflater.BEST_SPEED).max(Deflater.BEST_COMPRESSION).configure(builder).build());
+            }
+        },
         ;
         private final AttributeDefinition definition;
 
@@ -88,9 +108,9 @@ public class SessionManagementResourceDefinition extends ChildResourceDefinition
     }
 
     private final UnaryOperator<ResourceDescriptor> configurator;
-    private final ResourceServiceConfiguratorFactory factory;
+    private final Function<PathAddress, SessionManagementServiceConfigurator<?>> factory;
 
-    public SessionManagementResourceDefinition(PathElement path, UnaryOperator<ResourceDescriptor> configurator, ResourceServiceConfiguratorFactory factory) {
+    public SessionManagementResourceDefinition(PathElement path, UnaryOperator<ResourceDescriptor> configurator, Function<PathAddress, SessionManagementServiceConfigurator<?>> factory) {
         super(path, DistributableWebExtension.SUBSYSTEM_RESOLVER.createChildResolver(path, PathElement.pathElement("session-management")));
         this.configurator = configurator;
         this.factory = factory;
@@ -103,9 +123,14 @@ public class SessionManagementResourceDefinition extends ChildResourceDefinition
                 .addAttributes(Attribute.class)
                 .addCapabilities(Capability.class)
                 ;
-        ResourceServiceHandler handler = new SimpleResourceServiceHandler(this.factory);
+        ServiceValueExecutorRegistry<ByteBufferCompression> executors = new ServiceValueExecutorRegistry<>();
+        ResourceServiceHandler handler = new SessionManagementServiceHandler(this.factory, executors);
         new SimpleResourceRegistrar(descriptor, handler).register(registration);
 
+        if (registration.getProcessType().isServer()) {
+            new MetricHandler<>(new SessionManagementMetricExecutor(executors), CompressionMetric.class).register(registration);
+        }
+
         new NoAffinityResourceDefinition().register(registration);
         new LocalAffinityResourceDefinition().register(registration);
 
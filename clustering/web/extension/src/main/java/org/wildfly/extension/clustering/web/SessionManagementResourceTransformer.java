@@ -25,5 +25,12 @@ public class SessionManagementResourceTransformer implements BiConsumer<ModelVer
                     .addRejectCheck(RejectAttributeChecker.DEFINED, SessionManagementResourceDefinition.Attribute.MARSHALLER.getName())
                     .end();
         }
+        if (DistributableWebSubsystemModel.VERSION_5_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.UNDEFINED, SessionManagementResourceDefinition.Attribute.COMPRESSION_THRESHOLD.getName())
+                    .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, SessionManagementResourceDefinition.Attribute.COMPRESSION_LEVEL.getName())
+                    .addRejectCheck(RejectAttributeChecker.DEFINED, SessionManagementResourceDefinition.Attribute.COMPRESSION_THRESHOLD.getName(), SessionManagementResourceDefinition.Attribute.COMPRESSION_LEVEL.getName())
+                    .end();
+        }
     }
 }
@@ -5,6 +5,8 @@
 
 package org.wildfly.extension.clustering.web;
 
+import static org.wildfly.extension.clustering.web.SessionManagementResourceDefinition.Attribute.COMPRESSION_LEVEL;
+import static org.wildfly.extension.clustering.web.SessionManagementResourceDefinition.Attribute.COMPRESSION_THRESHOLD;
 import static org.wildfly.extension.clustering.web.SessionManagementResourceDefinition.Attribute.GRANULARITY;
 import static org.wildfly.extension.clustering.web.SessionManagementResourceDefinition.Attribute.MARSHALLER;
 
@@ -24,6 +26,7 @@ import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.service.FunctionalService;
 import org.wildfly.clustering.service.ServiceConfigurator;
@@ -43,6 +46,7 @@ public abstract class SessionManagementServiceConfigurator<C extends Distributab
 
     private volatile SessionGranularity granularity;
     private volatile SessionMarshallerFactory marshallerFactory;
+    private volatile ByteBufferCompression compression;
     private volatile SupplierDependency<RouteLocatorServiceConfiguratorFactory<C>> factory;
 
     SessionManagementServiceConfigurator(PathAddress address) {
@@ -53,6 +57,8 @@ public abstract class SessionManagementServiceConfigurator<C extends Distributab
     public ServiceConfigurator configure(OperationContext context, ModelNode model) throws OperationFailedException {
         this.granularity = SessionGranularity.valueOf(GRANULARITY.resolveModelAttribute(context, model).asString());
         this.marshallerFactory = SessionMarshallerFactory.valueOf(MARSHALLER.resolveModelAttribute(context, model).asString());
+        ModelNode threshold = COMPRESSION_THRESHOLD.resolveModelAttribute(context, model);
+        this.compression = threshold.isDefined() ? new ByteBufferCompression(threshold.asInt(), COMPRESSION_LEVEL.resolveModelAttribute(context, model).asInt()) : null;
         this.factory = new ServiceSupplierDependency<>(WebProviderRequirement.AFFINITY.getServiceName(context, this.getServiceName().getSimpleName()));
         return this;
     }
@@ -76,6 +82,11 @@ public abstract class SessionManagementServiceConfigurator<C extends Distributab
         return this.marshallerFactory;
     }
 
+    @Override
+    public ByteBufferCompression getCompression() {
+        return this.compression;
+    }
+
     public RouteLocatorServiceConfiguratorFactory<C> getRouteLocatorServiceConfiguratorFactory() {
         return this.factory.get();
     }
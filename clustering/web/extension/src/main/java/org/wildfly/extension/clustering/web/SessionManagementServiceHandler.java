@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.clustering.web;
+
+import java.util.function.Function;
+
+import org.jboss.as.clustering.controller.ResourceServiceHandler;
+import org.jboss.as.clustering.controller.ServiceValueRegistry;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
+
+/**
+ * Installs the service of a session management provider, and registers the compression of its session attributes for use by its metrics.
+ */
+public class SessionManagementServiceHandler implements ResourceServiceHandler {
+
+    private final Function<PathAddress, SessionManagementServiceConfigurator<?>> factory;
+    private final ServiceValueRegistry<ByteBufferCompression> registry;
+
+    SessionManagementServiceHandler(Function<PathAddress, SessionManagementServiceConfigurator<?>> factory, ServiceValueRegistry<ByteBufferCompression> registry) {
+        this.factory = factory;
+        this.registry = registry;
+    }
+
+    @Override
+    public void installServices(OperationContext context, ModelNode model) throws OperationFailedException {
+        SessionManagementServiceConfigurator<?> configurator = this.factory.apply(context.getCurrentAddress());
+        configurator.configure(context, model).build(context.getServiceTarget()).install();
+        this.registry.add(configurator.getServiceName()).accept(configurator.getCompression());
+    }
+
+    @Override
+    public void removeServices(OperationContext context, ModelNode model) throws OperationFailedException {
+        ServiceName name = this.factory.apply(context.getCurrentAddress()).getServiceName();
+        context.removeService(name);
+        this.registry.remove(name);
+    }
+}
@@ -18,6 +18,7 @@ import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.ServiceTarget;
+import org.wildfly.clustering.Registration;
 import org.wildfly.clustering.ee.infinispan.GroupedKey;
 import org.wildfly.clustering.ee.infinispan.InfinispanCacheConfiguration;
 import org.wildfly.clustering.infinispan.service.InfinispanCacheRequirement;
@@ -40,7 +41,7 @@ import org.wildfly.extension.clustering.web.routing.RouteLocatorServiceNameProvi
  * Configures a service providing a primary owner route locator.
  * @author Paul Ferraro
  */
-public class PrimaryOwnerRouteLocatorServiceConfigurator extends RouteLocatorServiceNameProvider implements CapabilityServiceConfigurator, PrimaryOwnerRouteLocatorConfiguration, Supplier<RouteLocator> {
+public class PrimaryOwnerRouteLocatorServiceConfigurator extends RouteLocatorServiceNameProvider implements CapabilityServiceConfigurator, PrimaryOwnerRouteLocatorConfiguration, Supplier<RouteLocator>, Consumer<RouteLocator> {
 
     private final InfinispanCacheConfiguration configuration;
     private final WebDeploymentConfiguration deploymentConfiguration;
@@ -60,12 +61,19 @@ public class PrimaryOwnerRouteLocatorServiceConfigurator extends RouteLocatorSer
         return new PrimaryOwnerRouteLocator(this);
     }
 
+    @Override
+    public void accept(RouteLocator locator) {
+        if (locator instanceof Registration) {
+            ((Registration) locator).close();
+        }
+    }
+
     @Override
     public ServiceBuilder<?> build(ServiceTarget target) {
         ServiceName name = this.getServiceName();
         ServiceBuilder<?> builder = new AsyncServiceConfigurator(name).build(target);
         Consumer<RouteLocator> locator = new CompositeDependency(this.registry, this.cache, this.factory).register(builder).provides(name);
-        Service service = new FunctionalService<>(locator, Function.identity(), this);
+        Service service = new FunctionalService<>(locator, Function.identity(), this, this);
         return builder.setInstance(service).setInitialMode(ServiceController.Mode.ON_DEMAND);
     }
 
@@ -26,6 +26,7 @@ import org.jboss.msc.service.ServiceTarget;
 import org.wildfly.clustering.ee.Immutability;
 import org.wildfly.clustering.ee.cache.tx.TransactionBatch;
 import org.wildfly.clustering.infinispan.client.service.RemoteCacheServiceConfigurator;
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.service.FunctionalService;
 import org.wildfly.clustering.service.ServiceConfigurator;
@@ -107,6 +108,11 @@ public class HotRodSessionManagerFactoryServiceConfigurator<S, SC, AL, LC>  exte
         return this.factoryConfiguration.getMarshaller();
     }
 
+    @Override
+    public ByteBufferCompression getCompression() {
+        return this.configuration.getCompression();
+    }
+
     @Override
     public Integer getMaxActiveSessions() {
         return this.factoryConfiguration.getMaxActiveSessions();
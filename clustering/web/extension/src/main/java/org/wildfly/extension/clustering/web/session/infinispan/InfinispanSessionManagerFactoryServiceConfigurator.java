@@ -33,6 +33,7 @@ import org.wildfly.clustering.infinispan.service.CacheServiceConfigurator;
 import org.wildfly.clustering.infinispan.service.InfinispanCacheRequirement;
 import org.wildfly.clustering.infinispan.service.InfinispanRequirement;
 import org.wildfly.clustering.infinispan.service.TemplateConfigurationServiceConfigurator;
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.server.NodeFactory;
 import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
@@ -169,6 +170,11 @@ public class InfinispanSessionManagerFactoryServiceConfigurator<S, SC, AL, LC> e
         return this.factoryConfiguration.getMarshaller();
     }
 
+    @Override
+    public ByteBufferCompression getCompression() {
+        return this.configuration.getCompression();
+    }
+
     @Override
     public Integer getMaxActiveSessions() {
         return this.factoryConfiguration.getMaxActiveSessions();
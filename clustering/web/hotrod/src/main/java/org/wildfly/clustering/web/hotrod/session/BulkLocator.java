@@ -0,0 +1,44 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.wildfly.clustering.ee.Key;
+
+/**
+ * Locates the value of a session from cache entries read in bulk, so that the entries of several factories can be read
+ * using a single remote invocation.
+ * @param <V> the value type
+ */
+public interface BulkLocator<V> {
+
+    /**
+     * Returns the keys of the cache entries from which the value of the specified session is located.
+     * @param id a session identifier
+     * @return a set of cache keys
+     */
+    Set<Key<String>> getKeys(String id);
+
+    /**
+     * Locates the value of the specified session from the specified cache entries.
+     * @param id a session identifier
+     * @param entries the cache entries read for the keys returned by {@link #getKeys(String)}, excluding absent entries
+     * @return the value of the session, or null if not found.
+     */
+    V findValue(String id, Map<Key<String>, Object> entries);
+
+    /**
+     * Locates the value of the specified session from the specified cache entries, if possible.
+     * @param id a session identifier
+     * @param entries the cache entries read for the keys returned by {@link #getKeys(String)}, excluding absent entries
+     * @return the value of the session, or null if not found or unavailable.
+     */
+    default V tryValue(String id, Map<Key<String>, Object> entries) {
+        return this.findValue(id, entries);
+    }
+}
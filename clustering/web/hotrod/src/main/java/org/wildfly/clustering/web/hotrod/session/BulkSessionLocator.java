@@ -0,0 +1,73 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.wildfly.clustering.ee.Key;
+
+/**
+ * Locates the meta data and attributes of a session from the cache entries of both, read using a single bulk read.
+ * @param <MV> the meta data value type
+ * @param <AV> the attributes value type
+ */
+class BulkSessionLocator<MV, AV> {
+
+    private final BulkLocator<MV> metaDataLocator;
+    private final BulkLocator<AV> attributesLocator;
+    private final Function<Set<Key<String>>, Map<Key<String>, Object>> reader;
+    private final Consumer<String> metaDataPurger;
+
+    /**
+     * Constructs a new session locator.
+     * @param metaDataLocator a locator of session meta data
+     * @param attributesLocator a locator of session attributes
+     * @param reader reads the cache entries of a set of keys
+     * @param metaDataPurger purges the meta data of a session whose attributes were not found
+     */
+    BulkSessionLocator(BulkLocator<MV> metaDataLocator, BulkLocator<AV> attributesLocator, Function<Set<Key<String>>, Map<Key<String>, Object>> reader, Consumer<String> metaDataPurger) {
+        this.metaDataLocator = metaDataLocator;
+        this.attributesLocator = attributesLocator;
+        this.reader = reader;
+        this.metaDataPurger = metaDataPurger;
+    }
+
+    Map.Entry<MV, AV> findValue(String id) {
+        Map<Key<String>, Object> entries = this.read(id);
+        MV metaDataValue = this.metaDataLocator.findValue(id, entries);
+        if (metaDataValue != null) {
+            AV attributesValue = this.attributesLocator.findValue(id, entries);
+            if (attributesValue != null) {
+                return Map.entry(metaDataValue, attributesValue);
+            }
+            // Purge obsolete meta data
+            this.metaDataPurger.accept(id);
+        }
+        return null;
+    }
+
+    Map.Entry<MV, AV> tryValue(String id) {
+        Map<Key<String>, Object> entries = this.read(id);
+        MV metaDataValue = this.metaDataLocator.tryValue(id, entries);
+        if (metaDataValue != null) {
+            AV attributesValue = this.attributesLocator.tryValue(id, entries);
+            if (attributesValue != null) {
+                return Map.entry(metaDataValue, attributesValue);
+            }
+        }
+        return null;
+    }
+
+    private Map<Key<String>, Object> read(String id) {
+        Set<Key<String>> keys = new HashSet<>(this.metaDataLocator.getKeys(id));
+        keys.addAll(this.attributesLocator.getKeys(id));
+        return this.reader.apply(keys);
+    }
+}
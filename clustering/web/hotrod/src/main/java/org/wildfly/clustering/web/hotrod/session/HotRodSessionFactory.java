@@ -8,6 +8,7 @@ package org.wildfly.clustering.web.hotrod.session;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -25,6 +26,7 @@ import org.wildfly.clustering.Registrar;
 import org.wildfly.clustering.Registration;
 import org.wildfly.clustering.context.DefaultExecutorService;
 import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.Remover;
 import org.wildfly.clustering.web.cache.session.CompositeSessionFactory;
 import org.wildfly.clustering.web.cache.session.attributes.ImmutableSessionAttributesFactory;
@@ -56,6 +58,7 @@ public class HotRodSessionFactory<MC, AV, LC> extends CompositeSessionFactory<MC
     private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(HotRodSessionFactory.class);
 
     private final RemoteCache<SessionCreationMetaDataKey, SessionCreationMetaDataEntry<LC>> creationMetaDataCache;
+    private final BulkSessionLocator<SessionMetaDataEntry<LC>, AV> bulkLocator;
     private final Flag[] forceReturnFlags;
     private final ImmutableSessionMetaDataFactory<SessionMetaDataEntry<LC>> metaDataFactory;
     private final ImmutableSessionAttributesFactory<AV> attributesFactory;
@@ -70,17 +73,31 @@ public class HotRodSessionFactory<MC, AV, LC> extends CompositeSessionFactory<MC
      * @param attributesFactory
      * @param localContextFactory
      */
+    @SuppressWarnings("unchecked")
     public HotRodSessionFactory(HotRodSessionFactoryConfiguration config, SessionMetaDataFactory<SessionMetaDataEntry<LC>> metaDataFactory, SessionAttributesFactory<MC, AV> attributesFactory, Supplier<LC> localContextFactory) {
         super(metaDataFactory, attributesFactory, localContextFactory);
         this.metaDataFactory = metaDataFactory;
         this.attributesFactory = attributesFactory;
         this.attributesRemover = attributesFactory;
         this.creationMetaDataCache = config.getCache();
+        RemoteCache<Key<String>, Object> cache = config.getCache();
+        this.bulkLocator = (metaDataFactory instanceof BulkLocator) && (attributesFactory instanceof BulkLocator) ? new BulkSessionLocator<>((BulkLocator<SessionMetaDataEntry<LC>>) metaDataFactory, (BulkLocator<AV>) attributesFactory, cache::getAll, metaDataFactory::purge) : null;
         this.forceReturnFlags = config.getForceReturnFlags();
         this.executor = Executors.newFixedThreadPool(config.getExpirationThreadPoolSize(), THREAD_FACTORY);
         this.creationMetaDataCache.addClientListener(this);
     }
 
+    @Override
+    public Map.Entry<SessionMetaDataEntry<LC>, AV> findValue(String id) {
+        // Read meta data and attributes using a single bulk read, if supported by both factories
+        return (this.bulkLocator != null) ? this.bulkLocator.findValue(id) : super.findValue(id);
+    }
+
+    @Override
+    public Map.Entry<SessionMetaDataEntry<LC>, AV> tryValue(String id) {
+        return (this.bulkLocator != null) ? this.bulkLocator.tryValue(id) : super.tryValue(id);
+    }
+
     @Override
     public void close() {
         this.creationMetaDataCache.removeClientListener(this);
@@ -90,6 +107,7 @@ public class HotRodSessionFactory<MC, AV, LC> extends CompositeSessionFactory<MC
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+        super.close();
     }
 
     @ClientCacheEntryExpired
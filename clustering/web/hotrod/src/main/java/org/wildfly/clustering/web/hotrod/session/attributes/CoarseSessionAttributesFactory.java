@@ -7,11 +7,13 @@ package org.wildfly.clustering.web.hotrod.session.attributes;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.infinispan.client.hotrod.Flag;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.Mutator;
 import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.cache.CacheProperties;
@@ -25,6 +27,7 @@ import org.wildfly.clustering.web.cache.session.attributes.coarse.CoarseSessionA
 import org.wildfly.clustering.web.cache.session.attributes.coarse.ImmutableSessionActivationNotifier;
 import org.wildfly.clustering.web.cache.session.attributes.coarse.SessionActivationNotifier;
 import org.wildfly.clustering.web.hotrod.logging.Logger;
+import org.wildfly.clustering.web.hotrod.session.BulkLocator;
 import org.wildfly.clustering.web.hotrod.session.HotRodSessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
@@ -33,7 +36,7 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 /**
  * @author Paul Ferraro
  */
-public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>> {
+public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>>, BulkLocator<Map<String, Object>> {
 
     private final RemoteCache<SessionAttributesKey, V> cache;
     private final Flag[] ignoreReturnFlags;
@@ -67,7 +70,22 @@ public class CoarseSessionAttributesFactory<S, C, L, V> implements SessionAttrib
 
     @Override
     public Map<String, Object> findValue(String id) {
-        V value = this.cache.get(new SessionAttributesKey(id));
+        return this.getValue(id, this.cache.get(new SessionAttributesKey(id)));
+    }
+
+    @Override
+    public Set<Key<String>> getKeys(String id) {
+        return Set.of(new SessionAttributesKey(id));
+    }
+
+    @Override
+    public Map<String, Object> findValue(String id, Map<Key<String>, Object> entries) {
+        @SuppressWarnings("unchecked")
+        V value = (V) entries.get(new SessionAttributesKey(id));
+        return this.getValue(id, value);
+    }
+
+    private Map<String, Object> getValue(String id, V value) {
         if (value != null) {
             try {
                 return this.marshaller.read(value);
@@ -7,11 +7,13 @@ package org.wildfly.clustering.web.hotrod.session.attributes;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.infinispan.client.hotrod.Flag;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.MutatorFactory;
 import org.wildfly.clustering.ee.cache.CacheProperties;
 import org.wildfly.clustering.ee.hotrod.RemoteCacheComputeMutatorFactory;
@@ -25,6 +27,7 @@ import org.wildfly.clustering.web.cache.session.attributes.fine.ImmutableSession
 import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeActivationNotifier;
 import org.wildfly.clustering.web.cache.session.attributes.fine.SessionAttributeMapComputeFunction;
 import org.wildfly.clustering.web.hotrod.logging.Logger;
+import org.wildfly.clustering.web.hotrod.session.BulkLocator;
 import org.wildfly.clustering.web.hotrod.session.HotRodSessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.web.session.HttpSessionActivationListenerProvider;
 import org.wildfly.clustering.web.session.ImmutableSessionAttributes;
@@ -36,7 +39,7 @@ import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
  * A separate cache entry stores the activate attribute names for the session.
  * @author Paul Ferraro
  */
-public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>> {
+public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttributesFactory<C, Map<String, Object>>, BulkLocator<Map<String, Object>> {
 
     private final RemoteCache<SessionAttributesKey, Map<String, V>> cache;
     private final Flag[] ignoreReturnFlags;
@@ -71,9 +74,31 @@ public class FineSessionAttributesFactory<S, C, L, V> implements SessionAttribut
         return this.getValue(id, false);
     }
 
+    @Override
+    public Set<Key<String>> getKeys(String id) {
+        return Set.of(new SessionAttributesKey(id));
+    }
+
+    @Override
+    public Map<String, Object> findValue(String id, Map<Key<String>, Object> entries) {
+        @SuppressWarnings("unchecked")
+        Map<String, V> value = (Map<String, V>) entries.get(new SessionAttributesKey(id));
+        return this.getValue(id, value, true);
+    }
+
+    @Override
+    public Map<String, Object> tryValue(String id, Map<Key<String>, Object> entries) {
+        @SuppressWarnings("unchecked")
+        Map<String, V> value = (Map<String, V>) entries.get(new SessionAttributesKey(id));
+        return this.getValue(id, value, false);
+    }
+
     private Map<String, Object> getValue(String id, boolean purgeIfInvalid) {
+        return this.getValue(id, this.cache.get(new SessionAttributesKey(id)), purgeIfInvalid);
+    }
+
+    private Map<String, Object> getValue(String id, Map<String, V> value, boolean purgeIfInvalid) {
         Map<String, Object> attributes = this.createValue(id, null);
-        Map<String, V> value = this.cache.get(new SessionAttributesKey(id));
         if (value != null) {
             for (Map.Entry<String, V> entry : value.entrySet()) {
                 String attributeName = entry.getKey();
@@ -8,9 +8,14 @@ package org.wildfly.clustering.web.hotrod.session.metadata;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.infinispan.client.hotrod.Flag;
 import org.infinispan.client.hotrod.RemoteCache;
+import org.wildfly.clustering.context.DefaultExecutorService;
+import org.wildfly.clustering.context.DefaultThreadFactory;
 import org.wildfly.clustering.ee.Key;
 import org.wildfly.clustering.ee.Mutator;
 import org.wildfly.clustering.ee.cache.offset.OffsetValue;
@@ -28,32 +33,50 @@ import org.wildfly.clustering.web.cache.session.metadata.fine.MutableSessionAcce
 import org.wildfly.clustering.web.cache.session.metadata.fine.MutableSessionAccessMetaDataOffsetValues;
 import org.wildfly.clustering.web.cache.session.metadata.fine.MutableSessionCreationMetaData;
 import org.wildfly.clustering.web.cache.session.metadata.fine.SessionAccessMetaData;
+import org.wildfly.clustering.web.cache.session.metadata.fine.SessionAccessMetaDataBuffer;
 import org.wildfly.clustering.web.cache.session.metadata.fine.SessionAccessMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.metadata.fine.SessionAccessMetaDataEntryFunction;
 import org.wildfly.clustering.web.cache.session.metadata.fine.SessionCreationMetaData;
 import org.wildfly.clustering.web.cache.session.metadata.fine.DefaultSessionCreationMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.metadata.fine.DefaultSessionMetaDataEntry;
 import org.wildfly.clustering.web.cache.session.metadata.fine.DefaultSessionAccessMetaDataEntry;
+import org.wildfly.clustering.web.hotrod.session.BulkLocator;
 import org.wildfly.clustering.web.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.web.session.SessionMetaData;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Factory for creating {@link SessionMetaData} backed by a pair of {@link RemoteCache} entries.
+ * If a flush interval is configured via {@link SessionAccessMetaDataBuffer#FLUSH_INTERVAL_PROPERTY}, the access meta data of requests that do not otherwise modify the meta data of a session
+ * is buffered locally, and written periodically, unless the session could expire before its access is written.
  * @author Paul Ferraro
  * @param <C> the local context type
  */
-public class HotRodSessionMetaDataFactory<C> implements SessionMetaDataFactory<SessionMetaDataEntry<C>> {
+public class HotRodSessionMetaDataFactory<C> implements SessionMetaDataFactory<SessionMetaDataEntry<C>>, BulkLocator<SessionMetaDataEntry<C>> {
 
     private final RemoteCache<Key<String>, Object> cache;
     private final Flag[] ignoreReturnFlags;
     private final RemoteCache<SessionCreationMetaDataKey, SessionCreationMetaDataEntry<C>> creationMetaDataCache;
     private final RemoteCache<SessionAccessMetaDataKey, SessionAccessMetaDataEntry> accessMetaDataCache;
+    private final Duration flushInterval;
+    private final SessionAccessMetaDataBuffer accessMetaDataBuffer;
+    private final ScheduledExecutorService executor;
 
     public HotRodSessionMetaDataFactory(HotRodConfiguration configuration) {
         this.cache = configuration.getCache();
         this.ignoreReturnFlags = configuration.getIgnoreReturnFlags();
         this.creationMetaDataCache = configuration.getCache();
         this.accessMetaDataCache = configuration.getCache();
+        Duration flushInterval = SessionAccessMetaDataBuffer.getFlushInterval();
+        this.flushInterval = flushInterval;
+        if (flushInterval != null) {
+            this.accessMetaDataBuffer = new SessionAccessMetaDataBuffer(flushInterval);
+            this.executor = Executors.newSingleThreadScheduledExecutor(new DefaultThreadFactory(SessionAccessMetaDataBuffer.class));
+            this.executor.scheduleWithFixedDelay(this.accessMetaDataBuffer::flush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            this.accessMetaDataBuffer = null;
+            this.executor = null;
+        }
     }
 
     @Override
@@ -68,13 +91,24 @@ public class HotRodSessionMetaDataFactory<C> implements SessionMetaDataFactory<S
 
     @Override
     public SessionMetaDataEntry<C> findValue(String id) {
-        SessionCreationMetaDataKey creationMetaDataKey = new SessionCreationMetaDataKey(id);
-        SessionAccessMetaDataKey accessMetaDataKey = new SessionAccessMetaDataKey(id);
         // Use bulk read
-        Map<Key<String>, Object> entries = this.cache.getAll(Set.of(creationMetaDataKey, accessMetaDataKey));
+        return this.findValue(id, this.cache.getAll(this.getKeys(id)));
+    }
+
+    @Override
+    public Set<Key<String>> getKeys(String id) {
+        return Set.of(new SessionCreationMetaDataKey(id), new SessionAccessMetaDataKey(id));
+    }
+
+    @Override
+    public SessionMetaDataEntry<C> findValue(String id, Map<Key<String>, Object> entries) {
         @SuppressWarnings("unchecked")
-        SessionCreationMetaDataEntry<C> creationMetaData = (SessionCreationMetaDataEntry<C>) entries.get(creationMetaDataKey);
-        SessionAccessMetaDataEntry accessMetaData = (SessionAccessMetaDataEntry) entries.get(accessMetaDataKey);
+        SessionCreationMetaDataEntry<C> creationMetaData = (SessionCreationMetaDataEntry<C>) entries.get(new SessionCreationMetaDataKey(id));
+        SessionAccessMetaDataEntry accessMetaData = (SessionAccessMetaDataEntry) entries.get(new SessionAccessMetaDataKey(id));
+        if ((accessMetaData != null) && (this.accessMetaDataBuffer != null)) {
+            // Include any access not yet written
+            accessMetaData = this.accessMetaDataBuffer.apply(id, accessMetaData);
+        }
         // Any orphan entry should not be removed here - this would otherwise interfere with expiration listener
         return (creationMetaData != null) && (accessMetaData != null) ? new DefaultSessionMetaDataEntry<>(creationMetaData, accessMetaData) : null;
     }
@@ -89,13 +123,21 @@ public class HotRodSessionMetaDataFactory<C> implements SessionMetaDataFactory<S
 
         Mutator creationMetaDataMutator = new RemoteCacheEntryComputeMutator<>(this.creationMetaDataCache, this.ignoreReturnFlags, new SessionCreationMetaDataKey(id), new SessionCreationMetaDataEntryFunction<>(timeoutOffset));
         Mutator accessMetaDataMutator = new RemoteCacheEntryComputeMutator<>(this.accessMetaDataCache, this.ignoreReturnFlags, new SessionAccessMetaDataKey(id), new SessionAccessMetaDataEntryFunction(values), creationMetaData::getTimeout);
+        SessionAccessMetaDataBuffer accessMetaDataBuffer = this.accessMetaDataBuffer;
+        RemoteCache<SessionAccessMetaDataKey, SessionAccessMetaDataEntry> accessMetaDataCache = this.accessMetaDataCache;
+        Flag[] ignoreReturnFlags = this.ignoreReturnFlags;
         Mutator mutator = new Mutator() {
             @Override
             public void mutate() {
                 if (!timeoutOffset.getOffset().isZero()) {
                     creationMetaDataMutator.mutate();
                 }
-                accessMetaDataMutator.mutate();
+                // Buffer the access, unless the session could expire before a buffered access is written
+                if ((accessMetaDataBuffer != null) && accessMetaDataBuffer.isBuffered(creationMetaData.getTimeout())) {
+                    accessMetaDataBuffer.add(id, values, offsets -> new RemoteCacheEntryComputeMutator<>(accessMetaDataCache, ignoreReturnFlags, new SessionAccessMetaDataKey(id), new SessionAccessMetaDataEntryFunction(offsets), creationMetaData::getTimeout));
+                } else {
+                    accessMetaDataMutator.mutate();
+                }
             }
         };
 
@@ -109,8 +151,26 @@ public class HotRodSessionMetaDataFactory<C> implements SessionMetaDataFactory<S
 
     @Override
     public boolean remove(String id) {
+        if (this.accessMetaDataBuffer != null) {
+            this.accessMetaDataBuffer.discard(id);
+        }
         this.accessMetaDataCache.withFlags(this.ignoreReturnFlags).remove(new SessionAccessMetaDataKey(id));
         this.creationMetaDataCache.withFlags(this.ignoreReturnFlags).remove(new SessionCreationMetaDataKey(id));
         return true;
     }
+
+    @Override
+    public void close() {
+        if (this.executor != null) {
+            WildFlySecurityManager.doUnchecked(this.executor, DefaultExecutorService.SHUTDOWN_ACTION);
+            try {
+                // Wait for any flush in progress
+                this.executor.awaitTermination(this.flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // Write any remaining accesses
+            this.accessMetaDataBuffer.flush();
+        }
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.hotrod.session;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.wildfly.clustering.ee.Key;
+import org.wildfly.clustering.web.hotrod.session.attributes.SessionAttributesKey;
+import org.wildfly.clustering.web.hotrod.session.metadata.SessionAccessMetaDataKey;
+import org.wildfly.clustering.web.hotrod.session.metadata.SessionCreationMetaDataKey;
+
+/**
+ * Unit test for {@link BulkSessionLocator}.
+ */
+public class BulkSessionLocatorTestCase {
+    private final BulkLocator<Object> metaDataLocator = mock(BulkLocator.class);
+    private final BulkLocator<Object> attributesLocator = mock(BulkLocator.class);
+    private final Function<Set<Key<String>>, Map<Key<String>, Object>> reader = mock(Function.class);
+    private final Consumer<String> metaDataPurger = mock(Consumer.class);
+
+    private final BulkSessionLocator<Object, Object> locator = new BulkSessionLocator<>(this.metaDataLocator, this.attributesLocator, this.reader, this.metaDataPurger);
+
+    private Map<Key<String>, Object> mockEntries(String id) {
+        Key<String> creationKey = new SessionCreationMetaDataKey(id);
+        Key<String> accessKey = new SessionAccessMetaDataKey(id);
+        Key<String> attributesKey = new SessionAttributesKey(id);
+        Map<Key<String>, Object> entries = Map.of(creationKey, new Object(), accessKey, new Object(), attributesKey, new Object());
+
+        when(this.metaDataLocator.getKeys(id)).thenReturn(Set.of(creationKey, accessKey));
+        when(this.attributesLocator.getKeys(id)).thenReturn(Set.of(attributesKey));
+        when(this.reader.apply(Set.of(creationKey, accessKey, attributesKey))).thenReturn(entries);
+        return entries;
+    }
+
+    @Test
+    public void findValue() {
+        String missingMetaDataSessionId = "no-meta-data";
+        String missingAttributesSessionId = "no-attributes";
+        String existingSessionId = "existing";
+        Object metaData = new Object();
+        Object attributes = new Object();
+
+        Map<Key<String>, Object> missingMetaDataEntries = this.mockEntries(missingMetaDataSessionId);
+        Map<Key<String>, Object> missingAttributesEntries = this.mockEntries(missingAttributesSessionId);
+        Map<Key<String>, Object> existingSessionEntries = this.mockEntries(existingSessionId);
+        when(this.metaDataLocator.findValue(missingMetaDataSessionId, missingMetaDataEntries)).thenReturn(null);
+        when(this.metaDataLocator.findValue(missingAttributesSessionId, missingAttributesEntries)).thenReturn(metaData);
+        when(this.metaDataLocator.findValue(existingSessionId, existingSessionEntries)).thenReturn(metaData);
+        when(this.attributesLocator.findValue(missingAttributesSessionId, missingAttributesEntries)).thenReturn(null);
+        when(this.attributesLocator.findValue(existingSessionId, existingSessionEntries)).thenReturn(attributes);
+
+        assertNull(this.locator.findValue(missingMetaDataSessionId));
+        verify(this.attributesLocator, never()).findValue(same(missingMetaDataSessionId), any());
+        verify(this.metaDataPurger, never()).accept(missingMetaDataSessionId);
+
+        // Obsolete meta data is purged
+        assertNull(this.locator.findValue(missingAttributesSessionId));
+        verify(this.metaDataPurger).accept(missingAttributesSessionId);
+
+        Map.Entry<Object, Object> result = this.locator.findValue(existingSessionId);
+        assertNotNull(result);
+        assertSame(metaData, result.getKey());
+        assertSame(attributes, result.getValue());
+        verify(this.metaDataPurger, never()).accept(existingSessionId);
+
+        // Each session was located using a single bulk read of the keys of both locators
+        verify(this.reader, times(3)).apply(any());
+    }
+
+    @Test
+    public void tryValue() {
+        String missingAttributesSessionId = "no-attributes";
+        String existingSessionId = "existing";
+        Object metaData = new Object();
+        Object attributes = new Object();
+
+        Map<Key<String>, Object> missingAttributesEntries = this.mockEntries(missingAttributesSessionId);
+        Map<Key<String>, Object> existingSessionEntries = this.mockEntries(existingSessionId);
+        when(this.metaDataLocator.tryValue(missingAttributesSessionId, missingAttributesEntries)).thenReturn(metaData);
+        when(this.metaDataLocator.tryValue(existingSessionId, existingSessionEntries)).thenReturn(metaData);
+        when(this.attributesLocator.tryValue(missingAttributesSessionId, missingAttributesEntries)).thenReturn(null);
+        when(this.attributesLocator.tryValue(existingSessionId, existingSessionEntries)).thenReturn(attributes);
+
+        // Meta data is never purged by a lookup that must not block
+        assertNull(this.locator.tryValue(missingAttributesSessionId));
+        verify(this.metaDataPurger, never()).accept(any());
+
+        Map.Entry<Object, Object> result = this.locator.tryValue(existingSessionId);
+        assertNotNull(result);
+        assertSame(metaData, result.getKey());
+        assertSame(attributes, result.getValue());
+
+        verify(this.reader, times(2)).apply(any());
+        verify(this.metaDataLocator, never()).findValue(any(), any());
+        verify(this.attributesLocator, never()).findValue(any(), any());
+    }
+}
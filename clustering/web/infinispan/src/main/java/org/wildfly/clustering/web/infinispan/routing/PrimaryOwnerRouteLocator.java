@@ -5,38 +5,71 @@
 
 package org.wildfly.clustering.web.infinispan.routing;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.infinispan.Cache;
+import org.infinispan.remoting.transport.Address;
+import org.wildfly.clustering.Registration;
 import org.wildfly.clustering.ee.infinispan.GroupedKey;
 import org.wildfly.clustering.ee.infinispan.PrimaryOwnerLocator;
 import org.wildfly.clustering.group.Node;
 import org.wildfly.clustering.registry.Registry;
+import org.wildfly.clustering.server.NodeFactory;
 import org.wildfly.clustering.web.routing.RouteLocator;
 
 /**
  * @author Paul Ferraro
  */
-public class PrimaryOwnerRouteLocator implements RouteLocator {
+public class PrimaryOwnerRouteLocator implements RouteLocator, Registration {
 
     private final Function<GroupedKey<String>, Node> primaryOwnerLocator;
+    private final SegmentRouteCache routes;
+    private final Registration registration;
     private final Registry<String, Void> registry;
+    private final NodeFactory<Address> memberFactory;
     private final String localRoute;
 
     public PrimaryOwnerRouteLocator(PrimaryOwnerRouteLocatorConfiguration config) {
-        this(new PrimaryOwnerLocator<>(config.getCache(), config.getMemberFactory()), config.getRegistry());
+        this(new PrimaryOwnerLocator<>(config.getCache(), config.getMemberFactory()), config.getCache(), config.getRegistry(), config.getMemberFactory());
     }
 
     PrimaryOwnerRouteLocator(Function<GroupedKey<String>, Node> primaryOwnerLocator, Registry<String, Void> registry) {
+        this(primaryOwnerLocator, null, registry, null);
+    }
+
+    private PrimaryOwnerRouteLocator(Function<GroupedKey<String>, Node> primaryOwnerLocator, Cache<GroupedKey<String>, ?> cache, Registry<String, Void> registry, NodeFactory<Address> memberFactory) {
         this.primaryOwnerLocator = primaryOwnerLocator;
+        this.routes = (cache != null) ? new SegmentRouteCache(cache, this::createCacheableRoute) : null;
         this.registry = registry;
+        // Cached routes are resolved from registry entries
+        this.registration = (this.routes != null) ? registry.register(this.routes) : null;
+        this.memberFactory = memberFactory;
         this.localRoute = this.registry.getEntry(this.registry.getGroup().getLocalMember()).getKey();
     }
 
     @Override
     public String locate(String sessionId) {
-        Node primaryMember = this.primaryOwnerLocator.apply(new GroupedKey<>(sessionId));
+        GroupedKey<String> key = new GroupedKey<>(sessionId);
+        String route = (this.routes != null) ? this.routes.locate(key) : null;
+        if (route != null) return route;
+        Node primaryMember = this.primaryOwnerLocator.apply(key);
         Map.Entry<String, Void> entry = this.registry.getEntry(primaryMember);
         return (entry != null) ? entry.getKey() : this.localRoute;
     }
+
+    @Override
+    public void close() {
+        if (this.registration != null) {
+            this.registration.close();
+        }
+    }
+
+    private String createCacheableRoute(List<Address> owners) {
+        // Primary owner may be undefined mid-rebalance, or may have left the cluster
+        Node primaryMember = !owners.isEmpty() ? this.memberFactory.createNode(owners.get(0)) : null;
+        Map.Entry<String, Void> entry = (primaryMember != null) ? this.registry.getEntry(primaryMember) : null;
+        return (entry != null) ? entry.getKey() : null;
+    }
 }
@@ -12,6 +12,7 @@ import java.util.Map;
 
 import org.infinispan.Cache;
 import org.infinispan.remoting.transport.Address;
+import org.wildfly.clustering.Registration;
 import org.wildfly.clustering.ee.infinispan.GroupedKey;
 import org.wildfly.clustering.group.Node;
 import org.wildfly.clustering.infinispan.distribution.CacheKeyDistribution;
@@ -23,9 +24,11 @@ import org.wildfly.clustering.web.routing.RouteLocator;
 /**
  * @author Paul Ferraro
  */
-public class RankedRouteLocator implements RouteLocator {
+public class RankedRouteLocator implements RouteLocator, Registration {
 
     private final KeyDistribution distribution;
+    private final SegmentRouteCache routes;
+    private final Registration registration;
     private final Registry<String, Void> registry;
     private final NodeFactory<Address> factory;
     private final String localRoute;
@@ -37,12 +40,19 @@ public class RankedRouteLocator implements RouteLocator {
     }
 
     private RankedRouteLocator(Cache<GroupedKey<String>, ?> cache, Registry<String, Void> registry, NodeFactory<Address> factory, String delimiter, int maxRoutes) {
-        this(new CacheKeyDistribution(cache), registry, factory, delimiter, maxRoutes);
+        this(new CacheKeyDistribution(cache), cache, registry, factory, delimiter, maxRoutes);
     }
 
     RankedRouteLocator(KeyDistribution distribution, Registry<String, Void> registry, NodeFactory<Address> factory, String delimiter, int maxRoutes) {
+        this(distribution, null, registry, factory, delimiter, maxRoutes);
+    }
+
+    private RankedRouteLocator(KeyDistribution distribution, Cache<GroupedKey<String>, ?> cache, Registry<String, Void> registry, NodeFactory<Address> factory, String delimiter, int maxRoutes) {
         this.distribution = distribution;
+        this.routes = (cache != null) ? new SegmentRouteCache(cache, this::createCacheableRoute) : null;
         this.registry = registry;
+        // Cached routes are resolved from registry entries
+        this.registration = (this.routes != null) ? registry.register(this.routes) : null;
         this.factory = factory;
         this.localRoute = this.registry.getEntry(this.registry.getGroup().getLocalMember()).getKey();
         this.delimiter = delimiter;
@@ -51,7 +61,23 @@ public class RankedRouteLocator implements RouteLocator {
 
     @Override
     public String locate(String sessionId) {
-        List<Address> owners = this.distribution.getOwners(new GroupedKey<>(sessionId));
+        GroupedKey<String> key = new GroupedKey<>(sessionId);
+        String route = (this.routes != null) ? this.routes.locate(key) : null;
+        return (route != null) ? route : this.createRoute(this.distribution.getOwners(key), false);
+    }
+
+    @Override
+    public void close() {
+        if (this.registration != null) {
+            this.registration.close();
+        }
+    }
+
+    private String createCacheableRoute(List<Address> owners) {
+        return this.createRoute(owners, true);
+    }
+
+    private String createRoute(List<Address> owners, boolean cacheable) {
         List<String> routes = new ArrayList<>(this.maxRoutes);
         boolean localIsOwner = false;
         Node localMember = this.registry.getGroup().getLocalMember();
@@ -66,7 +92,13 @@ public class RankedRouteLocator implements RouteLocator {
                 Map.Entry<String, Void> entry = this.registry.getEntry(member);
                 if (entry != null) {
                     routes.add(entry.getKey());
+                } else if (cacheable) {
+                    // Owner is not yet registered
+                    return null;
                 }
+            } else if (cacheable) {
+                // Owner has left the cluster
+                return null;
             }
         }
         if (!localIsOwner && (routes.size() < this.maxRoutes)) {
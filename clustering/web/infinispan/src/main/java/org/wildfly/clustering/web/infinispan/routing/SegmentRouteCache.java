@@ -0,0 +1,138 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.infinispan.routing;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import org.infinispan.Cache;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.topology.CacheTopology;
+import org.wildfly.clustering.registry.RegistryListener;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Caches the route of each segment of a cache, computed from the owners of that segment.
+ * Routes are computed at most once per segment per cache topology, such that locating the route of a key only requires a segment lookup.
+ * If hysteresis is enabled, the route of a segment computed for a previous topology is retained while a rebalance is in progress,
+ * as long as its primary owner still owns the segment, so that routes do not change for transient topologies.
+ * As routes are resolved from the entries of the route registry, all routes are discarded whenever the entries of that registry change.
+ */
+public class SegmentRouteCache implements RegistryListener<String, Void> {
+
+    static final String HYSTERESIS_PROPERTY = "jboss.clustering.web.routing.hysteresis";
+
+    private final DistributionManager distribution;
+    private final Function<List<Address>, String> routeFactory;
+    private final boolean hysteresis;
+    private final AtomicReference<RouteTable> table = new AtomicReference<>();
+
+    /**
+     * Creates a route cache for the specified cache.
+     * @param cache a cache
+     * @param routeFactory computes the route for a list of segment owners, or returns null if the route should not be cached.
+     */
+    public SegmentRouteCache(Cache<?, ?> cache, Function<List<Address>, String> routeFactory) {
+        this(cache.getAdvancedCache().getDistributionManager(), routeFactory, Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(HYSTERESIS_PROPERTY, "false")));
+    }
+
+    SegmentRouteCache(DistributionManager distribution, Function<List<Address>, String> routeFactory, boolean hysteresis) {
+        this.distribution = distribution;
+        this.routeFactory = routeFactory;
+        this.hysteresis = hysteresis;
+    }
+
+    /**
+     * Returns the route for the specified key.
+     * @param key a cache key
+     * @return the route of the segment of the specified key, or null if that route could not be cached.
+     */
+    public String locate(Object key) {
+        if (this.distribution == null) return null;
+        LocalizedCacheTopology topology = this.distribution.getCacheTopology();
+        RouteTable table = this.table.get();
+        if ((table == null) || (table.getTopologyId() != topology.getTopologyId())) {
+            RouteTable newTable = new RouteTable(topology, table);
+            table = this.table.compareAndSet(table, newTable) ? newTable : this.table.get();
+        }
+        return table.getRoute(topology.getSegment(key));
+    }
+
+    /**
+     * Discards all cached routes, including those retained for hysteresis.
+     */
+    public void invalidate() {
+        this.table.set(null);
+    }
+
+    @Override
+    public void addedEntries(Map<String, Void> added) {
+        this.invalidate();
+    }
+
+    @Override
+    public void updatedEntries(Map<String, Void> updated) {
+        this.invalidate();
+    }
+
+    @Override
+    public void removedEntries(Map<String, Void> removed) {
+        this.invalidate();
+    }
+
+    private static class SegmentRoute {
+        final String route;
+        final Address primaryOwner;
+
+        SegmentRoute(String route, Address primaryOwner) {
+            this.route = route;
+            this.primaryOwner = primaryOwner;
+        }
+    }
+
+    private class RouteTable {
+        private final int topologyId;
+        private final boolean rebalancing;
+        private final ConsistentHash hash;
+        private final AtomicReferenceArray<SegmentRoute> routes;
+        private final AtomicReferenceArray<SegmentRoute> previousRoutes;
+
+        RouteTable(LocalizedCacheTopology topology, RouteTable previous) {
+            this.topologyId = topology.getTopologyId();
+            this.rebalancing = topology.getPhase() != CacheTopology.Phase.NO_REBALANCE;
+            this.hash = topology.getWriteConsistentHash();
+            this.routes = new AtomicReferenceArray<>(this.hash.getNumSegments());
+            this.previousRoutes = (previous != null) ? previous.routes : null;
+        }
+
+        int getTopologyId() {
+            return this.topologyId;
+        }
+
+        String getRoute(int segment) {
+            SegmentRoute route = this.routes.get(segment);
+            if (route != null) return route.route;
+            List<Address> owners = this.hash.locateOwnersForSegment(segment);
+            SegmentRoute previous = ((this.previousRoutes != null) && (segment < this.previousRoutes.length())) ? this.previousRoutes.get(segment) : null;
+            boolean retain = SegmentRouteCache.this.hysteresis && this.rebalancing && (previous != null) && owners.contains(previous.primaryOwner);
+            if (retain) {
+                route = previous;
+            } else {
+                String value = SegmentRouteCache.this.routeFactory.apply(owners);
+                // Routes that could not be resolved completely are not cached
+                if (value == null) return null;
+                route = new SegmentRoute(value, !owners.isEmpty() ? owners.get(0) : null);
+            }
+            return this.routes.compareAndSet(segment, null, route) ? route.route : this.routes.get(segment).route;
+        }
+    }
+}
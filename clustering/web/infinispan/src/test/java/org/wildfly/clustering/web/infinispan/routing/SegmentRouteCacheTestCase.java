@@ -0,0 +1,137 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.infinispan.routing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.topology.CacheTopology;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SegmentRouteCache}.
+ */
+public class SegmentRouteCacheTestCase {
+
+    private final DistributionManager distribution = mock(DistributionManager.class);
+    private final Address owner1 = mock(Address.class);
+    private final Address owner2 = mock(Address.class);
+    private final Address owner3 = mock(Address.class);
+    private final Map<Address, String> names = Map.of(this.owner1, "owner1", this.owner2, "owner2", this.owner3, "owner3");
+    @SuppressWarnings("unchecked")
+    private final Function<List<Address>, String> factory = mock(Function.class);
+
+    @Test
+    public void test() {
+        when(this.factory.apply(any())).then(invocation -> this.names.get(invocation.<List<Address>>getArgument(0).get(0)));
+        SegmentRouteCache cache = new SegmentRouteCache(this.distribution, this.factory, false);
+
+        this.topology(1, CacheTopology.Phase.NO_REBALANCE, List.of(this.owner1, this.owner2));
+        assertEquals("owner1", cache.locate("key"));
+        assertEquals("owner1", cache.locate("key"));
+        // Route should only be computed once per topology
+        verify(this.factory, times(1)).apply(any());
+
+        this.topology(2, CacheTopology.Phase.READ_OLD_WRITE_ALL, List.of(this.owner3, this.owner1));
+        assertEquals("owner3", cache.locate("key"));
+        verify(this.factory, times(2)).apply(any());
+
+        this.topology(3, CacheTopology.Phase.NO_REBALANCE, List.of(this.owner3, this.owner2));
+        assertEquals("owner3", cache.locate("key"));
+        verify(this.factory, times(3)).apply(any());
+    }
+
+    @Test
+    public void hysteresis() {
+        when(this.factory.apply(any())).then(invocation -> this.names.get(invocation.<List<Address>>getArgument(0).get(0)));
+        SegmentRouteCache cache = new SegmentRouteCache(this.distribution, this.factory, true);
+
+        this.topology(1, CacheTopology.Phase.NO_REBALANCE, List.of(this.owner1, this.owner2));
+        assertEquals("owner1", cache.locate("key"));
+
+        // Previous primary owner is still an owner during rebalance
+        this.topology(2, CacheTopology.Phase.READ_OLD_WRITE_ALL, List.of(this.owner3, this.owner1));
+        assertEquals("owner1", cache.locate("key"));
+        verify(this.factory, times(1)).apply(any());
+
+        // Previous primary owner no longer owns segment
+        this.topology(3, CacheTopology.Phase.READ_ALL_WRITE_ALL, List.of(this.owner3, this.owner2));
+        assertEquals("owner3", cache.locate("key"));
+        verify(this.factory, times(2)).apply(any());
+
+        // Rebalance complete
+        this.topology(4, CacheTopology.Phase.NO_REBALANCE, List.of(this.owner2, this.owner3));
+        assertEquals("owner2", cache.locate("key"));
+        verify(this.factory, times(3)).apply(any());
+    }
+
+    @Test
+    public void invalidate() {
+        when(this.factory.apply(any())).thenReturn("route1");
+        SegmentRouteCache cache = new SegmentRouteCache(this.distribution, this.factory, true);
+
+        this.topology(1, CacheTopology.Phase.NO_REBALANCE, List.of(this.owner1, this.owner2));
+        assertEquals("route1", cache.locate("key"));
+        assertEquals("route1", cache.locate("key"));
+        verify(this.factory, times(1)).apply(any());
+
+        // Routes are recomputed following any change to the route registry, within the same topology
+        when(this.factory.apply(any())).thenReturn("route2");
+        cache.updatedEntries(Collections.singletonMap("route2", null));
+        assertEquals("route2", cache.locate("key"));
+        verify(this.factory, times(2)).apply(any());
+
+        cache.addedEntries(Collections.singletonMap("route3", null));
+        assertEquals("route2", cache.locate("key"));
+        verify(this.factory, times(3)).apply(any());
+
+        // Routes retained for hysteresis are discarded as well
+        when(this.factory.apply(any())).thenReturn("route3");
+        cache.removedEntries(Collections.singletonMap("route1", null));
+        this.topology(2, CacheTopology.Phase.READ_OLD_WRITE_ALL, List.of(this.owner3, this.owner1));
+        assertEquals("route3", cache.locate("key"));
+        verify(this.factory, times(4)).apply(any());
+    }
+
+    @Test
+    public void uncacheable() {
+        when(this.factory.apply(any())).thenReturn(null);
+        SegmentRouteCache cache = new SegmentRouteCache(this.distribution, this.factory, false);
+
+        this.topology(1, CacheTopology.Phase.NO_REBALANCE, List.of(this.owner1));
+        assertNull(cache.locate("key"));
+        assertNull(cache.locate("key"));
+        verify(this.factory, times(2)).apply(any());
+
+        assertNull(new SegmentRouteCache(null, this.factory, false).locate("key"));
+    }
+
+    private void topology(int id, CacheTopology.Phase phase, List<Address> owners) {
+        LocalizedCacheTopology topology = mock(LocalizedCacheTopology.class);
+        ConsistentHash hash = mock(ConsistentHash.class);
+        when(this.distribution.getCacheTopology()).thenReturn(topology);
+        when(topology.getTopologyId()).thenReturn(id);
+        when(topology.getPhase()).thenReturn(phase);
+        when(topology.getWriteConsistentHash()).thenReturn(hash);
+        when(topology.getSegment("key")).thenReturn(1);
+        when(hash.getNumSegments()).thenReturn(4);
+        when(hash.locateOwnersForSegment(1)).thenReturn(owners);
+    }
+}
@@ -7,6 +7,7 @@ package org.wildfly.clustering.web.session;
 
 import java.util.function.Function;
 
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 
 /**
@@ -19,4 +20,12 @@ public interface DistributableSessionManagementConfiguration<M> {
     SessionAttributePersistenceStrategy getAttributePersistenceStrategy();
 
     Function<M, ByteBufferMarshaller> getMarshallerFactory();
+
+    /**
+     * Returns the compression of the marshalled session attributes of this provider, if any.
+     * @return a compression, or null, if session attributes are not compressed
+     */
+    default ByteBufferCompression getCompression() {
+        return null;
+    }
 }
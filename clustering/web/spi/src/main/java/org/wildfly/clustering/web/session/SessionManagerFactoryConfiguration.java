@@ -7,6 +7,7 @@ package org.wildfly.clustering.web.session;
 import java.util.function.Supplier;
 
 import org.wildfly.clustering.ee.Immutability;
+import org.wildfly.clustering.marshalling.spi.ByteBufferCompression;
 import org.wildfly.clustering.marshalling.spi.ByteBufferMarshaller;
 import org.wildfly.clustering.web.WebDeploymentConfiguration;
 
@@ -32,4 +33,12 @@ public interface SessionManagerFactoryConfiguration<S, SC, AL, LC> extends WebDe
     SpecificationProvider<S, SC, AL> getSpecificationProvider();
 
     SessionAttributePersistenceStrategy getAttributePersistenceStrategy();
+
+    /**
+     * Returns the compression of marshalled session attributes, if any.
+     * @return a compression, or null, if session attributes are not compressed
+     */
+    default ByteBufferCompression getCompression() {
+        return null;
+    }
 }
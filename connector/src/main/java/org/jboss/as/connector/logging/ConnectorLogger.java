@@ -973,4 +973,16 @@ public interface ConnectorLogger extends BasicLogger {
 
     @Message(id = 134, value = "name attribute is mandatory for workmanager element")
     XMLStreamException nameAttributeIsMandatory();
+
+    @LogMessage(level = INFO)
+    @Message(id = 135, value = "Jakarta Connectors WorkManager %s runs Work on virtual threads with a concurrency limit of %d")
+    void workManagerUsingVirtualThreads(String workManagerName, int maxConcurrency);
+
+    @LogMessage(level = WARN)
+    @Message(id = 136, value = "Virtual threads are not supported by this JVM, Jakarta Connectors WorkManager %s will use its configured thread pools")
+    void virtualThreadsNotSupported(String workManagerName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 137, value = "The maximum number of threads of the thread pool of Jakarta Connectors WorkManager %s is unknown, it will use its configured thread pools instead of virtual threads")
+    void unknownWorkManagerConcurrencyLimit(String workManagerName);
 }
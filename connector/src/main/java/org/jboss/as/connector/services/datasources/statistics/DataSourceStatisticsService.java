@@ -7,8 +7,11 @@ package org.jboss.as.connector.services.datasources.statistics;
 
 import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 
+import javax.sql.DataSource;
+
 import org.jboss.as.connector.dynamicresource.StatisticsResourceDefinition;
 import org.jboss.as.connector.subsystems.datasources.DataSourcesSubsystemProviders;
+import org.jboss.as.connector.subsystems.datasources.WildFlyDataSource;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -28,11 +31,13 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
 
     private static final PathElement JDBC_STATISTICS = PathElement.pathElement("statistics", "jdbc");
     private static final PathElement POOL_STATISTICS = PathElement.pathElement("statistics", "pool");
+    private static final PathElement TIMING_STATISTICS = PathElement.pathElement("statistics", "timing");
 
     private final ManagementResourceRegistration registration;
     private final boolean statsEnabled;
 
     protected final InjectedValue<CommonDeployment> injectedDeploymentMD = new InjectedValue<>();
+    protected final InjectedValue<DataSource> injectedDataSource = new InjectedValue<>();
 
 
     /**
@@ -75,6 +80,16 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
                                     DataSourcesSubsystemProviders.RESOURCE_NAME, poolStats));
                 }
             }
+
+            DataSource dataSource = injectedDataSource.getOptionalValue();
+            if (dataSource instanceof WildFlyDataSource) {
+                StatisticsPlugin timingStats = ((WildFlyDataSource) dataSource).getTimingStatistics();
+                timingStats.setEnabled(statsEnabled);
+                if (registration != null && registration.getSubModel(PathAddress.pathAddress(TIMING_STATISTICS)) == null) {
+                    registration.registerSubModel(new StatisticsResourceDefinition(TIMING_STATISTICS,
+                            DataSourcesSubsystemProviders.RESOURCE_NAME, timingStats));
+                }
+            }
         }
     }
 
@@ -84,6 +99,7 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
             if (registration != null) {
                 registration.unregisterSubModel(JDBC_STATISTICS);
                 registration.unregisterSubModel(POOL_STATISTICS);
+                registration.unregisterSubModel(TIMING_STATISTICS);
             }
         }
     }
@@ -98,6 +114,10 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
         return injectedDeploymentMD;
     }
 
+    public Injector<DataSource> getDataSourceInjector() {
+        return injectedDataSource;
+    }
+
 
     public static void registerStatisticsResources(Resource datasourceResource) {
         synchronized (JDBC_STATISTICS) {
@@ -107,6 +127,9 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
             if (!datasourceResource.hasChild(POOL_STATISTICS)) {
                 datasourceResource.registerChild(POOL_STATISTICS, new PlaceholderResource.PlaceholderResourceEntry(POOL_STATISTICS));
             }
+            if (!datasourceResource.hasChild(TIMING_STATISTICS)) {
+                datasourceResource.registerChild(TIMING_STATISTICS, new PlaceholderResource.PlaceholderResourceEntry(TIMING_STATISTICS));
+            }
         }
     }
 
@@ -118,6 +141,9 @@ public class DataSourceStatisticsService implements Service<ManagementResourceRe
             if (datasourceResource.hasChild(POOL_STATISTICS)) {
                 datasourceResource.removeChild(POOL_STATISTICS);
             }
+            if (datasourceResource.hasChild(TIMING_STATISTICS)) {
+                datasourceResource.removeChild(TIMING_STATISTICS);
+            }
         }
     }
 
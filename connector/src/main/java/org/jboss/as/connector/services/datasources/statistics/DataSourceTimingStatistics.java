@@ -0,0 +1,162 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.datasources.statistics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.ee.utils.LatencyHistogram;
+import org.jboss.jca.core.spi.statistics.StatisticsPlugin;
+
+/**
+ * Low overhead timing statistics for a data-source, recorded by {@link org.jboss.as.connector.subsystems.datasources.WildFlyDataSource}.
+ * <p>
+ * Only the acquisition of connections is timed, i.e. the time an application waits for
+ * {@link javax.sql.DataSource#getConnection()} to return, including the wait for a free pooled connection.
+ * The time a connection is held and the execution time of statements are not covered: they would require hooks into the
+ * connection and statement wrappers of IronJacamar, which are not part of this subsystem. The JDBC statistics of the
+ * {@code statistics=jdbc} resource remain the source of statement level statistics.
+ * <p>
+ * Recording threads only ever touch striped {@link LongAdder} counters and a {@link LatencyHistogram},
+ * so concurrent callers never contend on a shared lock or counter word. Management reads are served from an immutable
+ * snapshot that is recomputed at most once per {@link #SNAPSHOT_INTERVAL_MILLIS}, so a metrics scraper reading every
+ * attribute does not recompute the percentiles for each of them.
+ */
+public class DataSourceTimingStatistics implements StatisticsPlugin {
+
+    private static final long serialVersionUID = -4460427063598391624L;
+
+    static final long SNAPSHOT_INTERVAL_MILLIS = 1000L;
+
+    static final String ACQUIRE_COUNT = "AcquireCount";
+    static final String ACQUIRE_FAILED_COUNT = "AcquireFailedCount";
+    static final String ACQUIRE_TIME_TOTAL = "AcquireTimeTotal";
+    static final String ACQUIRE_TIME_MAX = "AcquireTimeMax";
+    static final String ACQUIRE_TIME_P50 = "AcquireTimeP50";
+    static final String ACQUIRE_TIME_P95 = "AcquireTimeP95";
+    static final String ACQUIRE_TIME_P99 = "AcquireTimeP99";
+
+    private static final Map<String, String> DESCRIPTIONS;
+    static {
+        Map<String, String> descriptions = new LinkedHashMap<>();
+        descriptions.put(ACQUIRE_COUNT, "The number of connections obtained from the data-source");
+        descriptions.put(ACQUIRE_FAILED_COUNT, "The number of failed attempts to obtain a connection from the data-source");
+        descriptions.put(ACQUIRE_TIME_TOTAL, "The total time spent waiting to obtain a connection (microseconds)");
+        descriptions.put(ACQUIRE_TIME_MAX, "The maximum time spent waiting to obtain a connection (microseconds)");
+        descriptions.put(ACQUIRE_TIME_P50, "The median time spent waiting to obtain a connection (microseconds)");
+        descriptions.put(ACQUIRE_TIME_P95, "The 95th percentile of the time spent waiting to obtain a connection (microseconds)");
+        descriptions.put(ACQUIRE_TIME_P99, "The 99th percentile of the time spent waiting to obtain a connection (microseconds)");
+        DESCRIPTIONS = Collections.unmodifiableMap(descriptions);
+    }
+
+    private final LongAdder acquireFailedCount = new LongAdder();
+    private final LatencyHistogram acquireTime = new LatencyHistogram();
+
+    private volatile boolean enabled;
+    private transient volatile Snapshot snapshot;
+
+    /**
+     * Records a successful connection acquisition.
+     * @param nanos the time spent waiting for the connection, in nanoseconds
+     */
+    public void recordAcquire(long nanos) {
+        this.acquireTime.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Records a failed connection acquisition.
+     */
+    public void recordAcquireFailure() {
+        this.acquireFailedCount.increment();
+    }
+
+    @Override
+    public Set<String> getNames() {
+        return DESCRIPTIONS.keySet();
+    }
+
+    @Override
+    public Class getType(String name) {
+        return DESCRIPTIONS.containsKey(name) ? long.class : null;
+    }
+
+    @Override
+    public String getDescription(String name) {
+        return DESCRIPTIONS.get(name);
+    }
+
+    @Override
+    public String getDescription(String name, Locale locale) {
+        return this.getDescription(name);
+    }
+
+    @Override
+    public Object getValue(String name) {
+        Snapshot snapshot = this.getSnapshot();
+        switch (name) {
+            case ACQUIRE_COUNT:
+                return snapshot.acquireTime.getCount();
+            case ACQUIRE_FAILED_COUNT:
+                return snapshot.failedCount;
+            case ACQUIRE_TIME_TOTAL:
+                return snapshot.acquireTime.getTotal();
+            case ACQUIRE_TIME_MAX:
+                return snapshot.acquireTime.getMax();
+            case ACQUIRE_TIME_P50:
+                return snapshot.acquireTime.getPercentile(0.50);
+            case ACQUIRE_TIME_P95:
+                return snapshot.acquireTime.getPercentile(0.95);
+            case ACQUIRE_TIME_P99:
+                return snapshot.acquireTime.getPercentile(0.99);
+            default:
+                return null;
+        }
+    }
+
+    private Snapshot getSnapshot() {
+        long now = System.currentTimeMillis();
+        Snapshot snapshot = this.snapshot;
+        if ((snapshot == null) || (now - snapshot.timestamp >= SNAPSHOT_INTERVAL_MILLIS)) {
+            snapshot = new Snapshot(now);
+            this.snapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void clear() {
+        this.acquireFailedCount.reset();
+        this.acquireTime.reset();
+        this.snapshot = null;
+    }
+
+    private class Snapshot {
+        final long timestamp;
+        final long failedCount;
+        final LatencyHistogram.Snapshot acquireTime;
+
+        Snapshot(long timestamp) {
+            this.timestamp = timestamp;
+            this.failedCount = DataSourceTimingStatistics.this.acquireFailedCount.sum();
+            this.acquireTime = DataSourceTimingStatistics.this.acquireTime.snapshot();
+        }
+    }
+}
@@ -41,6 +41,10 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
 
     private final InjectedValue<JBossContextXATerminator> xaTerminator = new InjectedValue<JBossContextXATerminator>();
 
+    private volatile VirtualThreadStatisticsExecutor virtualShortRunning;
+
+    private volatile VirtualThreadStatisticsExecutor virtualLongRunning;
+
     private final InjectedValue<CommandDispatcherFactory> dispatcherFactory = new InjectedValue<>();
 
     /**
@@ -68,7 +72,14 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
         this.value.setTransport(transport);
 
         BlockingExecutor longRunning = (BlockingExecutor) executorLong.getOptionalValue();
-        if (longRunning != null) {
+        this.virtualShortRunning = VirtualThreadStatisticsExecutor.isEnabled(value.getName())
+                ? VirtualThreadStatisticsExecutor.create(value.getName(), (BlockingExecutor) executorShort.getValue()) : null;
+        if (this.virtualShortRunning != null) {
+            this.value.setShortRunningThreadPool(this.virtualShortRunning);
+            this.virtualLongRunning = (longRunning != null)
+                    ? VirtualThreadStatisticsExecutor.create(value.getName() + "-long-running", longRunning) : null;
+            this.value.setLongRunningThreadPool((this.virtualLongRunning != null) ? this.virtualLongRunning : this.virtualShortRunning);
+        } else if (longRunning != null) {
             this.value.setLongRunningThreadPool(longRunning);
             this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
         } else {
@@ -110,6 +121,16 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
 
         value.shutdown();
 
+        // interrupt any Work still running on virtual threads
+        if (this.virtualLongRunning != null) {
+            this.virtualLongRunning.shutdown();
+            this.virtualLongRunning = null;
+        }
+        if (this.virtualShortRunning != null) {
+            this.virtualShortRunning.shutdown();
+            this.virtualShortRunning = null;
+        }
+
         WorkManagerCoordinator.getInstance().unregisterWorkManager(value);
 
         ROOT_LOGGER.debugf("Stopped Jakarta Connectors DistributedWorkManager: ", value.getName());
@@ -93,4 +93,30 @@ public class StatisticsExecutorImpl implements StatisticsExecutor {
         }
         return 0L;
     }
+
+    /**
+     * Returns the maximum number of threads of the specified executor
+     *
+     * @param executor an executor
+     * @return the configured maximum number of threads, or 0 if the executor does not expose it
+     */
+    static int getMaxThreads(BlockingExecutor executor) {
+        if (executor instanceof JBossThreadPoolExecutor) {
+            return ((JBossThreadPoolExecutor) executor).getMaximumPoolSize();
+        }
+        if (executor instanceof ThreadPoolExecutorMBean) {
+            return ((ThreadPoolExecutorMBean) executor).getMaxThreads();
+        }
+        if (executor instanceof ManagedQueueExecutorService) {
+            return ((ManagedQueueExecutorService) executor).getMaxThreads();
+        }
+        if (executor instanceof ManagedJBossThreadPoolExecutorService) {
+            return ((ManagedJBossThreadPoolExecutorService) executor).getMaxThreads();
+        }
+        if (executor instanceof ManagedQueuelessExecutorService) {
+            return ((ManagedQueuelessExecutorService) executor).getMaxThreads();
+        }
+        // The configured size of other executors, e.g. a ManagedScheduledExecutorService, is not exposed
+        return 0;
+    }
 }
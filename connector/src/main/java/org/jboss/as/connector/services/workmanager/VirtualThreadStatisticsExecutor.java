@@ -0,0 +1,211 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.connector.logging.ConnectorLogger;
+import org.jboss.jca.core.api.workmanager.StatisticsExecutor;
+import org.jboss.threads.BlockingExecutor;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A StatisticsExecutor implementation running each submitted task on its own (virtual) thread.
+ * Concurrency is bounded by a semaphore rather than by a fixed number of pooled threads,
+ * so that Work blocking on I/O does not tie up a platform thread.
+ * The number of free threads reported to the work manager, and therefore to the distributed work manager policies,
+ * is the number of available permits.
+ */
+public class VirtualThreadStatisticsExecutor implements StatisticsExecutor {
+
+    /**
+     * System property enabling virtual threads, either for all work managers ({@code true})
+     * or for a comma separated list of work manager names.
+     */
+    static final String VIRTUAL_THREADS_PROPERTY = "jboss.jca.workmanager.virtual-threads";
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown;
+
+    /**
+     * VirtualThreadStatisticsExecutor constructor
+     *
+     * @param threadFactory the factory creating a thread per task
+     * @param maxConcurrency the maximum number of concurrently running tasks
+     */
+    public VirtualThreadStatisticsExecutor(ThreadFactory threadFactory, int maxConcurrency) {
+        this.threadFactory = threadFactory;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+        try {
+            this.executeBlocking(runnable);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(e);
+        }
+    }
+
+    @Override
+    public void executeBlocking(Runnable runnable) throws RejectedExecutionException, InterruptedException {
+        this.permits.acquire();
+        this.start(runnable);
+    }
+
+    @Override
+    public void executeBlocking(Runnable runnable, long timeout, TimeUnit unit) throws RejectedExecutionException,
+            InterruptedException {
+        if (!this.permits.tryAcquire(timeout, unit)) {
+            throw new RejectedExecutionException();
+        }
+        this.start(runnable);
+    }
+
+    @Override
+    public void executeNonBlocking(Runnable runnable) throws RejectedExecutionException {
+        if (!this.permits.tryAcquire()) {
+            throw new RejectedExecutionException();
+        }
+        this.start(runnable);
+    }
+
+    private void start(Runnable runnable) {
+        if (this.shutdown) {
+            this.permits.release();
+            throw new RejectedExecutionException();
+        }
+        Thread thread = null;
+        try {
+            thread = this.threadFactory.newThread(() -> {
+                try {
+                    runnable.run();
+                } finally {
+                    this.threads.remove(Thread.currentThread());
+                    this.permits.release();
+                }
+            });
+            this.threads.add(thread);
+            thread.start();
+        } catch (RuntimeException | Error e) {
+            if (thread != null) {
+                this.threads.remove(thread);
+            }
+            this.permits.release();
+            throw (e instanceof RejectedExecutionException) ? (RejectedExecutionException) e : new RejectedExecutionException(e);
+        }
+        // Threads started concurrently with shutdown() are interrupted here
+        if (this.shutdown) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Rejects subsequently submitted tasks, and interrupts the threads of running tasks.
+     */
+    public void shutdown() {
+        this.shutdown = true;
+        for (Thread thread : this.threads) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Indicates whether this executor was shut down.
+     *
+     * @return true, if this executor was shut down, false otherwise
+     */
+    public boolean isShutdown() {
+        return this.shutdown;
+    }
+
+    /**
+     * Returns the number of running tasks.
+     *
+     * @return the number of running tasks
+     */
+    int getRunningCount() {
+        return this.threads.size();
+    }
+
+    @Override
+    public long getNumberOfFreeThreads() {
+        return this.permits.availablePermits();
+    }
+
+    /**
+     * Returns the maximum number of concurrently running tasks
+     *
+     * @return the concurrency limit
+     */
+    public int getMaxConcurrency() {
+        return this.maxConcurrency;
+    }
+
+    /**
+     * Indicates whether the specified work manager was configured to use virtual threads.
+     *
+     * @param workManagerName the name of a work manager
+     * @return true, if virtual threads were requested for this work manager, false otherwise
+     */
+    static boolean isEnabled(String workManagerName) {
+        String value = WildFlySecurityManager.getPropertyPrivileged(VIRTUAL_THREADS_PROPERTY, null);
+        if (value == null || value.isBlank()) return false;
+        return Boolean.parseBoolean(value.trim()) || Arrays.stream(value.split(",")).map(String::trim).anyMatch(workManagerName::equals);
+    }
+
+    /**
+     * Creates a virtual thread based executor for the specified work manager, whose concurrency limit is the maximum
+     * number of threads of the configured thread pool.
+     *
+     * @param workManagerName the name of the work manager
+     * @param pool the configured thread pool of the work manager
+     * @return a virtual thread executor, or null if the JVM does not support virtual threads, or the size of the thread pool is unknown
+     */
+    static VirtualThreadStatisticsExecutor create(String workManagerName, BlockingExecutor pool) {
+        ThreadFactory factory = createVirtualThreadFactory("jca-" + workManagerName + "-");
+        if (factory == null) {
+            ConnectorLogger.ROOT_LOGGER.virtualThreadsNotSupported(workManagerName);
+            return null;
+        }
+        int maxConcurrency = StatisticsExecutorImpl.getMaxThreads(pool);
+        if (maxConcurrency <= 0) {
+            ConnectorLogger.ROOT_LOGGER.unknownWorkManagerConcurrencyLimit(workManagerName);
+            return null;
+        }
+        ConnectorLogger.ROOT_LOGGER.workManagerUsingVirtualThreads(workManagerName, maxConcurrency);
+        return new VirtualThreadStatisticsExecutor(factory, maxConcurrency);
+    }
+
+    /**
+     * Creates a factory of virtual threads via {@code Thread.ofVirtual().name(prefix, 0).factory()}.
+     * Reflection is required since this module targets a Java release that predates virtual threads.
+     *
+     * @param prefix the thread name prefix
+     * @return a virtual thread factory, or null if virtual threads are not supported
+     */
+    static ThreadFactory createVirtualThreadFactory(String prefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -39,6 +39,10 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
 
     private final InjectedValue<JBossContextXATerminator> xaTerminator = new InjectedValue<JBossContextXATerminator>();
 
+    private volatile VirtualThreadStatisticsExecutor virtualShortRunning;
+
+    private volatile VirtualThreadStatisticsExecutor virtualLongRunning;
+
     /**
      * create an instance
      *
@@ -60,7 +64,14 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
         ROOT_LOGGER.debugf("Starting Jakarta Connectors WorkManager: ", value.getName());
 
         BlockingExecutor longRunning = (BlockingExecutor) executorLong.getOptionalValue();
-        if (longRunning != null) {
+        this.virtualShortRunning = VirtualThreadStatisticsExecutor.isEnabled(value.getName())
+                ? VirtualThreadStatisticsExecutor.create(value.getName(), (BlockingExecutor) executorShort.getValue()) : null;
+        if (this.virtualShortRunning != null) {
+            this.value.setShortRunningThreadPool(this.virtualShortRunning);
+            this.virtualLongRunning = (longRunning != null)
+                    ? VirtualThreadStatisticsExecutor.create(value.getName() + "-long-running", longRunning) : null;
+            this.value.setLongRunningThreadPool((this.virtualLongRunning != null) ? this.virtualLongRunning : this.virtualShortRunning);
+        } else if (longRunning != null) {
             this.value.setLongRunningThreadPool(longRunning);
             this.value.setShortRunningThreadPool(new StatisticsExecutorImpl((BlockingExecutor) executorShort.getValue()));
         } else {
@@ -93,6 +104,16 @@ public final class WorkManagerService implements Service<NamedWorkManager> {
         //shutting down immediately (synchronous method) the workmanager and release all works
         value.shutdown();
 
+        // interrupt any Work still running on virtual threads
+        if (this.virtualLongRunning != null) {
+            this.virtualLongRunning.shutdown();
+            this.virtualLongRunning = null;
+        }
+        if (this.virtualShortRunning != null) {
+            this.virtualShortRunning.shutdown();
+            this.virtualShortRunning = null;
+        }
+
         if (value.getName().equals(DEFAULT_NAME)) {
             WorkManagerCoordinator.getInstance().setDefaultWorkManager(null);
         } else {
@@ -15,6 +15,8 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.logging.Logger;
 
+import org.jboss.as.connector.services.datasources.statistics.DataSourceTimingStatistics;
+
 /**
  * WildFly DataSource implementation
  *
@@ -31,6 +33,9 @@ public class WildFlyDataSource implements DataSource, Serializable {
     /** Service name */
     private transient String jndiName;
 
+    /** Timing statistics */
+    private transient DataSourceTimingStatistics timingStatistics;
+
 
     /**
      * Constructor
@@ -40,16 +45,47 @@ public class WildFlyDataSource implements DataSource, Serializable {
     public WildFlyDataSource(DataSource delegate, String jndiName) {
         this.delegate = delegate;
         this.jndiName = jndiName;
+        this.timingStatistics = new DataSourceTimingStatistics();
+    }
+
+    /**
+     * Get the timing statistics of this datasource
+     * @return The timing statistics, disabled by default
+     */
+    public DataSourceTimingStatistics getTimingStatistics() {
+        return timingStatistics;
     }
 
     @Override
     public Connection getConnection() throws SQLException {
-        return delegate.getConnection();
+        if (!timingStatistics.isEnabled()) {
+            return delegate.getConnection();
+        }
+        long start = System.nanoTime();
+        try {
+            Connection connection = delegate.getConnection();
+            timingStatistics.recordAcquire(System.nanoTime() - start);
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            timingStatistics.recordAcquireFailure();
+            throw e;
+        }
     }
 
     @Override
     public Connection getConnection(String username, String password) throws SQLException {
-        return delegate.getConnection(username, password);
+        if (!timingStatistics.isEnabled()) {
+            return delegate.getConnection(username, password);
+        }
+        long start = System.nanoTime();
+        try {
+            Connection connection = delegate.getConnection(username, password);
+            timingStatistics.recordAcquire(System.nanoTime() - start);
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            timingStatistics.recordAcquireFailure();
+            throw e;
+        }
     }
 
     @Override
@@ -96,6 +132,7 @@ public class WildFlyDataSource implements DataSource, Serializable {
     private void readObject(java.io.ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
         jndiName = (String) in.readObject();
+        timingStatistics = new DataSourceTimingStatistics();
 
 
         try {
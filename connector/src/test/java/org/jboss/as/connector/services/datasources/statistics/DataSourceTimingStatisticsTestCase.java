@@ -0,0 +1,51 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.datasources.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DataSourceTimingStatistics}.
+ */
+public class DataSourceTimingStatisticsTestCase {
+
+    @Test
+    public void record() {
+        DataSourceTimingStatistics statistics = new DataSourceTimingStatistics();
+        for (String name : statistics.getNames()) {
+            assertEquals(long.class, statistics.getType(name));
+            assertEquals(0L, statistics.getValue(name));
+        }
+        statistics.clear();
+
+        for (int i = 1; i <= 100; ++i) {
+            statistics.recordAcquire(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        statistics.recordAcquireFailure();
+
+        assertEquals(100L, statistics.getValue(DataSourceTimingStatistics.ACQUIRE_COUNT));
+        assertEquals(1L, statistics.getValue(DataSourceTimingStatistics.ACQUIRE_FAILED_COUNT));
+        assertEquals(5050L, statistics.getValue(DataSourceTimingStatistics.ACQUIRE_TIME_TOTAL));
+        assertEquals(100L, statistics.getValue(DataSourceTimingStatistics.ACQUIRE_TIME_MAX));
+
+        long p50 = (Long) statistics.getValue(DataSourceTimingStatistics.ACQUIRE_TIME_P50);
+        long p95 = (Long) statistics.getValue(DataSourceTimingStatistics.ACQUIRE_TIME_P95);
+        long p99 = (Long) statistics.getValue(DataSourceTimingStatistics.ACQUIRE_TIME_P99);
+        // Percentiles are bucket upper bounds, so they never underestimate
+        assertTrue(Long.toString(p50), p50 >= 50 && p50 < 100);
+        assertTrue(Long.toString(p95), p95 >= 95 && p95 <= 100);
+        assertTrue(Long.toString(p99), p99 >= 99 && p99 <= 100);
+
+        statistics.clear();
+        assertEquals(0L, statistics.getValue(DataSourceTimingStatistics.ACQUIRE_COUNT));
+        assertEquals(0L, statistics.getValue(DataSourceTimingStatistics.ACQUIRE_TIME_P99));
+    }
+}
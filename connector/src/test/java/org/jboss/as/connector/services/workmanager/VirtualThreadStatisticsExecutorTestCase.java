@@ -0,0 +1,130 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link VirtualThreadStatisticsExecutor}.
+ */
+public class VirtualThreadStatisticsExecutorTestCase {
+
+    private static ThreadFactory threadFactory() {
+        ThreadFactory factory = VirtualThreadStatisticsExecutor.createVirtualThreadFactory("test-");
+        // Fall back to platform threads on JVMs without virtual threads
+        return (factory != null) ? factory : Thread::new;
+    }
+
+    @Test
+    public void concurrencyLimit() throws InterruptedException {
+        VirtualThreadStatisticsExecutor executor = new VirtualThreadStatisticsExecutor(threadFactory(), 2);
+        assertEquals(2, executor.getMaxConcurrency());
+        assertEquals(2L, executor.getNumberOfFreeThreads());
+
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocking = () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.executeNonBlocking(blocking);
+        executor.executeBlocking(blocking);
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertEquals(0L, executor.getNumberOfFreeThreads());
+
+        try {
+            executor.executeNonBlocking(() -> { });
+            fail("Expected RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+        try {
+            executor.executeBlocking(() -> { }, 10, TimeUnit.MILLISECONDS);
+            fail("Expected RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+
+        release.countDown();
+        CountDownLatch completed = new CountDownLatch(1);
+        executor.executeBlocking(completed::countDown, 10, TimeUnit.SECONDS);
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void permitReleasedOnFailure() throws InterruptedException {
+        CountDownLatch failed = new CountDownLatch(1);
+        ThreadFactory factory = threadFactory();
+        VirtualThreadStatisticsExecutor failing = new VirtualThreadStatisticsExecutor(task -> {
+            Thread thread = factory.newThread(task);
+            thread.setUncaughtExceptionHandler((t, e) -> failed.countDown());
+            return thread;
+        }, 1);
+        failing.execute(() -> {
+            throw new IllegalStateException();
+        });
+        assertTrue(failed.await(10, TimeUnit.SECONDS));
+        // Wait for the permit to be released by the terminating thread
+        failing.executeBlocking(() -> { }, 10, TimeUnit.SECONDS);
+
+        VirtualThreadStatisticsExecutor rejecting = new VirtualThreadStatisticsExecutor(task -> {
+            throw new IllegalStateException();
+        }, 1);
+        try {
+            rejecting.executeNonBlocking(() -> { });
+            fail("Expected RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            assertEquals(1L, rejecting.getNumberOfFreeThreads());
+        }
+    }
+
+    @Test
+    public void shutdown() throws InterruptedException {
+        VirtualThreadStatisticsExecutor executor = new VirtualThreadStatisticsExecutor(threadFactory(), 2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertEquals(1, executor.getRunningCount());
+
+        executor.shutdown();
+        assertTrue(executor.isShutdown());
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        try {
+            executor.executeNonBlocking(() -> { });
+            fail("Expected RejectedExecutionException");
+        } catch (RejectedExecutionException e) {
+            // Expected
+        }
+        // Wait for the interrupted task to release its permit
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((executor.getNumberOfFreeThreads() < 2) && (System.nanoTime() < deadline)) {
+            Thread.sleep(10);
+        }
+        assertEquals(2L, executor.getNumberOfFreeThreads());
+        assertEquals(0, executor.getRunningCount());
+    }
+}
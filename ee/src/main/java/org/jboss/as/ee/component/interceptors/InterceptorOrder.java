@@ -149,6 +149,7 @@ public class InterceptorOrder {
         public static final int REMOTE_EXCEPTION_TRANSFORMER = 0x200;
         public static final int EJB_EXCEPTION_LOGGING_INTERCEPTOR = 0x210;
         public static final int GRACEFUL_SHUTDOWN = 0x218;
+        public static final int MESSAGE_DELIVERY_SAMPLING = 0x219;
         public static final int SHUTDOWN_INTERCEPTOR = 0x220;
         public static final int INVALID_METHOD_EXCEPTION = 0x230;
         public static final int STARTUP_AWAIT_INTERCEPTOR = 0x248;
@@ -26,6 +26,7 @@ import java.io.ObjectOutputStream;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -33,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Thread.currentThread;
 
@@ -83,6 +85,11 @@ public class ConcurrentContext {
     private final Map<String, ContextHandleFactory> factoryMap = new HashMap<>();
     private List<ContextHandleFactory> factoryOrderedList;
 
+    /**
+     * the context savers, per context service, which are discarded whenever a factory is added
+     */
+    private volatile Map<ContextService, ContextSaver> contextSavers = new ConcurrentHashMap<>();
+
     private volatile ServiceName serviceName;
 
     /**
@@ -113,6 +120,7 @@ public class ConcurrentContext {
         sortedSet.addAll(factoryMap.values());
         // TODO *FOLLOW UP* now that we have factories coming from deployments, rework the ordering approach to no use treeset, which does not supports factories with same priority (the order param)
         factoryOrderedList = new ArrayList<>(sortedSet);
+        contextSavers = new ConcurrentHashMap<>();
     }
 
     /**
@@ -122,33 +130,126 @@ public class ConcurrentContext {
      * @return
      */
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
+        final Map<ContextService, ContextSaver> contextSavers = this.contextSavers;
+        ContextSaver contextSaver = contextSavers.get(contextService);
+        if (contextSaver == null) {
+            contextSaver = contextSavers.computeIfAbsent(contextService, this::createContextSaver);
+        }
+        return contextSaver.saveContext(contextService, contextObjectProperties);
+    }
+
+    /**
+     * Resolves, once per context service, which context handle factories save the context, and how.
+     * @param contextService
+     * @return
+     */
+    private synchronized ContextSaver createContextSaver(ContextService contextService) {
         final ContextServiceTypesConfiguration contextServiceTypesConfiguration = ((ContextServiceImpl)contextService).getContextServiceTypesConfiguration();
-        final List<SetupContextHandle> handles = new ArrayList<>(factoryOrderedList.size());
+        final List<HandleSaver> handleSavers = new ArrayList<>(factoryOrderedList.size());
+        // the handles and savers used by context saves without context object properties
+        final List<SetupContextHandle> reusableHandles = new ArrayList<>(factoryOrderedList.size());
+        final List<HandleSaver> nonReusableHandleSavers = new ArrayList<>(factoryOrderedList.size());
         for (ContextHandleFactory factory : factoryOrderedList) {
+            final HandleSaver handleSaver;
             // TODO *FOLLOW UP* migrate all factories on other subsystems to use the new EE10ContextHandleFactory API, and once all done replace the legacy ContextHandleFactory API with the new one, no need to keep both
             if (factory instanceof EE10ContextHandleFactory) {
                 final EE10ContextHandleFactory ee10ContextHandleFactory = (EE10ContextHandleFactory) factory;
                 final String contextType = ee10ContextHandleFactory.getContextType();
-                final SetupContextHandle setupContextHandle;
                 if (contextServiceTypesConfiguration.isCleared(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.clearedContext(contextService, contextObjectProperties);
+                    handleSaver = ee10ContextHandleFactory::clearedContext;
                 } else if (contextServiceTypesConfiguration.isPropagated(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.propagatedContext(contextService, contextObjectProperties);
-                } else if (contextServiceTypesConfiguration.isUnchanged(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.unchangedContext(contextService, contextObjectProperties);
+                    handleSaver = ee10ContextHandleFactory::propagatedContext;
+                } else if (contextServiceTypesConfiguration.isUnchanged(contextType) && overridesUnchangedContext(ee10ContextHandleFactory)) {
+                    handleSaver = ee10ContextHandleFactory::unchangedContext;
                 } else {
-                    setupContextHandle = null;
-                }
-                if (setupContextHandle != null) {
-                    handles.add(setupContextHandle);
+                    // the factory provides no handle
+                    handleSaver = null;
                 }
             } else {
-                if (contextServiceTypesConfiguration.isPropagated(ContextServiceDefinition.APPLICATION)) {
-                    handles.add(factory.saveContext(contextService, contextObjectProperties));
+                handleSaver = contextServiceTypesConfiguration.isPropagated(ContextServiceDefinition.APPLICATION) ? factory::saveContext : null;
+            }
+            if (handleSaver != null) {
+                handleSavers.add(handleSaver);
+                if (factory.isSetupContextHandleReusable()) {
+                    // a reusable handle is saved now, and then reused by every context save without context object properties
+                    final SetupContextHandle reusableHandle = handleSaver.saveContext(contextService, null);
+                    if (reusableHandle != null) {
+                        reusableHandles.add(reusableHandle);
+                        nonReusableHandleSavers.add(null);
+                    }
+                } else {
+                    reusableHandles.add(null);
+                    nonReusableHandleSavers.add(handleSaver);
+                }
+            }
+        }
+        return new ContextSaver(this, handleSavers.toArray(new HandleSaver[0]), reusableHandles.toArray(new SetupContextHandle[0]), nonReusableHandleSavers.toArray(new HandleSaver[0]));
+    }
+
+    private static boolean overridesUnchangedContext(EE10ContextHandleFactory factory) {
+        try {
+            return factory.getClass().getMethod("unchangedContext", ContextService.class, Map.class).getDeclaringClass() != EE10ContextHandleFactory.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Saves a setup context handle of a specific factory.
+     */
+    private interface HandleSaver {
+        SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties);
+    }
+
+    /**
+     * Saves the context for a specific context service.
+     * Handles of factories whose handles are reusable are saved once, and if all handles are reusable the chained handle is saved once too.
+     */
+    private static class ContextSaver {
+
+        private final ConcurrentContext concurrentContext;
+        private final HandleSaver[] handleSavers;
+        /**
+         * the handles saved without context object properties, where null elements identify handles which must be saved for each context save, by the saver with same index in nonReusableHandleSavers
+         */
+        private final SetupContextHandle[] reusableHandles;
+        private final HandleSaver[] nonReusableHandleSavers;
+        private final ChainedSetupContextHandle reusableChainedHandle;
+
+        private ContextSaver(ConcurrentContext concurrentContext, HandleSaver[] handleSavers, SetupContextHandle[] reusableHandles, HandleSaver[] nonReusableHandleSavers) {
+            this.concurrentContext = concurrentContext;
+            this.handleSavers = handleSavers;
+            this.reusableHandles = reusableHandles;
+            this.nonReusableHandleSavers = nonReusableHandleSavers;
+            this.reusableChainedHandle = Arrays.stream(reusableHandles).allMatch(handle -> handle != null) ? new ChainedSetupContextHandle(concurrentContext, Arrays.asList(reusableHandles)) : null;
+        }
+
+        SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
+            if (contextObjectProperties == null) {
+                if (reusableChainedHandle != null) {
+                    return reusableChainedHandle;
+                }
+                final List<SetupContextHandle> handles = new ArrayList<>(reusableHandles.length);
+                for (int i = 0; i < reusableHandles.length; i++) {
+                    SetupContextHandle handle = reusableHandles[i];
+                    if (handle == null) {
+                        handle = nonReusableHandleSavers[i].saveContext(contextService, null);
+                    }
+                    if (handle != null) {
+                        handles.add(handle);
+                    }
+                }
+                return new ChainedSetupContextHandle(concurrentContext, handles);
+            }
+            final List<SetupContextHandle> handles = new ArrayList<>(handleSavers.length);
+            for (HandleSaver handleSaver : handleSavers) {
+                final SetupContextHandle handle = handleSaver.saveContext(contextService, contextObjectProperties);
+                if (handle != null) {
+                    handles.add(handle);
                 }
             }
+            return new ChainedSetupContextHandle(concurrentContext, handles);
         }
-        return new ChainedSetupContextHandle(this, handles);
     }
 
     /**
@@ -46,7 +46,12 @@ class ManagedExecutorRuntimeStatsImpl implements ManagedExecutorRuntimeStats {
     @Override
     public int getHungThreadsCount() {
         final Collection hungThreads = abstractManagedExecutorService.getHungThreads();
-        return hungThreads != null ? hungThreads.size() : 0;
+        int count = hungThreads != null ? hungThreads.size() : 0;
+        if (abstractManagedExecutorService.getManagedThreadFactory() instanceof ManagedThreadFactoryImpl) {
+            // tasks run by virtual threads
+            count += ((ManagedThreadFactoryImpl) abstractManagedExecutorService.getManagedThreadFactory()).getHungVirtualThreadTasks().size();
+        }
+        return count;
     }
 
     @Override
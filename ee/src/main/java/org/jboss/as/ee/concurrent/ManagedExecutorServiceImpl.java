@@ -7,6 +7,7 @@ package org.jboss.as.ee.concurrent;
 
 import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.ManagedThreadFactoryImpl;
+import org.jboss.as.ee.logging.EeLogger;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 
 import java.util.concurrent.BlockingQueue;
@@ -19,6 +20,8 @@ import static org.jboss.as.ee.concurrent.ControlPointUtils.doWrap;
 import static org.jboss.as.ee.concurrent.SecurityIdentityUtils.doIdentityWrap;
 
 /**
+ * If the executor's thread factory creates virtual threads, the number of tasks running concurrently is capped as configured by {@link VirtualThreads#getMaxConcurrency(String, int)},
+ * and an idle virtual thread is discarded once the keep alive time elapses, instead of being kept for reuse.
  * @author Stuart Douglas
  * @author emmartins
  */
@@ -31,12 +34,18 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, contextService, rejectPolicy, queue);
         this.controlPoint = controlPoint;
         this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
+        if (isVirtual(managedThreadFactory)) {
+            configureForVirtualThreads(getThreadPoolExecutor(), VirtualThreads.getMaxConcurrency(name, maxPoolSize));
+        }
     }
 
     public ManagedExecutorServiceImpl(String name, ManagedThreadFactoryImpl managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, ContextServiceImpl contextService, RejectPolicy rejectPolicy, ControlPoint controlPoint) {
         super(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, contextService, rejectPolicy);
         this.controlPoint = controlPoint;
         this.runtimeStats = new ManagedExecutorRuntimeStatsImpl(this);
+        if (isVirtual(managedThreadFactory)) {
+            configureForVirtualThreads(getThreadPoolExecutor(), VirtualThreads.getMaxConcurrency(name, maxPoolSize));
+        }
     }
 
     @Override
@@ -83,6 +92,45 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
         }
     }
 
+    private static boolean isVirtual(ManagedThreadFactoryImpl managedThreadFactory) {
+        return managedThreadFactory instanceof org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl && ((org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl) managedThreadFactory).isVirtual();
+    }
+
+    static void configureForVirtualThreads(ThreadPoolExecutor executor, int maxConcurrency) {
+        // virtual threads are cheap to create, thus start a new thread per task until the concurrency cap is reached, rather than queueing tasks
+        if (maxConcurrency > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(maxConcurrency);
+            executor.setCorePoolSize(maxConcurrency);
+        } else {
+            executor.setCorePoolSize(maxConcurrency);
+            executor.setMaximumPoolSize(maxConcurrency);
+        }
+        if (executor.getKeepAliveTime(TimeUnit.NANOSECONDS) > 0) {
+            executor.allowCoreThreadTimeOut(true);
+        }
+    }
+
+    @Override
+    public void terminateHungTasks() {
+        ManagedExecutorWithHungThreads.super.terminateHungTasks();
+        final ManagedThreadFactoryImpl managedThreadFactory = getManagedThreadFactory();
+        if (isVirtual(managedThreadFactory)) {
+            final String executorName = getClass().getSimpleName() + ":" + getName();
+            for (org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl.VirtualThreadTask task : ((org.jboss.as.ee.concurrent.ManagedThreadFactoryImpl) managedThreadFactory).getHungVirtualThreadTasks()) {
+                final String taskIdentityName = task.getTaskIdentityName();
+                try {
+                    if (task.cancelTask()) {
+                        EeLogger.ROOT_LOGGER.hungTaskCancelled(executorName, taskIdentityName);
+                    } else {
+                        EeLogger.ROOT_LOGGER.hungTaskNotCancelled(executorName, taskIdentityName);
+                    }
+                } catch (Throwable throwable) {
+                    EeLogger.ROOT_LOGGER.huntTaskTerminationFailure(throwable, executorName, taskIdentityName);
+                }
+            }
+        }
+    }
+
     @Override
     protected ThreadPoolExecutor getThreadPoolExecutor() {
         return (ThreadPoolExecutor) super.getThreadPoolExecutor();
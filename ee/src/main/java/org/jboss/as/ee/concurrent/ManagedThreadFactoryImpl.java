@@ -9,6 +9,7 @@ import org.glassfish.enterprise.concurrent.AbstractManagedThread;
 import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
 import org.glassfish.enterprise.concurrent.spi.ContextHandle;
+import org.glassfish.enterprise.concurrent.spi.ContextSetupProvider;
 import org.wildfly.security.auth.server.SecurityIdentity;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -16,9 +17,18 @@ import jakarta.enterprise.concurrent.ManagedThreadFactory;
 import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * {@link ManagedThreadFactory} implementation ensuring {@link SecurityIdentity} propagation into new threads.
+ * <p>
+ * The factory may optionally create virtual threads, see {@link VirtualThreads}. Since virtual threads cannot be {@link AbstractManagedThread}s,
+ * the context of such threads is setup by wrapping their runnable, and the tasks they run are tracked by the factory, for hung task detection.
  * @author <a href="mailto:jkalina@redhat.com">Jan Kalina</a>
  * @author emmartins
  */
@@ -34,10 +44,44 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
      */
     private final AccessControlContext accessControlContext;
 
+    /**
+     * the context service used to save the context of new virtual threads
+     */
+    private final ContextServiceImpl contextService;
+
+    /**
+     * the factory of virtual threads, or null if the factory creates platform threads
+     */
+    private final ThreadFactory virtualThreadFactory;
+
+    /**
+     * the tasks of the virtual threads created by the factory, which are not done
+     */
+    private final Map<Thread, VirtualThreadTask> virtualThreadTasks = new ConcurrentHashMap<>();
+
+    private volatile boolean stopped = false;
+
     public ManagedThreadFactoryImpl(String name, ContextServiceImpl contextService, int priority) {
+        this(name, contextService, priority, false);
+    }
+
+    /**
+     *
+     * @param name the factory's name
+     * @param contextService the factory's context service
+     * @param priority the priority set on new platform threads
+     * @param virtual if true, the factory creates virtual threads
+     */
+    public ManagedThreadFactoryImpl(String name, ContextServiceImpl contextService, int priority, boolean virtual) {
+        this(name, contextService, priority, virtual ? VirtualThreads.createThreadFactory(name + "-virtual-") : null);
+    }
+
+    ManagedThreadFactoryImpl(String name, ContextServiceImpl contextService, int priority, ThreadFactory virtualThreadFactory) {
         super(name, contextService, priority);
         this.priority = priority;
         this.accessControlContext = AccessController.getContext();
+        this.contextService = contextService;
+        this.virtualThreadFactory = virtualThreadFactory;
     }
 
     /**
@@ -48,6 +92,72 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
         return priority;
     }
 
+    /**
+     *
+     * @return true if the factory creates virtual threads
+     */
+    public boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        if (virtualThreadFactory == null) {
+            return super.newThread(r);
+        }
+        if (stopped) {
+            throw new IllegalStateException(MANAGED_THREAD_FACTORY_STOPPED);
+        }
+        final ContextSetupProvider contextSetupProvider = getContextSetupProvider();
+        ContextHandle contextHandleForSetup = savedContextHandleForSetup;
+        if (contextHandleForSetup == null && contextSetupProvider != null) {
+            contextHandleForSetup = contextSetupProvider.saveContext(contextService);
+        }
+        if (contextHandleForSetup != null) {
+            // app thread, do identity wrap
+            r = SecurityIdentityUtils.doIdentityWrap(r);
+        }
+        final VirtualThreadTask task = new VirtualThreadTask(r, contextSetupProvider, contextHandleForSetup);
+        // use the factory's acc as privileged, otherwise the new thread inherits current thread's acc
+        final Thread t = AccessController.doPrivileged((PrivilegedAction<Thread>) () -> {
+            final Thread thread = virtualThreadFactory.newThread(task);
+            // reset thread classloader to prevent leaks
+            thread.setContextClassLoader(null);
+            return thread;
+        }, accessControlContext);
+        task.thread = t;
+        virtualThreadTasks.put(t, task);
+        return t;
+    }
+
+    /**
+     * Retrieves the tasks, run by the virtual threads created by the factory, which exceed the factory's hung task threshold.
+     * @return the hung tasks of the factory's virtual threads
+     */
+    Collection<VirtualThreadTask> getHungVirtualThreadTasks() {
+        final long threshold = getHungTaskThreshold();
+        if (threshold <= 0 || virtualThreadTasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final long now = System.currentTimeMillis();
+        final Collection<VirtualThreadTask> result = new ArrayList<>();
+        for (VirtualThreadTask task : virtualThreadTasks.values()) {
+            if (task.isTaskHung(now, threshold)) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        super.stop();
+        for (Thread t : virtualThreadTasks.keySet()) {
+            t.interrupt();
+        }
+    }
+
     protected AbstractManagedThread createThread(Runnable r, final ContextHandle contextHandleForSetup) {
         if (contextHandleForSetup != null) {
             // app thread, do identity wrap
@@ -72,6 +182,11 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
         super.taskStarting(t, task);
         if (t instanceof ManagedThread) {
             ((ManagedThread)t).task = task;
+        } else {
+            final VirtualThreadTask virtualThreadTask = virtualThreadTasks.get(t);
+            if (virtualThreadTask != null) {
+                virtualThreadTask.setTask(task);
+            }
         }
     }
 
@@ -80,6 +195,11 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
         super.taskDone(t);
         if (t instanceof ManagedThread) {
             ((ManagedThread)t).task = null;
+        } else {
+            final VirtualThreadTask virtualThreadTask = virtualThreadTasks.get(t);
+            if (virtualThreadTask != null) {
+                virtualThreadTask.setTask(null);
+            }
         }
     }
 
@@ -124,4 +244,68 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
             return false;
         }
     }
+
+    /**
+     * The runnable of a virtual thread, which sets up the thread's context, and tracks the managed task currently run by the thread.
+     */
+    final class VirtualThreadTask implements Runnable {
+        private final Runnable target;
+        private final ContextSetupProvider contextSetupProvider;
+        private final ContextHandle contextHandleForSetup;
+        volatile Thread thread;
+        private volatile ManagedFutureTask task = null;
+        private volatile long taskStartTime = 0L;
+
+        private VirtualThreadTask(Runnable target, ContextSetupProvider contextSetupProvider, ContextHandle contextHandleForSetup) {
+            this.target = target;
+            this.contextSetupProvider = contextSetupProvider;
+            this.contextHandleForSetup = contextHandleForSetup;
+        }
+
+        @Override
+        public void run() {
+            ContextHandle contextHandleForReset = null;
+            try {
+                if (contextHandleForSetup != null) {
+                    contextHandleForReset = contextSetupProvider.setup(contextHandleForSetup);
+                }
+                target.run();
+            } finally {
+                try {
+                    if (contextHandleForReset != null) {
+                        contextSetupProvider.reset(contextHandleForReset);
+                    }
+                } finally {
+                    virtualThreadTasks.remove(thread, this);
+                }
+            }
+        }
+
+        private void setTask(ManagedFutureTask task) {
+            this.taskStartTime = (task != null) ? System.currentTimeMillis() : 0L;
+            this.task = task;
+        }
+
+        boolean isTaskHung(long now, long threshold) {
+            final long taskStartTime = this.taskStartTime;
+            return this.task != null && taskStartTime > 0 && now - taskStartTime > threshold;
+        }
+
+        String getTaskIdentityName() {
+            final ManagedFutureTask task = this.task;
+            return task != null ? task.getTaskIdentityName() : "null";
+        }
+
+        /**
+         * Cancel the task running in the thread.
+         * @return
+         */
+        boolean cancelTask() {
+            final ManagedFutureTask task = this.task;
+            if (task != null) {
+                return task.cancel(true);
+            }
+            return false;
+        }
+    }
 }
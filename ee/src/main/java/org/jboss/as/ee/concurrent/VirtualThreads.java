@@ -0,0 +1,123 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import org.jboss.as.ee.logging.EeLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Creates virtual threads for the managed executor services and managed thread factories of the EE subsystem, on runtimes that support them.
+ * <p>
+ * Virtual threads are enabled via the {@link #ENABLED_PROPERTY} system property, whose value is either a comma separated list of the names of
+ * the {@code managed-executor-service} and {@code managed-thread-factory} resources that should use virtual threads, or {@code *} for all such resources.
+ * Since virtual threads require Java 21, they are created reflectively, and platform threads are used instead on older runtimes.
+ * <p>
+ * The number of tasks a managed executor service runs concurrently on virtual threads is capped by the {@link #MAX_CONCURRENCY_PROPERTY}
+ * system property, optionally suffixed by {@code .<resource name>}, independently of the max threads of the resource, which is only used
+ * if the property is undefined.
+ * <p>
+ * Managed scheduled executor services are excluded: their executor runs every task on a fixed number of core threads, which are reused
+ * for all tasks and never time out, so that creating these as virtual threads would neither remove the bound on concurrency nor save threads.
+ */
+public final class VirtualThreads {
+
+    public static final String ENABLED_PROPERTY = "jboss.ee.concurrent.virtual-threads";
+    public static final String MAX_CONCURRENCY_PROPERTY = "jboss.ee.concurrent.virtual-threads.max-concurrency";
+    private static final String ALL = "*";
+
+    // Thread.ofVirtual(), Thread.Builder.name(String, long), Thread.Builder.factory()
+    private static final Method[] METHODS = findMethods();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Indicates whether virtual threads are enabled for the specified resource.
+     * @param name the name of a managed executor service or managed thread factory resource
+     * @return true, if virtual threads are enabled for the resource, and are supported by the runtime, false otherwise
+     */
+    public static boolean isEnabled(String name) {
+        String value = WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, null);
+        if (value == null) return false;
+        boolean enabled = false;
+        for (String entry : value.split(",")) {
+            String resourceName = entry.trim();
+            if (resourceName.equals(ALL) || resourceName.equals(name)) {
+                enabled = true;
+                break;
+            }
+        }
+        if (enabled && (METHODS == null)) {
+            EeLogger.ROOT_LOGGER.debugf("Virtual threads are not supported by this runtime, %s will use platform threads", name);
+            return false;
+        }
+        return enabled;
+    }
+
+    /**
+     * Returns the maximum number of tasks that a managed executor service runs concurrently on virtual threads.
+     * @param name the name of a managed executor service resource
+     * @param defaultValue the value used if no valid maximum is configured for the resource
+     * @return the maximum number of concurrent tasks
+     */
+    public static int getMaxConcurrency(String name, int defaultValue) {
+        for (String property : new String[] { MAX_CONCURRENCY_PROPERTY + '.' + name, MAX_CONCURRENCY_PROPERTY }) {
+            String value = WildFlySecurityManager.getPropertyPrivileged(property, null);
+            if (value != null) {
+                try {
+                    int maxConcurrency = Integer.parseInt(value.trim());
+                    if (maxConcurrency > 0) {
+                        return maxConcurrency;
+                    }
+                } catch (NumberFormatException e) {
+                    // Ignore
+                }
+                EeLogger.ROOT_LOGGER.invalidSystemPropertyValue(value, property);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Indicates whether the runtime supports virtual threads.
+     * @return true, if virtual threads are supported, false otherwise
+     */
+    public static boolean isSupported() {
+        return METHODS != null;
+    }
+
+    /**
+     * Creates a factory of unstarted virtual threads.
+     * @param prefix the prefix of the names of the created threads
+     * @return a thread factory
+     * @throws IllegalStateException if virtual threads are not supported by the runtime
+     */
+    public static ThreadFactory createThreadFactory(String prefix) {
+        if (METHODS == null) {
+            throw new IllegalStateException();
+        }
+        try {
+            Object builder = METHODS[0].invoke(null);
+            builder = METHODS[1].invoke(builder, prefix, 1L);
+            return (ThreadFactory) METHODS[2].invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Method[] findMethods() {
+        try {
+            // Resolve builder methods via the public interface, as the builder implementation is not accessible
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            return new Method[] { Thread.class.getMethod("ofVirtual"), builderClass.getMethod("name", String.class, Long.TYPE), builderClass.getMethod("factory") };
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
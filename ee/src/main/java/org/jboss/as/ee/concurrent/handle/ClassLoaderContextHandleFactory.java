@@ -54,6 +54,11 @@ public class ClassLoaderContextHandleFactory implements EE10ContextHandleFactory
         return 100;
     }
 
+    @Override
+    public boolean isSetupContextHandleReusable() {
+        return true;
+    }
+
     @Override
     public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) throws IOException {
         out.writeBoolean(((ClassLoaderSetupContextHandle)contextHandle).classLoader != null);
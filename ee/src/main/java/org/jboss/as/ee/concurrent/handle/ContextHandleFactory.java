@@ -51,4 +51,11 @@ public interface ContextHandleFactory {
      */
     SetupContextHandle readSetupContextHandle(ObjectInputStream in) throws IOException, ClassNotFoundException;
 
+    /**
+     * Indicates whether the handles saved by the factory, for a context service and no context object properties, are independent of the current thread's context, and may thus be saved once and reused by all context saves.
+     * @return true if the factory's handles may be reused, false otherwise
+     */
+    default boolean isSetupContextHandleReusable() {
+        return false;
+    }
 }
@@ -60,6 +60,11 @@ public class NamingContextHandleFactory implements EE10ContextHandleFactory {
         return 200;
     }
 
+    @Override
+    public boolean isSetupContextHandleReusable() {
+        return true;
+    }
+
     @Override
     public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) throws IOException {
         out.writeBoolean(contextHandle != CLEARED_CONTEXT_HANDLE);
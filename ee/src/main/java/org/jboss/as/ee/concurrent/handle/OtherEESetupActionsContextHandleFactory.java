@@ -59,6 +59,11 @@ public class OtherEESetupActionsContextHandleFactory implements EE10ContextHandl
         return 400;
     }
 
+    @Override
+    public boolean isSetupContextHandleReusable() {
+        return true;
+    }
+
     @Override
     public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) throws IOException {
         out.writeBoolean(contextHandle != clearedContextHandle);
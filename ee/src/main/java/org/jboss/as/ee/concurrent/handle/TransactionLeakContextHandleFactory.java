@@ -43,6 +43,11 @@ public class TransactionLeakContextHandleFactory implements ContextHandleFactory
         return 600;
     }
 
+    @Override
+    public boolean isSetupContextHandleReusable() {
+        return true;
+    }
+
     @Override
     public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) throws IOException {
     }
@@ -101,6 +101,7 @@ public class ManagedScheduledExecutorServiceService extends EEConcurrentAbstract
             ManagedThreadFactoryImpl managedThreadFactory = managedThreadFactorySupplier != null ? managedThreadFactorySupplier.get() : null;
             priority = managedThreadFactory != null ? managedThreadFactory.getPriority() : Thread.NORM_PRIORITY;
         }
+        // scheduled executors reuse a fixed number of core threads for all tasks, thus never use virtual threads, see VirtualThreads
         ManagedThreadFactoryImpl managedThreadFactory = new ManagedThreadFactoryImpl("EE-ManagedScheduledExecutorService-" + name, null, priority);
         if (requestControllerSupplier != null) {
             final RequestController requestController = requestControllerSupplier.get();
@@ -1224,4 +1224,8 @@ public interface EeLogger extends BasicLogger {
 
     @Message(id = 140, value="Cannot add a HTTP connection which references a null/empty URI")
     IllegalArgumentException cannotAddHTTPConnection();
+
+    @LogMessage(level = WARN)
+    @Message(id = 141, value = "Ignoring invalid value '%s' of system property %s")
+    void invalidSystemPropertyValue(String value, String property);
 }
@@ -0,0 +1,301 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.requestcontroller;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ee.logging.EeLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Limits the number of concurrent requests of an entry point of the request controller to a value that adapts to the
+ * observed request latency, in the manner of the TCP Vegas congestion control algorithm.
+ * <p>
+ * The limit is compared against an estimate of the number of requests queued within the entry point, computed from the
+ * ratio of the minimum observed round trip time to the last observed round trip time. The limit grows while that
+ * estimate is small, and shrinks once it exceeds a threshold proportional to the logarithm of the limit. The minimum
+ * round trip time is periodically reset, so that the limit follows changes of the baseline latency.
+ * <p>
+ * Requests exceeding the limit wait up to a configurable queue timeout for a permit, and are rejected otherwise.
+ * <p>
+ * Adaptive limits are only applied to the entry point types listed by the {@link #ENTRY_POINTS_PROPERTY} system property.
+ * The settings of an entry point are read from the system property of the setting suffixed by the entry point type and
+ * name, e.g. {@code jboss.request-controller.adaptive-limit.max.web.app.war}, then from the one suffixed by the entry
+ * point type only, e.g. {@code jboss.request-controller.adaptive-limit.max.web}, and finally from the unsuffixed one.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+    /**
+     * System property listing the comma separated entry point types, i.e. {@value #WEB}, {@value #EJB} or {@value #MDB},
+     * to which adaptive limits apply, or {@code *} for all of them.
+     */
+    public static final String ENTRY_POINTS_PROPERTY = "jboss.request-controller.adaptive-limit";
+    /**
+     * System property specifying the initial limit of an entry point.
+     */
+    public static final String INITIAL_LIMIT_PROPERTY = "jboss.request-controller.adaptive-limit.initial";
+    /**
+     * System property specifying the minimum limit of an entry point.
+     */
+    public static final String MIN_LIMIT_PROPERTY = "jboss.request-controller.adaptive-limit.min";
+    /**
+     * System property specifying the maximum limit of an entry point.
+     */
+    public static final String MAX_LIMIT_PROPERTY = "jboss.request-controller.adaptive-limit.max";
+    /**
+     * System property specifying the number of milliseconds a request exceeding the limit waits for a permit before it is
+     * rejected. Requests exceeding the limit are rejected immediately by default, except message deliveries, which wait up
+     * to {@value #DEFAULT_MDB_QUEUE_TIMEOUT} milliseconds by default, since a rejected delivery is redelivered.
+     */
+    public static final String QUEUE_TIMEOUT_PROPERTY = "jboss.request-controller.adaptive-limit.queue-timeout";
+
+    /**
+     * Entry point type of web deployments.
+     */
+    public static final String WEB = "web";
+    /**
+     * Entry point type of remote invocations of session beans.
+     */
+    public static final String EJB = "ejb";
+    /**
+     * Entry point type of message deliveries to message-driven beans.
+     */
+    public static final String MDB = "mdb";
+
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MIN_LIMIT = 1;
+    private static final int DEFAULT_MAX_LIMIT = 1000;
+    private static final int DEFAULT_MDB_QUEUE_TIMEOUT = 30_000;
+    // Number of samples, as multiple of the limit, after which the minimum round trip time is probed again
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long queueTimeout;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final Lock queueLock = new ReentrantLock();
+    private final Condition available = this.queueLock.newCondition();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Lock updateLock = new ReentrantLock();
+    private volatile int limit;
+    // Guarded by updateLock
+    private long minRtt = Long.MAX_VALUE;
+    private long samples;
+
+    /**
+     * Creates an adaptive limit.
+     *
+     * @param initialLimit the initial limit
+     * @param minLimit the minimum limit
+     * @param maxLimit the maximum limit
+     * @param queueTimeout the time a request exceeding the limit waits for a permit
+     * @param unit the unit of the queue timeout
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long queueTimeout, TimeUnit unit) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(Math.max(initialLimit, this.minLimit), this.maxLimit);
+        this.queueTimeout = unit.toNanos(Math.max(0, queueTimeout));
+    }
+
+    /**
+     * Creates the adaptive limit of an entry point, as configured via system properties.
+     *
+     * @param entryPointType an entry point type
+     * @param entryPointName the name of the entry point, e.g. the name of a deployment
+     * @return an adaptive limit, or null, if adaptive limits do not apply to the specified entry point type
+     */
+    public static AdaptiveConcurrencyLimit forEntryPoint(String entryPointType, String entryPointName) {
+        if (!isEnabled(entryPointType)) return null;
+        return new AdaptiveConcurrencyLimit(intProperty(INITIAL_LIMIT_PROPERTY, entryPointType, entryPointName, DEFAULT_INITIAL_LIMIT), intProperty(MIN_LIMIT_PROPERTY, entryPointType, entryPointName, DEFAULT_MIN_LIMIT), intProperty(MAX_LIMIT_PROPERTY, entryPointType, entryPointName, DEFAULT_MAX_LIMIT), intProperty(QUEUE_TIMEOUT_PROPERTY, entryPointType, entryPointName, MDB.equals(entryPointType) ? DEFAULT_MDB_QUEUE_TIMEOUT : 0), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Indicates whether adaptive limits apply to the specified entry point type.
+     *
+     * @param entryPointType an entry point type
+     * @return true, if adaptive limits apply, false otherwise
+     */
+    public static boolean isEnabled(String entryPointType) {
+        String value = WildFlySecurityManager.getPropertyPrivileged(ENTRY_POINTS_PROPERTY, "");
+        Set<String> types = new HashSet<>(Arrays.asList(value.replace(" ", "").split(",")));
+        return types.contains("*") || types.contains(entryPointType);
+    }
+
+    private static int intProperty(String name, String entryPointType, String entryPointName, int defaultValue) {
+        for (String property : new String[] { name + '.' + entryPointType + '.' + entryPointName, name + '.' + entryPointType, name }) {
+            String value = WildFlySecurityManager.getPropertyPrivileged(property, null);
+            if (value != null) {
+                try {
+                    return Integer.parseInt(value.trim());
+                } catch (NumberFormatException e) {
+                    EeLogger.ROOT_LOGGER.invalidSystemPropertyValue(value, property);
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Acquires a permit, if the limit was not reached.
+     *
+     * @return true, if a permit was acquired, false otherwise
+     */
+    public boolean tryAcquire() {
+        int current = this.inFlight.get();
+        while (current < this.limit) {
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = this.inFlight.get();
+        }
+        return false;
+    }
+
+    /**
+     * Acquires a permit, waiting up to the queue timeout if the limit was reached. Requests failing to acquire a permit
+     * are counted as rejected.
+     *
+     * @return true, if a permit was acquired, false if the request should be rejected
+     */
+    public boolean acquire() {
+        if (this.tryAcquire()) return true;
+        if (this.queueTimeout > 0) {
+            long remaining = this.queueTimeout;
+            this.queueLock.lock();
+            try {
+                this.queued.incrementAndGet();
+                try {
+                    // Check again once queued, as a permit released since the first attempt would not signal this thread
+                    while (!this.tryAcquire()) {
+                        if (remaining <= 0) {
+                            this.rejected.increment();
+                            return false;
+                        }
+                        remaining = this.available.awaitNanos(remaining);
+                    }
+                    return true;
+                } finally {
+                    this.queued.decrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.queueLock.unlock();
+            }
+        }
+        this.rejected.increment();
+        return false;
+    }
+
+    /**
+     * Releases a permit, and adjusts the limit according to the round trip time of the completed request.
+     *
+     * @param startTime the value of {@link System#nanoTime()} at which the request acquired its permit
+     */
+    public void release(long startTime) {
+        long rtt = System.nanoTime() - startTime;
+        int inFlight = this.inFlight.getAndDecrement();
+        if (rtt > 0) {
+            this.update(rtt, inFlight);
+        }
+        if (this.queued.get() > 0) {
+            this.queueLock.lock();
+            try {
+                this.available.signalAll();
+            } finally {
+                this.queueLock.unlock();
+            }
+        }
+    }
+
+    private void update(long rtt, int inFlight) {
+        // Skip the sample rather than wait for a concurrent update
+        if (!this.updateLock.tryLock()) return;
+        try {
+            int limit = this.limit;
+            if (++this.samples >= (long) limit * PROBE_MULTIPLIER) {
+                this.samples = 0;
+                this.minRtt = rtt;
+                return;
+            }
+            if (rtt < this.minRtt) {
+                this.minRtt = rtt;
+            }
+            int queue = (int) Math.ceil(limit * (1d - (double) this.minRtt / rtt));
+            int log = Math.max(1, (int) Math.log10(limit));
+            int newLimit;
+            if (queue <= log) {
+                // Do not grow the limit while the entry point does not use it
+                if (inFlight * 2 < limit) return;
+                newLimit = limit + 6 * log;
+            } else if (queue < 3 * log) {
+                newLimit = limit + log;
+            } else if (queue > 6 * log) {
+                newLimit = limit - log;
+            } else {
+                return;
+            }
+            this.limit = Math.min(Math.max(newLimit, this.minLimit), this.maxLimit);
+        } finally {
+            this.updateLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return the maximum number of concurrent requests
+     */
+    public int getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * Returns the number of requests holding a permit.
+     *
+     * @return the number of in-flight requests
+     */
+    public int getInFlightCount() {
+        return this.inFlight.get();
+    }
+
+    /**
+     * Returns the number of requests waiting for a permit.
+     *
+     * @return the number of queued requests
+     */
+    public int getQueuedCount() {
+        return this.queued.get();
+    }
+
+    /**
+     * Returns the number of requests rejected as they failed to acquire a permit.
+     *
+     * @return the number of rejected requests
+     */
+    public long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    /**
+     * Indicates whether requests exceeding the limit wait for a permit.
+     *
+     * @return true, if the queue timeout is positive, false otherwise
+     */
+    public boolean isQueueing() {
+        return this.queueTimeout > 0;
+    }
+}
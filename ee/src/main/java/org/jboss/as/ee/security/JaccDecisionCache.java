@@ -0,0 +1,284 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.security;
+
+import static org.jboss.as.ee.logging.EeLogger.ROOT_LOGGER;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.security.CodeSource;
+import java.security.Permission;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import jakarta.security.jacc.PolicyContext;
+
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Cache of Jakarta Authorization decisions, per policy context.
+ * <p>
+ * A decision is cached by the set of roles granted to the caller, the checked permission and the code source of the
+ * protection domain. The immutable role set of a caller is itself cached per identity, e.g. a security identity or an account,
+ * which is referenced weakly, so that the roles of an identity are only computed once per policy context. The decisions of a policy context are discarded whenever its policy configuration is committed or
+ * deleted by a {@link JaccService}, and whenever the number of cached decisions exceeds {@link #MAX_SIZE_PROPERTY}.
+ * <p>
+ * The cache is disabled unless the {@link #ENABLED_PROPERTY} system property is set to {@code true}, since a policy
+ * provider is free to base its decisions on state other than the granted roles. The hits and misses of the cache of a policy context
+ * are exposed as metrics of the web deployments and session beans of the corresponding deployment.
+ */
+public final class JaccDecisionCache {
+
+    /**
+     * System property enabling the cache.
+     */
+    public static final String ENABLED_PROPERTY = "jboss.jacc.decision-cache";
+    /**
+     * System property specifying the maximum number of decisions cached per policy context.
+     */
+    public static final String MAX_SIZE_PROPERTY = "jboss.jacc.decision-cache.max-size";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"));
+    private static final int DEFAULT_MAX_SIZE = 4096;
+    private static final int MAX_SIZE = maxSize();
+    private static final Map<String, JaccDecisionCache> CACHES = new ConcurrentHashMap<>();
+
+    private final String contextId;
+    private final Map<Key, Boolean> decisions = new ConcurrentHashMap<>();
+    private final Map<Object, Set<String>> roles = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collectedIdentities = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private JaccDecisionCache(String contextId) {
+        this.contextId = contextId;
+    }
+
+    /**
+     * Returns the decision for the specified permission within the current policy context, computing it if necessary.
+     *
+     * @param roles the roles granted to the caller
+     * @param codeSource the code source of the protection domain
+     * @param permission the checked permission
+     * @param decision computes the decision if it is not cached
+     * @return true, if the permission is granted, false otherwise
+     */
+    public static boolean implies(Set<String> roles, CodeSource codeSource, Permission permission, BooleanSupplier decision) {
+        if (!ENABLED) {
+            return decision.getAsBoolean();
+        }
+        String contextId = PolicyContext.getContextID();
+        if (contextId == null) {
+            return decision.getAsBoolean();
+        }
+        return CACHES.computeIfAbsent(contextId, JaccDecisionCache::new).implies(new Key(roles, codeSource, permission), decision);
+    }
+
+    /**
+     * Returns the immutable set of roles granted to the specified identity within the current policy context, computing it if necessary.
+     * If no decisions are cached for the current policy context, the computed roles are returned as is.
+     *
+     * @param identity the identity of a caller, compared by identity
+     * @param roles computes the roles of the identity if they are not cached
+     * @param <I> the identity type
+     * @return the set of roles granted to the identity
+     */
+    public static <I> Set<String> roles(I identity, Function<I, Set<String>> roles) {
+        String contextId = ENABLED ? PolicyContext.getContextID() : null;
+        if (contextId == null) {
+            // Roles are only copied into an immutable set if they are cached
+            return roles.apply(identity);
+        }
+        return CACHES.computeIfAbsent(contextId, JaccDecisionCache::new).getRoles(identity, roles);
+    }
+
+    /**
+     * Indicates whether decisions are cached.
+     *
+     * @return true, if the {@link #ENABLED_PROPERTY} system property is set, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Discards all decisions cached for the specified policy context.
+     *
+     * @param contextId a policy context identifier
+     */
+    public static void invalidate(String contextId) {
+        JaccDecisionCache cache = CACHES.remove(contextId);
+        if (cache != null) {
+            ROOT_LOGGER.debugf("Discarding Jakarta Authorization decision cache for %s: %d hits, %d misses", contextId, cache.getHitCount(), cache.getMissCount());
+        }
+    }
+
+    /**
+     * Returns the cache of the specified policy context, if any decisions were cached.
+     *
+     * @param contextId a policy context identifier
+     * @return a decision cache, or null, if no decision was cached for the specified policy context
+     */
+    public static JaccDecisionCache getCache(String contextId) {
+        return CACHES.get(contextId);
+    }
+
+    private static int maxSize() {
+        String value = WildFlySecurityManager.getPropertyPrivileged(MAX_SIZE_PROPERTY, null);
+        if (value != null) {
+            try {
+                int maxSize = Integer.parseInt(value.trim());
+                if (maxSize > 0) {
+                    return maxSize;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through
+            }
+            ROOT_LOGGER.invalidSystemPropertyValue(value, MAX_SIZE_PROPERTY);
+        }
+        return DEFAULT_MAX_SIZE;
+    }
+
+    private boolean implies(Key key, BooleanSupplier decision) {
+        Boolean result = this.decisions.get(key);
+        if (result != null) {
+            this.hits.increment();
+            return result;
+        }
+        this.misses.increment();
+        boolean implies = decision.getAsBoolean();
+        if (this.decisions.size() >= MAX_SIZE) {
+            ROOT_LOGGER.tracef("Jakarta Authorization decision cache for %s is full, clearing", this.contextId);
+            this.decisions.clear();
+        }
+        this.decisions.put(key, implies);
+        return implies;
+    }
+
+    private <I> Set<String> getRoles(I identity, Function<I, Set<String>> roles) {
+        Set<String> result = this.roles.get(new IdentityLookup(identity));
+        if (result != null) {
+            return result;
+        }
+        result = Set.copyOf(roles.apply(identity));
+        // Expunge the entries of collected identities
+        Reference<?> reference = this.collectedIdentities.poll();
+        while (reference != null) {
+            this.roles.remove(reference);
+            reference = this.collectedIdentities.poll();
+        }
+        if (this.roles.size() >= MAX_SIZE) {
+            this.roles.clear();
+        }
+        this.roles.put(new IdentityReference(identity, this.collectedIdentities), result);
+        return result;
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    /**
+     * Returns the ratio of decisions served from this cache.
+     *
+     * @return a hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long hits = this.getHitCount();
+        long total = hits + this.getMissCount();
+        return (total > 0) ? (double) hits / total : 0d;
+    }
+
+    public int size() {
+        return this.decisions.size();
+    }
+
+    /**
+     * Weak reference to an identity, compared by identity.
+     */
+    private static class IdentityReference extends WeakReference<Object> {
+        private final int hash;
+
+        IdentityReference(Object identity, ReferenceQueue<Object> queue) {
+            super(identity, queue);
+            this.hash = System.identityHashCode(identity);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) return true;
+            if (object instanceof IdentityLookup) {
+                return ((IdentityLookup) object).identity == this.get();
+            }
+            if (!(object instanceof IdentityReference)) return false;
+            Object identity = this.get();
+            return (identity != null) && (identity == ((IdentityReference) object).get());
+        }
+    }
+
+    /**
+     * Strongly referenced identity used to look up an {@link IdentityReference}.
+     */
+    private static class IdentityLookup {
+        final Object identity;
+
+        IdentityLookup(Object identity) {
+            this.identity = identity;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.identity);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return (object instanceof IdentityReference) && ((IdentityReference) object).get() == this.identity;
+        }
+    }
+
+    private static class Key {
+        private final Set<String> roles;
+        // Compared by identity, since CodeSource.equals(...) may resolve host names of the location
+        private final CodeSource codeSource;
+        private final Permission permission;
+        private final int hash;
+
+        Key(Set<String> roles, CodeSource codeSource, Permission permission) {
+            this.roles = roles;
+            this.codeSource = codeSource;
+            this.permission = permission;
+            this.hash = 31 * (31 * roles.hashCode() + System.identityHashCode(codeSource)) + permission.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) return true;
+            if (!(object instanceof Key)) return false;
+            Key key = (Key) object;
+            return this.hash == key.hash && this.codeSource == key.codeSource && this.permission.equals(key.permission) && (this.roles == key.roles || this.roles.equals(key.roles));
+        }
+    }
+}
@@ -77,6 +77,7 @@ public abstract class JaccService<T> implements Service<PolicyConfiguration> {
                         parent.linkConfiguration(policyConfiguration);
                         policyConfiguration.commit();
                         parent.commit();
+                        JaccDecisionCache.invalidate(parent.getContextID());
                     } else {
                         ROOT_LOGGER.debugf("Could not retrieve parent policy for policy %s", contextId);
                     }
@@ -85,6 +86,7 @@ public abstract class JaccService<T> implements Service<PolicyConfiguration> {
                 }
                 // Allow the policy to incorporate the policy configs
                 Policy.getPolicy().refresh();
+                JaccDecisionCache.invalidate(contextId);
             }
         } catch (Exception e) {
             throw ROOT_LOGGER.unableToStartException("JaccService", e);
@@ -121,6 +123,7 @@ public abstract class JaccService<T> implements Service<PolicyConfiguration> {
                 policyConfiguration = pcf.getPolicyConfiguration(contextId, false);
                 policyConfiguration.delete();
             }
+            JaccDecisionCache.invalidate(contextId);
         } catch (Exception e) {
             ROOT_LOGGER.errorDeletingJACCPolicy(e);
         }
@@ -0,0 +1,132 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.utils;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Low overhead histogram of durations, in microseconds, used by runtime statistics.
+ * <p>
+ * Recording threads only ever touch striped {@link LongAdder} counters and a fixed set of logarithmic buckets, so concurrent
+ * callers never contend on a shared lock or counter word. Percentiles are estimated from a {@link Snapshot} as the upper
+ * bound of the bucket containing them, capped by the observed maximum, so they never underestimate.
+ */
+public class LatencyHistogram implements Serializable {
+
+    private static final long serialVersionUID = 2945315627063212745L;
+
+    // Bucket i counts durations in [2^(i-1), 2^i) microseconds, the last bucket is unbounded
+    static final int BUCKETS = 32;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; ++i) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param micros a duration, in microseconds
+     */
+    public void record(long micros) {
+        this.total.add(micros);
+        this.max.accumulate(micros);
+        this.buckets[bucket(micros)].increment();
+    }
+
+    static int bucket(long micros) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * Discards all recorded durations.
+     */
+    public void reset() {
+        this.total.reset();
+        this.max.reset();
+        for (LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+    }
+
+    /**
+     * Captures the durations recorded so far.
+     *
+     * @return a snapshot of this histogram
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    /**
+     * Immutable view of the durations recorded by a histogram.
+     */
+    public static class Snapshot {
+        private final long count;
+        private final long total;
+        private final long max;
+        private final long[] buckets = new long[BUCKETS];
+
+        Snapshot(LatencyHistogram histogram) {
+            this.total = histogram.total.sum();
+            this.max = histogram.max.get();
+            long count = 0;
+            for (int i = 0; i < BUCKETS; ++i) {
+                this.buckets[i] = histogram.buckets[i].sum();
+                count += this.buckets[i];
+            }
+            this.count = count;
+        }
+
+        /**
+         * @return the number of recorded durations
+         */
+        public long getCount() {
+            return this.count;
+        }
+
+        /**
+         * @return the sum of the recorded durations, in microseconds
+         */
+        public long getTotal() {
+            return this.total;
+        }
+
+        /**
+         * @return the maximum recorded duration, in microseconds
+         */
+        public long getMax() {
+            return this.max;
+        }
+
+        /**
+         * Estimates a percentile of the recorded durations as the upper bound of the bucket containing it,
+         * capped by the observed maximum.
+         *
+         * @param quantile a quantile between 0 and 1
+         * @return the estimated duration, in microseconds
+         */
+        public long getPercentile(double quantile) {
+            if (this.count == 0) return 0L;
+            long threshold = (long) Math.ceil(this.count * quantile);
+            long cumulative = 0;
+            for (int i = 0; i < BUCKETS - 1; ++i) {
+                cumulative += this.buckets[i];
+                if (cumulative >= threshold) {
+                    return Math.min((1L << i) - 1, this.max);
+                }
+            }
+            return this.max;
+        }
+    }
+}
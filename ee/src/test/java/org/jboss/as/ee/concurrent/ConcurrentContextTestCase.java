@@ -0,0 +1,126 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.concurrent.ContextService;
+
+import org.jboss.as.ee.concurrent.handle.ClassLoaderContextHandleFactory;
+import org.jboss.as.ee.concurrent.handle.EE10ContextHandleFactory;
+import org.jboss.as.ee.concurrent.handle.ResetContextHandle;
+import org.jboss.as.ee.concurrent.handle.SetupContextHandle;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentContextTestCase {
+
+    private final ContextServiceImpl contextService = new ContextServiceImpl("test", new DefaultContextSetupProviderImpl(), ContextServiceTypesConfiguration.DEFAULT);
+
+    @Test
+    public void testReusableHandles() {
+        final ClassLoader classLoader = new URLClassLoader(new URL[0]);
+        final ConcurrentContext concurrentContext = new ConcurrentContext();
+        concurrentContext.addFactory(new ClassLoaderContextHandleFactory(classLoader));
+
+        final SetupContextHandle handle = concurrentContext.saveContext(contextService, null);
+        Assert.assertSame(handle, concurrentContext.saveContext(contextService, null));
+        Assert.assertNotSame(handle, concurrentContext.saveContext(contextService, Map.of()));
+
+        final ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        final ResetContextHandle resetHandle = handle.setup();
+        try {
+            Assert.assertSame(classLoader, Thread.currentThread().getContextClassLoader());
+            Assert.assertSame(concurrentContext, ConcurrentContext.current());
+        } finally {
+            resetHandle.reset();
+        }
+        Assert.assertSame(previous, Thread.currentThread().getContextClassLoader());
+    }
+
+    @Test
+    public void testNonReusableHandles() {
+        final ConcurrentContext concurrentContext = new ConcurrentContext();
+        concurrentContext.addFactory(new ClassLoaderContextHandleFactory(new URLClassLoader(new URL[0])));
+        final SetupContextHandle handle = concurrentContext.saveContext(contextService, null);
+
+        // factories added later apply to subsequent saves
+        final CountingContextHandleFactory factory = new CountingContextHandleFactory();
+        concurrentContext.addFactory(factory);
+        Assert.assertNotSame(handle, concurrentContext.saveContext(contextService, null));
+        Assert.assertEquals(1, factory.saves.get());
+        Assert.assertNotSame(concurrentContext.saveContext(contextService, null), concurrentContext.saveContext(contextService, null));
+        Assert.assertEquals(3, factory.saves.get());
+
+        concurrentContext.saveContext(contextService, null).setup().reset();
+        Assert.assertEquals(1, factory.setups.get());
+    }
+
+    private static class CountingContextHandleFactory implements EE10ContextHandleFactory {
+        final AtomicInteger saves = new AtomicInteger();
+        final AtomicInteger setups = new AtomicInteger();
+
+        @Override
+        public String getContextType() {
+            return "Counting";
+        }
+
+        @Override
+        public SetupContextHandle clearedContext(ContextService contextService, Map<String, String> contextObjectProperties) {
+            return propagatedContext(contextService, contextObjectProperties);
+        }
+
+        @Override
+        public SetupContextHandle propagatedContext(ContextService contextService, Map<String, String> contextObjectProperties) {
+            saves.incrementAndGet();
+            return new SetupContextHandle() {
+                @Override
+                public ResetContextHandle setup() {
+                    setups.incrementAndGet();
+                    return new ResetContextHandle() {
+                        @Override
+                        public void reset() {
+                        }
+
+                        @Override
+                        public String getFactoryName() {
+                            return getName();
+                        }
+                    };
+                }
+
+                @Override
+                public String getFactoryName() {
+                    return getName();
+                }
+            };
+        }
+
+        @Override
+        public String getName() {
+            return getContextType();
+        }
+
+        @Override
+        public int getChainPriority() {
+            return 1000;
+        }
+
+        @Override
+        public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) {
+        }
+
+        @Override
+        public SetupContextHandle readSetupContextHandle(ObjectInputStream in) {
+            return null;
+        }
+    }
+}
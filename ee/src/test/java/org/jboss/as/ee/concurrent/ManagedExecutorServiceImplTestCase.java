@@ -0,0 +1,146 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.glassfish.enterprise.concurrent.AbstractManagedExecutorService;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests a {@link ManagedExecutorServiceImpl} whose thread factory creates virtual threads.
+ * The virtual threads are emulated by platform threads, so that the test also runs on runtimes without virtual threads.
+ */
+public class ManagedExecutorServiceImplTestCase {
+
+    private static final String NAME = "test";
+
+    private final AtomicInteger createdThreads = new AtomicInteger();
+    private final ThreadFactory virtualThreadFactory = task -> {
+        this.createdThreads.incrementAndGet();
+        return new Thread(task);
+    };
+    private final List<ManagedExecutorServiceImpl> executors = new ArrayList<>();
+
+    @After
+    public void destroy() {
+        System.clearProperty(VirtualThreads.MAX_CONCURRENCY_PROPERTY + '.' + NAME);
+        for (ManagedExecutorServiceImpl executor : this.executors) {
+            executor.shutdownNow();
+            executor.getManagedThreadFactory().stop();
+        }
+    }
+
+    private ManagedExecutorServiceImpl createExecutor(long hungTaskThreshold, int maxPoolSize) {
+        ManagedThreadFactoryImpl threadFactory = new ManagedThreadFactoryImpl("EE-ManagedExecutorService-" + NAME, null, Thread.NORM_PRIORITY, this.virtualThreadFactory);
+        Assert.assertTrue(threadFactory.isVirtual());
+        ContextServiceImpl contextService = new ContextServiceImpl(NAME, new DefaultContextSetupProviderImpl(), ContextServiceTypesConfiguration.DEFAULT);
+        ManagedExecutorServiceImpl executor = new ManagedExecutorServiceImpl(NAME, threadFactory, hungTaskThreshold, false, 1, maxPoolSize, 60, TimeUnit.SECONDS, 0, Integer.MAX_VALUE, contextService, AbstractManagedExecutorService.RejectPolicy.ABORT, null);
+        this.executors.add(executor);
+        return executor;
+    }
+
+    @Test
+    public void testConfigureForVirtualThreads() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 4, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        try {
+            // A new thread is started per task, up to the concurrency cap, regardless of the pool sizes
+            ManagedExecutorServiceImpl.configureForVirtualThreads(executor, 16);
+            Assert.assertEquals(16, executor.getCorePoolSize());
+            Assert.assertEquals(16, executor.getMaximumPoolSize());
+            Assert.assertTrue(executor.allowsCoreThreadTimeOut());
+
+            ManagedExecutorServiceImpl.configureForVirtualThreads(executor, 3);
+            Assert.assertEquals(3, executor.getCorePoolSize());
+            Assert.assertEquals(3, executor.getMaximumPoolSize());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        executor = new ThreadPoolExecutor(2, 4, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        try {
+            // Core threads cannot time out without a keep alive time
+            ManagedExecutorServiceImpl.configureForVirtualThreads(executor, 8);
+            Assert.assertEquals(8, executor.getCorePoolSize());
+            Assert.assertFalse(executor.allowsCoreThreadTimeOut());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        // The concurrency cap defaults to max threads
+        Assert.assertEquals(2, this.createExecutor(0, 2).getThreadPoolExecutor().getCorePoolSize());
+
+        // ... but is configured independently of it
+        System.setProperty(VirtualThreads.MAX_CONCURRENCY_PROPERTY + '.' + NAME, "4");
+        ManagedExecutorServiceImpl executor = this.createExecutor(0, 1);
+        Assert.assertEquals(4, executor.getThreadPoolExecutor().getMaximumPoolSize());
+
+        CountDownLatch started = new CountDownLatch(4);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            futures.add(executor.submit(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            }));
+        }
+        // Tasks exceeding the cap are queued
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(4, executor.getThreadPoolExecutor().getActiveCount());
+        Assert.assertEquals(1, executor.getThreadPoolExecutor().getQueue().size());
+        Assert.assertEquals(4, this.createdThreads.get());
+
+        release.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testInvalidMaxConcurrency() {
+        System.setProperty(VirtualThreads.MAX_CONCURRENCY_PROPERTY + '.' + NAME, "unbounded");
+        Assert.assertEquals(3, this.createExecutor(0, 3).getThreadPoolExecutor().getMaximumPoolSize());
+        System.setProperty(VirtualThreads.MAX_CONCURRENCY_PROPERTY + '.' + NAME, "0");
+        Assert.assertEquals(3, this.createExecutor(0, 3).getThreadPoolExecutor().getMaximumPoolSize());
+    }
+
+    @Test
+    public void testTerminateHungTasks() throws Exception {
+        ManagedExecutorServiceImpl executor = this.createExecutor(1, 2);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Future<?> future = executor.submit(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        // The task of the virtual thread exceeds the hung task threshold
+        Assert.assertEquals(1, executor.getRuntimeStats().getHungThreadsCount());
+        executor.terminateHungTasks();
+        Assert.assertTrue(future.isCancelled());
+        Assert.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.glassfish.enterprise.concurrent.AbstractManagedThread;
+import org.jboss.as.ee.concurrent.handle.ClassLoaderContextHandleFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the virtual threads of a {@link ManagedThreadFactoryImpl}.
+ * The virtual threads are emulated by platform threads, so that the test also runs on runtimes without virtual threads.
+ */
+public class ManagedThreadFactoryImplTestCase {
+
+    private final ContextServiceImpl contextService = new ContextServiceImpl("test", new DefaultContextSetupProviderImpl(), ContextServiceTypesConfiguration.DEFAULT);
+    private final AtomicInteger createdThreads = new AtomicInteger();
+    private final ThreadFactory virtualThreadFactory = task -> {
+        this.createdThreads.incrementAndGet();
+        return new Thread(task);
+    };
+
+    @Test
+    public void testPlatformThreads() {
+        ManagedThreadFactoryImpl factory = new ManagedThreadFactoryImpl("test", this.contextService, Thread.NORM_PRIORITY, false);
+        try {
+            Assert.assertFalse(factory.isVirtual());
+            Assert.assertTrue(factory.newThread(() -> { }) instanceof AbstractManagedThread);
+        } finally {
+            factory.stop();
+        }
+    }
+
+    @Test
+    public void testContext() throws InterruptedException {
+        ManagedThreadFactoryImpl factory = new ManagedThreadFactoryImpl("test", this.contextService, Thread.NORM_PRIORITY, this.virtualThreadFactory);
+        try {
+            Assert.assertTrue(factory.isVirtual());
+            ClassLoader classLoader = new URLClassLoader(new URL[0]);
+            ConcurrentContext concurrentContext = new ConcurrentContext();
+            concurrentContext.addFactory(new ClassLoaderContextHandleFactory(classLoader));
+            AtomicReference<ClassLoader> threadClassLoader = new AtomicReference<>();
+            AtomicReference<ConcurrentContext> threadContext = new AtomicReference<>();
+            Thread thread;
+            ConcurrentContext.pushCurrent(concurrentContext);
+            try {
+                thread = factory.newThread(() -> {
+                    threadClassLoader.set(Thread.currentThread().getContextClassLoader());
+                    threadContext.set(ConcurrentContext.current());
+                });
+            } finally {
+                ConcurrentContext.popCurrent();
+            }
+            Assert.assertFalse(thread instanceof AbstractManagedThread);
+            Assert.assertEquals(1, this.createdThreads.get());
+            // The thread does not leak the class loader of its creator
+            Assert.assertNull(thread.getContextClassLoader());
+
+            // The context saved on creation of the thread is setup while running its runnable
+            thread.start();
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+            Assert.assertSame(classLoader, threadClassLoader.get());
+            Assert.assertSame(concurrentContext, threadContext.get());
+        } finally {
+            factory.stop();
+        }
+    }
+
+    @Test
+    public void testStop() throws InterruptedException {
+        ManagedThreadFactoryImpl factory = new ManagedThreadFactoryImpl("test", this.contextService, Thread.NORM_PRIORITY, this.virtualThreadFactory);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Thread thread = factory.newThread(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        thread.start();
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        // Running virtual threads are interrupted, and no more threads are created
+        factory.stop();
+        Assert.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        Assert.assertThrows(IllegalStateException.class, () -> factory.newThread(() -> { }));
+        Assert.assertEquals(1, this.createdThreads.get());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.requestcontroller;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AdaptiveConcurrencyLimitTestCase {
+
+    @Test
+    public void testReject() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 0, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(limit.acquire());
+        Assert.assertTrue(limit.acquire());
+        Assert.assertFalse(limit.tryAcquire());
+        Assert.assertFalse(limit.acquire());
+        Assert.assertEquals(2, limit.getInFlightCount());
+        Assert.assertEquals(1L, limit.getRejectedCount());
+
+        limit.release(System.nanoTime());
+        Assert.assertEquals(1, limit.getInFlightCount());
+        Assert.assertTrue(limit.acquire());
+    }
+
+    @Test
+    public void testQueue() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 10, TimeUnit.SECONDS);
+        Assert.assertTrue(limit.acquire());
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(limit::acquire);
+        while (limit.getQueuedCount() == 0) {
+            Thread.yield();
+        }
+        limit.release(System.nanoTime());
+        Assert.assertTrue(queued.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1, limit.getInFlightCount());
+        Assert.assertEquals(0L, limit.getRejectedCount());
+
+        AdaptiveConcurrencyLimit expiring = new AdaptiveConcurrencyLimit(1, 1, 1, 10, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(expiring.acquire());
+        Assert.assertFalse(expiring.acquire());
+        Assert.assertEquals(1L, expiring.getRejectedCount());
+    }
+
+    @Test
+    public void testMessageDeliveryQueueTimeout() {
+        System.setProperty(AdaptiveConcurrencyLimit.ENTRY_POINTS_PROPERTY, "*");
+        try {
+            // Message deliveries wait for a permit by default, since rejected deliveries are redelivered
+            Assert.assertTrue(AdaptiveConcurrencyLimit.forEntryPoint(AdaptiveConcurrencyLimit.MDB, "test.jar.Listener").isQueueing());
+            Assert.assertFalse(AdaptiveConcurrencyLimit.forEntryPoint(AdaptiveConcurrencyLimit.EJB, "test.jar.Bean").isQueueing());
+            System.setProperty(AdaptiveConcurrencyLimit.QUEUE_TIMEOUT_PROPERTY + ".mdb", "0");
+            Assert.assertFalse(AdaptiveConcurrencyLimit.forEntryPoint(AdaptiveConcurrencyLimit.MDB, "test.jar.Listener").isQueueing());
+        } finally {
+            System.clearProperty(AdaptiveConcurrencyLimit.ENTRY_POINTS_PROPERTY);
+            System.clearProperty(AdaptiveConcurrencyLimit.QUEUE_TIMEOUT_PROPERTY + ".mdb");
+        }
+    }
+
+    @Test
+    public void testEntryPointProperties() {
+        Assert.assertNull(AdaptiveConcurrencyLimit.forEntryPoint(AdaptiveConcurrencyLimit.WEB, "test.war"));
+        System.setProperty(AdaptiveConcurrencyLimit.ENTRY_POINTS_PROPERTY, "ejb, web,ejb");
+        System.setProperty(AdaptiveConcurrencyLimit.INITIAL_LIMIT_PROPERTY, "5");
+        System.setProperty(AdaptiveConcurrencyLimit.INITIAL_LIMIT_PROPERTY + ".web", "4");
+        System.setProperty(AdaptiveConcurrencyLimit.INITIAL_LIMIT_PROPERTY + ".web.test.war", "3");
+        System.setProperty(AdaptiveConcurrencyLimit.QUEUE_TIMEOUT_PROPERTY, "invalid");
+        try {
+            Assert.assertNull(AdaptiveConcurrencyLimit.forEntryPoint(AdaptiveConcurrencyLimit.MDB, "test.jar.Listener"));
+            AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.forEntryPoint(AdaptiveConcurrencyLimit.WEB, "test.war");
+            Assert.assertEquals(3, limit.getLimit());
+            // Invalid values are ignored
+            Assert.assertFalse(limit.isQueueing());
+            Assert.assertEquals(4, AdaptiveConcurrencyLimit.forEntryPoint(AdaptiveConcurrencyLimit.WEB, "other.war").getLimit());
+            Assert.assertEquals(5, AdaptiveConcurrencyLimit.forEntryPoint(AdaptiveConcurrencyLimit.EJB, "test.jar.Bean").getLimit());
+        } finally {
+            System.clearProperty(AdaptiveConcurrencyLimit.ENTRY_POINTS_PROPERTY);
+            System.clearProperty(AdaptiveConcurrencyLimit.INITIAL_LIMIT_PROPERTY);
+            System.clearProperty(AdaptiveConcurrencyLimit.INITIAL_LIMIT_PROPERTY + ".web");
+            System.clearProperty(AdaptiveConcurrencyLimit.INITIAL_LIMIT_PROPERTY + ".web.test.war");
+            System.clearProperty(AdaptiveConcurrencyLimit.QUEUE_TIMEOUT_PROPERTY);
+        }
+    }
+
+    @Test
+    public void testAdapt() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 0, TimeUnit.MILLISECONDS);
+        // Constant latency at full utilization grows the limit
+        for (int i = 0; i < 5; ++i) {
+            this.sample(limit, limit.getLimit(), TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        int grown = limit.getLimit();
+        Assert.assertTrue(String.valueOf(grown), grown > 10);
+
+        // Latency far above the minimum shrinks the limit
+        for (int i = 0; i < 5; ++i) {
+            this.sample(limit, 1, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        Assert.assertTrue(String.valueOf(limit.getLimit()), limit.getLimit() < grown);
+        Assert.assertTrue(limit.getLimit() >= 1);
+    }
+
+    private void sample(AdaptiveConcurrencyLimit limit, int concurrency, long rtt) {
+        for (int i = 0; i < concurrency; ++i) {
+            Assert.assertTrue(limit.tryAcquire());
+        }
+        limit.release(System.nanoTime() - rtt);
+        for (int i = 1; i < concurrency; ++i) {
+            limit.release(System.nanoTime() - rtt);
+        }
+    }
+}
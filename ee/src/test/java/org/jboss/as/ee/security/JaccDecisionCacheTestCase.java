@@ -0,0 +1,145 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.security;
+
+import java.net.URL;
+import java.security.CodeSource;
+import java.security.Permission;
+import java.security.cert.Certificate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.security.jacc.PolicyContext;
+import jakarta.security.jacc.WebResourcePermission;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JaccDecisionCacheTestCase {
+
+    static {
+        // Must be set before the cache class is initialized
+        System.setProperty(JaccDecisionCache.ENABLED_PROPERTY, Boolean.TRUE.toString());
+    }
+
+    private static final String CONTEXT_ID = "test-context";
+
+    private final AtomicInteger decisions = new AtomicInteger();
+    private final CodeSource codeSource = new CodeSource(null, (Certificate[]) null);
+
+    @Before
+    public void setup() {
+        PolicyContext.setContextID(CONTEXT_ID);
+    }
+
+    @After
+    public void cleanup() {
+        JaccDecisionCache.invalidate(CONTEXT_ID);
+        PolicyContext.setContextID(null);
+    }
+
+    private boolean implies(Set<String> roles, CodeSource codeSource, Permission permission) {
+        return JaccDecisionCache.implies(roles, codeSource, permission, () -> {
+            this.decisions.incrementAndGet();
+            return roles.contains("admin");
+        });
+    }
+
+    @Test
+    public void testKey() throws Exception {
+        Permission permission = new WebResourcePermission("/secured", "GET");
+        Set<String> admin = Set.of("admin");
+        Set<String> user = Set.of("user");
+
+        Assert.assertTrue(this.implies(admin, this.codeSource, permission));
+        Assert.assertTrue(this.implies(Set.of("admin"), this.codeSource, permission));
+        Assert.assertEquals(1, this.decisions.get());
+
+        // Distinct role sets, including none, are decided separately
+        Assert.assertFalse(this.implies(user, this.codeSource, permission));
+        Assert.assertFalse(this.implies(Set.of(), this.codeSource, permission));
+        Assert.assertTrue(this.implies(Set.of("admin", "user"), this.codeSource, permission));
+        Assert.assertFalse(this.implies(user, this.codeSource, permission));
+        Assert.assertEquals(4, this.decisions.get());
+
+        // Distinct permissions and code sources are decided separately
+        Assert.assertTrue(this.implies(admin, this.codeSource, new WebResourcePermission("/other", "GET")));
+        Assert.assertTrue(this.implies(admin, new CodeSource(new URL("file:/test.war"), (Certificate[]) null), permission));
+        Assert.assertEquals(6, this.decisions.get());
+
+        JaccDecisionCache cache = JaccDecisionCache.getCache(CONTEXT_ID);
+        Assert.assertEquals(6, cache.size());
+        Assert.assertEquals(2L, cache.getHitCount());
+        Assert.assertEquals(6L, cache.getMissCount());
+
+        // Decisions of other policy contexts are separate
+        PolicyContext.setContextID("other-context");
+        try {
+            Assert.assertTrue(this.implies(admin, this.codeSource, permission));
+            Assert.assertEquals(7, this.decisions.get());
+        } finally {
+            JaccDecisionCache.invalidate("other-context");
+            PolicyContext.setContextID(CONTEXT_ID);
+        }
+    }
+
+    @Test
+    public void testInvalidate() {
+        Permission permission = new WebResourcePermission("/secured", "GET");
+        Assert.assertTrue(this.implies(Set.of("admin"), this.codeSource, permission));
+        Assert.assertTrue(this.implies(Set.of("admin"), this.codeSource, permission));
+        Assert.assertEquals(1, this.decisions.get());
+
+        // e.g. on commit of the policy configuration
+        JaccDecisionCache.invalidate(CONTEXT_ID);
+        Assert.assertNull(JaccDecisionCache.getCache(CONTEXT_ID));
+        Assert.assertTrue(this.implies(Set.of("admin"), this.codeSource, permission));
+        Assert.assertEquals(2, this.decisions.get());
+    }
+
+    @Test
+    public void testRoles() {
+        AtomicInteger computed = new AtomicInteger();
+        Object identity = new Object();
+        Set<String> roles = JaccDecisionCache.roles(identity, i -> {
+            computed.incrementAndGet();
+            return new HashSet<>(Set.of("admin", "user"));
+        });
+        Assert.assertEquals(Set.of("admin", "user"), roles);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> roles.add("other"));
+
+        // Computed once per identity
+        Assert.assertSame(roles, JaccDecisionCache.roles(identity, i -> {
+            computed.incrementAndGet();
+            return Set.of();
+        }));
+        Assert.assertEquals(1, computed.get());
+
+        // Other identities are compared by identity, not equality
+        Set<String> otherRoles = JaccDecisionCache.roles(new String("identity"), i -> {
+            computed.incrementAndGet();
+            return Set.of("user");
+        });
+        Assert.assertEquals(Set.of("user"), otherRoles);
+        Assert.assertEquals(2, computed.get());
+        JaccDecisionCache.roles(new String("identity"), i -> {
+            computed.incrementAndGet();
+            return Set.of("user");
+        });
+        Assert.assertEquals(3, computed.get());
+
+        // Roles are not cached without a policy context
+        PolicyContext.setContextID(null);
+        JaccDecisionCache.roles(identity, i -> {
+            computed.incrementAndGet();
+            return Set.of();
+        });
+        Assert.assertEquals(4, computed.get());
+    }
+}
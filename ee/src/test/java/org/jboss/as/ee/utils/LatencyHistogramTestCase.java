@@ -0,0 +1,57 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTestCase {
+
+    @Test
+    public void bucket() {
+        assertEquals(0, LatencyHistogram.bucket(0));
+        assertEquals(1, LatencyHistogram.bucket(1));
+        assertEquals(2, LatencyHistogram.bucket(2));
+        assertEquals(2, LatencyHistogram.bucket(3));
+        assertEquals(3, LatencyHistogram.bucket(4));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void record() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(0L, snapshot.getCount());
+        assertEquals(0L, snapshot.getPercentile(0.99));
+
+        for (int i = 0; i < 98; ++i) {
+            histogram.record(100);
+        }
+        histogram.record(10_000);
+        histogram.record(20_000);
+
+        snapshot = histogram.snapshot();
+        assertEquals(100L, snapshot.getCount());
+        assertEquals(98L * 100L + 10_000L + 20_000L, snapshot.getTotal());
+        assertEquals(20_000L, snapshot.getMax());
+        // 100 micros fall within [64, 128)
+        assertEquals(127L, snapshot.getPercentile(0.50));
+        assertEquals(127L, snapshot.getPercentile(0.95));
+        // 10 millis fall within [8192, 16384)
+        assertEquals(16_383L, snapshot.getPercentile(0.99));
+        assertEquals(20_000L, snapshot.getPercentile(1.0));
+
+        histogram.reset();
+        snapshot = histogram.snapshot();
+        assertEquals(0L, snapshot.getCount());
+        assertEquals(0L, snapshot.getTotal());
+        assertEquals(0L, snapshot.getMax());
+    }
+}
@@ -36,10 +36,12 @@ import jakarta.transaction.UserTransaction;
 import org.jboss.as.ee.component.BasicComponent;
 import org.jboss.as.ee.component.ComponentView;
 import org.jboss.as.ee.component.interceptors.InvocationType;
+import org.jboss.as.ee.requestcontroller.AdaptiveConcurrencyLimit;
 import org.jboss.as.ejb3.component.allowedmethods.AllowedMethodsInformation;
 import org.jboss.as.ejb3.component.interceptors.ShutDownInterceptorFactory;
 import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
 import org.jboss.as.ejb3.context.CurrentInvocationContext;
+import org.jboss.as.ejb3.deployment.processors.EJBComponentSuspendDeploymentUnitProcessor;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.security.EJBSecurityMetaData;
 import org.jboss.as.ejb3.security.JaccInterceptor;
@@ -105,6 +107,7 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
     private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
     private final UserTransaction userTransaction;
     private final ControlPoint controlPoint;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
     private final AtomicBoolean exceptionLoggingEnabled;
 
     private final SecurityDomain securityDomain;
@@ -170,6 +173,7 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
         this.identityOutflowFunction = ejbComponentCreateService.getIdentityOutflowFunction();
         this.securityRequired = ejbComponentCreateService.isSecurityRequired();
         this.componentDescription = ejbComponentCreateService.getComponentDescription();
+        this.concurrencyLimit = (this.controlPoint != null) ? AdaptiveConcurrencyLimit.forEntryPoint(this.componentDescription.isMessageDriven() ? AdaptiveConcurrencyLimit.MDB : AdaptiveConcurrencyLimit.EJB, concurrencyLimitName(this.controlPoint)) : null;
     }
 
     protected <T> T createViewInstanceProxy(final Class<T> viewInterface, final Map<Object, Object> contextData) {
@@ -550,6 +554,21 @@ public abstract class EJBComponent extends BasicComponent implements ServerActiv
         return this.controlPoint;
     }
 
+    /**
+     * Returns the adaptive limit of the concurrent remote invocations or message deliveries of this component.
+     *
+     * @return the adaptive concurrency limit, or null, if none applies to this component
+     */
+    public AdaptiveConcurrencyLimit getConcurrencyLimit() {
+        return this.concurrencyLimit;
+    }
+
+    // e.g. "app.jar.OrderBean" for the entry point "ejb.app.jar.OrderBean"
+    private static String concurrencyLimitName(ControlPoint controlPoint) {
+        String entryPoint = controlPoint.getEntryPoint();
+        return entryPoint.startsWith(EJBComponentSuspendDeploymentUnitProcessor.ENTRY_POINT_NAME) ? entryPoint.substring(EJBComponentSuspendDeploymentUnitProcessor.ENTRY_POINT_NAME.length()) : entryPoint;
+    }
+
     public SecurityDomain getSecurityDomain() {
         return securityDomain;
     }
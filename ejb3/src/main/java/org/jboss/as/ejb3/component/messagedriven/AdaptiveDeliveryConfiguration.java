@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.messagedriven;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of the adaptive delivery of the message-driven beans of a delivery group, provided by its mdb-delivery-group resource.
+ */
+public class AdaptiveDeliveryConfiguration {
+
+    /**
+     * The configuration of a delivery group that does not enable adaptive delivery.
+     */
+    public static final AdaptiveDeliveryConfiguration DISABLED = new AdaptiveDeliveryConfiguration(1, 0, 0, TimeUnit.MILLISECONDS);
+
+    private final int minSessions;
+    private final int maxSessions;
+    private final long interval;
+
+    /**
+     * Creates the configuration of the adaptive delivery of a delivery group.
+     * @param minSessions the minimum number of sessions of each message-driven bean
+     * @param maxSessions the maximum number of sessions of each message-driven bean, or 0, if adaptive delivery is disabled
+     * @param interval the interval at which the number of sessions is evaluated
+     * @param unit the unit of the interval
+     */
+    public AdaptiveDeliveryConfiguration(int minSessions, int maxSessions, long interval, TimeUnit unit) {
+        this.minSessions = minSessions;
+        this.maxSessions = maxSessions;
+        this.interval = unit.toMillis(interval);
+    }
+
+    /**
+     * Indicates whether the number of sessions of the message-driven beans of the delivery group is adaptive.
+     */
+    public boolean isEnabled() {
+        return this.maxSessions > 0;
+    }
+
+    public int getMinSessions() {
+        return this.minSessions;
+    }
+
+    public int getMaxSessions() {
+        return this.maxSessions;
+    }
+
+    /**
+     * Returns the interval at which the number of sessions is evaluated, in milliseconds.
+     */
+    public long getInterval() {
+        return this.interval;
+    }
+}
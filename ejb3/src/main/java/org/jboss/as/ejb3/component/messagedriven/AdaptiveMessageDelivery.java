@@ -0,0 +1,380 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.messagedriven;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.lang.reflect.Method;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import jakarta.resource.spi.ActivationSpec;
+
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Adjusts the number of sessions with which a message-driven bean consumes messages from a queue, between the bounds
+ * configured by its delivery group, according to the backlog of the queue.
+ * <p>
+ * The message deliveries are sampled over fixed intervals. If the backlog of the queue would take the current sessions
+ * longer than an interval to deliver, based on the average delivery time of the last interval, sessions are added. If the
+ * queue was drained and sessions were mostly idle for several consecutive intervals, sessions are removed. If the backlog
+ * of the queue is unknown, e.g. if the queue is not hosted by this server, the utilization of the current sessions is
+ * used instead. Decisions are applied at most once per interval.
+ * <p>
+ * Since the number of sessions of an activation can only change by reactivating its endpoint, sessions are added via
+ * additional activations of the endpoint, leaving the sessions of existing activations intact. Sessions are removed by
+ * deactivating the most recently added activations first, such that only the sessions being removed are torn down.
+ * Each activation is a competing consumer of the queue, thus adaptive delivery must not apply to topics.
+ * <p>
+ * Adaptive delivery applies to message-driven beans whose activation spec exposes a {@code maxSession} property, and
+ * whose delivery group defines its maximum number of sessions.
+ */
+public class AdaptiveMessageDelivery {
+
+    private static final String MAX_SESSION = "MaxSession";
+    // Utilization above which sessions are added, and below which they are removed
+    private static final double HIGH_UTILIZATION = 0.8;
+    private static final double LOW_UTILIZATION = 0.3;
+    // Utilization targeted when removing sessions
+    private static final double TARGET_UTILIZATION = 0.6;
+    // Number of consecutive intervals of low utilization before sessions are removed
+    private static final int SCALE_DOWN_INTERVALS = 3;
+
+    /**
+     * Activates and deactivates the endpoint of a message-driven bean.
+     */
+    interface Activator {
+        /**
+         * Activates the endpoint with the specified activation spec.
+         * @throws RuntimeException if activation failed
+         */
+        void activate(ActivationSpec activationSpec);
+
+        /**
+         * Deactivates the endpoint with the specified activation spec.
+         * @throws RuntimeException if deactivation failed
+         */
+        void deactivate(ActivationSpec activationSpec);
+    }
+
+    private final String componentName;
+    private final ActivationSpec activationSpec;
+    private final Supplier<ActivationSpec> activationSpecFactory;
+    private final Method getter;
+    private final Method setter;
+    private final int minSessions;
+    private final int maxSessions;
+    private final long interval;
+    private final LongSupplier backlog;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private final LongAdder busyTime = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final AtomicLong scaleUps = new AtomicLong();
+    private final AtomicLong scaleDowns = new AtomicLong();
+    // Activations added to the primary activation, most recent first, guarded by the caller
+    private final Deque<ActivationSpec> addedActivations = new ArrayDeque<>();
+    private volatile int sessions;
+    private int lowIntervals;
+    private ScheduledExecutorService executor;
+
+    AdaptiveMessageDelivery(String componentName, ActivationSpec activationSpec, Supplier<ActivationSpec> activationSpecFactory, Method getter, Method setter, int minSessions, int maxSessions, long interval, TimeUnit unit, LongSupplier backlog) {
+        this.componentName = componentName;
+        this.activationSpec = activationSpec;
+        this.activationSpecFactory = activationSpecFactory;
+        this.getter = getter;
+        this.setter = setter;
+        this.minSessions = Math.max(1, minSessions);
+        this.maxSessions = Math.max(this.minSessions, maxSessions);
+        Object configuredSessions = invoke(getter, activationSpec);
+        int initialSessions = (configuredSessions instanceof Number) ? ((Number) configuredSessions).intValue() : 15;
+        this.sessions = Math.min(this.maxSessions, Math.max(this.minSessions, initialSessions));
+        this.interval = unit.toNanos(interval);
+        this.backlog = backlog;
+        // Apply initial number of sessions, which may have been bounded
+        this.setSessions(activationSpec, this.sessions);
+    }
+
+    /**
+     * Creates the adaptive delivery of a message-driven bean consuming from a queue.
+     * @param componentName the name of the message-driven bean
+     * @param activationSpec the activation spec of the message-driven bean
+     * @param activationSpecFactory creates activation specs configured as the activation spec of the message-driven bean, for additional activations
+     * @param configuration the adaptive delivery configuration of the delivery group of the message-driven bean
+     * @param backlog supplies the number of messages pending in the queue, or a negative value, if unknown
+     * @return the adaptive delivery of the message-driven bean, or null, if disabled or if the activation spec does not expose its number of sessions.
+     */
+    static AdaptiveMessageDelivery create(String componentName, ActivationSpec activationSpec, Supplier<ActivationSpec> activationSpecFactory, AdaptiveDeliveryConfiguration configuration, LongSupplier backlog) {
+        if (!configuration.isEnabled()) return null;
+        Method getter = findMethod(activationSpec.getClass(), "get" + MAX_SESSION);
+        Method setter = findMethod(activationSpec.getClass(), "set" + MAX_SESSION, Integer.class);
+        if ((getter == null) || (setter == null)) {
+            ROOT_LOGGER.debugf("Adaptive delivery does not apply to message-driven bean %s, as its activation spec %s does not expose its number of sessions", componentName, activationSpec.getClass().getName());
+            return null;
+        }
+        return new AdaptiveMessageDelivery(componentName, activationSpec, activationSpecFactory, getter, setter, configuration.getMinSessions(), configuration.getMaxSessions(), configuration.getInterval(), TimeUnit.MILLISECONDS, backlog);
+    }
+
+    /**
+     * Records the start of a message delivery.
+     * @return the start time of the delivery
+     */
+    public long deliveryStarted() {
+        int current = this.inFlight.incrementAndGet();
+        this.peakInFlight.accumulateAndGet(current, Math::max);
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the completion of a message delivery.
+     * @param start the start time of the delivery, as returned by {@link #deliveryStarted()}
+     */
+    public void deliveryCompleted(long start) {
+        this.busyTime.add(System.nanoTime() - start);
+        this.completed.increment();
+        this.inFlight.decrementAndGet();
+    }
+
+    /**
+     * Returns the current number of sessions.
+     */
+    public int getSessions() {
+        return this.sessions;
+    }
+
+    /**
+     * Returns the number of times sessions were added.
+     */
+    public long getScaleUpCount() {
+        return this.scaleUps.get();
+    }
+
+    /**
+     * Returns the number of times sessions were removed.
+     */
+    public long getScaleDownCount() {
+        return this.scaleDowns.get();
+    }
+
+    /**
+     * Starts sampling the message deliveries, if not already started.
+     * @param resizer changes the number of sessions of the message-driven bean, returning the resulting number of sessions
+     */
+    synchronized void start(IntBinaryOperator resizer) {
+        if (this.executor != null) return;
+        String namePattern = ("EJB adaptive delivery " + this.componentName).replace("%", "%%") + " - %t";
+        ThreadFactory threadFactory = WildFlySecurityManager.isChecking() ? AccessController.doPrivileged(new PrivilegedAction<ThreadFactory>() {
+            @Override
+            public ThreadFactory run() {
+                return new JBossThreadFactory(null, Boolean.FALSE, null, namePattern, null, null);
+            }
+        }) : new JBossThreadFactory(null, Boolean.FALSE, null, namePattern, null, null);
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        long interval = this.interval;
+        executor.scheduleWithFixedDelay(() -> this.evaluate(resizer), interval, interval, TimeUnit.NANOSECONDS);
+        this.executor = executor;
+    }
+
+    /**
+     * Stops sampling the message deliveries.
+     */
+    synchronized void stop() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+            this.executor = null;
+        }
+    }
+
+    synchronized void evaluate(IntBinaryOperator resizer) {
+        int sessions = this.sessions;
+        int inFlight = this.inFlight.get();
+        double busy = this.busyTime.sumThenReset();
+        long completed = this.completed.sumThenReset();
+        int peak = this.peakInFlight.getAndSet(inFlight);
+        double utilization = busy / ((double) this.interval * sessions);
+        long backlog = this.backlog.getAsLong();
+        boolean scaleUp;
+        boolean scaleDown;
+        int needed;
+        if (backlog >= 0) {
+            // Time the current sessions need to deliver the backlog, based on the average delivery time of the last interval
+            double latency = (completed > 0) ? busy / completed : 0;
+            double drainTime = backlog * latency / sessions;
+            // Without completed deliveries, the delivery time is unknown, thus only add sessions if all current sessions are busy
+            scaleUp = (drainTime > this.interval) || ((completed == 0) && (backlog > 0) && (inFlight >= sessions));
+            // Only remove sessions once deliveries kept up with the queue
+            scaleDown = ((backlog == 0) || ((completed > 0) && (drainTime <= this.interval * LOW_UTILIZATION))) && (utilization <= LOW_UTILIZATION);
+            // Sessions needed to deliver the backlog within an interval
+            needed = (int) Math.min(this.maxSessions, Math.ceil(backlog * latency / this.interval));
+        } else {
+            // Deliveries longer than the interval are not yet accounted for by the busy time, thus also consider sessions that are currently busy
+            scaleUp = (peak >= sessions) && ((utilization >= HIGH_UTILIZATION) || (inFlight >= sessions));
+            scaleDown = (utilization <= LOW_UTILIZATION);
+            needed = (int) Math.ceil(sessions * 1.5);
+        }
+        int newSessions = sessions;
+        if (scaleUp) {
+            this.lowIntervals = 0;
+            newSessions = Math.min(this.maxSessions, Math.max(sessions + 1, needed));
+        } else if (scaleDown) {
+            if (++this.lowIntervals >= SCALE_DOWN_INTERVALS) {
+                this.lowIntervals = 0;
+                int busySessions = (int) Math.ceil(busy / this.interval / TARGET_UTILIZATION);
+                newSessions = Math.max(this.minSessions, Math.min(sessions - 1, Math.max(busySessions, peak)));
+            }
+        } else {
+            this.lowIntervals = 0;
+        }
+        if (newSessions != sessions) {
+            ROOT_LOGGER.debugf("Adjusting sessions of message-driven bean %s from %d to %d (backlog = %d, utilization = %.2f)", this.componentName, sessions, newSessions, backlog, utilization);
+            int result = sessions;
+            try {
+                result = resizer.applyAsInt(sessions, newSessions);
+            } catch (RuntimeException e) {
+                // Do not let the exception cancel subsequent evaluations
+                ROOT_LOGGER.failedToResizeMdbSessions(e, this.componentName, sessions, newSessions);
+            }
+            this.sessions = result;
+            if (result > sessions) {
+                this.scaleUps.incrementAndGet();
+            } else if (result < sessions) {
+                this.scaleDowns.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Changes the number of sessions of the active endpoint of the message-driven bean.
+     * Failures are logged, and rolled back, such that the endpoint remains active.
+     * The caller must prevent concurrent activation and deactivation of the endpoint.
+     * @param sessions the current number of sessions
+     * @param newSessions the new number of sessions
+     * @param activator activates and deactivates the endpoint
+     * @return the resulting number of sessions
+     */
+    int resize(int sessions, int newSessions, Activator activator) {
+        if (newSessions > sessions) {
+            // Add sessions via an additional activation, leaving the sessions of existing activations intact
+            try {
+                ActivationSpec activationSpec = this.activationSpecFactory.get();
+                this.setSessions(activationSpec, newSessions - sessions);
+                activator.activate(activationSpec);
+                this.addedActivations.push(activationSpec);
+                return newSessions;
+            } catch (RuntimeException e) {
+                ROOT_LOGGER.failedToResizeMdbSessions(e, this.componentName, sessions, newSessions);
+                return sessions;
+            }
+        }
+        int result = sessions;
+        try {
+            // Remove the most recently added activations first, such that only their own sessions are torn down
+            while (!this.addedActivations.isEmpty() && (result - this.getSessions(this.addedActivations.peek()) >= newSessions)) {
+                ActivationSpec activationSpec = this.addedActivations.peek();
+                activator.deactivate(activationSpec);
+                this.addedActivations.pop();
+                result -= this.getSessions(activationSpec);
+            }
+            if (result > newSessions) {
+                // Remove the remaining sessions from a single activation
+                ActivationSpec activationSpec = this.addedActivations.isEmpty() ? this.activationSpec : this.addedActivations.peek();
+                int activationSessions = this.getSessions(activationSpec);
+                activator.deactivate(activationSpec);
+                this.setSessions(activationSpec, activationSessions - (result - newSessions));
+                try {
+                    activator.activate(activationSpec);
+                    result = newSessions;
+                } catch (RuntimeException e) {
+                    // Roll back to the previous number of sessions of this activation, so that delivery is restored
+                    this.setSessions(activationSpec, activationSessions);
+                    try {
+                        activator.activate(activationSpec);
+                    } catch (RuntimeException restoreException) {
+                        ROOT_LOGGER.failedToRestoreMdbDelivery(restoreException, this.componentName, activationSessions);
+                        result -= activationSessions;
+                        if (activationSpec != this.activationSpec) {
+                            this.addedActivations.pop();
+                        }
+                    }
+                    throw e;
+                }
+            }
+        } catch (RuntimeException e) {
+            ROOT_LOGGER.failedToResizeMdbSessions(e, this.componentName, sessions, newSessions);
+        }
+        return result;
+    }
+
+    /**
+     * Sets the number of sessions of the endpoint of the message-driven bean while it is not active, applied once it is activated again.
+     * @param sessions the new number of sessions
+     */
+    void resize(int sessions) {
+        this.setSessions(this.activationSpec, sessions);
+    }
+
+    /**
+     * Deactivates the activations added to the primary activation of the endpoint.
+     * Their sessions are added to the primary activation, so that they apply once it is activated again.
+     * @param activator activates and deactivates the endpoint
+     */
+    void deactivateAddedActivations(Activator activator) {
+        try {
+            while (!this.addedActivations.isEmpty()) {
+                activator.deactivate(this.addedActivations.peek());
+                this.addedActivations.pop();
+            }
+        } finally {
+            this.addedActivations.clear();
+            this.setSessions(this.activationSpec, this.sessions);
+        }
+    }
+
+    private int getSessions(ActivationSpec activationSpec) {
+        return ((Number) invoke(this.getter, activationSpec)).intValue();
+    }
+
+    private void setSessions(ActivationSpec activationSpec, int sessions) {
+        invoke(this.setter, activationSpec, sessions);
+    }
+
+    private static Method findMethod(Class<?> targetClass, String name, Class<?>... parameterTypes) {
+        try {
+            return targetClass.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... parameters) {
+        return WildFlySecurityManager.doUnchecked(new PrivilegedAction<Object>() {
+            @Override
+            public Object run() {
+                try {
+                    return method.invoke(target, parameters);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.messagedriven;
+
+import org.jboss.as.ejb3.component.interceptors.AbstractEJBInterceptor;
+import org.jboss.invocation.ImmediateInterceptorFactory;
+import org.jboss.invocation.InterceptorContext;
+import org.jboss.invocation.InterceptorFactory;
+
+/**
+ * Records the message deliveries of a message-driven bean, from which its {@link AdaptiveMessageDelivery} determines its number of sessions.
+ */
+public class AdaptiveMessageDeliveryInterceptor extends AbstractEJBInterceptor {
+    public static final InterceptorFactory FACTORY = new ImmediateInterceptorFactory(new AdaptiveMessageDeliveryInterceptor());
+
+    private AdaptiveMessageDeliveryInterceptor() {
+    }
+
+    @Override
+    public Object processInvocation(final InterceptorContext context) throws Exception {
+        final AdaptiveMessageDelivery delivery = getComponent(context, MessageDrivenComponent.class).getAdaptiveDelivery();
+        if (delivery == null)
+            return context.proceed();
+        final long start = delivery.deliveryStarted();
+        try {
+            return context.proceed();
+        } finally {
+            delivery.deliveryCompleted(start);
+        }
+    }
+}
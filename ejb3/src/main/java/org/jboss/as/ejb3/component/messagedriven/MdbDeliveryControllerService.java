@@ -5,6 +5,12 @@
 
 package org.jboss.as.ejb3.component.messagedriven;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.ModelControllerClientFactory;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
@@ -15,12 +21,33 @@ import org.jboss.msc.value.InjectedValue;
  * Service that controls delivery for a specific MDB.
  *
  * When started, delivery to a mdb is enabled, when stopped, it is disabled.
+ * If a delivery group of a mdb consuming from a queue enables adaptive delivery, it is enabled before delivery starts.
  *
  * @author Flavia Rainone
  */
 public class MdbDeliveryControllerService implements Service<MdbDeliveryControllerService> {
 
     private final InjectedValue<MessageDrivenComponent> mdbComponent = new InjectedValue<MessageDrivenComponent>();
+    private final List<Supplier<AdaptiveDeliveryConfiguration>> deliveryGroups = new ArrayList<>();
+    private final QueueBacklog backlog;
+    private final Supplier<ModelControllerClientFactory> clientFactory;
+    private final Supplier<Executor> managementExecutor;
+
+    public MdbDeliveryControllerService() {
+        this(null, null, null);
+    }
+
+    /**
+     * Creates the delivery controller of a mdb consuming from the specified queue.
+     * @param queue the lookup name or name of the queue
+     * @param clientFactory creates the management client reading the backlog of the queue
+     * @param managementExecutor the executor of the management client
+     */
+    public MdbDeliveryControllerService(String queue, Supplier<ModelControllerClientFactory> clientFactory, Supplier<Executor> managementExecutor) {
+        this.backlog = (queue != null) ? new QueueBacklog(queue) : null;
+        this.clientFactory = clientFactory;
+        this.managementExecutor = managementExecutor;
+    }
 
     public MdbDeliveryControllerService getValue() throws IllegalStateException, IllegalArgumentException {
         return this;
@@ -30,11 +57,33 @@ public class MdbDeliveryControllerService implements Service<MdbDeliveryControll
         return mdbComponent;
     }
 
+    /**
+     * Adds a delivery group of the mdb, whose adaptive delivery configuration applies if the mdb consumes from a queue.
+     */
+    public void addDeliveryGroup(Supplier<AdaptiveDeliveryConfiguration> deliveryGroup) {
+        deliveryGroups.add(deliveryGroup);
+    }
+
     public void start(final StartContext context) throws StartException {
-        mdbComponent.getValue().startDelivery();
+        final MessageDrivenComponent component = mdbComponent.getValue();
+        if (backlog != null) {
+            // the first delivery group enabling adaptive delivery applies
+            for (Supplier<AdaptiveDeliveryConfiguration> deliveryGroup : deliveryGroups) {
+                final AdaptiveDeliveryConfiguration configuration = deliveryGroup.get();
+                if (configuration.isEnabled()) {
+                    backlog.start(clientFactory.get().createSuperUserClient(managementExecutor.get(), true));
+                    component.enableAdaptiveDelivery(configuration, backlog);
+                    break;
+                }
+            }
+        }
+        component.startDelivery();
     }
 
     public void stop(final StopContext context) {
         mdbComponent.getValue().stopDelivery();
+        if (backlog != null) {
+            backlog.stop();
+        }
     }
 }
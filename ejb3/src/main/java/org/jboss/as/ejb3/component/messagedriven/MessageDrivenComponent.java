@@ -11,6 +11,8 @@ import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import jakarta.ejb.TransactionAttributeType;
 import jakarta.resource.ResourceException;
 import jakarta.resource.spi.ActivationSpec;
@@ -56,6 +58,19 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
     private Endpoint endpoint;
     private String activationName;
     private volatile boolean suspended = false;
+    private final Supplier<ActivationSpec> activationSpecFactory;
+    private volatile AdaptiveMessageDelivery adaptiveDelivery;
+    private final AdaptiveMessageDelivery.Activator activator = new AdaptiveMessageDelivery.Activator() {
+        @Override
+        public void activate(ActivationSpec activationSpec) {
+            MessageDrivenComponent.this.activate(activationSpec);
+        }
+
+        @Override
+        public void deactivate(ActivationSpec activationSpec) {
+            MessageDrivenComponent.this.deactivate(activationSpec);
+        }
+    };
 
     /**
      * Server activity that stops delivery before suspend starts.
@@ -100,6 +115,17 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
      * @param deliveryActive true if the component must start delivering messages as soon as it is started
      */
     protected MessageDrivenComponent(final MessageDrivenComponentCreateService ejbComponentCreateService, final Class<?> messageListenerInterface, final ActivationSpec activationSpec, final boolean deliveryActive, final ServiceName deliveryControllerName, final String activeResourceAdapterName) {
+        this(ejbComponentCreateService, messageListenerInterface, activationSpec, null, deliveryActive, deliveryControllerName, activeResourceAdapterName);
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param ejbComponentCreateService the component configuration
+     * @param activationSpecFactory creates activation specs configured as the specified activation spec, or null, if the endpoint only supports a single activation
+     * @param deliveryActive true if the component must start delivering messages as soon as it is started
+     */
+    protected MessageDrivenComponent(final MessageDrivenComponentCreateService ejbComponentCreateService, final Class<?> messageListenerInterface, final ActivationSpec activationSpec, final Supplier<ActivationSpec> activationSpecFactory, final boolean deliveryActive, final ServiceName deliveryControllerName, final String activeResourceAdapterName) {
         super(ejbComponentCreateService);
 
         StatelessObjectFactory<MessageDrivenComponentInstance> factory = new StatelessObjectFactory<MessageDrivenComponentInstance>() {
@@ -126,6 +152,7 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
         this.classLoader = ejbComponentCreateService.getModuleClassLoader();
         this.suspendController = ejbComponentCreateService.getSuspendControllerInjectedValue().getValue();
         this.activationSpec = activationSpec;
+        this.activationSpecFactory = activationSpecFactory;
         this.activationName = activeResourceAdapterName + messageListenerInterface.getName();
         final ClassLoader componentClassLoader = doPrivileged(new GetClassLoaderAction(ejbComponentCreateService.getComponentClass()));
         final MessageEndpointService<?> service = new MessageEndpointService<Object>() {
@@ -216,6 +243,10 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
                 this.activate();
             }
         }
+        AdaptiveMessageDelivery adaptiveDelivery = this.adaptiveDelivery;
+        if (adaptiveDelivery != null) {
+            adaptiveDelivery.start(this::resize);
+        }
     }
 
     @Override
@@ -241,6 +272,10 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
             }
             this.started = false;
         }
+        AdaptiveMessageDelivery adaptiveDelivery = this.adaptiveDelivery;
+        if (adaptiveDelivery != null) {
+            adaptiveDelivery.stop();
+        }
 
         if (this.pool != null) {
             this.pool.stop();
@@ -251,6 +286,10 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
     }
 
     private void activate() {
+        this.activate(this.activationSpec);
+    }
+
+    private void activate(ActivationSpec activationSpec) {
         ClassLoader oldTccl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
         try {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
@@ -268,6 +307,13 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
     }
 
     private void deactivate() {
+        if (this.adaptiveDelivery != null) {
+            this.adaptiveDelivery.deactivateAddedActivations(this.activator);
+        }
+        this.deactivate(this.activationSpec);
+    }
+
+    private void deactivate(ActivationSpec activationSpec) {
         ClassLoader oldTccl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
         try {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
@@ -279,6 +325,42 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
         }
     }
 
+    /**
+     * Changes the number of sessions of this message-driven bean, applied once delivery is activated, if it is not yet active.
+     */
+    private synchronized int resize(int sessions, int newSessions) {
+        if (this.started && this.deliveryActive && !this.suspended) {
+            return this.adaptiveDelivery.resize(sessions, newSessions, this.activator);
+        }
+        this.adaptiveDelivery.resize(newSessions);
+        return newSessions;
+    }
+
+    /**
+     * Enables the adaptive delivery of this message-driven bean, if its endpoint may be activated multiple times.
+     * Has no effect if adaptive delivery was already enabled.
+     * @param configuration the adaptive delivery configuration of the delivery group of this message-driven bean
+     * @param backlog supplies the number of messages pending delivery to this message-driven bean, or a negative value, if unknown
+     */
+    public void enableAdaptiveDelivery(AdaptiveDeliveryConfiguration configuration, LongSupplier backlog) {
+        AdaptiveMessageDelivery adaptiveDelivery;
+        synchronized (this) {
+            if (this.adaptiveDelivery != null || this.activationSpecFactory == null || !configuration.isEnabled()) {
+                return;
+            }
+            adaptiveDelivery = AdaptiveMessageDelivery.create(getComponentName(), this.activationSpec, this.activationSpecFactory, configuration, backlog);
+            if (adaptiveDelivery == null) {
+                return;
+            }
+            this.adaptiveDelivery = adaptiveDelivery;
+            if (!this.started) {
+                // Sampling starts with this component
+                return;
+            }
+        }
+        adaptiveDelivery.start(this::resize);
+    }
+
     public void startDelivery() {
         synchronized (this) {
             if (!this.deliveryActive) {
@@ -315,6 +397,14 @@ public class MessageDrivenComponent extends EJBComponent implements PooledCompon
         return deliveryControllerName;
     }
 
+    /**
+     * Returns the adaptive delivery of this message-driven bean.
+     * @return the adaptive delivery, or null, if the number of sessions of this message-driven bean is static.
+     */
+    public AdaptiveMessageDelivery getAdaptiveDelivery() {
+        return this.adaptiveDelivery;
+    }
+
     @Override
     public AllowedMethodsInformation getAllowedMethodsInformation() {
         return isBeanManagedTransaction() ? MessageDrivenAllowedMethodsInformation.INSTANCE_BMT : MessageDrivenAllowedMethodsInformation.INSTANCE_CMT;
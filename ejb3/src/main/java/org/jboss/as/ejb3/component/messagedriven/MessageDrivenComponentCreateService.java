@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.List;
 import java.util.Properties;
+import java.util.function.Supplier;
 
 import jakarta.resource.ResourceException;
 import jakarta.resource.spi.ActivationSpec;
@@ -45,6 +46,7 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
     private final Properties activationProps;
     private final String resourceAdapterName;
     private final boolean deliveryActive;
+    private final boolean adaptiveDeliveryApplicable;
     private final ServiceName deliveryControllerName;
     private final InjectedValue<ResourceAdapterRepository> resourceAdapterRepositoryInjectedValue = new InjectedValue<ResourceAdapterRepository>();
     private final InjectedValue<ResourceAdapter> resourceAdapterInjectedValue = new InjectedValue<ResourceAdapter>();
@@ -68,6 +70,7 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
         this.messageListenerInterface = messageListenerInterface;
 
         this.activationProps = componentDescription.getActivationProps();
+        this.adaptiveDeliveryApplicable = componentDescription.getDeliveryGroups() != null && componentDescription.getQueueDestination() != null;
         this.moduleClassLoader = componentConfiguration.getModuleClassLoader();
     }
 
@@ -86,7 +89,10 @@ public class MessageDrivenComponentCreateService extends EJBComponentCreateServi
         final String activeResourceAdapterName = searchActiveResourceAdapterName(configuredResourceAdapterName);
 
         final ActivationSpec activationSpec = createActivationSpecs(activeResourceAdapterName, messageListenerInterface, activationProps, getDeploymentClassLoader());
-        final MessageDrivenComponent component = new MessageDrivenComponent(this, messageListenerInterface, activationSpec, deliveryActive, deliveryControllerName, activeResourceAdapterName);
+        // Additional activations, i.e. of adaptive delivery, are configured as the primary activation
+        // Only mdbs consuming from a queue may be activated multiple times, as each activation consuming from a topic would receive every message
+        final Supplier<ActivationSpec> activationSpecFactory = adaptiveDeliveryApplicable ? () -> createActivationSpecs(activeResourceAdapterName, messageListenerInterface, activationProps, getDeploymentClassLoader()) : null;
+        final MessageDrivenComponent component = new MessageDrivenComponent(this, messageListenerInterface, activationSpec, activationSpecFactory, deliveryActive, deliveryControllerName, activeResourceAdapterName);
         // set the endpoint
         final Endpoint endpoint = getEndpoint(activeResourceAdapterName);
 
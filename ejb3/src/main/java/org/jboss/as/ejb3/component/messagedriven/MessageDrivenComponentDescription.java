@@ -61,6 +61,9 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
 
     private static final String STRICT_MAX_POOL_CONFIG_CAPABILITY_NAME = "org.wildfly.ejb3.pool-config";
     private static final String DEFAULT_MDB_POOL_CONFIG_CAPABILITY_NAME = "org.wildfly.ejb3.pool-config.mdb-default";
+    private static final String JMS_MESSAGE_LISTENER = "jakarta.jms.MessageListener";
+    private static final String JAKARTA_JMS_QUEUE = "jakarta.jms.Queue";
+    private static final String JAVAX_JMS_QUEUE = "javax.jms.Queue";
 
     private final Properties activationProps;
     private String resourceAdapterName;
@@ -239,6 +242,35 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
         this.deliveryGroups = groupNames;
     }
 
+    /**
+     * Returns the queue from which this message-driven bean consumes messages.
+     * Only such message-driven beans may consume messages via multiple activations of their endpoint, since each activation
+     * consuming from a topic would be an additional subscriber, receiving every message.
+     * @return the lookup name or name of the queue, or null, if this message-driven bean is not known to consume messages from a queue.
+     */
+    public String getQueueDestination() {
+        if (!JMS_MESSAGE_LISTENER.equals(this.messageListenerInterfaceName) || this.activationProps == null) {
+            return null;
+        }
+        String destinationType = getActivationProperty("destinationType");
+        if (destinationType != null && !JAKARTA_JMS_QUEUE.equals(destinationType) && !JAVAX_JMS_QUEUE.equals(destinationType)) {
+            return null;
+        }
+        String destination = getActivationProperty("destinationLookup");
+        return (destination != null) ? destination : getActivationProperty("destination");
+    }
+
+    private String getActivationProperty(String name) {
+        // activation config properties are applied to the activation spec as bean properties, thus the case of the first character is not significant
+        for (String key : this.activationProps.stringPropertyNames()) {
+            if (key.equalsIgnoreCase(name)) {
+                String value = this.activationProps.getProperty(key).trim();
+                return value.isEmpty() ? null : value;
+            }
+        }
+        return null;
+    }
+
     public boolean isClusteredSingleton() {
         return clusteredSingleton;
     }
@@ -292,6 +324,10 @@ public class MessageDrivenComponentDescription extends EJBComponentDescription {
                 if (mdb.getTransactionManagementType() == TransactionManagementType.CONTAINER) {
                     configuration.addViewInterceptor(CMTTxInterceptor.FACTORY, InterceptorOrder.View.CMT_TRANSACTION_INTERCEPTOR);
                 }
+                // sample message deliveries, if the number of sessions may be adapted by the delivery group of this mdb
+                if (mdb.getDeliveryGroups() != null && mdb.getQueueDestination() != null) {
+                    configuration.addViewInterceptor(AdaptiveMessageDeliveryInterceptor.FACTORY, InterceptorOrder.View.MESSAGE_DELIVERY_SAMPLING);
+                }
             }
         });
 
@@ -0,0 +1,114 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.messagedriven;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.util.function.LongSupplier;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Reads the number of messages pending in a queue hosted by the messaging-activemq subsystem of this server.
+ * The queue is located by its name or by one of its JNDI entries.
+ */
+class QueueBacklog implements LongSupplier {
+
+    private static final PathAddress QUEUES = PathAddress.pathAddress(PathElement.pathElement(SUBSYSTEM, "messaging-activemq"), PathElement.pathElement("server"), PathElement.pathElement("jms-queue"));
+    private static final String ENTRIES = "entries";
+    private static final String MESSAGE_COUNT = "message-count";
+
+    private final String queue;
+    private volatile LocalModelControllerClient client;
+    private volatile PathAddress address;
+
+    /**
+     * @param queue the lookup name or name of the queue
+     */
+    QueueBacklog(String queue) {
+        this.queue = queue;
+    }
+
+    void start(LocalModelControllerClient client) {
+        this.client = client;
+    }
+
+    void stop() {
+        LocalModelControllerClient client = this.client;
+        this.client = null;
+        if (client != null) {
+            client.close();
+        }
+    }
+
+    /**
+     * Returns the number of messages pending in the queue.
+     * @return the number of messages, or -1, if the queue is not hosted by this server, or its number of messages could not be read
+     */
+    @Override
+    public long getAsLong() {
+        LocalModelControllerClient client = this.client;
+        if (client == null) return -1;
+        try {
+            PathAddress address = this.address;
+            if (address == null) {
+                address = this.locate(client);
+                if (address == null) return -1;
+                this.address = address;
+            }
+            ModelNode result = client.execute(Util.getReadAttributeOperation(address, MESSAGE_COUNT));
+            if (!SUCCESS.equals(result.get(OUTCOME).asString())) {
+                // The queue may have been removed, locate it again next time
+                this.address = null;
+                return -1;
+            }
+            return result.get(RESULT).asLong();
+        } catch (RuntimeException e) {
+            ROOT_LOGGER.debugf(e, "Failed to read the number of messages of queue %s", this.queue);
+            return -1;
+        }
+    }
+
+    private PathAddress locate(LocalModelControllerClient client) {
+        ModelNode result = client.execute(Util.getReadAttributeOperation(QUEUES, ENTRIES));
+        if (!SUCCESS.equals(result.get(OUTCOME).asString()) || !result.hasDefined(RESULT)) return null;
+        String name = normalize(this.queue);
+        for (ModelNode queueResult : result.get(RESULT).asList()) {
+            if (!SUCCESS.equals(queueResult.get(OUTCOME).asString())) continue;
+            PathAddress address = PathAddress.pathAddress(queueResult.get(OP_ADDR));
+            if (address.getLastElement().getValue().equals(this.queue)) {
+                return address;
+            }
+            if (queueResult.hasDefined(RESULT)) {
+                for (ModelNode entry : queueResult.get(RESULT).asList()) {
+                    if (normalize(entry.asString()).equals(name)) {
+                        return address;
+                    }
+                }
+            }
+        }
+        ROOT_LOGGER.debugf("Queue %s is not hosted by this server, adaptive delivery is based on the utilization of its consumers", this.queue);
+        return null;
+    }
+
+    // JNDI entries are bound relative to java:, e.g. java:/jms/queue/A, java:jms/queue/A and jms/queue/A name the same entry
+    private static String normalize(String name) {
+        String result = name.startsWith("java:") ? name.substring("java:".length()) : name;
+        while (result.startsWith("/")) {
+            result = result.substring(1);
+        }
+        return result;
+    }
+}
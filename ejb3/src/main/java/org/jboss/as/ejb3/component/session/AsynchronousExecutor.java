@@ -0,0 +1,255 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.session;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.ee.concurrent.VirtualThreads;
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.threads.JBossThreadFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Dedicated executor of the asynchronous invocations of session beans, used instead of the shared thread pool of the
+ * {@code async} service of the EJB3 subsystem, so that asynchronous invocations of some beans cannot starve remote invocations
+ * and timers of other beans.
+ * <p>
+ * Executors queue up to a bounded number of invocations, beyond which invocations are either rejected, or run by the calling thread.
+ * On runtimes that support them, invocations may run on virtual threads. Virtual threads are not pooled: each invocation is started
+ * on a new virtual thread, which waits for one of the max threads permits of the executor before running the invocation.
+ */
+public class AsynchronousExecutor extends ThreadPoolExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final String name;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder queueWaitTime = new LongAdder();
+    private final LongAdder executionTime = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    // Bounds the concurrent invocations of virtual threads, null for a pool of platform threads
+    private final Semaphore permits;
+    private final int queueLength;
+    // Invocations of virtual threads waiting for a permit
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    AsynchronousExecutor(String name, int maxThreads, int queueLength, boolean callerRuns, ThreadFactory threadFactory) {
+        this(name, maxThreads, queueLength, callerRuns, threadFactory, false);
+    }
+
+    AsynchronousExecutor(String name, int maxThreads, int queueLength, boolean callerRuns, ThreadFactory threadFactory, boolean virtual) {
+        // Virtual threads are started per invocation and never reused, so their number is bounded by permits, rather than by a pool size
+        super(virtual ? 0 : maxThreads, virtual ? Integer.MAX_VALUE : maxThreads, virtual ? 0 : KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, virtual ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueLength), threadFactory);
+        this.name = name;
+        this.permits = virtual ? new Semaphore(maxThreads, true) : null;
+        this.queueLength = queueLength;
+        if (!virtual) {
+            this.allowCoreThreadTimeOut(true);
+        }
+        this.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(callerRuns ? new CallerRunsPolicy() : new RejectedExecutionHandler() {
+            @Override
+            public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+                throw EjbLogger.ROOT_LOGGER.asynchronousInvocationRejected(name);
+            }
+        }));
+    }
+
+    /**
+     * Creates a dedicated executor.
+     *
+     * @param name the name of the executor
+     * @param maxThreads the maximum number of concurrent asynchronous invocations, i.e. the size of the thread pool, or, if invocations run on virtual threads, the number of permits
+     * @param queueLength the maximum number of queued asynchronous invocations
+     * @param callerRuns indicates whether invocations exceeding the queue length are run by the calling thread, rather than rejected
+     * @param virtual indicates whether asynchronous invocations run on virtual threads, if supported by the runtime
+     * @return a new executor
+     */
+    public static AsynchronousExecutor create(String name, int maxThreads, int queueLength, boolean callerRuns, boolean virtual) {
+        String prefix = "EJB async " + name;
+        ThreadFactory threadFactory;
+        if (virtual && !VirtualThreads.isSupported()) {
+            EjbLogger.ROOT_LOGGER.debugf("Virtual threads are not supported by this runtime, asynchronous executor %s will use platform threads", name);
+            virtual = false;
+        }
+        if (virtual) {
+            threadFactory = VirtualThreads.createThreadFactory(prefix + " - ");
+        } else {
+            // Escape name pattern directives
+            String namePattern = prefix.replace("%", "%%") + " - %t";
+            threadFactory = WildFlySecurityManager.isChecking() ? AccessController.doPrivileged(new PrivilegedAction<ThreadFactory>() {
+                @Override
+                public ThreadFactory run() {
+                    return new JBossThreadFactory(null, Boolean.FALSE, null, namePattern, null, null);
+                }
+            }) : new JBossThreadFactory(null, Boolean.FALSE, null, namePattern, null, null);
+        }
+        return new AsynchronousExecutor(name, maxThreads, queueLength, callerRuns, threadFactory, virtual);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Runnable timedTask = new TimedTask(task);
+        if (this.permits == null) {
+            super.execute(timedTask);
+            return;
+        }
+        boolean acquired = this.tryAcquirePermit();
+        // Bound the number of invocations waiting for a permit, like the queue of a thread pool
+        if (!acquired && (this.waiting.incrementAndGet() > this.queueLength)) {
+            this.waiting.decrementAndGet();
+            this.getRejectedExecutionHandler().rejectedExecution(timedTask, this);
+            return;
+        }
+        try {
+            super.execute(new PermitTask(timedTask, acquired));
+        } catch (RejectedExecutionException e) {
+            if (acquired) {
+                this.permits.release();
+            } else {
+                this.waiting.decrementAndGet();
+            }
+            throw e;
+        }
+    }
+
+    private boolean tryAcquirePermit() {
+        try {
+            // Unlike tryAcquire(), honors the fairness of the semaphore, so that invocations do not overtake waiting invocations
+            return this.permits.tryAcquire(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of asynchronous invocations waiting to run, i.e. queued by a thread pool, or waiting for a permit on a virtual thread.
+     *
+     * @return a number of invocations
+     */
+    public int getQueueSize() {
+        return (this.permits != null) ? this.waiting.get() : this.getQueue().size();
+    }
+
+    /**
+     * Returns the name of this executor.
+     *
+     * @return an executor name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the number of asynchronous invocations completed by this executor.
+     *
+     * @return a number of invocations
+     */
+    public long getInvocations() {
+        return this.invocations.sum();
+    }
+
+    /**
+     * Returns the total time asynchronous invocations waited in the queue of this executor.
+     *
+     * @return the queue wait time in milliseconds
+     */
+    public long getQueueWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(this.queueWaitTime.sum());
+    }
+
+    /**
+     * Returns the total execution time of the asynchronous invocations completed by this executor.
+     *
+     * @return the execution time in milliseconds
+     */
+    public long getExecutionTime() {
+        return TimeUnit.NANOSECONDS.toMillis(this.executionTime.sum());
+    }
+
+    /**
+     * Returns the number of asynchronous invocations that exceeded the queue length of this executor, and were either rejected, or run by the calling thread.
+     *
+     * @return a number of invocations
+     */
+    public long getRejectedCount() {
+        return this.rejected.sum();
+    }
+
+    private class TimedTask implements Runnable {
+        private final Runnable task;
+        private final long queued = System.nanoTime();
+
+        TimedTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            AsynchronousExecutor.this.queueWaitTime.add(start - this.queued);
+            try {
+                this.task.run();
+            } finally {
+                AsynchronousExecutor.this.executionTime.add(System.nanoTime() - start);
+                AsynchronousExecutor.this.invocations.increment();
+            }
+        }
+    }
+
+    private class PermitTask implements Runnable {
+        private final Runnable task;
+        private final boolean acquired;
+
+        PermitTask(Runnable task, boolean acquired) {
+            this.task = task;
+            this.acquired = acquired;
+        }
+
+        @Override
+        public void run() {
+            if (!this.acquired) {
+                // Waiting invocations must run, even if interrupted, otherwise their callers would never complete
+                AsynchronousExecutor.this.permits.acquireUninterruptibly();
+                AsynchronousExecutor.this.waiting.decrementAndGet();
+            }
+            try {
+                this.task.run();
+            } finally {
+                AsynchronousExecutor.this.permits.release();
+            }
+        }
+    }
+
+    private class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+        private final RejectedExecutionHandler handler;
+
+        CountingRejectedExecutionHandler(RejectedExecutionHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            if (executor.isShutdown()) {
+                // Do not run invocations of undeployed beans in the calling thread
+                throw EjbLogger.ROOT_LOGGER.asynchronousInvocationRejected(AsynchronousExecutor.this.name);
+            }
+            AsynchronousExecutor.this.rejected.increment();
+            this.handler.rejectedExecution(task, executor);
+        }
+    }
+}
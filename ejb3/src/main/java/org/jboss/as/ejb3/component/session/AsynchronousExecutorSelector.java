@@ -0,0 +1,63 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.session;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Selects the dedicated {@link AsynchronousExecutor} of a session bean, if any.
+ * <p>
+ * Each executor is assigned a list of beans, whose entries are either the name of a bean qualified by its module, i.e. {@code [app/]module/bean},
+ * or the name of a module, i.e. {@code [app/]module}, for all of its session beans, where the application name is only specified for modules of an ear.
+ * These names correspond to the {@code java:global} names of the beans.
+ * If a bean is assigned to multiple executors, the executor whose name sorts first is selected.
+ */
+public class AsynchronousExecutorSelector {
+
+    private final Map<String, Collection<String>> executors = new ConcurrentSkipListMap<>();
+
+    /**
+     * Assigns the specified beans to the specified executor.
+     *
+     * @param executorName the name of a dedicated executor
+     * @param beans a list of qualified bean or module names
+     */
+    public void add(String executorName, List<String> beans) {
+        this.executors.put(executorName, List.copyOf(beans));
+    }
+
+    /**
+     * Unassigns all beans from the specified executor.
+     *
+     * @param executorName the name of a dedicated executor
+     */
+    public void remove(String executorName) {
+        this.executors.remove(executorName);
+    }
+
+    /**
+     * Returns the name of the dedicated executor of the specified session bean.
+     *
+     * @param earApplicationName the name of the ear containing the module of the bean, or null, if the module is not part of an ear
+     * @param moduleName the name of the module of the bean
+     * @param componentName the name of the bean
+     * @return the name of a dedicated executor, or null, if the bean uses the thread pool of the async service
+     */
+    public String select(String earApplicationName, String moduleName, String componentName) {
+        String module = (earApplicationName != null) ? earApplicationName + '/' + moduleName : moduleName;
+        String bean = module + '/' + componentName;
+        for (Map.Entry<String, Collection<String>> entry : this.executors.entrySet()) {
+            Collection<String> beans = entry.getValue();
+            if (beans.contains(bean) || beans.contains(module)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.singleton;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * A {@link ReadWriteLock} with the semantics of {@link EJBReadWriteLock}, optimized for read mostly singletons.
+ * <p>
+ * While no writer is active, the lock is read biased: readers only increment a counter of a stripe selected by their thread,
+ * so that concurrent readers on different cores do not contend on a shared reader count. A writer first acquires the write
+ * lock of an underlying {@link ReentrantReadWriteLock}, then revokes the read bias and waits, within its access timeout,
+ * for the readers of all stripes to drain. Readers arriving while the bias is revoked use the read lock of the underlying lock.
+ * The bias is restored once a multiple of the time spent on the last revocation has elapsed, so that frequent writers
+ * do not pay for a revocation on every write.
+ * <p>
+ * As with {@link ReentrantReadWriteLock}, a thread holding a read lock may always reacquire it, even while a writer is waiting.
+ * As with {@link EJBReadWriteLock}, a thread holding a read lock that requests the write lock fails with an
+ * {@link jakarta.ejb.IllegalLoopbackException}.
+ */
+public class StripedEJBReadWriteLock implements ReadWriteLock {
+
+    /**
+     * System property selecting this lock implementation, either for all singleton components ({@code true})
+     * or for a comma separated list of component names.
+     */
+    static final String STRIPED_READ_LOCK_PROPERTY = "jboss.ejb3.singleton.striped-read-lock";
+
+    // Number of longs between two stripes, so that each stripe counter occupies its own pair of cache lines
+    private static final int PADDING = 16;
+    // Factor of the time spent revoking the bias during which the bias remains revoked
+    private static final int INHIBIT_FACTOR = 9;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ReentrantReadWriteLock delegate = new ReentrantReadWriteLock();
+    private final int stripes;
+    private final AtomicLongArray readers;
+    private final ThreadLocal<ReadHolds> readHolds = ThreadLocal.withInitial(this::createReadHolds);
+    private final Lock readLock = new ReadLock();
+    private final Lock writeLock = new WriteLock();
+
+    private volatile boolean readBias = true;
+    private volatile long inhibitUntil;
+
+    public StripedEJBReadWriteLock() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    StripedEJBReadWriteLock(int concurrency) {
+        this.stripes = Integer.highestOneBit(Math.max(2, concurrency) - 1) << 1;
+        this.readers = new AtomicLongArray(this.stripes * PADDING);
+    }
+
+    /**
+     * Indicates whether the specified singleton component was configured to use this lock implementation.
+     *
+     * @param componentName the name of a singleton component
+     * @return true, if the striped read lock was requested for this component, false otherwise
+     */
+    static boolean isEnabled(String componentName) {
+        String value = WildFlySecurityManager.getPropertyPrivileged(STRIPED_READ_LOCK_PROPERTY, null);
+        if (value == null || value.isBlank()) return false;
+        return Boolean.parseBoolean(value.trim()) || Arrays.stream(value.split(",")).map(String::trim).anyMatch(componentName::equals);
+    }
+
+    private ReadHolds createReadHolds() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return new ReadHolds(((hash ^ (hash >>> 16)) & (this.stripes - 1)) * PADDING);
+    }
+
+    /**
+     * Attempts to acquire a read lock on the fast path, i.e. without touching the underlying lock.
+     */
+    private boolean tryFastRead(ReadHolds holds) {
+        if (holds.fast > 0) {
+            // Reentrant read, which must succeed regardless of the bias, since a writer revoking the bias waits for this thread
+            this.readers.incrementAndGet(holds.stripe);
+            holds.fast++;
+            return true;
+        }
+        if (this.readBias) {
+            this.readers.incrementAndGet(holds.stripe);
+            // Re-check, since a writer may have revoked the bias concurrently
+            if (this.readBias) {
+                holds.fast++;
+                return true;
+            }
+            this.readers.decrementAndGet(holds.stripe);
+        }
+        return false;
+    }
+
+    /**
+     * Completes the acquisition of the read lock of the underlying lock, restoring the read bias if due.
+     */
+    private void slowReadAcquired(ReadHolds holds) {
+        holds.slow++;
+        if (!this.readBias && !this.delegate.isWriteLocked() && (System.nanoTime() - this.inhibitUntil >= 0)) {
+            // No writer can be active while we hold the read lock
+            this.readBias = true;
+        }
+    }
+
+    /**
+     * Revokes the read bias and waits for all readers that acquired the lock on the fast path to release it.
+     * Must be called while holding the write lock of the underlying lock.
+     *
+     * @param deadline the deadline, as per {@link System#nanoTime()}, or 0 if none
+     * @return true, if all fast path readers released the lock, false if the deadline elapsed
+     */
+    private boolean revokeReadBias(long deadline, boolean interruptible) throws InterruptedException {
+        boolean biased = this.readBias;
+        long start = biased ? System.nanoTime() : 0L;
+        if (biased) {
+            this.readBias = false;
+        }
+        // Drain even if the bias was already revoked, since a previous writer may have timed out before fast path readers released the lock
+        try {
+            for (int i = 0; i < this.stripes; ++i) {
+                int index = i * PADDING;
+                long park = 1000;
+                while (this.readers.get(index) > 0) {
+                    if (interruptible && Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    long now = System.nanoTime();
+                    if (deadline != 0 && now - deadline >= 0) {
+                        return false;
+                    }
+                    LockSupport.parkNanos(this, (deadline != 0) ? Math.min(park, deadline - now) : park);
+                    park = Math.min(park << 1, MAX_PARK_NANOS);
+                }
+            }
+            return true;
+        } finally {
+            if (biased) {
+                long now = System.nanoTime();
+                this.inhibitUntil = now + (now - start) * INHIBIT_FACTOR;
+            }
+        }
+    }
+
+    /**
+     * Computes the deadline for the specified timeout, as expected by {@link #revokeReadBias(long, boolean)}.
+     */
+    private static long deadline(long time, TimeUnit unit) {
+        long nanos = unit.toNanos(time);
+        // Treat very large timeouts as unbounded, to avoid overflow
+        return (nanos >= Long.MAX_VALUE >> 1) ? 0L : (System.nanoTime() + nanos) | 1L;
+    }
+
+    /**
+     * Ensures that the current thread doesn't hold any read locks. If
+     * the thread holds any read locks, this method throws a {@link jakarta.ejb.IllegalLoopbackException}.
+     */
+    private void checkLoopback() {
+        if (this.readHolds.get().count() > 0) {
+            throw EjbLogger.ROOT_LOGGER.failToUpgradeToWriteLock();
+        }
+    }
+
+    @Override
+    public Lock readLock() {
+        return this.readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return this.writeLock;
+    }
+
+    /**
+     * Read locks currently held by a thread.
+     */
+    private static class ReadHolds {
+        final int stripe;
+        int fast;
+        int slow;
+
+        ReadHolds(int stripe) {
+            this.stripe = stripe;
+        }
+
+        int count() {
+            return this.fast + this.slow;
+        }
+    }
+
+    private class ReadLock implements Lock {
+
+        @Override
+        public void lock() {
+            ReadHolds holds = readHolds.get();
+            if (!tryFastRead(holds)) {
+                delegate.readLock().lock();
+                slowReadAcquired(holds);
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            ReadHolds holds = readHolds.get();
+            if (!tryFastRead(holds)) {
+                delegate.readLock().lockInterruptibly();
+                slowReadAcquired(holds);
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            ReadHolds holds = readHolds.get();
+            if (tryFastRead(holds)) {
+                return true;
+            }
+            if (delegate.readLock().tryLock()) {
+                slowReadAcquired(holds);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            ReadHolds holds = readHolds.get();
+            if (tryFastRead(holds)) {
+                return true;
+            }
+            if (delegate.readLock().tryLock(time, unit)) {
+                slowReadAcquired(holds);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            ReadHolds holds = readHolds.get();
+            if (holds.fast > 0) {
+                holds.fast--;
+                readers.decrementAndGet(holds.stripe);
+            } else if (holds.slow > 0) {
+                holds.slow--;
+                delegate.readLock().unlock();
+            } else {
+                throw new IllegalMonitorStateException();
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class WriteLock implements Lock {
+
+        @Override
+        public void lock() {
+            checkLoopback();
+            delegate.writeLock().lock();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    revokeReadBias(0, false);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            checkLoopback();
+            delegate.writeLock().lockInterruptibly();
+            try {
+                revokeReadBias(0, true);
+            } catch (InterruptedException e) {
+                delegate.writeLock().unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            checkLoopback();
+            if (!delegate.writeLock().tryLock()) {
+                return false;
+            }
+            boolean revoked = false;
+            try {
+                revoked = revokeReadBias(deadline(0, TimeUnit.NANOSECONDS), false);
+            } catch (InterruptedException e) {
+                // Not interruptible
+            }
+            if (!revoked) {
+                delegate.writeLock().unlock();
+            }
+            return revoked;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            checkLoopback();
+            long deadline = deadline(time, unit);
+            if (!delegate.writeLock().tryLock(time, unit)) {
+                return false;
+            }
+            boolean revoked = false;
+            try {
+                revoked = revokeReadBias(deadline, true);
+            } finally {
+                if (!revoked) {
+                    delegate.writeLock().unlock();
+                }
+            }
+            return revoked;
+        }
+
+        @Override
+        public void unlock() {
+            delegate.writeLock().unlock();
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
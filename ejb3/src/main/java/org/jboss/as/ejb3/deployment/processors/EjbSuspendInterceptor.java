@@ -6,6 +6,7 @@
 package org.jboss.as.ejb3.deployment.processors;
 
 import org.jboss.as.ee.component.interceptors.InvocationType;
+import org.jboss.as.ee.requestcontroller.AdaptiveConcurrencyLimit;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.interceptors.AbstractEJBInterceptor;
 import org.jboss.as.ejb3.logging.EjbLogger;
@@ -36,13 +37,28 @@ public class EjbSuspendInterceptor extends AbstractEJBInterceptor {
             // if control point rejected, check with suspend handler
             throw EjbLogger.ROOT_LOGGER.containerSuspended();
         }
+        // see if the adaptive concurrency limit admits this invocation
+        AdaptiveConcurrencyLimit limit = component.getConcurrencyLimit();
+        // invocations exceeding the limit wait up to the queue timeout of the entry point, which defaults to a
+        // longer timeout for message deliveries, since a rejected delivery is redelivered or moved to the dead letter queue
+        if (limit != null && !limit.acquire()) {
+            complete(component, result);
+            throw EjbLogger.ROOT_LOGGER.concurrencyLimitReached(component.getComponentName());
+        }
+        long start = (limit != null) ? System.nanoTime() : 0L;
         try {
             return context.proceed();
         } finally {
-            if (result == RunResult.REJECTED)
-                component.getEjbSuspendHandlerService().invocationComplete();
-            else
-                entryPoint.requestComplete();
+            if (limit != null)
+                limit.release(start);
+            complete(component, result);
         }
     }
+
+    private static void complete(EJBComponent component, RunResult result) {
+        if (result == RunResult.REJECTED)
+            component.getEjbSuspendHandlerService().invocationComplete();
+        else
+            component.getControlPoint().requestComplete();
+    }
 }
@@ -5,6 +5,9 @@
 
 package org.jboss.as.ejb3.deployment.processors;
 
+import java.util.concurrent.Executor;
+
+import org.jboss.as.controller.ModelControllerClientFactory;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.ee.component.ComponentConfiguration;
 import org.jboss.as.ee.component.ComponentDescription;
@@ -14,6 +17,7 @@ import org.jboss.as.ejb3.component.messagedriven.MdbDeliveryControllerService;
 import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponent;
 import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponentDescription;
 import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.server.deployment.DelegatingSupplier;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
@@ -36,6 +40,8 @@ import static org.jboss.as.ejb3.subsystem.MdbDeliveryGroupResourceDefinition.MDB
  */
 public class MdbDeliveryDependenciesProcessor implements DeploymentUnitProcessor {
 
+    private static final String MODEL_CONTROLLER_CLIENT_FACTORY_CAPABILITY_NAME = "org.wildfly.management.model-controller-client-factory";
+    private static final String MANAGEMENT_EXECUTOR_CAPABILITY_NAME = "org.wildfly.management.executor";
 
     @Override
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
@@ -54,10 +60,18 @@ public class MdbDeliveryDependenciesProcessor implements DeploymentUnitProcessor
             if (description instanceof MessageDrivenComponentDescription) {
                 final MessageDrivenComponentDescription mdbDescription = (MessageDrivenComponentDescription) description;
                 if (mdbDescription.isDeliveryControlled()) {
-                    final MdbDeliveryControllerService mdbDeliveryControllerService = new MdbDeliveryControllerService();
+                    // only mdbs consuming from a queue may adapt their number of sessions to its backlog
+                    final String queue = (mdbDescription.getDeliveryGroups() != null) ? mdbDescription.getQueueDestination() : null;
+                    final DelegatingSupplier<ModelControllerClientFactory> clientFactory = new DelegatingSupplier<>();
+                    final DelegatingSupplier<Executor> managementExecutor = new DelegatingSupplier<>();
+                    final MdbDeliveryControllerService mdbDeliveryControllerService = new MdbDeliveryControllerService(queue, clientFactory, managementExecutor);
                     final ServiceBuilder<MdbDeliveryControllerService> builder = serviceTarget.addService(mdbDescription.getDeliveryControllerName(), mdbDeliveryControllerService)
                             .addDependency(description.getCreateServiceName(), MessageDrivenComponent.class, mdbDeliveryControllerService.getMdbComponent())
                             .setInitialMode(Mode.PASSIVE);
+                    if (queue != null) {
+                        clientFactory.set(builder.requires(capabilityServiceSupport.getCapabilityServiceName(MODEL_CONTROLLER_CLIENT_FACTORY_CAPABILITY_NAME)));
+                        managementExecutor.set(builder.requires(capabilityServiceSupport.getCapabilityServiceName(MANAGEMENT_EXECUTOR_CAPABILITY_NAME)));
+                    }
                     if (mdbDescription.isClusteredSingleton()) {
                         clusteredSingletonFound = true;
                         builder.requires(CLUSTERED_SINGLETON_CAPABILITY.getCapabilityServiceName());
@@ -68,7 +82,7 @@ public class MdbDeliveryDependenciesProcessor implements DeploymentUnitProcessor
                             if (phaseContext.getServiceRegistry().getService(deliveryGroupServiceName) == null) {
                                 throw EjbLogger.DEPLOYMENT_LOGGER.missingMdbDeliveryGroup(deliveryGroup);
                             }
-                            builder.requires(deliveryGroupServiceName);
+                            mdbDeliveryControllerService.addDeliveryGroup(builder.requires(deliveryGroupServiceName));
                         }
                     }
                     builder.install();
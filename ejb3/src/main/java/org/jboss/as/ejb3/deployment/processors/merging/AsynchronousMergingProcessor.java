@@ -4,6 +4,8 @@
  */
 package org.jboss.as.ejb3.deployment.processors.merging;
 
+import static org.jboss.as.server.deployment.Attachments.CAPABILITY_SERVICE_SUPPORT;
+
 import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.List;
@@ -29,10 +31,12 @@ import org.jboss.as.ejb3.component.EJBViewDescription;
 import org.jboss.as.ejb3.component.interceptors.AsyncFutureInterceptorFactory;
 import org.jboss.as.ejb3.component.interceptors.LogDiagnosticContextRecoveryInterceptor;
 import org.jboss.as.ejb3.component.interceptors.LogDiagnosticContextStorageInterceptor;
+import org.jboss.as.ejb3.component.session.AsynchronousExecutorSelector;
 import org.jboss.as.ejb3.component.session.SessionBeanComponentCreateService;
 import org.jboss.as.ejb3.component.session.SessionBeanComponentDescription;
 import org.jboss.as.ejb3.deployment.processors.dd.MethodResolutionUtils;
 import org.jboss.as.ejb3.security.SecurityDomainInterceptorFactory;
+import org.jboss.as.ejb3.subsystem.AsynchronousExecutorResourceDefinition;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
@@ -54,10 +58,12 @@ import org.jboss.msc.service.ServiceName;
 public class AsynchronousMergingProcessor extends AbstractMergingProcessor<SessionBeanComponentDescription> {
 
     final ServiceName asynchronousThreadPoolService;
+    private final AsynchronousExecutorSelector executorSelector;
 
-    public AsynchronousMergingProcessor(final ServiceName asynchronousThreadPoolService) {
+    public AsynchronousMergingProcessor(final ServiceName asynchronousThreadPoolService, final AsynchronousExecutorSelector executorSelector) {
         super(SessionBeanComponentDescription.class);
         this.asynchronousThreadPoolService = asynchronousThreadPoolService;
+        this.executorSelector = executorSelector;
     }
 
     @Override
@@ -101,10 +107,13 @@ public class AsynchronousMergingProcessor extends AbstractMergingProcessor<Sessi
             description.getConfigurators().add(new ComponentConfigurator() {
                 @Override
                 public void configure(final DeploymentPhaseContext context, final ComponentDescription description, final ComponentConfiguration configuration) throws DeploymentUnitProcessingException {
+                    // use a dedicated executor instead of the thread pool of the async service, if one is configured for this bean
+                    final String executorName = executorSelector.select(description.getModuleDescription().getEarApplicationName(), description.getModuleName(), description.getComponentName());
+                    final ServiceName executorServiceName = (executorName != null) ? context.getDeploymentUnit().getAttachment(CAPABILITY_SERVICE_SUPPORT).getCapabilityServiceName(AsynchronousExecutorResourceDefinition.DEDICATED_EXECUTOR_CAPABILITY_NAME, executorName) : asynchronousThreadPoolService;
                     configuration.getCreateDependencies().add(new DependencyConfigurator<SessionBeanComponentCreateService>() {
                         @Override
                         public void configureDependency(final ServiceBuilder<?> serviceBuilder, final SessionBeanComponentCreateService service) throws DeploymentUnitProcessingException {
-                            serviceBuilder.addDependency(asynchronousThreadPoolService, ExecutorService.class, service.getAsyncExecutorService());
+                            serviceBuilder.addDependency(executorServiceName, ExecutorService.class, service.getAsyncExecutorService());
                         }
                     });
                 }
@@ -19,6 +19,7 @@ import java.sql.SQLException;
 import java.util.Date;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import javax.naming.Context;
@@ -3254,4 +3255,25 @@ public interface EjbLogger extends BasicLogger {
 
     @Message(id = 536, value = "Unsupported EJB receiver protocol %s")
     IllegalArgumentException unsupportedEJBReceiverProtocol(String uriScheme);
+
+    @Message(id = 537, value = "The request was rejected as the concurrency limit of %s was reached")
+    EJBComponentUnavailableException concurrencyLimitReached(String componentName);
+
+    @Message(id = 538, value = "The asynchronous invocation was rejected by asynchronous executor %s")
+    RejectedExecutionException asynchronousInvocationRejected(String executorName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 539, value = "Failed to change the number of sessions of message-driven bean %s from %d to %d")
+    void failedToResizeMdbSessions(@Cause Throwable cause, String componentName, int sessions, int newSessions);
+
+    @LogMessage(level = WARN)
+    @Message(id = 540, value = "Failed to restore message delivery to message-driven bean %s via %d sessions")
+    void failedToRestoreMdbDelivery(@Cause Throwable cause, String componentName, int sessions);
+
+    @LogMessage(level = WARN)
+    @Message(id = 542, value = "Stopped the HTTP invoker after waiting %d seconds for in-flight invocations to complete")
+    void httpInvokerInvocationsInFlight(long timeout);
+
+    @Message(id = 543, value = "The min-sessions of delivery group %s (%d) must not exceed its max-sessions (%d)")
+    OperationFailedException invalidMdbDeliveryGroupSessions(String groupName, int minSessions, int maxSessions);
 }
@@ -5,9 +5,16 @@
 
 package org.jboss.as.ejb3.remote.http;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import io.undertow.server.handlers.PathHandler;
+import org.jboss.as.ee.concurrent.VirtualThreads;
+import org.jboss.as.ee.logging.EeLogger;
+import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.remote.AssociationService;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceName;
@@ -16,6 +23,7 @@ import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.jboss.msc.value.InjectedValue;
 import org.wildfly.httpclient.ejb.EjbHttpService;
+import org.wildfly.security.manager.WildFlySecurityManager;
 import org.wildfly.transaction.client.LocalTransactionContext;
 
 /**
@@ -24,10 +32,33 @@ import org.wildfly.transaction.client.LocalTransactionContext;
 public class EJB3RemoteHTTPService implements Service<EJB3RemoteHTTPService> {
 
     public static final ServiceName SERVICE_NAME = ServiceName.JBOSS.append("ejb", "remote", "http-invoker");
+    /**
+     * System property specifying whether invocations received by the HTTP invoker are dispatched to virtual threads, if supported by the runtime,
+     * instead of the worker threads of the Undertow listener. Since an invocation blocks its thread while its parameters are unmarshalled from the
+     * request, dispatching to virtual threads allows many concurrent invocations, e.g. multiplexed on HTTP/2 connections, without exhausting the
+     * worker threads that also serve web requests.
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "jboss.ejb.http-invoker.virtual-threads";
+    /**
+     * System property specifying the maximum number of invocations running concurrently on virtual threads.
+     * Invocations exceeding it wait for a running invocation to complete, up to the bound specified by {@link #MAX_WAITING_PROPERTY}.
+     */
+    public static final String MAX_CONCURRENCY_PROPERTY = "jboss.ejb.http-invoker.max-concurrency";
+    /**
+     * System property specifying the maximum number of invocations waiting for a running invocation to complete.
+     * Invocations exceeding it are rejected.
+     */
+    public static final String MAX_WAITING_PROPERTY = "jboss.ejb.http-invoker.max-waiting";
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 1024;
+    private static final int DEFAULT_MAX_WAITING = 1024;
+    private static final long STOP_TIMEOUT_SECONDS = 30;
+
     private final InjectedValue<PathHandler> pathHandlerInjectedValue = new InjectedValue<>();
     private final InjectedValue<AssociationService> associationServiceInjectedValue = new InjectedValue<>();
     private final InjectedValue<LocalTransactionContext> localTransactionContextInjectedValue = new InjectedValue<>();
     private final Function<String, Boolean> classResolverFilter;
+    private volatile ExecutorService executor;
 
     public EJB3RemoteHTTPService(final Function<String, Boolean> classResolverFilter) {
         this.classResolverFilter = classResolverFilter;
@@ -35,14 +66,79 @@ public class EJB3RemoteHTTPService implements Service<EJB3RemoteHTTPService> {
 
     @Override
     public void start(StartContext context) throws StartException {
+        this.executor = createExecutor(EJB3RemoteHTTPService::createVirtualThreadFactory);
+        // a null executor dispatches invocations to the worker threads of the listener
         EjbHttpService service = new EjbHttpService(associationServiceInjectedValue.getValue().getAssociation(),
-                null, localTransactionContextInjectedValue.getValue(), classResolverFilter);
+                this.executor, localTransactionContextInjectedValue.getValue(), classResolverFilter);
         pathHandlerInjectedValue.getValue().addPrefixPath("/ejb", service.createHttpHandler());
     }
 
     @Override
     public void stop(StopContext context) {
         pathHandlerInjectedValue.getValue().removePrefixPath("/ejb");
+        ExecutorService executor = this.executor;
+        if (executor != null) {
+            this.executor = null;
+            shutdown(executor, context, STOP_TIMEOUT_SECONDS);
+        }
+    }
+
+    /**
+     * Shuts down the specified executor, completing the specified stop context once its in-flight invocations completed,
+     * or the specified timeout elapsed, whichever comes first.
+     */
+    static void shutdown(ExecutorService executor, StopContext context, long timeoutSeconds) {
+        executor.shutdown();
+        if (executor.isTerminated()) return;
+        context.asynchronous();
+        context.execute(() -> {
+            try {
+                if (!executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                    EjbLogger.REMOTE_LOGGER.httpInvokerInvocationsInFlight(timeoutSeconds);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                context.complete();
+            }
+        });
+    }
+
+    /**
+     * Creates the executor of the invocations received by the HTTP invoker.
+     *
+     * @param virtualThreadFactory supplies a factory of virtual threads, or null, if virtual threads are not supported by the runtime
+     * @return an executor running invocations on virtual threads, or null, if invocations are dispatched to the worker threads of the listener
+     */
+    static ExecutorService createExecutor(Supplier<ThreadFactory> virtualThreadFactory) {
+        if (!Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(VIRTUAL_THREADS_PROPERTY, Boolean.FALSE.toString()))) {
+            return null;
+        }
+        ThreadFactory threadFactory = virtualThreadFactory.get();
+        if (threadFactory == null) {
+            EjbLogger.REMOTE_LOGGER.debug("Virtual threads are not supported by this runtime, the HTTP invoker will use worker threads");
+            return null;
+        }
+        return new VirtualThreadInvocationExecutor(intProperty(MAX_CONCURRENCY_PROPERTY, DEFAULT_MAX_CONCURRENCY, 1), intProperty(MAX_WAITING_PROPERTY, DEFAULT_MAX_WAITING, 0), threadFactory);
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        return VirtualThreads.isSupported() ? VirtualThreads.createThreadFactory("EJB HTTP invoker - ") : null;
+    }
+
+    private static int intProperty(String property, int defaultValue, int minValue) {
+        String value = WildFlySecurityManager.getPropertyPrivileged(property, null);
+        if (value == null) return defaultValue;
+        try {
+            int result = Integer.parseInt(value.trim());
+            if (result >= minValue) {
+                return result;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through
+        }
+        EeLogger.ROOT_LOGGER.invalidSystemPropertyValue(value, property);
+        return defaultValue;
     }
 
     @Override
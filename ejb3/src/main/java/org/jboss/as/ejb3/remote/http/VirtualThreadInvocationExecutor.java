@@ -0,0 +1,84 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote.http;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executor of the invocations received by the HTTP invoker, which starts a new virtual thread per invocation.
+ * Virtual threads are not pooled, so the number of concurrently running invocations is bounded by permits, rather than by a pool size:
+ * each virtual thread waits for a permit before running its invocation.
+ * The number of invocations waiting for a permit is bounded, like the queue of a thread pool, beyond which invocations are rejected.
+ */
+class VirtualThreadInvocationExecutor extends ThreadPoolExecutor {
+
+    private final Semaphore permits;
+    private final int maxWaiting;
+    // Invocations waiting for a permit
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    VirtualThreadInvocationExecutor(int maxConcurrency, int maxWaiting, ThreadFactory threadFactory) {
+        super(0, Integer.MAX_VALUE, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), threadFactory);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxWaiting = maxWaiting;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        boolean acquired = this.tryAcquirePermit();
+        if (!acquired && (this.waiting.incrementAndGet() > this.maxWaiting)) {
+            this.waiting.decrementAndGet();
+            this.getRejectedExecutionHandler().rejectedExecution(task, this);
+            return;
+        }
+        try {
+            super.execute(() -> {
+                if (!acquired) {
+                    // Accepted invocations must run, even if interrupted, otherwise their clients would never get a response
+                    this.permits.acquireUninterruptibly();
+                    this.waiting.decrementAndGet();
+                }
+                try {
+                    task.run();
+                } finally {
+                    this.permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (acquired) {
+                this.permits.release();
+            } else {
+                this.waiting.decrementAndGet();
+            }
+            throw e;
+        }
+    }
+
+    private boolean tryAcquirePermit() {
+        try {
+            // Unlike tryAcquire(), honors the fairness of the semaphore, so that invocations do not overtake waiting invocations
+            return this.permits.tryAcquire(0, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of invocations waiting for a permit.
+     *
+     * @return a number of invocations
+     */
+    int getWaitingCount() {
+        return this.waiting.get();
+    }
+}
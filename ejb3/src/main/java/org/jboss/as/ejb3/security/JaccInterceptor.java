@@ -9,6 +9,7 @@ import static java.security.AccessController.doPrivileged;
 
 import java.lang.reflect.Method;
 import java.security.AccessController;
+import java.security.CodeSource;
 import java.security.Policy;
 import java.security.Principal;
 import java.security.PrivilegedAction;
@@ -24,6 +25,7 @@ import jakarta.security.jacc.EJBMethodPermission;
 
 import org.jboss.as.ee.component.Component;
 import org.jboss.as.ee.component.ComponentView;
+import org.jboss.as.ee.security.JaccDecisionCache;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.invocation.Interceptor;
@@ -95,9 +97,14 @@ public class JaccInterceptor implements Interceptor {
     private void hasPermission(EJBComponent ejbComponent, ComponentView componentView, Method method, SecurityIdentity securityIdentity) {
         MethodInterfaceType methodIntfType = componentView.getPrivateData(MethodInterfaceType.class);
         EJBMethodPermission permission = createEjbMethodPermission(method, ejbComponent, methodIntfType);
-        ProtectionDomain domain = new ProtectionDomain (componentView.getProxyClass().getProtectionDomain().getCodeSource(), null, null, getGrantedRoles(securityIdentity));
-        Policy policy = WildFlySecurityManager.isChecking() ? doPrivileged((PrivilegedAction<Policy>) Policy::getPolicy) : Policy.getPolicy();
-        if (!policy.implies(domain, permission)) {
+        CodeSource codeSource = componentView.getProxyClass().getProtectionDomain().getCodeSource();
+        Set<String> roles = getRoles(securityIdentity);
+        boolean implies = JaccDecisionCache.implies(roles, codeSource, permission, () -> {
+            ProtectionDomain domain = new ProtectionDomain(codeSource, null, null, toPrincipals(roles));
+            Policy policy = WildFlySecurityManager.isChecking() ? doPrivileged((PrivilegedAction<Policy>) Policy::getPolicy) : Policy.getPolicy();
+            return policy.implies(domain, permission);
+        });
+        if (!implies) {
             throw EjbLogger.ROOT_LOGGER.invocationOfMethodNotAllowed(method,ejbComponent.getComponentName());
         }
     }
@@ -111,11 +118,23 @@ public class JaccInterceptor implements Interceptor {
      * @return an array of {@link Principal} representing the roles associated with the identity
      */
     public static Principal[] getGrantedRoles(SecurityIdentity securityIdentity) {
+        return toPrincipals(getRoles(securityIdentity));
+    }
+
+    private static Set<String> getRoles(SecurityIdentity securityIdentity) {
+        return JaccDecisionCache.roles(securityIdentity, JaccInterceptor::computeRoles);
+    }
+
+    private static Set<String> computeRoles(SecurityIdentity securityIdentity) {
         Set<String> roles = new HashSet<>();
 
         for (String s : securityIdentity.getRoles("ejb")) {
             roles.add(s);
         }
+        return roles;
+    }
+
+    private static Principal[] toPrincipals(Set<String> roles) {
         List<Principal> list = new ArrayList<>();
         Function<String, Principal> mapper = roleName -> (Principal) () -> roleName;
         for (String role : roles) {
@@ -0,0 +1,56 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.CapabilityServiceBuilder;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.ejb3.component.session.AsynchronousExecutorSelector;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Adds an executor dedicated to the asynchronous invocations of some session beans.
+ * The executor is only used by the beans deployed after it was added.
+ */
+class AsynchronousExecutorAdd extends AbstractAddStepHandler {
+
+    private final AsynchronousExecutorSelector selector;
+
+    AsynchronousExecutorAdd(AsynchronousExecutorSelector selector) {
+        super(AsynchronousExecutorResourceDefinition.ATTRIBUTES);
+        this.selector = selector;
+    }
+
+    @Override
+    protected void performRuntime(OperationContext context, ModelNode operation, ModelNode model) throws OperationFailedException {
+        final String name = context.getCurrentAddressValue();
+        final List<String> beans = StringListAttributeDefinition.unwrapValue(context, AsynchronousExecutorResourceDefinition.BEANS.resolveModelAttribute(context, model));
+        final int maxThreads = AsynchronousExecutorResourceDefinition.MAX_THREADS.resolveModelAttribute(context, model).asInt();
+        final int queueLength = AsynchronousExecutorResourceDefinition.QUEUE_LENGTH.resolveModelAttribute(context, model).asInt();
+        final AsynchronousExecutorResourceDefinition.RejectPolicy policy = AsynchronousExecutorResourceDefinition.RejectPolicy.valueOf(AsynchronousExecutorResourceDefinition.REJECT_POLICY.resolveModelAttribute(context, model).asString());
+        final boolean virtual = AsynchronousExecutorResourceDefinition.VIRTUAL_THREADS.resolveModelAttribute(context, model).asBoolean();
+
+        CapabilityServiceBuilder<?> builder = context.getCapabilityServiceTarget().addCapability(AsynchronousExecutorResourceDefinition.DEDICATED_EXECUTOR_CAPABILITY);
+        Consumer<ExecutorService> executor = builder.provides(AsynchronousExecutorResourceDefinition.DEDICATED_EXECUTOR_CAPABILITY);
+        builder.setInstance(new AsynchronousExecutorService(executor, name, maxThreads, queueLength, policy == AsynchronousExecutorResourceDefinition.RejectPolicy.CALLER_RUNS, virtual))
+                .install();
+
+        this.selector.add(name, beans);
+    }
+
+    @Override
+    protected void rollbackRuntime(OperationContext context, ModelNode operation, Resource resource) {
+        this.selector.remove(context.getCurrentAddressValue());
+        super.rollbackRuntime(context, operation, resource);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import java.util.concurrent.ExecutorService;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.ejb3.component.session.AsynchronousExecutor;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * Reads the metrics of an executor dedicated to the asynchronous invocations of some session beans.
+ * Metrics are undefined while the executor is not started.
+ */
+class AsynchronousExecutorMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+    static final AsynchronousExecutorMetricsHandler INSTANCE = new AsynchronousExecutorMetricsHandler();
+
+    private AsynchronousExecutorMetricsHandler() {
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        ServiceName serviceName = context.getCapabilityServiceName(AsynchronousExecutorResourceDefinition.DEDICATED_EXECUTOR_CAPABILITY_NAME, context.getCurrentAddressValue(), ExecutorService.class);
+        ServiceController<?> controller = context.getServiceRegistry(false).getService(serviceName);
+        AsynchronousExecutor executor = (controller != null) ? ((AsynchronousExecutorService) controller.getService()).getValue() : null;
+        if (executor == null) return;
+        String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+        if (attributeName.equals(AsynchronousExecutorResourceDefinition.INVOCATIONS.getName())) {
+            context.getResult().set(executor.getInvocations());
+        } else if (attributeName.equals(AsynchronousExecutorResourceDefinition.QUEUE_WAIT_TIME.getName())) {
+            context.getResult().set(executor.getQueueWaitTime());
+        } else if (attributeName.equals(AsynchronousExecutorResourceDefinition.EXECUTION_TIME.getName())) {
+            context.getResult().set(executor.getExecutionTime());
+        } else if (attributeName.equals(AsynchronousExecutorResourceDefinition.QUEUE_SIZE.getName())) {
+            context.getResult().set(executor.getQueueSize());
+        } else if (attributeName.equals(AsynchronousExecutorResourceDefinition.REJECTED_INVOCATIONS.getName())) {
+            context.getResult().set(executor.getRejectedCount());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import java.util.concurrent.ExecutorService;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.AttributeMarshaller;
+import org.jboss.as.controller.AttributeParser;
+import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
+import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ejb3.component.session.AsynchronousExecutorSelector;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * {@link org.jboss.as.controller.ResourceDefinition} for an executor dedicated to the asynchronous invocations of some session beans,
+ * used instead of the thread pool of the async service.
+ */
+public class AsynchronousExecutorResourceDefinition extends SimpleResourceDefinition {
+
+    public static final String DEDICATED_EXECUTOR_CAPABILITY_NAME = "org.wildfly.ejb3.async.dedicated-executor";
+    static final RuntimeCapability<Void> DEDICATED_EXECUTOR_CAPABILITY =
+            RuntimeCapability.Builder.of(DEDICATED_EXECUTOR_CAPABILITY_NAME, true, ExecutorService.class).build();
+
+    enum RejectPolicy {
+        ABORT, CALLER_RUNS
+    }
+
+    /**
+     * The session beans using this executor, i.e. {@code [app/]module/bean} for a bean, or {@code [app/]module} for all session beans of a module.
+     */
+    public static final StringListAttributeDefinition BEANS = new StringListAttributeDefinition.Builder(EJB3SubsystemModel.BEANS)
+            .setAllowExpression(true)
+            .setMinSize(1)
+            .setAttributeParser(AttributeParser.STRING_LIST)
+            .setAttributeMarshaller(AttributeMarshaller.STRING_LIST)
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition MAX_THREADS = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MAX_THREADS, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(10))
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition QUEUE_LENGTH = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.QUEUE_LENGTH, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(1000))
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition REJECT_POLICY = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.REJECT_POLICY, ModelType.STRING, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(RejectPolicy.ABORT.name()))
+            .setValidator(EnumValidator.create(RejectPolicy.class))
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition VIRTUAL_THREADS = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.VIRTUAL_THREADS, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setRestartAllServices()
+            .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = { BEANS, MAX_THREADS, QUEUE_LENGTH, REJECT_POLICY, VIRTUAL_THREADS };
+
+    static final SimpleAttributeDefinition INVOCATIONS = new SimpleAttributeDefinitionBuilder("invocations", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final SimpleAttributeDefinition QUEUE_WAIT_TIME = new SimpleAttributeDefinitionBuilder("queue-wait-time", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final SimpleAttributeDefinition EXECUTION_TIME = new SimpleAttributeDefinitionBuilder("execution-time", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final SimpleAttributeDefinition QUEUE_SIZE = new SimpleAttributeDefinitionBuilder("queue-size", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.GAUGE_METRIC)
+            .build();
+
+    static final SimpleAttributeDefinition REJECTED_INVOCATIONS = new SimpleAttributeDefinitionBuilder("rejected-invocations", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final AttributeDefinition[] METRICS = { INVOCATIONS, QUEUE_WAIT_TIME, EXECUTION_TIME, QUEUE_SIZE, REJECTED_INVOCATIONS };
+
+    private final boolean registerRuntimeOnly;
+
+    AsynchronousExecutorResourceDefinition(AsynchronousExecutorSelector selector, boolean registerRuntimeOnly) {
+        super(new SimpleResourceDefinition.Parameters(EJB3SubsystemModel.DEDICATED_EXECUTOR_PATH, EJB3Extension.getResourceDescriptionResolver(EJB3SubsystemModel.DEDICATED_EXECUTOR))
+                .setAddHandler(new AsynchronousExecutorAdd(selector))
+                .setRemoveHandler(ReloadRequiredRemoveStepHandler.INSTANCE)
+                .setCapabilities(DEDICATED_EXECUTOR_CAPABILITY));
+        this.registerRuntimeOnly = registerRuntimeOnly;
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        ReloadRequiredWriteAttributeHandler handler = new ReloadRequiredWriteAttributeHandler(ATTRIBUTES);
+        for (AttributeDefinition attribute : ATTRIBUTES) {
+            resourceRegistration.registerReadWriteAttribute(attribute, null, handler);
+        }
+        if (this.registerRuntimeOnly) {
+            for (AttributeDefinition metric : METRICS) {
+                resourceRegistration.registerMetric(metric, AsynchronousExecutorMetricsHandler.INSTANCE);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import org.jboss.as.ejb3.component.session.AsynchronousExecutor;
+import org.jboss.msc.service.Service;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+
+/**
+ * Service providing an executor dedicated to the asynchronous invocations of some session beans.
+ * The executor is shut down once the beans depending on it have stopped.
+ */
+class AsynchronousExecutorService implements Service<AsynchronousExecutor> {
+
+    private final Consumer<ExecutorService> executorConsumer;
+    private final String name;
+    private final int maxThreads;
+    private final int queueLength;
+    private final boolean callerRuns;
+    private final boolean virtual;
+    private volatile AsynchronousExecutor executor;
+
+    AsynchronousExecutorService(Consumer<ExecutorService> executorConsumer, String name, int maxThreads, int queueLength, boolean callerRuns, boolean virtual) {
+        this.executorConsumer = executorConsumer;
+        this.name = name;
+        this.maxThreads = maxThreads;
+        this.queueLength = queueLength;
+        this.callerRuns = callerRuns;
+        this.virtual = virtual;
+    }
+
+    @Override
+    public void start(StartContext context) {
+        this.executor = AsynchronousExecutor.create(this.name, this.maxThreads, this.queueLength, this.callerRuns, this.virtual);
+        this.executorConsumer.accept(this.executor);
+    }
+
+    @Override
+    public void stop(StopContext context) {
+        this.executorConsumer.accept(null);
+        this.executor.shutdown();
+        this.executor = null;
+    }
+
+    /**
+     * Returns the executor provided by this service.
+     *
+     * @return an executor, or null, if this service is not started
+     */
+    @Override
+    public AsynchronousExecutor getValue() {
+        return this.executor;
+    }
+}
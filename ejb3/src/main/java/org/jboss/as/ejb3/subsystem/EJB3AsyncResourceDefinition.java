@@ -14,6 +14,7 @@ import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ejb3.component.session.AsynchronousExecutorSelector;
 import org.jboss.as.threads.ThreadsServices;
 import org.jboss.dmr.ModelType;
 
@@ -43,11 +44,20 @@ public class EJB3AsyncResourceDefinition extends SimpleResourceDefinition {
 
     private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME };
 
-    EJB3AsyncResourceDefinition() {
+    private final AsynchronousExecutorSelector selector;
+    private final boolean registerRuntimeOnly;
+
+    EJB3AsyncResourceDefinition(boolean registerRuntimeOnly) {
+        this(new AsynchronousExecutorSelector(), registerRuntimeOnly);
+    }
+
+    private EJB3AsyncResourceDefinition(AsynchronousExecutorSelector selector, boolean registerRuntimeOnly) {
         super(new Parameters(EJB3SubsystemModel.ASYNC_SERVICE_PATH, EJB3Extension.getResourceDescriptionResolver(EJB3SubsystemModel.ASYNC))
-                .setAddHandler(new EJB3AsyncServiceAdd(ATTRIBUTES))
+                .setAddHandler(new EJB3AsyncServiceAdd(selector, ATTRIBUTES))
                 .setRemoveHandler(ReloadRequiredRemoveStepHandler.INSTANCE)
                 .setCapabilities(ASYNC_SERVICE_CAPABILITY));
+        this.selector = selector;
+        this.registerRuntimeOnly = registerRuntimeOnly;
     }
 
     @Override
@@ -57,4 +67,10 @@ public class EJB3AsyncResourceDefinition extends SimpleResourceDefinition {
             resourceRegistration.registerReadWriteAttribute(attr, null, new ReloadRequiredWriteAttributeHandler(attr));
         }
     }
+
+    @Override
+    public void registerChildren(ManagementResourceRegistration resourceRegistration) {
+        // subsystem=ejb3/service=async/dedicated-executor=*
+        resourceRegistration.registerSubModel(new AsynchronousExecutorResourceDefinition(this.selector, this.registerRuntimeOnly));
+    }
 }
@@ -10,6 +10,7 @@ import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.ejb3.component.session.AsynchronousExecutorSelector;
 import org.jboss.as.ejb3.deployment.processors.merging.AsynchronousMergingProcessor;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
@@ -28,8 +29,11 @@ import java.util.concurrent.Executor;
  */
 public class EJB3AsyncServiceAdd extends AbstractBoottimeAddStepHandler {
 
-    EJB3AsyncServiceAdd(AttributeDefinition... attributes) {
+    private final AsynchronousExecutorSelector selector;
+
+    EJB3AsyncServiceAdd(AsynchronousExecutorSelector selector, AttributeDefinition... attributes) {
         super(attributes);
+        this.selector = selector;
     }
 
     @Override
@@ -42,7 +46,7 @@ public class EJB3AsyncServiceAdd extends AbstractBoottimeAddStepHandler {
         context.addStep(new AbstractDeploymentChainStep() {
             protected void execute(DeploymentProcessorTarget processorTarget) {
                 ROOT_LOGGER.debug("Adding Jakarta Enterprise Beans @Asynchronous support");
-                processorTarget.addDeploymentProcessor(EJB3Extension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_EJB_ASYNCHRONOUS_MERGE, new AsynchronousMergingProcessor(threadPoolServiceName));
+                processorTarget.addDeploymentProcessor(EJB3Extension.SUBSYSTEM_NAME, Phase.POST_MODULE, Phase.POST_MODULE_EJB_ASYNCHRONOUS_MERGE, new AsynchronousMergingProcessor(threadPoolServiceName, selector));
             }
         }, OperationContext.Stage.RUNTIME);
     }
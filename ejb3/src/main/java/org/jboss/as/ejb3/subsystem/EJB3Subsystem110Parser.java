@@ -0,0 +1,166 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.subsystem;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.parsing.ParseUtils.missingRequired;
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoAttributes;
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoContent;
+import static org.jboss.as.controller.parsing.ParseUtils.requireNoNamespaceAttribute;
+import static org.jboss.as.controller.parsing.ParseUtils.unexpectedAttribute;
+import static org.jboss.as.controller.parsing.ParseUtils.unexpectedElement;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+
+/**
+ * Parser for ejb3:11.0 namespace.
+ */
+public class EJB3Subsystem110Parser extends EJB3Subsystem100Parser {
+
+    @Override
+    protected EJB3SubsystemNamespace getExpectedNamespace() {
+        return EJB3SubsystemNamespace.EJB3_11_0;
+    }
+
+    @Override
+    protected void parseDeliveryGroups(final XMLExtendedStreamReader reader, final List<ModelNode> operations) throws XMLStreamException {
+        // no attributes expected
+        requireNoAttributes(reader);
+        while (reader.hasNext() && reader.nextTag() != XMLStreamConstants.END_ELEMENT) {
+            switch (EJB3SubsystemXMLElement.forName(reader.getLocalName())) {
+                case DELIVERY_GROUP: {
+                    final int count = reader.getAttributeCount();
+                    String groupName = null;
+                    final ModelNode operation = Util.createAddOperation();
+                    for (int i = 0; i < count; i++) {
+                        requireNoNamespaceAttribute(reader, i);
+                        final String value = reader.getAttributeValue(i);
+                        final EJB3SubsystemXMLAttribute attribute = EJB3SubsystemXMLAttribute.forName(reader.getAttributeLocalName(i));
+                        switch (attribute) {
+                            case NAME:
+                                groupName = value;
+                                break;
+                            case ACTIVE:
+                                MdbDeliveryGroupResourceDefinition.ACTIVE.parseAndSetParameter(value, operation, reader);
+                                break;
+                            case MIN_SESSIONS:
+                                MdbDeliveryGroupResourceDefinition.MIN_SESSIONS.parseAndSetParameter(value, operation, reader);
+                                break;
+                            case MAX_SESSIONS:
+                                MdbDeliveryGroupResourceDefinition.MAX_SESSIONS.parseAndSetParameter(value, operation, reader);
+                                break;
+                            case SCALING_INTERVAL:
+                                MdbDeliveryGroupResourceDefinition.SCALING_INTERVAL.parseAndSetParameter(value, operation, reader);
+                                break;
+                            default:
+                                throw unexpectedAttribute(reader, i);
+                        }
+                    }
+                    requireNoContent(reader);
+                    if (groupName == null) {
+                        throw missingRequired(reader, Collections.singleton(EJB3SubsystemXMLAttribute.NAME.getLocalName()));
+                    }
+                    // create /subsystem=ejb3/mdb-delivery-group=name:add(...)
+                    final PathAddress address = SUBSYSTEM_PATH.append(EJB3SubsystemModel.MDB_DELIVERY_GROUP, groupName);
+                    operation.get(OP_ADDR).set(address.toModelNode());
+                    operations.add(operation);
+                    break;
+                }
+                default: {
+                    throw unexpectedElement(reader);
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void parseAsync(final XMLExtendedStreamReader reader, final List<ModelNode> operations) throws XMLStreamException {
+        final int count = reader.getAttributeCount();
+        final PathAddress asyncAddress = SUBSYSTEM_PATH.append(EJB3SubsystemModel.ASYNC_SERVICE_PATH);
+        final ModelNode operation = Util.createAddOperation(asyncAddress);
+        final EnumSet<EJB3SubsystemXMLAttribute> required = EnumSet.of(EJB3SubsystemXMLAttribute.THREAD_POOL_NAME);
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final EJB3SubsystemXMLAttribute attribute = EJB3SubsystemXMLAttribute.forName(reader.getAttributeLocalName(i));
+            required.remove(attribute);
+            switch (attribute) {
+                case THREAD_POOL_NAME:
+                    EJB3AsyncResourceDefinition.THREAD_POOL_NAME.parseAndSetParameter(value, operation, reader);
+                    break;
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        if (!required.isEmpty()) {
+            throw missingRequired(reader, required);
+        }
+        operations.add(operation);
+
+        while (reader.hasNext() && reader.nextTag() != XMLStreamConstants.END_ELEMENT) {
+            switch (EJB3SubsystemXMLElement.forName(reader.getLocalName())) {
+                case DEDICATED_EXECUTOR: {
+                    this.parseDedicatedExecutor(reader, asyncAddress, operations);
+                    break;
+                }
+                default: {
+                    throw unexpectedElement(reader);
+                }
+            }
+        }
+    }
+
+    private void parseDedicatedExecutor(final XMLExtendedStreamReader reader, final PathAddress asyncAddress, final List<ModelNode> operations) throws XMLStreamException {
+        final int count = reader.getAttributeCount();
+        String executorName = null;
+        final ModelNode operation = Util.createAddOperation();
+        final EnumSet<EJB3SubsystemXMLAttribute> required = EnumSet.of(EJB3SubsystemXMLAttribute.NAME, EJB3SubsystemXMLAttribute.BEANS);
+        for (int i = 0; i < count; i++) {
+            requireNoNamespaceAttribute(reader, i);
+            final String value = reader.getAttributeValue(i);
+            final EJB3SubsystemXMLAttribute attribute = EJB3SubsystemXMLAttribute.forName(reader.getAttributeLocalName(i));
+            required.remove(attribute);
+            switch (attribute) {
+                case NAME:
+                    executorName = value;
+                    break;
+                case BEANS:
+                    AsynchronousExecutorResourceDefinition.BEANS.getParser().parseAndSetParameter(AsynchronousExecutorResourceDefinition.BEANS, value, operation, reader);
+                    break;
+                case MAX_THREADS:
+                    AsynchronousExecutorResourceDefinition.MAX_THREADS.parseAndSetParameter(value, operation, reader);
+                    break;
+                case QUEUE_LENGTH:
+                    AsynchronousExecutorResourceDefinition.QUEUE_LENGTH.parseAndSetParameter(value, operation, reader);
+                    break;
+                case REJECT_POLICY:
+                    AsynchronousExecutorResourceDefinition.REJECT_POLICY.parseAndSetParameter(value, operation, reader);
+                    break;
+                case VIRTUAL_THREADS:
+                    AsynchronousExecutorResourceDefinition.VIRTUAL_THREADS.parseAndSetParameter(value, operation, reader);
+                    break;
+                default:
+                    throw unexpectedAttribute(reader, i);
+            }
+        }
+        if (!required.isEmpty()) {
+            throw missingRequired(reader, required);
+        }
+        requireNoContent(reader);
+        // create /subsystem=ejb3/service=async/dedicated-executor=name:add(...)
+        operation.get(OP_ADDR).set(asyncAddress.append(EJB3SubsystemModel.DEDICATED_EXECUTOR, executorName).toModelNode());
+        operations.add(operation);
+    }
+}
@@ -135,7 +135,7 @@ public class EJB3Subsystem40Parser extends EJB3Subsystem30Parser {
         }
     }
 
-    private void parseDeliveryGroups(final XMLExtendedStreamReader reader, final List<ModelNode> operations) throws XMLStreamException {
+    protected void parseDeliveryGroups(final XMLExtendedStreamReader reader, final List<ModelNode> operations) throws XMLStreamException {
         // no attributes expected
         requireNoAttributes(reader);
         while (reader.hasNext() && reader.nextTag() != XMLStreamConstants.END_ELEMENT) {
@@ -102,6 +102,15 @@ public interface EJB3SubsystemModel {
 
     String MDB_DELIVERY_GROUP="mdb-delivery-group";
     String MDB_DELVIERY_GROUP_ACTIVE = "active";
+    String MDB_DELIVERY_GROUP_MAX_SESSIONS = "max-sessions";
+    String MDB_DELIVERY_GROUP_MIN_SESSIONS = "min-sessions";
+    String MDB_DELIVERY_GROUP_SCALING_INTERVAL = "scaling-interval";
+
+    String DEDICATED_EXECUTOR = "dedicated-executor";
+    String BEANS = "beans";
+    String QUEUE_LENGTH = "queue-length";
+    String REJECT_POLICY = "reject-policy";
+    String VIRTUAL_THREADS = "virtual-threads";
 
     @Deprecated String FILE_PASSIVATION_STORE = "file-passivation-store";
     @Deprecated String IDLE_TIMEOUT = "idle-timeout";
@@ -138,6 +147,7 @@ public interface EJB3SubsystemModel {
     PathElement FILE_DATA_STORE_PATH = PathElement.pathElement(FILE_DATA_STORE);
     PathElement DATABASE_DATA_STORE_PATH = PathElement.pathElement(DATABASE_DATA_STORE);
     PathElement MDB_DELIVERY_GROUP_PATH = PathElement.pathElement(MDB_DELIVERY_GROUP);
+    PathElement DEDICATED_EXECUTOR_PATH = PathElement.pathElement(DEDICATED_EXECUTOR);
     PathElement STRICT_MAX_BEAN_INSTANCE_POOL_PATH = PathElement.pathElement(STRICT_MAX_BEAN_INSTANCE_POOL);
     PathElement REMOTING_PROFILE_PATH = PathElement.pathElement(REMOTING_PROFILE);
     PathElement SIMPLE_CACHE_PATH = PathElement.pathElement(SIMPLE_CACHE);
@@ -386,7 +386,7 @@ public class EJB3SubsystemRootResourceDefinition extends SimpleResourceDefinitio
         subsystemRegistration.registerSubModel(new EJB3RemoteResourceDefinition());
 
         // subsystem=ejb3/service=async
-        subsystemRegistration.registerSubModel(new EJB3AsyncResourceDefinition());
+        subsystemRegistration.registerSubModel(new EJB3AsyncResourceDefinition(registerRuntimeOnly));
 
         // subsystem=ejb3/strict-max-bean-instance-pool=*
         subsystemRegistration.registerSubModel(new StrictMaxPoolResourceDefinition());
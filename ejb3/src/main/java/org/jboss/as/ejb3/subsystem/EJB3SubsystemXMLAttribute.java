@@ -87,6 +87,14 @@ public enum EJB3SubsystemXMLAttribute {
     VALUE("value"),
 
     ACTIVE("active"),
+    MAX_SESSIONS("max-sessions"),
+    MIN_SESSIONS("min-sessions"),
+    SCALING_INTERVAL("scaling-interval"),
+
+    BEANS("beans"),
+    QUEUE_LENGTH("queue-length"),
+    REJECT_POLICY("reject-policy"),
+    VIRTUAL_THREADS("virtual-threads"),
 
     EXECUTE_IN_WORKER("execute-in-worker"),
 
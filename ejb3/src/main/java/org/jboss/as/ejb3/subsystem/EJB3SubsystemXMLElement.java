@@ -27,6 +27,7 @@ public enum EJB3SubsystemXMLElement {
 
     DATA_STORE("data-store"),
     DATA_STORES("data-stores"),
+    DEDICATED_EXECUTOR(EJB3SubsystemModel.DEDICATED_EXECUTOR),
     DEFAULT_DISTINCT_NAME("default-distinct-name"),
     DEFAULT_SECURITY_DOMAIN("default-security-domain"),
     DEFAULT_MISSING_METHOD_PERMISSIONS_DENY_ACCESS(EJB3SubsystemModel.DEFAULT_MISSING_METHOD_PERMISSIONS_DENY_ACCESS),
@@ -7,6 +7,7 @@ package org.jboss.as.ejb3.subsystem;
 
 import org.jboss.as.clustering.controller.Attribute;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.persistence.SubsystemMarshallingContext;
 import org.jboss.as.threads.ThreadsParser;
 import org.jboss.dmr.ModelNode;
@@ -63,7 +64,7 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
     @Override
     public void writeContent(final XMLExtendedStreamWriter writer, final SubsystemMarshallingContext context) throws XMLStreamException {
 
-        context.startSubsystemElement(EJB3SubsystemNamespace.EJB3_10_0.getUriString(), false);
+        context.startSubsystemElement(EJB3SubsystemNamespace.EJB3_11_0.getUriString(), false);
         writeElements(writer, context);
         // write the subsystem end element
         writer.writeEndElement();
@@ -362,6 +363,20 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
 
     private void writeAsync(final XMLExtendedStreamWriter writer, final ModelNode model) throws XMLStreamException {
         writer.writeAttribute(EJB3SubsystemXMLAttribute.THREAD_POOL_NAME.getLocalName(), model.require(EJB3SubsystemModel.THREAD_POOL_NAME).asString());
+        if (model.hasDefined(EJB3SubsystemModel.DEDICATED_EXECUTOR)) {
+            for (Property property : model.get(EJB3SubsystemModel.DEDICATED_EXECUTOR).asPropertyList()) {
+                // <dedicated-executor
+                writer.writeStartElement(EJB3SubsystemXMLElement.DEDICATED_EXECUTOR.getLocalName());
+                // name=
+                writer.writeAttribute(EJB3SubsystemXMLAttribute.NAME.getLocalName(), property.getName());
+                // beans= max-threads= queue-length= reject-policy= virtual-threads=
+                for (AttributeDefinition attribute : AsynchronousExecutorResourceDefinition.ATTRIBUTES) {
+                    attribute.getMarshaller().marshallAsAttribute(attribute, property.getValue(), true, writer);
+                }
+                // />
+                writer.writeEndElement();
+            }
+        }
     }
 
     /**
@@ -399,8 +414,13 @@ public class EJB3SubsystemXMLPersister implements XMLElementWriter<SubsystemMars
                 writer.writeStartElement(EJB3SubsystemXMLElement.DELIVERY_GROUP.getLocalName());
                 // name=
                 writer.writeAttribute(EJB3SubsystemXMLAttribute.NAME.getLocalName(), property.getName());
+                final ModelNode deliveryGroup = mdbModelNode.get(EJB3SubsystemModel.MDB_DELIVERY_GROUP, property.getName());
                 // active=
-                MdbDeliveryGroupResourceDefinition.ACTIVE.marshallAsAttribute(mdbModelNode.get(EJB3SubsystemModel.MDB_DELIVERY_GROUP, property.getName()), writer);
+                MdbDeliveryGroupResourceDefinition.ACTIVE.marshallAsAttribute(deliveryGroup, writer);
+                // min-sessions= max-sessions= scaling-interval=
+                for (SimpleAttributeDefinition attribute : MdbDeliveryGroupResourceDefinition.ADAPTIVE_DELIVERY_ATTRIBUTES) {
+                    attribute.marshallAsAttribute(deliveryGroup, writer);
+                }
                 // />
                 writer.writeEndElement();
             }
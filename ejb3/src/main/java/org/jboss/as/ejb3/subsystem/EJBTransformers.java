@@ -5,6 +5,7 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_10_0_0;
 import static org.jboss.as.ejb3.subsystem.EJB3Model.VERSION_9_0_0;
 
 import org.jboss.as.controller.ModelVersion;
@@ -38,11 +39,26 @@ public class EJBTransformers implements ExtensionTransformerRegistration {
         ChainedTransformationDescriptionBuilder chainedBuilder = TransformationDescriptionBuilder.Factory.createChainedSubystemInstance(currentModel);
 
         // register the transformations required for each legacy version after 9.0.0
-        registerTransformers_9_0_0(chainedBuilder.createBuilder(currentModel, VERSION_9_0_0.getVersion()));
+        registerTransformers_10_0_0(chainedBuilder.createBuilder(currentModel, VERSION_10_0_0.getVersion()));
+        registerTransformers_9_0_0(chainedBuilder.createBuilder(VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion()));
 
         // create the chained builder which incorporates all transformations
         chainedBuilder.buildAndRegister(subsystemRegistration, new ModelVersion[] {
-                VERSION_9_0_0.getVersion() });
+                VERSION_10_0_0.getVersion(), VERSION_9_0_0.getVersion() });
+    }
+
+    /*
+     * Transformers for changes in model version 11.0.0
+     */
+    private static void registerTransformers_10_0_0(ResourceTransformationDescriptionBuilder subsystemBuilder) {
+        // Adaptive delivery is only enabled by max-sessions, without which the other attributes have no effect
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.MDB_DELIVERY_GROUP_PATH).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, MdbDeliveryGroupResourceDefinition.MAX_SESSIONS)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, MdbDeliveryGroupResourceDefinition.MAX_SESSIONS)
+                .setDiscard(DiscardAttributeChecker.ALWAYS, MdbDeliveryGroupResourceDefinition.MIN_SESSIONS, MdbDeliveryGroupResourceDefinition.SCALING_INTERVAL)
+                .end();
+        // Reject ejb3/service=async/dedicated-executor resources
+        subsystemBuilder.addChildResource(EJB3SubsystemModel.ASYNC_SERVICE_PATH).rejectChildResource(EJB3SubsystemModel.DEDICATED_EXECUTOR_PATH);
     }
 
     /*
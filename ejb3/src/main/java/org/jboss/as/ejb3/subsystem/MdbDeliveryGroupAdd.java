@@ -5,12 +5,18 @@
 
 package org.jboss.as.ejb3.subsystem;
 
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
 import org.jboss.as.controller.AbstractAddStepHandler;
+import org.jboss.as.controller.CapabilityServiceBuilder;
 import org.jboss.as.controller.CapabilityServiceTarget;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.ejb3.component.messagedriven.AdaptiveDeliveryConfiguration;
+import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.dmr.ModelNode;
-import org.jboss.msc.service.Service;
+import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceController;
 
 /**
@@ -23,7 +29,7 @@ public class MdbDeliveryGroupAdd extends AbstractAddStepHandler {
     static final MdbDeliveryGroupAdd INSTANCE = new MdbDeliveryGroupAdd();
 
     private MdbDeliveryGroupAdd() {
-        super(MdbDeliveryGroupResourceDefinition.ACTIVE);
+        super(MdbDeliveryGroupResourceDefinition.ACTIVE, MdbDeliveryGroupResourceDefinition.MIN_SESSIONS, MdbDeliveryGroupResourceDefinition.MAX_SESSIONS, MdbDeliveryGroupResourceDefinition.SCALING_INTERVAL);
     }
 
     @Override
@@ -33,10 +39,26 @@ public class MdbDeliveryGroupAdd extends AbstractAddStepHandler {
 
     protected void installServices(final OperationContext context, final ModelNode operation, final ModelNode model) throws OperationFailedException {
         final boolean active = MdbDeliveryGroupResourceDefinition.ACTIVE.resolveModelAttribute(context, model).asBoolean();
+        final AdaptiveDeliveryConfiguration configuration = getAdaptiveDeliveryConfiguration(context, model);
 
         CapabilityServiceTarget serviceTarget = context.getCapabilityServiceTarget();
-        serviceTarget.addCapability(MdbDeliveryGroupResourceDefinition.MDB_DELIVERY_GROUP_CAPABILITY).setInstance(Service.NULL)
+        CapabilityServiceBuilder<?> builder = serviceTarget.addCapability(MdbDeliveryGroupResourceDefinition.MDB_DELIVERY_GROUP_CAPABILITY);
+        Consumer<AdaptiveDeliveryConfiguration> consumer = builder.provides(MdbDeliveryGroupResourceDefinition.MDB_DELIVERY_GROUP_CAPABILITY);
+        builder.setInstance(Service.newInstance(consumer, configuration))
                 .setInitialMode(active? ServiceController.Mode.ACTIVE: ServiceController.Mode.NEVER)
                 .install();
     }
+
+    private static AdaptiveDeliveryConfiguration getAdaptiveDeliveryConfiguration(OperationContext context, ModelNode model) throws OperationFailedException {
+        ModelNode maxSessions = MdbDeliveryGroupResourceDefinition.MAX_SESSIONS.resolveModelAttribute(context, model);
+        if (!maxSessions.isDefined()) {
+            return AdaptiveDeliveryConfiguration.DISABLED;
+        }
+        int minSessions = MdbDeliveryGroupResourceDefinition.MIN_SESSIONS.resolveModelAttribute(context, model).asInt();
+        if (minSessions > maxSessions.asInt()) {
+            throw EjbLogger.ROOT_LOGGER.invalidMdbDeliveryGroupSessions(context.getCurrentAddressValue(), minSessions, maxSessions.asInt());
+        }
+        long interval = MdbDeliveryGroupResourceDefinition.SCALING_INTERVAL.resolveModelAttribute(context, model).asLong();
+        return new AdaptiveDeliveryConfiguration(minSessions, maxSessions.asInt(), interval, TimeUnit.MILLISECONDS);
+    }
 }
@@ -9,14 +9,18 @@ import org.jboss.as.controller.AbstractWriteAttributeHandler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ejb3.component.messagedriven.AdaptiveDeliveryConfiguration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
-import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceController;
 import org.jboss.msc.service.ServiceName;
 
@@ -29,13 +33,47 @@ public class MdbDeliveryGroupResourceDefinition extends SimpleResourceDefinition
 
     public static final String MDB_DELIVERY_GROUP_CAPABILITY_NAME = "org.wildfly.ejb3.mdb-delivery-group";
     public static final RuntimeCapability<Void> MDB_DELIVERY_GROUP_CAPABILITY =
-            RuntimeCapability.Builder.of(MDB_DELIVERY_GROUP_CAPABILITY_NAME, true, Service.NULL.getClass()).build();
+            RuntimeCapability.Builder.of(MDB_DELIVERY_GROUP_CAPABILITY_NAME, true, AdaptiveDeliveryConfiguration.class).build();
 
     public static final SimpleAttributeDefinition ACTIVE = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MDB_DELVIERY_GROUP_ACTIVE, ModelType.BOOLEAN, true)
             .setAllowExpression(true)
             .setDefaultValue(ModelNode.TRUE)
             .build();
 
+    /**
+     * The minimum number of sessions of each message-driven bean of this group, if adaptive delivery is enabled.
+     */
+    public static final SimpleAttributeDefinition MIN_SESSIONS = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MDB_DELIVERY_GROUP_MIN_SESSIONS, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(1))
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+            .setRequires(EJB3SubsystemModel.MDB_DELIVERY_GROUP_MAX_SESSIONS)
+            .setRestartAllServices()
+            .build();
+
+    /**
+     * The maximum number of sessions of each message-driven bean of this group. Enables adaptive delivery, if defined.
+     */
+    public static final SimpleAttributeDefinition MAX_SESSIONS = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MDB_DELIVERY_GROUP_MAX_SESSIONS, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, Integer.MAX_VALUE, true, true))
+            .setRestartAllServices()
+            .build();
+
+    /**
+     * The interval at which the number of sessions of each message-driven bean of this group is evaluated, if adaptive delivery is enabled.
+     */
+    public static final SimpleAttributeDefinition SCALING_INTERVAL = new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.MDB_DELIVERY_GROUP_SCALING_INTERVAL, ModelType.LONG, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(10000L))
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setValidator(new LongRangeValidator(1, Long.MAX_VALUE, true, true))
+            .setRequires(EJB3SubsystemModel.MDB_DELIVERY_GROUP_MAX_SESSIONS)
+            .setRestartAllServices()
+            .build();
+
+    static final SimpleAttributeDefinition[] ADAPTIVE_DELIVERY_ATTRIBUTES = { MIN_SESSIONS, MAX_SESSIONS, SCALING_INTERVAL };
+
     MdbDeliveryGroupResourceDefinition() {
         super(new SimpleResourceDefinition.Parameters(EJB3SubsystemModel.MDB_DELIVERY_GROUP_PATH, EJB3Extension.getResourceDescriptionResolver(EJB3SubsystemModel.MDB_DELIVERY_GROUP))
                 .setAddHandler(MdbDeliveryGroupAdd.INSTANCE)
@@ -68,11 +106,15 @@ public class MdbDeliveryGroupResourceDefinition extends SimpleResourceDefinition
                         }
 
                         String groupName = context.getCurrentAddressValue();
-                        ServiceName deliveryGroupServiceName = context.getCapabilityServiceName(MdbDeliveryGroupResourceDefinition.MDB_DELIVERY_GROUP_CAPABILITY_NAME, Service.NULL.getClass(), groupName);
+                        ServiceName deliveryGroupServiceName = context.getCapabilityServiceName(MdbDeliveryGroupResourceDefinition.MDB_DELIVERY_GROUP_CAPABILITY_NAME, AdaptiveDeliveryConfiguration.class, groupName);
 
                         context.getServiceRegistry(true).getRequiredService(deliveryGroupServiceName)
                                 .setMode(resolvedValue.asBoolean() ? ServiceController.Mode.ACTIVE : ServiceController.Mode.NEVER);
                     }
                 });
+        ReloadRequiredWriteAttributeHandler handler = new ReloadRequiredWriteAttributeHandler(ADAPTIVE_DELIVERY_ATTRIBUTES);
+        for (SimpleAttributeDefinition attribute : ADAPTIVE_DELIVERY_ATTRIBUTES) {
+            resourceRegistration.registerReadWriteAttribute(attribute, null, handler);
+        }
     }
 }
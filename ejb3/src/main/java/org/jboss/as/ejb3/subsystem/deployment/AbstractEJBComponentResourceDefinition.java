@@ -19,14 +19,18 @@ import org.jboss.as.controller.ObjectListAttributeDefinition;
 import org.jboss.as.controller.ObjectMapAttributeDefinition;
 import org.jboss.as.controller.ObjectTypeAttributeDefinition;
 import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ee.requestcontroller.AdaptiveConcurrencyLimit;
+import org.jboss.as.ee.security.JaccDecisionCache;
 import org.jboss.as.ejb3.component.EJBComponent;
 import org.jboss.as.ejb3.component.invocationmetrics.InvocationMetrics;
 import org.jboss.as.ejb3.component.stateful.StatefulSessionComponent;
@@ -88,6 +92,31 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    private static final AttributeDefinition CONCURRENCY_LIMIT = new SimpleAttributeDefinitionBuilder("concurrency-limit", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition IN_FLIGHT_INVOCATIONS = new SimpleAttributeDefinitionBuilder("in-flight-invocations", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    private static final AttributeDefinition REJECTED_INVOCATIONS = new SimpleAttributeDefinitionBuilder("rejected-invocations", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition JACC_DECISION_CACHE_HITS = new SimpleAttributeDefinitionBuilder("jacc-decision-cache-hits", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    private static final AttributeDefinition JACC_DECISION_CACHE_MISSES = new SimpleAttributeDefinitionBuilder("jacc-decision-cache-misses", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
     public static final SimpleAttributeDefinition SECURITY_DOMAIN = new SimpleAttributeDefinitionBuilder("security-domain", ModelType.STRING, true)
             .setValidator(new StringLengthValidator(1, true))
             .build();
@@ -243,6 +272,57 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                 context.getResult().set(component.getInvocationMetrics().getWaitTime());
             }
         });
+        // Only registered if adaptive concurrency limits apply to remote invocations or message deliveries
+        if (AdaptiveConcurrencyLimit.isEnabled(componentType.equals(EJBComponentType.MESSAGE_DRIVEN) ? AdaptiveConcurrencyLimit.MDB : AdaptiveConcurrencyLimit.EJB)) {
+            resourceRegistration.registerMetric(CONCURRENCY_LIMIT, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    AdaptiveConcurrencyLimit limit = component.getConcurrencyLimit();
+                    if (limit != null) {
+                        context.getResult().set(limit.getLimit());
+                    }
+                }
+            });
+            resourceRegistration.registerMetric(IN_FLIGHT_INVOCATIONS, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    AdaptiveConcurrencyLimit limit = component.getConcurrencyLimit();
+                    if (limit != null) {
+                        context.getResult().set(limit.getInFlightCount());
+                    }
+                }
+            });
+            resourceRegistration.registerMetric(REJECTED_INVOCATIONS, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    AdaptiveConcurrencyLimit limit = component.getConcurrencyLimit();
+                    if (limit != null) {
+                        context.getResult().set(limit.getRejectedCount());
+                    }
+                }
+            });
+        }
+        // Only registered if Jakarta Authorization decisions are cached, for the beans with method permissions
+        if (JaccDecisionCache.isEnabled() && !componentType.equals(EJBComponentType.MESSAGE_DRIVEN)) {
+            resourceRegistration.registerMetric(JACC_DECISION_CACHE_HITS, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    JaccDecisionCache cache = JaccDecisionCache.getCache(policyContextId(context.getCurrentAddress()));
+                    if (cache != null) {
+                        context.getResult().set(cache.getHitCount());
+                    }
+                }
+            });
+            resourceRegistration.registerMetric(JACC_DECISION_CACHE_MISSES, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    JaccDecisionCache cache = JaccDecisionCache.getCache(policyContextId(context.getCurrentAddress()));
+                    if (cache != null) {
+                        context.getResult().set(cache.getMissCount());
+                    }
+                }
+            });
+        }
         resourceRegistration.registerMetric(METHODS, new AbstractRuntimeMetricsHandler() {
             @Override
             protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
@@ -259,6 +339,19 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
         });
     }
 
+    /**
+     * Returns the Jakarta Authorization policy context of the deployment of a component, as assigned by {@link org.jboss.as.ejb3.component.EJBComponentDescription}.
+     */
+    static String policyContextId(PathAddress address) {
+        String contextId = address.getElement(0).getValue();
+        for (PathElement element : address) {
+            if (element.getKey().equals(ModelDescriptionConstants.SUBDEPLOYMENT)) {
+                return contextId + "!" + element.getValue();
+            }
+        }
+        return contextId;
+    }
+
     /* (non-Javadoc)
      * @see org.jboss.as.controller.SimpleResourceDefinition#registerChildren(org.jboss.as.controller.registry.ManagementResourceRegistration)
      */
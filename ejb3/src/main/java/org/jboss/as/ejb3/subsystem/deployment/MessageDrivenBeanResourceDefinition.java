@@ -44,6 +44,21 @@ public class MessageDrivenBeanResourceDefinition extends AbstractEJBComponentRes
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
             .build();
 
+    static final AttributeDefinition ACTIVE_SESSIONS = new SimpleAttributeDefinitionBuilder("active-sessions", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+            .build();
+
+    static final AttributeDefinition SESSION_SCALE_UPS = new SimpleAttributeDefinitionBuilder("session-scale-ups", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    static final AttributeDefinition SESSION_SCALE_DOWNS = new SimpleAttributeDefinitionBuilder("session-scale-downs", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
     static final String START_DELIVERY = "start-delivery";
     static final String STOP_DELIVERY = "stop-delivery";
 
@@ -60,6 +75,10 @@ public class MessageDrivenBeanResourceDefinition extends AbstractEJBComponentRes
         registry.registerReadOnlyAttribute(MESSAGE_DESTINATION_TYPE, MessageDrivenBeanRuntimeHandler.INSTANCE);
         registry.registerReadOnlyAttribute(MESSAGE_DESTINATION_LINK, MessageDrivenBeanRuntimeHandler.INSTANCE);
         registry.registerReadOnlyAttribute(ACTIVATION_CONFIG, MessageDrivenBeanRuntimeHandler.INSTANCE);
+        // Zero unless the delivery group of the message-driven bean enables adaptive delivery
+        registry.registerMetric(ACTIVE_SESSIONS, MessageDrivenBeanRuntimeHandler.INSTANCE);
+        registry.registerMetric(SESSION_SCALE_UPS, MessageDrivenBeanRuntimeHandler.INSTANCE);
+        registry.registerMetric(SESSION_SCALE_DOWNS, MessageDrivenBeanRuntimeHandler.INSTANCE);
     }
 
     @Override
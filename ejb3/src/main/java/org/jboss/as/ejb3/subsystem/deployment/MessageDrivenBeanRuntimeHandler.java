@@ -6,10 +6,13 @@
 package org.jboss.as.ejb3.subsystem.deployment;
 
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.ACTIVATION_CONFIG;
+import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.ACTIVE_SESSIONS;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.DELIVERY_ACTIVE;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.MESSAGE_DESTINATION_LINK;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.MESSAGE_DESTINATION_TYPE;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.MESSAGING_TYPE;
+import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.SESSION_SCALE_DOWNS;
+import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.SESSION_SCALE_UPS;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.START_DELIVERY;
 import static org.jboss.as.ejb3.subsystem.deployment.MessageDrivenBeanResourceDefinition.STOP_DELIVERY;
 
@@ -18,6 +21,7 @@ import java.util.Properties;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
+import org.jboss.as.ejb3.component.messagedriven.AdaptiveMessageDelivery;
 import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponent;
 import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponentDescription;
 import org.jboss.dmr.ModelNode;
@@ -68,6 +72,21 @@ public class MessageDrivenBeanRuntimeHandler extends AbstractEJBComponentRuntime
             for (String k : activationProps.stringPropertyNames()) {
                 result.add(k, activationProps.getProperty(k));
             }
+        } else if (ACTIVE_SESSIONS.getName().equals(attributeName)) {
+            AdaptiveMessageDelivery delivery = component.getAdaptiveDelivery();
+            if (delivery != null) {
+                result.set(delivery.getSessions());
+            }
+        } else if (SESSION_SCALE_UPS.getName().equals(attributeName)) {
+            AdaptiveMessageDelivery delivery = component.getAdaptiveDelivery();
+            if (delivery != null) {
+                result.set(delivery.getScaleUpCount());
+            }
+        } else if (SESSION_SCALE_DOWNS.getName().equals(attributeName)) {
+            AdaptiveMessageDelivery delivery = component.getAdaptiveDelivery();
+            if (delivery != null) {
+                result.set(delivery.getScaleDownCount());
+            }
         } else {
             super.executeReadAttribute(attributeName, context, component, address);
         }
@@ -0,0 +1,301 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.messagedriven;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongSupplier;
+
+import jakarta.resource.spi.ActivationSpec;
+import jakarta.resource.spi.ResourceAdapter;
+
+import org.junit.Test;
+
+/**
+ * Tests the scaling decisions of {@link AdaptiveMessageDelivery}.
+ */
+public class AdaptiveMessageDeliveryTestCase {
+
+    private static AdaptiveMessageDelivery createDelivery(TestActivationSpec activationSpec, int minSessions, int maxSessions) throws NoSuchMethodException {
+        // Backlog of the queue is unknown
+        return createDelivery(activationSpec, minSessions, maxSessions, () -> -1);
+    }
+
+    private static AdaptiveMessageDelivery createDelivery(TestActivationSpec activationSpec, int minSessions, int maxSessions, LongSupplier backlog) throws NoSuchMethodException {
+        Method getter = TestActivationSpec.class.getMethod("getMaxSession");
+        Method setter = TestActivationSpec.class.getMethod("setMaxSession", Integer.class);
+        return new AdaptiveMessageDelivery("mdb", activationSpec, TestActivationSpec::new, getter, setter, minSessions, maxSessions, 10, TimeUnit.SECONDS, backlog);
+    }
+
+    // Records a completed delivery of the specified duration
+    private static void deliver(AdaptiveMessageDelivery delivery, long duration, TimeUnit unit) {
+        delivery.deliveryCompleted(delivery.deliveryStarted() - unit.toNanos(duration));
+    }
+
+    @Test
+    public void test() throws NoSuchMethodException {
+        List<Integer> sizes = new ArrayList<>();
+        IntBinaryOperator resizer = (sessions, newSessions) -> {
+            sizes.add(newSessions);
+            return newSessions;
+        };
+        AdaptiveMessageDelivery delivery = createDelivery(new TestActivationSpec(4), 1, 10);
+        assertEquals(4, delivery.getSessions());
+
+        // All sessions are busy
+        long[] starts = new long[4];
+        for (int i = 0; i < starts.length; ++i) {
+            starts[i] = delivery.deliveryStarted();
+        }
+        delivery.evaluate(resizer);
+        assertEquals(6, delivery.getSessions());
+        assertEquals(List.of(6), sizes);
+        assertEquals(1, delivery.getScaleUpCount());
+
+        for (long start : starts) {
+            delivery.deliveryCompleted(start);
+        }
+
+        // Sessions are removed only after consecutive idle intervals
+        delivery.evaluate(resizer);
+        delivery.evaluate(resizer);
+        assertEquals(6, delivery.getSessions());
+        delivery.evaluate(resizer);
+        assertEquals(1, delivery.getSessions());
+        assertEquals(List.of(6, 1), sizes);
+        assertEquals(1, delivery.getScaleDownCount());
+
+        // Never less than the minimum number of sessions
+        for (int i = 0; i < 3; ++i) {
+            delivery.evaluate(resizer);
+        }
+        assertEquals(1, delivery.getSessions());
+        assertEquals(List.of(6, 1), sizes);
+    }
+
+    @Test
+    public void backlog() throws NoSuchMethodException {
+        AtomicLong backlog = new AtomicLong(95);
+        List<Integer> sizes = new ArrayList<>();
+        IntBinaryOperator resizer = (sessions, newSessions) -> {
+            sizes.add(newSessions);
+            return newSessions;
+        };
+        AdaptiveMessageDelivery delivery = createDelivery(new TestActivationSpec(4), 1, 20, backlog::get);
+
+        // Deliveries take 1s, thus the 4 sessions would take ~24s to deliver the backlog, i.e. longer than the interval
+        // Sessions are added such that the backlog is delivered within an interval
+        for (int i = 0; i < 4; ++i) {
+            deliver(delivery, 1, TimeUnit.SECONDS);
+        }
+        delivery.evaluate(resizer);
+        assertEquals(10, delivery.getSessions());
+        assertEquals(List.of(10), sizes);
+
+        // Backlog is delivered within an interval by the current sessions
+        backlog.set(50);
+        for (int i = 0; i < 40; ++i) {
+            deliver(delivery, 1, TimeUnit.SECONDS);
+        }
+        delivery.evaluate(resizer);
+        assertEquals(10, delivery.getSessions());
+
+        // While there is a backlog, sessions are not removed, even if idle, e.g. if delivery is stopped
+        for (int i = 0; i < 3; ++i) {
+            delivery.evaluate(resizer);
+        }
+        assertEquals(10, delivery.getSessions());
+        assertEquals(List.of(10), sizes);
+
+        // Sessions are removed once the queue is drained for consecutive intervals
+        backlog.set(0);
+        for (int i = 0; i < 3; ++i) {
+            delivery.evaluate(resizer);
+        }
+        assertEquals(1, delivery.getSessions());
+        assertEquals(List.of(10, 1), sizes);
+    }
+
+    @Test
+    public void backlogWithoutCompletedDeliveries() throws NoSuchMethodException {
+        AdaptiveMessageDelivery delivery = createDelivery(new TestActivationSpec(2), 1, 20, () -> 100);
+        List<Integer> sizes = new ArrayList<>();
+        IntBinaryOperator resizer = (sessions, newSessions) -> {
+            sizes.add(newSessions);
+            return newSessions;
+        };
+        // Delivery time is unknown, thus a single session is added, if all sessions are busy
+        delivery.deliveryStarted();
+        delivery.deliveryStarted();
+        delivery.evaluate(resizer);
+        assertEquals(3, delivery.getSessions());
+        assertEquals(List.of(3), sizes);
+
+        // Sessions are not added if not all sessions are busy
+        delivery.evaluate(resizer);
+        assertEquals(3, delivery.getSessions());
+        assertEquals(List.of(3), sizes);
+    }
+
+    @Test
+    public void maxSessions() throws NoSuchMethodException {
+        TestActivationSpec activationSpec = new TestActivationSpec(20);
+        AdaptiveMessageDelivery delivery = createDelivery(activationSpec, 2, 8);
+        assertEquals(8, delivery.getSessions());
+        assertEquals(8, activationSpec.getMaxSession().intValue());
+
+        List<Integer> sizes = new ArrayList<>();
+        for (int i = 0; i < 8; ++i) {
+            delivery.deliveryStarted();
+        }
+        delivery.evaluate((sessions, newSessions) -> {
+            sizes.add(newSessions);
+            return newSessions;
+        });
+        assertEquals(8, delivery.getSessions());
+        assertEquals(List.of(), sizes);
+    }
+
+    @Test
+    public void failedResize() throws NoSuchMethodException {
+        AdaptiveMessageDelivery delivery = createDelivery(new TestActivationSpec(4), 1, 10);
+        for (int i = 0; i < 4; ++i) {
+            delivery.deliveryStarted();
+        }
+        // The number of sessions remains unchanged if it could not be changed
+        delivery.evaluate((sessions, newSessions) -> sessions);
+        assertEquals(4, delivery.getSessions());
+        assertEquals(0, delivery.getScaleUpCount());
+        delivery.evaluate((sessions, newSessions) -> {
+            throw new IllegalStateException();
+        });
+        assertEquals(4, delivery.getSessions());
+        assertEquals(0, delivery.getScaleUpCount());
+    }
+
+    @Test
+    public void resize() throws NoSuchMethodException {
+        TestActivationSpec activationSpec = new TestActivationSpec(4);
+        AdaptiveMessageDelivery delivery = createDelivery(activationSpec, 1, 20);
+        TestActivator activator = new TestActivator();
+        activator.activate(activationSpec);
+
+        // Sessions are added via additional activations, leaving existing sessions intact
+        assertEquals(6, delivery.resize(4, 6, activator));
+        assertEquals(9, delivery.resize(6, 9, activator));
+        assertEquals(List.of(4, 2, 3), activator.sessions());
+        assertSame(activationSpec, activator.active.get(0));
+
+        // Sessions are removed from the most recently added activations first
+        assertEquals(6, delivery.resize(9, 6, activator));
+        assertEquals(List.of(4, 2), activator.sessions());
+        assertEquals(5, delivery.resize(6, 5, activator));
+        assertEquals(List.of(4, 1), activator.sessions());
+        assertEquals(2, delivery.resize(5, 2, activator));
+        assertEquals(List.of(2), activator.sessions());
+        assertSame(activationSpec, activator.active.get(0));
+
+        // A failed activation of additional sessions leaves existing sessions intact
+        activator.failures = 1;
+        assertEquals(2, delivery.resize(2, 3, activator));
+        assertEquals(List.of(2), activator.sessions());
+
+        // A failed reactivation with fewer sessions is rolled back
+        activator.failures = 1;
+        assertEquals(2, delivery.resize(2, 1, activator));
+        assertEquals(List.of(2), activator.sessions());
+        assertSame(activationSpec, activator.active.get(0));
+    }
+
+    @Test
+    public void deactivateAddedActivations() throws NoSuchMethodException {
+        TestActivationSpec activationSpec = new TestActivationSpec(4);
+        AdaptiveMessageDelivery delivery = createDelivery(activationSpec, 1, 20);
+        TestActivator activator = new TestActivator();
+        activator.activate(activationSpec);
+        for (int i = 0; i < 4; ++i) {
+            delivery.deliveryStarted();
+        }
+        delivery.evaluate((sessions, newSessions) -> delivery.resize(sessions, newSessions, activator));
+        assertEquals(6, delivery.getSessions());
+        assertEquals(List.of(4, 2), activator.sessions());
+
+        // Added sessions apply to the primary activation once it is activated again
+        delivery.deactivateAddedActivations(activator);
+        activator.deactivate(activationSpec);
+        assertEquals(List.of(), activator.sessions());
+        assertEquals(6, activationSpec.getMaxSession().intValue());
+    }
+
+    static class TestActivator implements AdaptiveMessageDelivery.Activator {
+        final List<TestActivationSpec> active = new LinkedList<>();
+        int failures;
+
+        @Override
+        public void activate(ActivationSpec activationSpec) {
+            if (this.failures > 0) {
+                this.failures -= 1;
+                throw new IllegalStateException();
+            }
+            this.active.add((TestActivationSpec) activationSpec);
+        }
+
+        @Override
+        public void deactivate(ActivationSpec activationSpec) {
+            this.active.remove(activationSpec);
+        }
+
+        List<Integer> sessions() {
+            List<Integer> sessions = new ArrayList<>(this.active.size());
+            for (TestActivationSpec activationSpec : this.active) {
+                sessions.add(activationSpec.getMaxSession());
+            }
+            return sessions;
+        }
+    }
+
+    public static class TestActivationSpec implements ActivationSpec {
+        private Integer maxSession;
+        private ResourceAdapter resourceAdapter;
+
+        public TestActivationSpec() {
+            this(15);
+        }
+
+        TestActivationSpec(int maxSession) {
+            this.maxSession = maxSession;
+        }
+
+        public Integer getMaxSession() {
+            return this.maxSession;
+        }
+
+        public void setMaxSession(Integer maxSession) {
+            this.maxSession = maxSession;
+        }
+
+        @Override
+        public void validate() {
+        }
+
+        @Override
+        public ResourceAdapter getResourceAdapter() {
+            return this.resourceAdapter;
+        }
+
+        @Override
+        public void setResourceAdapter(ResourceAdapter resourceAdapter) {
+            this.resourceAdapter = resourceAdapter;
+        }
+    }
+}
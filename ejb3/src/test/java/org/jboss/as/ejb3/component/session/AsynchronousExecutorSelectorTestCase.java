@@ -0,0 +1,40 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.session;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsynchronousExecutorSelectorTestCase {
+
+    @Test
+    public void test() {
+        AsynchronousExecutorSelector selector = new AsynchronousExecutorSelector();
+        selector.add("b", List.of("module/Bean", "app/other"));
+        selector.add("a", List.of("app/module/Bean"));
+
+        // Beans are qualified by their module
+        Assert.assertEquals("b", selector.select(null, "module", "Bean"));
+        Assert.assertNull(selector.select(null, "module", "OtherBean"));
+        Assert.assertNull(selector.select(null, "other", "Bean"));
+        // Modules of an ear are qualified by their application
+        Assert.assertEquals("a", selector.select("app", "module", "Bean"));
+        Assert.assertNull(selector.select("other", "module", "Bean"));
+        // Modules select all of their beans
+        Assert.assertEquals("b", selector.select("app", "other", "Bean"));
+        Assert.assertEquals("b", selector.select("app", "other", "OtherBean"));
+        Assert.assertNull(selector.select(null, "other", "OtherBean"));
+
+        // Executors whose names sort first are selected
+        selector.add("0", List.of("app/other/Bean"));
+        Assert.assertEquals("0", selector.select("app", "other", "Bean"));
+
+        selector.remove("0");
+        Assert.assertEquals("b", selector.select("app", "other", "Bean"));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.component.session;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsynchronousExecutorTestCase {
+
+    @Test
+    public void testAbort() throws Exception {
+        AsynchronousExecutor executor = new AsynchronousExecutor("test", 1, 1, false, Executors.defaultThreadFactory());
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        try {
+            executor.execute(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+            executor.execute(done::countDown);
+            Assert.assertEquals(1, executor.getQueue().size());
+            Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(done::countDown));
+            Assert.assertEquals(1L, executor.getRejectedCount());
+
+            blocked.countDown();
+            Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assert.assertEquals(2L, executor.getInvocations());
+    }
+
+    @Test
+    public void testCallerRuns() throws Exception {
+        AsynchronousExecutor executor = new AsynchronousExecutor("test", 1, 1, true, Executors.defaultThreadFactory());
+        CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> { });
+            AtomicReference<Thread> thread = new AtomicReference<>();
+            executor.execute(() -> thread.set(Thread.currentThread()));
+            Assert.assertSame(Thread.currentThread(), thread.get());
+            Assert.assertEquals(1L, executor.getRejectedCount());
+            blocked.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assert.assertEquals(3L, executor.getInvocations());
+        // Invocations after shutdown are never run by the caller
+        Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        // Platform threads stand in for virtual threads, which require Java 21
+        AtomicInteger threads = new AtomicInteger();
+        ThreadFactory threadFactory = task -> {
+            threads.incrementAndGet();
+            return new Thread(task);
+        };
+        AsynchronousExecutor executor = new AsynchronousExecutor("test", 2, 1, false, threadFactory, true);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(2);
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(3);
+        Runnable task = () -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            running.countDown();
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrent.decrementAndGet();
+            done.countDown();
+        };
+        try {
+            executor.execute(task);
+            executor.execute(task);
+            Assert.assertTrue(running.await(5, TimeUnit.SECONDS));
+            // Each invocation starts a new thread, which waits for a permit once max threads invocations are running
+            executor.execute(task);
+            Assert.assertEquals(1, executor.getQueueSize());
+            Assert.assertEquals(3, threads.get());
+            // Invocations exceeding the queue length are rejected
+            Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(task));
+            Assert.assertEquals(1L, executor.getRejectedCount());
+
+            blocked.countDown();
+            Assert.assertTrue(done.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(2, maxConcurrent.get());
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        Assert.assertEquals(3L, executor.getInvocations());
+        Assert.assertEquals(0, executor.getQueueSize());
+        Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+    }
+
+    @Test
+    public void testCreate() throws InterruptedException {
+        AsynchronousExecutor executor = AsynchronousExecutor.create("test", 4, 100, true, false);
+        try {
+            Assert.assertEquals("test", executor.getName());
+            Assert.assertEquals(4, executor.getMaximumPoolSize());
+            Assert.assertEquals(100, executor.getQueue().remainingCapacity());
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
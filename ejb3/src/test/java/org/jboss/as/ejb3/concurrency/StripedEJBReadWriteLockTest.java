@@ -0,0 +1,216 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import jakarta.ejb.IllegalLoopbackException;
+
+import org.jboss.as.ejb3.component.singleton.StripedEJBReadWriteLock;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link StripedEJBReadWriteLock}
+ */
+public class StripedEJBReadWriteLockTest {
+
+    private final StripedEJBReadWriteLock lock = new StripedEJBReadWriteLock();
+
+    @Test
+    public void testIllegalLoopBack() {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            // reentrant read lock
+            Assert.assertTrue(readLock.tryLock());
+            readLock.unlock();
+            this.lock.writeLock().lock();
+            this.lock.writeLock().unlock();
+            Assert.fail("Unexpected acquired write lock");
+        } catch (IllegalLoopbackException e) {
+            // expected
+        } finally {
+            readLock.unlock();
+        }
+        // once released, the write lock can be obtained
+        Assert.assertTrue(this.lock.writeLock().tryLock());
+        this.lock.writeLock().unlock();
+    }
+
+    @Test
+    public void testReentrantReadWhileWriterDrains() throws Exception {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AtomicInteger writerState = new AtomicInteger();
+            Thread[] writerThread = new Thread[1];
+            CountDownLatch started = new CountDownLatch(1);
+            Future<Boolean> writer = executor.submit(() -> {
+                writerThread[0] = Thread.currentThread();
+                started.countDown();
+                boolean locked = this.lock.writeLock().tryLock(10, TimeUnit.SECONDS);
+                if (locked) {
+                    writerState.set(1);
+                    this.lock.writeLock().unlock();
+                }
+                return locked;
+            });
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+            // Wait for the writer to revoke the read bias and wait for this reader to drain
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (writerThread[0].getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+                Thread.yield();
+            }
+            Assert.assertEquals(Thread.State.TIMED_WAITING, writerThread[0].getState());
+
+            // A reentrant read must not wait for the writer, which waits for this reader
+            Assert.assertTrue(readLock.tryLock(1, TimeUnit.SECONDS));
+            readLock.unlock();
+            readLock.lock();
+            readLock.unlock();
+            Assert.assertEquals(0, writerState.get());
+
+            readLock.unlock();
+            readLock = null;
+            Assert.assertTrue(writer.get(10, TimeUnit.SECONDS));
+            Assert.assertEquals(1, writerState.get());
+        } finally {
+            if (readLock != null) {
+                readLock.unlock();
+            }
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSameThreadCanGetWriteThenReadLock() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        writeLock.lock();
+        try {
+            Lock readLock = this.lock.readLock();
+            Assert.assertTrue(readLock.tryLock(2, TimeUnit.SECONDS));
+            readLock.unlock();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Test
+    public void testReadTimeout() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread writer = new Thread(() -> {
+            this.lock.writeLock().lock();
+            try {
+                locked.countDown();
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        });
+        writer.start();
+        try {
+            locked.await();
+            Assert.assertFalse("Unexpected obtained a read lock", this.lock.readLock().tryLock(100, TimeUnit.MILLISECONDS));
+        } finally {
+            release.countDown();
+            writer.join();
+        }
+        Assert.assertTrue(this.lock.readLock().tryLock(2, TimeUnit.SECONDS));
+        this.lock.readLock().unlock();
+    }
+
+    @Test
+    public void testWriteTimeout() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            this.lock.readLock().lock();
+            try {
+                locked.countDown();
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        });
+        reader.start();
+        try {
+            locked.await();
+            Assert.assertFalse("Unexpected obtained a write lock", this.lock.writeLock().tryLock(100, TimeUnit.MILLISECONDS));
+            // A timed out writer must not leave the lock unusable for other readers
+            Assert.assertTrue(this.lock.readLock().tryLock(2, TimeUnit.SECONDS));
+            this.lock.readLock().unlock();
+        } finally {
+            release.countDown();
+            reader.join();
+        }
+        Assert.assertTrue(this.lock.writeLock().tryLock(2, TimeUnit.SECONDS));
+        this.lock.writeLock().unlock();
+    }
+
+    @Test
+    public void testMutualExclusion() throws Exception {
+        int threads = 8;
+        int iterations = 20000;
+        AtomicInteger readers = new AtomicInteger();
+        AtomicInteger writers = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; ++i) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < iterations; ++j) {
+                        if (j % 100 == 0) {
+                            Lock writeLock = this.lock.writeLock();
+                            writeLock.lock();
+                            try {
+                                if (writers.incrementAndGet() != 1 || readers.get() != 0) {
+                                    violations.incrementAndGet();
+                                }
+                                writers.decrementAndGet();
+                            } finally {
+                                writeLock.unlock();
+                            }
+                        } else {
+                            Lock readLock = this.lock.readLock();
+                            readLock.lock();
+                            try {
+                                readers.incrementAndGet();
+                                if (writers.get() != 0) {
+                                    violations.incrementAndGet();
+                                }
+                                readers.decrementAndGet();
+                            } finally {
+                                readLock.unlock();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(0, violations.get());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.deployment.processors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ee.component.Component;
+import org.jboss.as.ee.component.interceptors.InvocationType;
+import org.jboss.as.ee.requestcontroller.AdaptiveConcurrencyLimit;
+import org.jboss.as.ejb3.component.EJBComponent;
+import org.jboss.as.ejb3.component.EJBComponentUnavailableException;
+import org.jboss.as.ejb3.component.messagedriven.MessageDrivenComponent;
+import org.jboss.invocation.InterceptorContext;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.extension.requestcontroller.ControlPoint;
+import org.wildfly.extension.requestcontroller.RunResult;
+
+public class EjbSuspendInterceptorTestCase {
+
+    private final EjbSuspendInterceptor interceptor = new EjbSuspendInterceptor();
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 0, TimeUnit.MILLISECONDS);
+    private final ControlPoint controlPoint = mock(ControlPoint.class);
+
+    private InterceptorContext createContext(EJBComponent component, InvocationType invocation) {
+        return this.createContext(component, invocation, this.limit);
+    }
+
+    private InterceptorContext createContext(EJBComponent component, InvocationType invocation, AdaptiveConcurrencyLimit limit) {
+        when(component.getControlPoint()).thenReturn(this.controlPoint);
+        when(component.getConcurrencyLimit()).thenReturn(limit);
+        when(component.getComponentName()).thenReturn("TestBean");
+        when(this.controlPoint.beginRequest()).thenReturn(RunResult.RUN);
+        InterceptorContext context = new InterceptorContext();
+        context.putPrivateData(Component.class, component);
+        context.putPrivateData(InvocationType.class, invocation);
+        context.setInterceptors(List.of(c -> this.invocations.incrementAndGet()));
+        return context;
+    }
+
+    @Test
+    public void testRemoteInvocation() throws Exception {
+        InterceptorContext context = this.createContext(mock(EJBComponent.class), InvocationType.REMOTE);
+        Assert.assertEquals(1, this.interceptor.processInvocation(context));
+        Assert.assertEquals(0, this.limit.getInFlightCount());
+        verify(this.controlPoint).requestComplete();
+
+        // Invocations exceeding the limit are rejected, and complete their request
+        Assert.assertTrue(this.limit.tryAcquire());
+        InterceptorContext rejected = this.createContext(mock(EJBComponent.class), InvocationType.REMOTE);
+        Assert.assertThrows(EJBComponentUnavailableException.class, () -> this.interceptor.processInvocation(rejected));
+        Assert.assertEquals(1, this.invocations.get());
+        Assert.assertEquals(1L, this.limit.getRejectedCount());
+        verify(this.controlPoint, times(2)).requestComplete();
+    }
+
+    @Test
+    public void testMessageDelivery() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 1, TimeUnit.MINUTES);
+        Assert.assertTrue(limit.tryAcquire());
+        InterceptorContext context = this.createContext(mock(MessageDrivenComponent.class), InvocationType.MESSAGE_DELIVERY, limit);
+
+        // Deliveries exceeding the limit wait up to the queue timeout for a permit, rather than being rejected and redelivered
+        CompletableFuture<Object> delivery = CompletableFuture.supplyAsync(() -> {
+            try {
+                return this.interceptor.processInvocation(context);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (limit.getQueuedCount() == 0) {
+            Thread.yield();
+        }
+        Assert.assertFalse(delivery.isDone());
+        Assert.assertEquals(0, this.invocations.get());
+
+        limit.release(System.nanoTime());
+        Assert.assertEquals(1, delivery.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, limit.getInFlightCount());
+        Assert.assertEquals(0L, limit.getRejectedCount());
+        verify(this.controlPoint).requestComplete();
+    }
+
+    @Test
+    public void testMessageDeliveryTimeout() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 10, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(limit.tryAcquire());
+        InterceptorContext context = this.createContext(mock(MessageDrivenComponent.class), InvocationType.MESSAGE_DELIVERY, limit);
+
+        // Deliveries still exceeding the limit after the queue timeout are rejected, rather than pinning the thread of the resource adapter
+        Assert.assertThrows(EJBComponentUnavailableException.class, () -> this.interceptor.processInvocation(context));
+        Assert.assertEquals(0, this.invocations.get());
+        Assert.assertEquals(1L, limit.getRejectedCount());
+        verify(this.controlPoint).requestComplete();
+    }
+
+    @Test
+    public void testAsyncInvocation() throws Exception {
+        Assert.assertTrue(this.limit.tryAcquire());
+        InterceptorContext context = this.createContext(mock(EJBComponent.class), InvocationType.ASYNC);
+        Assert.assertEquals(1, this.interceptor.processInvocation(context));
+        verify(this.controlPoint, times(0)).beginRequest();
+    }
+}
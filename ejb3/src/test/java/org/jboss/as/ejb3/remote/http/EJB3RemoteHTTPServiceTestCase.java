@@ -0,0 +1,241 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote.http;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.undertow.Undertow;
+import io.undertow.server.handlers.PathHandler;
+import org.jboss.ejb.server.Association;
+import org.jboss.msc.service.StopContext;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.httpclient.ejb.EjbHttpService;
+
+/**
+ * Tests the dispatching of the invocations received by the HTTP invoker.
+ * The virtual threads are emulated by platform threads, so that the test also runs on runtimes without virtual threads.
+ */
+public class EJB3RemoteHTTPServiceTestCase {
+
+    private final AtomicInteger createdThreads = new AtomicInteger();
+    private final ThreadFactory virtualThreadFactory = task -> {
+        this.createdThreads.incrementAndGet();
+        return new Thread(task, "virtual");
+    };
+    private final List<ExecutorService> executors = new ArrayList<>();
+
+    @After
+    public void destroy() {
+        System.clearProperty(EJB3RemoteHTTPService.VIRTUAL_THREADS_PROPERTY);
+        System.clearProperty(EJB3RemoteHTTPService.MAX_CONCURRENCY_PROPERTY);
+        System.clearProperty(EJB3RemoteHTTPService.MAX_WAITING_PROPERTY);
+        this.executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    private ExecutorService createExecutor() {
+        ExecutorService executor = EJB3RemoteHTTPService.createExecutor(() -> this.virtualThreadFactory);
+        if (executor != null) {
+            this.executors.add(executor);
+        }
+        return executor;
+    }
+
+    private static int discover(ExecutorService executor) throws Exception {
+        PathHandler handler = new PathHandler();
+        handler.addPrefixPath("/ejb", new EjbHttpService(mock(Association.class), executor, null, name -> true).createHttpHandler());
+        Undertow server = Undertow.builder().addHttpListener(0, "localhost").setHandler(handler).build();
+        server.start();
+        try {
+            InetSocketAddress address = (InetSocketAddress) server.getListenerInfo().get(0).getAddress();
+            HttpURLConnection connection = (HttpURLConnection) new URL("http", address.getHostString(), address.getPort(), "/ejb/v1/discover").openConnection();
+            connection.setReadTimeout((int) TimeUnit.SECONDS.toMillis(10));
+            try {
+                return connection.getResponseCode();
+            } finally {
+                connection.disconnect();
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testWorkerThreads() throws Exception {
+        // Without an executor, requests are dispatched to the worker threads of the listener
+        Assert.assertNull(this.createExecutor());
+        Assert.assertEquals(HttpURLConnection.HTTP_OK, discover(null));
+        Assert.assertEquals(0, this.createdThreads.get());
+
+        // ... as they are if virtual threads are not supported by the runtime
+        System.setProperty(EJB3RemoteHTTPService.VIRTUAL_THREADS_PROPERTY, Boolean.TRUE.toString());
+        Assert.assertNull(EJB3RemoteHTTPService.createExecutor(() -> null));
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception {
+        System.setProperty(EJB3RemoteHTTPService.VIRTUAL_THREADS_PROPERTY, Boolean.TRUE.toString());
+        ExecutorService executor = this.createExecutor();
+        Assert.assertNotNull(executor);
+
+        // Each request is dispatched to a new virtual thread
+        Assert.assertEquals(HttpURLConnection.HTTP_OK, discover(executor));
+        Assert.assertEquals(1, this.createdThreads.get());
+        Assert.assertEquals(HttpURLConnection.HTTP_OK, discover(executor));
+        Assert.assertEquals(2, this.createdThreads.get());
+    }
+
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        System.setProperty(EJB3RemoteHTTPService.VIRTUAL_THREADS_PROPERTY, Boolean.TRUE.toString());
+        System.setProperty(EJB3RemoteHTTPService.MAX_CONCURRENCY_PROPERTY, "2");
+        ExecutorService executor = this.createExecutor();
+
+        AtomicInteger running = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; ++i) {
+            futures.add(executor.submit(() -> {
+                int concurrency = running.incrementAndGet();
+                started.countDown();
+                release.await();
+                running.decrementAndGet();
+                return concurrency;
+            }));
+        }
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        // Every invocation has its own virtual thread, but invocations exceeding the bound wait for a permit
+        Assert.assertEquals(3, this.createdThreads.get());
+        Thread.sleep(50);
+        Assert.assertEquals(2, running.get());
+
+        release.countDown();
+        for (Future<Integer> future : futures) {
+            Assert.assertTrue(future.get(10, TimeUnit.SECONDS) <= 2);
+        }
+    }
+
+    @Test
+    public void testMaxWaiting() throws Exception {
+        System.setProperty(EJB3RemoteHTTPService.VIRTUAL_THREADS_PROPERTY, Boolean.TRUE.toString());
+        System.setProperty(EJB3RemoteHTTPService.MAX_CONCURRENCY_PROPERTY, "1");
+        System.setProperty(EJB3RemoteHTTPService.MAX_WAITING_PROPERTY, "1");
+        VirtualThreadInvocationExecutor executor = (VirtualThreadInvocationExecutor) this.createExecutor();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> running = executor.submit(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        Future<Boolean> waiting = executor.submit(() -> Boolean.TRUE);
+        Assert.assertEquals(1, executor.getWaitingCount());
+
+        // Invocations exceeding the bound of waiting invocations are rejected, without starting a virtual thread
+        Assert.assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> Boolean.TRUE));
+        Assert.assertEquals(2, this.createdThreads.get());
+        Assert.assertEquals(1, executor.getWaitingCount());
+        Assert.assertNotEquals(HttpURLConnection.HTTP_OK, discover(executor));
+
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(Boolean.TRUE, waiting.get(10, TimeUnit.SECONDS));
+        Assert.assertEquals(0, executor.getWaitingCount());
+
+        // Once invocations complete, new invocations are accepted again
+        Assert.assertEquals(HttpURLConnection.HTTP_OK, discover(executor));
+    }
+
+    @Test
+    public void testInvalidMaxConcurrency() throws Exception {
+        System.setProperty(EJB3RemoteHTTPService.VIRTUAL_THREADS_PROPERTY, Boolean.TRUE.toString());
+        System.setProperty(EJB3RemoteHTTPService.MAX_CONCURRENCY_PROPERTY, "0");
+        System.setProperty(EJB3RemoteHTTPService.MAX_WAITING_PROPERTY, "-1");
+        ExecutorService executor = this.createExecutor();
+        Assert.assertEquals(Boolean.TRUE, executor.submit(() -> Boolean.TRUE).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        System.setProperty(EJB3RemoteHTTPService.VIRTUAL_THREADS_PROPERTY, Boolean.TRUE.toString());
+        ExecutorService executor = this.createExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        // Stop completes once the in-flight invocation completed
+        StopContext context = mock(StopContext.class);
+        doAnswer(invocation -> {
+            new Thread(invocation.<Runnable>getArgument(0)).start();
+            return null;
+        }).when(context).execute(any());
+        EJB3RemoteHTTPService.shutdown(executor, context, 60);
+        verify(context).asynchronous();
+        Assert.assertTrue(executor.isShutdown());
+        Thread.sleep(50);
+        verify(context, never()).complete();
+
+        release.countDown();
+        verify(context, timeout(TimeUnit.SECONDS.toMillis(10))).complete();
+        Assert.assertTrue(executor.isTerminated());
+
+        // Stop completes synchronously without in-flight invocations
+        context = mock(StopContext.class);
+        EJB3RemoteHTTPService.shutdown(this.createExecutor(), context, 60);
+        verify(context, never()).asynchronous();
+    }
+
+    @Test
+    public void testStopTimeout() throws Exception {
+        System.setProperty(EJB3RemoteHTTPService.VIRTUAL_THREADS_PROPERTY, Boolean.TRUE.toString());
+        ExecutorService executor = this.createExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> {
+            started.countDown();
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            return null;
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        // A hung invocation does not prevent the service from stopping
+        StopContext context = mock(StopContext.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(context).execute(any());
+        EJB3RemoteHTTPService.shutdown(executor, context, 0);
+        verify(context).asynchronous();
+        verify(context).complete();
+        Assert.assertFalse(executor.isTerminated());
+    }
+}
@@ -69,7 +69,7 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     /*
@@ -148,6 +148,11 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(EJB3Extension.SUBSYSTEM_PATH);
 
+        if (EJB3Model.VERSION_10_0_0.requiresTransformation(version)) {
+            // reject the resource /subsystem=ejb3/service=async/dedicated-executor
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.ASYNC_SERVICE_PATH, EJB3SubsystemModel.DEDICATED_EXECUTOR_PATH), FailedOperationTransformationConfig.REJECTED_RESOURCE);
+        }
+
         // need to include all changes from current to 9.0.0
         if (EJB3Model.VERSION_9_0_0.requiresTransformation(version)) {
             // reject the resource /subsystem=ejb3/simple-cache
@@ -0,0 +1,144 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.jaxrs;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ee.utils.LatencyHistogram;
+import org.jboss.as.jaxrs.statistics.RestDeploymentStatistics;
+import org.jboss.as.jaxrs.statistics.RestEndpointStatistics;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Runtime resource exposing the request statistics of an endpoint of a REST resource, i.e. of an HTTP method and path
+ * template. The resource is named by the normalized template, the original template is exposed by the {@code template}
+ * attribute. Only registered if endpoint statistics are enabled via {@link RestDeploymentStatistics#ENABLED_PROPERTY}.
+ */
+public class DeploymentRestEndpointDefinition extends SimpleResourceDefinition {
+
+    public static final String REST_ENDPOINT_NAME = "rest-endpoint";
+
+    public static final AttributeDefinition TEMPLATE = new SimpleAttributeDefinitionBuilder("template", ModelType.STRING, true)
+            .setStorageRuntime().build();
+
+    public static final AttributeDefinition REQUEST_COUNT = new SimpleAttributeDefinitionBuilder("request-count", ModelType.LONG, true)
+            .setStorageRuntime().build();
+
+    public static final AttributeDefinition ERROR_COUNT = new SimpleAttributeDefinitionBuilder("error-count", ModelType.LONG, true)
+            .setStorageRuntime().build();
+
+    public static final AttributeDefinition PROCESSING_TIME = new SimpleAttributeDefinitionBuilder("processing-time", ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).setStorageRuntime().build();
+
+    public static final AttributeDefinition MAX_PROCESSING_TIME = new SimpleAttributeDefinitionBuilder("max-processing-time", ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).setStorageRuntime().build();
+
+    public static final AttributeDefinition PROCESSING_TIME_P50 = new SimpleAttributeDefinitionBuilder("processing-time-p50", ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).setStorageRuntime().build();
+
+    public static final AttributeDefinition PROCESSING_TIME_P95 = new SimpleAttributeDefinitionBuilder("processing-time-p95", ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).setStorageRuntime().build();
+
+    public static final AttributeDefinition PROCESSING_TIME_P99 = new SimpleAttributeDefinitionBuilder("processing-time-p99", ModelType.LONG, true)
+            .setMeasurementUnit(MeasurementUnit.MICROSECONDS).setStorageRuntime().build();
+
+    DeploymentRestEndpointDefinition() {
+        super(PathElement.pathElement(REST_ENDPOINT_NAME), JaxrsExtension.getResolver("deployment", REST_ENDPOINT_NAME));
+    }
+
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        resourceRegistration.registerReadOnlyAttribute(TEMPLATE, new StatisticsHandler(statistics -> new ModelNode(statistics.getName())));
+        resourceRegistration.registerMetric(REQUEST_COUNT, new ProcessingTimeHandler(snapshot -> new ModelNode(snapshot.getCount())));
+        resourceRegistration.registerMetric(ERROR_COUNT, new StatisticsHandler(statistics -> new ModelNode(statistics.getErrorCount())));
+        resourceRegistration.registerMetric(PROCESSING_TIME, new ProcessingTimeHandler(snapshot -> new ModelNode(snapshot.getTotal())));
+        resourceRegistration.registerMetric(MAX_PROCESSING_TIME, new ProcessingTimeHandler(snapshot -> new ModelNode(snapshot.getMax())));
+        resourceRegistration.registerMetric(PROCESSING_TIME_P50, new ProcessingTimeHandler(snapshot -> new ModelNode(snapshot.getPercentile(0.50))));
+        resourceRegistration.registerMetric(PROCESSING_TIME_P95, new ProcessingTimeHandler(snapshot -> new ModelNode(snapshot.getPercentile(0.95))));
+        resourceRegistration.registerMetric(PROCESSING_TIME_P99, new ProcessingTimeHandler(snapshot -> new ModelNode(snapshot.getPercentile(0.99))));
+    }
+
+    private static class StatisticsHandler extends AbstractRuntimeOnlyHandler {
+        private final Function<RestEndpointStatistics, ModelNode> metric;
+
+        StatisticsHandler(Function<RestEndpointStatistics, ModelNode> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            PathAddress address = context.getCurrentAddress();
+            RestDeploymentStatistics statistics = RestDeploymentStatistics.getInstance(moduleName(context, address));
+            if (statistics != null) {
+                String resourceName = address.getParent().getLastElement().getValue();
+                RestEndpointStatistics endpoint = statistics.getEndpoint(resourceName, address.getLastElement().getValue());
+                if (endpoint != null) {
+                    context.getResult().set(this.read(context, endpoint));
+                }
+            }
+        }
+
+        ModelNode read(OperationContext context, RestEndpointStatistics endpoint) {
+            return this.metric.apply(endpoint);
+        }
+
+        /**
+         * Determines the name of the module of the deployment or subdeployment containing the specified address.
+         */
+        private static String moduleName(OperationContext context, PathAddress address) {
+            StringBuilder builder = new StringBuilder(ModelDescriptionConstants.DEPLOYMENT).append('.');
+            String runtimeName = address.getElement(0).getValue();
+            ModelNode model = context.readResourceFromRoot(address.subAddress(0, 1), false).getModel();
+            if (model.hasDefined(ModelDescriptionConstants.RUNTIME_NAME)) {
+                runtimeName = model.get(ModelDescriptionConstants.RUNTIME_NAME).asString();
+            }
+            builder.append(runtimeName);
+            if (address.size() > 1 && address.getElement(1).getKey().equals(ModelDescriptionConstants.SUBDEPLOYMENT)) {
+                builder.append('.').append(address.getElement(1).getValue());
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Reads a metric from the processing time histogram of an endpoint. All metrics read by the same management operation,
+     * e.g. a {@code read-resource} including runtime attributes, are computed from a single snapshot of the histogram.
+     */
+    private static class ProcessingTimeHandler extends StatisticsHandler {
+        @SuppressWarnings("unchecked")
+        private static final OperationContext.AttachmentKey<Map<RestEndpointStatistics, LatencyHistogram.Snapshot>> SNAPSHOTS = OperationContext.AttachmentKey.create((Class<Map<RestEndpointStatistics, LatencyHistogram.Snapshot>>) (Class<?>) Map.class);
+
+        private final Function<LatencyHistogram.Snapshot, ModelNode> metric;
+
+        ProcessingTimeHandler(Function<LatencyHistogram.Snapshot, ModelNode> metric) {
+            super(null);
+            this.metric = metric;
+        }
+
+        @Override
+        ModelNode read(OperationContext context, RestEndpointStatistics endpoint) {
+            Map<RestEndpointStatistics, LatencyHistogram.Snapshot> snapshots = context.getAttachment(SNAPSHOTS);
+            if (snapshots == null) {
+                snapshots = new IdentityHashMap<>();
+                context.attach(SNAPSHOTS, snapshots);
+            }
+            return this.metric.apply(snapshots.computeIfAbsent(endpoint, RestEndpointStatistics::getProcessingTimeSnapshot));
+        }
+    }
+}
@@ -52,7 +52,7 @@ public class JaxrsExtension implements Extension {
         final ManagementResourceRegistration registration = subsystem.registerSubsystemModel(new JaxrsSubsystemDefinition());
         registration.registerOperationHandler(GenericSubsystemDescribeHandler.DEFINITION, GenericSubsystemDescribeHandler.INSTANCE);
         ManagementResourceRegistration jaxrsResReg = subsystem.registerDeploymentModel(new JaxrsDeploymentDefinition());
-        jaxrsResReg.registerSubModel(new DeploymentRestResourcesDefintion());
+        jaxrsResReg.registerSubModel(new DeploymentRestResourcesDefintion()).registerSubModel(new DeploymentRestEndpointDefinition());
         subsystem.registerXMLElementWriter(JaxrsSubsystemParser_3_0::new);
     }
 
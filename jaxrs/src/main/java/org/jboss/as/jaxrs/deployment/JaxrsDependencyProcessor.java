@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
+import org.jboss.as.jaxrs.statistics.RestDeploymentStatistics;
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
@@ -56,6 +57,8 @@ import org.jboss.vfs.VirtualFile;
 public class JaxrsDependencyProcessor implements DeploymentUnitProcessor {
 
     private static final String CLIENT_BUILDER = "META-INF/services/jakarta.ws.rs.client.ClientBuilder";
+    private static final String JAXRS_SUBSYSTEM = "org.jboss.as.jaxrs";
+
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
         final ModuleSpecification moduleSpecification = deploymentUnit.getAttachment(Attachments.MODULE_SPECIFICATION);
@@ -101,6 +104,13 @@ public class JaxrsDependencyProcessor implements DeploymentUnitProcessor {
             final ModuleDependency dep = new ModuleDependency(moduleLoader, RESTEASY_VALIDATOR, true, true, true, false);
             moduleSpecification.addSystemDependency(dep);
         }
+        // Expose the filter collecting endpoint statistics, and nothing else of this subsystem
+        if (RestDeploymentStatistics.isEnabled()) {
+            final ModuleDependency dep = new ModuleDependency(moduleLoader, JAXRS_SUBSYSTEM, false, false, false, false);
+            dep.addImportFilter(PathFilters.is(RestDeploymentStatistics.class.getPackage().getName().replace('.', '/')), true);
+            dep.addImportFilter(PathFilters.acceptAll(), false);
+            moduleSpecification.addSystemDependency(dep);
+        }
     }
 
     private boolean isClientBuilderInDeployment(DeploymentUnit deploymentUnit) {
@@ -20,6 +20,7 @@ import jakarta.ws.rs.ApplicationPath;
 import jakarta.ws.rs.core.Application;
 
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
 import org.jboss.as.ee.structure.DeploymentType;
@@ -42,6 +43,7 @@ import org.jboss.metadata.web.jboss.JBossServletMetaData;
 import org.jboss.metadata.web.jboss.JBossServletsMetaData;
 import org.jboss.metadata.web.jboss.JBossWebMetaData;
 import org.jboss.metadata.web.spec.FilterMetaData;
+import org.jboss.metadata.web.spec.ListenerMetaData;
 import org.jboss.metadata.web.spec.ServletMappingMetaData;
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleIdentifier;
@@ -53,6 +55,7 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 
 import static org.jboss.as.jaxrs.logging.JaxrsLogger.JAXRS_LOGGER;
 
+import org.jboss.as.jaxrs.DeploymentRestEndpointDefinition;
 import org.jboss.as.jaxrs.DeploymentRestResourcesDefintion;
 import org.jboss.as.jaxrs.Jackson2Annotations;
 import org.jboss.as.jaxrs.JacksonAnnotations;
@@ -61,6 +64,9 @@ import org.jboss.as.jaxrs.JaxrsConstants;
 import org.jboss.as.jaxrs.JaxrsExtension;
 import org.jboss.as.jaxrs.JaxrsServerConfig;
 import org.jboss.as.jaxrs.JaxrsServerConfigService;
+import org.jboss.as.jaxrs.statistics.RestDeploymentStatistics;
+import org.jboss.as.jaxrs.statistics.RestEndpointStatisticsFilter;
+import org.jboss.as.jaxrs.statistics.RestEndpointStatisticsListener;
 
 
 /**
@@ -196,9 +202,27 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
             }
         }
 
+        RestDeploymentStatistics statistics = null;
+        if (module != null && RestDeploymentStatistics.isEnabled()) {
+            statistics = RestDeploymentStatistics.register(module.getName());
+            final ParamValueMetaData providers = findContextParam(webdata, ResteasyContextParameters.RESTEASY_PROVIDERS);
+            if (providers != null) {
+                providers.setParamValue(providers.getParamValue() + "," + RestEndpointStatisticsFilter.class.getName());
+            } else {
+                setContextParameter(webdata, ResteasyContextParameters.RESTEASY_PROVIDERS, RestEndpointStatisticsFilter.class.getName());
+            }
+            // Records requests failing with unmapped exceptions, which bypass the response filters
+            final ListenerMetaData listener = new ListenerMetaData();
+            listener.setListenerClass(RestEndpointStatisticsListener.class.getName());
+            if (webdata.getListeners() == null) {
+                webdata.setListeners(new ArrayList<>());
+            }
+            webdata.getListeners().add(listener);
+        }
+
         boolean managementAdded = false;
         if (!resteasy.getScannedApplicationClasses().isEmpty() || resteasy.hasBootClasses() || resteasy.isDispatcherCreated()) {
-            addManagement(deploymentUnit, resteasy);
+            addManagement(deploymentUnit, resteasy, statistics);
             managementAdded = true;
         }
 
@@ -283,7 +307,7 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
         if (!managementAdded && webdata.getServletMappings() != null) {
             for (ServletMappingMetaData servletMapMeta: webdata.getServletMappings()) {
                 if (JAX_RS_SERVLET_NAME.equals(servletMapMeta.getServletName())) {
-                    addManagement(deploymentUnit, resteasy);
+                    addManagement(deploymentUnit, resteasy, statistics);
                     break;
                 }
             }
@@ -296,7 +320,7 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
     }
 
 
-    private void addManagement(DeploymentUnit deploymentUnit, ResteasyDeploymentData resteasy) {
+    private void addManagement(DeploymentUnit deploymentUnit, ResteasyDeploymentData resteasy, RestDeploymentStatistics statistics) {
         Set<String> classes = resteasy.getScannedResourceClasses();
         for (String jndiComp : resteasy.getScannedJndiComponentResources()) {
             String[] jndiCompArray = jndiComp.split(";");
@@ -308,8 +332,15 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
             try {
                 final DeploymentResourceSupport deploymentResourceSupport = deploymentUnit
                         .getAttachment(org.jboss.as.server.deployment.Attachments.DEPLOYMENT_RESOURCE_SUPPORT);
-                deploymentResourceSupport.getDeploymentSubModel(JaxrsExtension.SUBSYSTEM_NAME,
-                        PathElement.pathElement(DeploymentRestResourcesDefintion.REST_RESOURCE_NAME, componentClass));
+                final PathElement resourcePath = PathElement.pathElement(DeploymentRestResourcesDefintion.REST_RESOURCE_NAME, componentClass);
+                deploymentResourceSupport.getDeploymentSubModel(JaxrsExtension.SUBSYSTEM_NAME, resourcePath);
+                if (statistics != null) {
+                    final Module module = deploymentUnit.getAttachment(Attachments.MODULE);
+                    for (String endpoint : statistics.addResource(componentClass, module.getClassLoader().loadClass(componentClass))) {
+                        deploymentResourceSupport.getDeploymentSubModel(JaxrsExtension.SUBSYSTEM_NAME,
+                                PathAddress.pathAddress(resourcePath, PathElement.pathElement(DeploymentRestEndpointDefinition.REST_ENDPOINT_NAME, endpoint)));
+                    }
+                }
             } catch (Exception e) {
                 JAXRS_LOGGER.failedToRegisterManagementViewForRESTResources(componentClass, e);
             }
@@ -388,6 +419,10 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
 
     @Override
     public void undeploy(DeploymentUnit context) {
+        final Module deploymentModule = context.getAttachment(Attachments.MODULE);
+        if (deploymentModule != null) {
+            RestDeploymentStatistics.unregister(deploymentModule.getName());
+        }
         //Clear the type cache in jackson databind
         //see https://issues.jboss.org/browse/WFLY-7037
         //see https://github.com/FasterXML/jackson-databind/issues/1363
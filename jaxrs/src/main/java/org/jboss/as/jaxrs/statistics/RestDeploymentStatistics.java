@@ -0,0 +1,165 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jaxrs.statistics;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.modules.ModuleClassLoader;
+import org.jboss.resteasy.spi.metadata.ResourceBuilder;
+import org.jboss.resteasy.spi.metadata.ResourceClass;
+import org.jboss.resteasy.spi.metadata.ResourceMethod;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Per resource method request statistics of a deployment.
+ * <p>
+ * The endpoints of a deployment are determined from the annotations of its root resource classes when the deployment is
+ * installed, and are named by their HTTP methods and path templates, so that the number of endpoints does not depend on
+ * the requested URIs. Since templates contain characters that delimit management addresses, endpoints are registered
+ * under a {@linkplain #managementName(String) normalized name}. Requests to methods of sub-resources, which are only known
+ * once located, are not recorded.
+ * <p>
+ * Statistics are only collected if the {@link #ENABLED_PROPERTY} system property is set to {@code true}.
+ */
+public final class RestDeploymentStatistics {
+
+    /**
+     * System property enabling the collection of endpoint statistics.
+     */
+    public static final String ENABLED_PROPERTY = "jboss.jaxrs.endpoint-statistics";
+
+    private static final Map<String, RestDeploymentStatistics> DEPLOYMENTS = new ConcurrentHashMap<>();
+
+    private final Map<Method, RestEndpointStatistics> methods = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, RestEndpointStatistics>> resources = new ConcurrentHashMap<>();
+
+    private RestDeploymentStatistics() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"));
+    }
+
+    /**
+     * Creates the statistics of the specified deployment module.
+     *
+     * @param moduleName the name of the deployment module
+     * @return the statistics of the deployment
+     */
+    public static RestDeploymentStatistics register(String moduleName) {
+        RestDeploymentStatistics statistics = new RestDeploymentStatistics();
+        DEPLOYMENTS.put(moduleName, statistics);
+        return statistics;
+    }
+
+    /**
+     * Discards the statistics of the specified deployment module.
+     *
+     * @param moduleName the name of the deployment module
+     */
+    public static void unregister(String moduleName) {
+        DEPLOYMENTS.remove(moduleName);
+    }
+
+    /**
+     * Returns the statistics of the specified deployment module.
+     *
+     * @param moduleName the name of the deployment module
+     * @return the statistics of the deployment, or null, if none were registered
+     */
+    public static RestDeploymentStatistics getInstance(String moduleName) {
+        return DEPLOYMENTS.get(moduleName);
+    }
+
+    /**
+     * Returns the statistics of the deployment module defining the specified class loader.
+     *
+     * @param loader a deployment class loader
+     * @return the statistics of the deployment, or null, if none were registered
+     */
+    static RestDeploymentStatistics getInstance(ClassLoader loader) {
+        return (loader instanceof ModuleClassLoader) ? getInstance(((ModuleClassLoader) loader).getModule().getName()) : null;
+    }
+
+    /**
+     * Creates the endpoints of the specified root resource class.
+     *
+     * @param resourceName the name of the resource, as used in the management model
+     * @param resourceClass the root resource class
+     * @return the management names of the created endpoints
+     */
+    public Iterable<String> addResource(String resourceName, Class<?> resourceClass) {
+        ResourceClass resource = new ResourceBuilder().getRootResourceFromAnnotations(resourceClass);
+        Map<String, RestEndpointStatistics> endpoints = new ConcurrentHashMap<>();
+        for (ResourceMethod method : resource.getResourceMethods()) {
+            String template = endpointTemplate(method);
+            RestEndpointStatistics endpoint = endpoints.computeIfAbsent(managementName(template), name -> new RestEndpointStatistics(template));
+            this.methods.put(method.getMethod(), endpoint);
+        }
+        this.resources.put(resourceName, endpoints);
+        return Collections.unmodifiableSet(new TreeSet<>(endpoints.keySet()));
+    }
+
+    private static String endpointTemplate(ResourceMethod method) {
+        String path = (method.getFullpath() != null) ? method.getFullpath() : "";
+        String name = String.join(",", new TreeSet<>(method.getHttpMethods())) + " /" + path;
+        return name.replace("//", "/");
+    }
+
+    /**
+     * Normalizes the specified endpoint template, e.g. {@code GET,HEAD /orders/{id: [0-9]+}}, into a name that can be used
+     * in a management address without escaping, e.g. {@code GET-HEAD.orders._id}. HTTP methods are separated by
+     * {@code -}, path segments by {@code .}, template parameters are reduced to their name prefixed by {@code _},
+     * and any other character that is not a letter, a digit, {@code -} or {@code _} is replaced by {@code _}.
+     * Endpoints whose templates normalize to the same name share their statistics.
+     *
+     * @param template the HTTP methods and path template of an endpoint
+     * @return a management name
+     */
+    static String managementName(String template) {
+        int index = template.indexOf(' ');
+        StringBuilder builder = new StringBuilder(template.substring(0, index).replace(',', '-'));
+        for (String segment : template.substring(index + 1).split("/")) {
+            if (segment.isEmpty()) continue;
+            builder.append('.');
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                int end = segment.indexOf(':');
+                segment = '_' + segment.substring(1, (end > 0) ? end : segment.length() - 1).trim();
+            }
+            for (int i = 0; i < segment.length(); ++i) {
+                char c = segment.charAt(i);
+                builder.append(Character.isLetterOrDigit(c) || c == '-' || c == '_' ? c : '_');
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the statistics of the specified resource method.
+     *
+     * @param method a resource method
+     * @return the statistics of the resource method, or null, if the method is not an endpoint of this deployment
+     */
+    RestEndpointStatistics getEndpoint(Method method) {
+        return this.methods.get(method);
+    }
+
+    /**
+     * Returns the statistics of the specified endpoint.
+     *
+     * @param resourceName the name of a resource, as used in the management model
+     * @param endpointName the management name of an endpoint of the resource
+     * @return the statistics of the endpoint, or null, if no such endpoint exists
+     */
+    public RestEndpointStatistics getEndpoint(String resourceName, String endpointName) {
+        Map<String, RestEndpointStatistics> endpoints = this.resources.get(resourceName);
+        return (endpoints != null) ? endpoints.get(endpointName) : null;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jaxrs.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.ee.utils.LatencyHistogram;
+
+/**
+ * Request statistics of a single resource method, i.e. of an HTTP method and path template of a resource class.
+ * <p>
+ * Recording threads only touch striped {@link LongAdder} counters and a {@link LatencyHistogram}, from which
+ * percentiles are estimated on read. Each of the processing time getters takes a new snapshot of the histogram;
+ * readers of several of these metrics should use a single {@link #getProcessingTimeSnapshot()} instead.
+ */
+public class RestEndpointStatistics {
+
+    private final String name;
+    private final LongAdder errorCount = new LongAdder();
+    private final LatencyHistogram processingTime = new LatencyHistogram();
+
+    RestEndpointStatistics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of this endpoint, i.e. its HTTP methods followed by its path template.
+     *
+     * @return the endpoint name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Records a processed request.
+     *
+     * @param nanos the time spent processing the request, in nanoseconds
+     * @param error whether the request completed with a server error
+     */
+    public void record(long nanos, boolean error) {
+        if (error) {
+            this.errorCount.increment();
+        }
+        this.processingTime.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Returns a snapshot of the processing times recorded so far, from which all processing time metrics can be read consistently.
+     *
+     * @return a snapshot of the processing time histogram, in microseconds
+     */
+    public LatencyHistogram.Snapshot getProcessingTimeSnapshot() {
+        return this.processingTime.snapshot();
+    }
+
+    public long getRequestCount() {
+        return this.processingTime.snapshot().getCount();
+    }
+
+    public long getErrorCount() {
+        return this.errorCount.sum();
+    }
+
+    /**
+     * @return the total processing time, in microseconds
+     */
+    public long getProcessingTime() {
+        return this.processingTime.snapshot().getTotal();
+    }
+
+    /**
+     * @return the maximum processing time, in microseconds
+     */
+    public long getMaxProcessingTime() {
+        return this.processingTime.snapshot().getMax();
+    }
+
+    /**
+     * Estimates a percentile of the processing time as the upper bound of the histogram bucket containing it,
+     * capped by the observed maximum.
+     *
+     * @param quantile a quantile between 0 and 1
+     * @return the estimated processing time, in microseconds
+     */
+    public long getProcessingTimePercentile(double quantile) {
+        return this.processingTime.snapshot().getPercentile(quantile);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jaxrs.statistics;
+
+import java.lang.reflect.Method;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.Response;
+
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Filter recording the {@link RestEndpointStatistics} of matched resource methods.
+ * <p>
+ * The filter runs first on requests and last on responses, so that the recorded time covers the other filters, the
+ * invocation of the resource method and the processing of its result, but not the writing of the response entity.
+ * Response filters do not run for requests failing with an exception that is not mapped to a response, these are recorded
+ * as errors by the {@link RestEndpointStatisticsListener} instead.
+ */
+@Priority(1)
+public class RestEndpointStatisticsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    static final String START_PROPERTY = RestEndpointStatisticsFilter.class.getName() + ".start";
+    static final String ENDPOINT_PROPERTY = RestEndpointStatisticsFilter.class.getName() + ".endpoint";
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    private volatile RestDeploymentStatistics statistics;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        RestDeploymentStatistics statistics = this.statistics;
+        if (statistics == null) {
+            statistics = RestDeploymentStatistics.getInstance(WildFlySecurityManager.getCurrentContextClassLoaderPrivileged());
+            if (statistics == null) return;
+            this.statistics = statistics;
+        }
+        Method method = this.resourceInfo.getResourceMethod();
+        RestEndpointStatistics endpoint = (method != null) ? statistics.getEndpoint(method) : null;
+        if (endpoint != null) {
+            requestContext.setProperty(ENDPOINT_PROPERTY, endpoint);
+            requestContext.setProperty(START_PROPERTY, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        Object endpoint = requestContext.getProperty(ENDPOINT_PROPERTY);
+        Object start = requestContext.getProperty(START_PROPERTY);
+        if (endpoint instanceof RestEndpointStatistics && start instanceof Long) {
+            // Recorded, so the listener must not record this request again
+            requestContext.removeProperty(ENDPOINT_PROPERTY);
+            requestContext.removeProperty(START_PROPERTY);
+            boolean error = responseContext.getStatusInfo().getFamily() == Response.Status.Family.SERVER_ERROR;
+            ((RestEndpointStatistics) endpoint).record(System.nanoTime() - (Long) start, error);
+        }
+    }
+}
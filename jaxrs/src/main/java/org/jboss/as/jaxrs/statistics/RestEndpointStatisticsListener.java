@@ -0,0 +1,32 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jaxrs.statistics;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletRequestEvent;
+import jakarta.servlet.ServletRequestListener;
+
+/**
+ * Listener recording the requests of matched resource methods that failed with an exception not mapped to a response.
+ * <p>
+ * The properties of a request context are attributes of the servlet request. The {@link RestEndpointStatisticsFilter}
+ * removes them once it recorded a request, so any request still carrying them when it is destroyed never reached the response
+ * filters, i.e. its exception propagated to the container, which responds with a server error.
+ */
+public class RestEndpointStatisticsListener implements ServletRequestListener {
+
+    @Override
+    public void requestDestroyed(ServletRequestEvent event) {
+        ServletRequest request = event.getServletRequest();
+        Object endpoint = request.getAttribute(RestEndpointStatisticsFilter.ENDPOINT_PROPERTY);
+        Object start = request.getAttribute(RestEndpointStatisticsFilter.START_PROPERTY);
+        if (endpoint instanceof RestEndpointStatistics && start instanceof Long) {
+            request.removeAttribute(RestEndpointStatisticsFilter.ENDPOINT_PROPERTY);
+            request.removeAttribute(RestEndpointStatisticsFilter.START_PROPERTY);
+            ((RestEndpointStatistics) endpoint).record(System.nanoTime() - (Long) start, true);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jaxrs.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import org.jboss.as.ee.utils.LatencyHistogram;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RestEndpointStatisticsTestCase {
+
+    @Test
+    public void testRecord() {
+        RestEndpointStatistics statistics = new RestEndpointStatistics("GET /orders");
+        Assert.assertEquals(0L, statistics.getProcessingTimePercentile(0.99));
+        for (int i = 0; i < 98; ++i) {
+            statistics.record(TimeUnit.MICROSECONDS.toNanos(100), false);
+        }
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(10), true);
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(20), true);
+
+        Assert.assertEquals(100L, statistics.getRequestCount());
+        Assert.assertEquals(2L, statistics.getErrorCount());
+        Assert.assertEquals(98L * 100L + 10_000L + 20_000L, statistics.getProcessingTime());
+        Assert.assertEquals(20_000L, statistics.getMaxProcessingTime());
+        // 100 micros fall within [64, 128)
+        Assert.assertEquals(127L, statistics.getProcessingTimePercentile(0.50));
+        Assert.assertEquals(127L, statistics.getProcessingTimePercentile(0.95));
+        // 10 millis fall within [8192, 16384)
+        Assert.assertEquals(16_383L, statistics.getProcessingTimePercentile(0.99));
+        Assert.assertEquals(20_000L, statistics.getProcessingTimePercentile(1.0));
+    }
+
+    @Test
+    public void testProcessingTimeSnapshot() {
+        RestEndpointStatistics statistics = new RestEndpointStatistics("GET /orders");
+        statistics.record(TimeUnit.MICROSECONDS.toNanos(100), false);
+        LatencyHistogram.Snapshot snapshot = statistics.getProcessingTimeSnapshot();
+        statistics.record(TimeUnit.MILLISECONDS.toNanos(10), false);
+
+        // A snapshot is not affected by later requests
+        Assert.assertEquals(1L, snapshot.getCount());
+        Assert.assertEquals(100L, snapshot.getTotal());
+        Assert.assertEquals(100L, snapshot.getMax());
+        Assert.assertEquals(2L, statistics.getRequestCount());
+        Assert.assertEquals(10_000L, statistics.getMaxProcessingTime());
+    }
+
+    @Test
+    public void testEndpoints() throws NoSuchMethodException {
+        String moduleName = "deployment.test.war";
+        RestDeploymentStatistics statistics = RestDeploymentStatistics.register(moduleName);
+        try {
+            Assert.assertSame(statistics, RestDeploymentStatistics.getInstance(moduleName));
+            List<String> endpoints = new ArrayList<>();
+            statistics.addResource(OrderResource.class.getName(), OrderResource.class).forEach(endpoints::add);
+            Assert.assertEquals(List.of("GET.orders", "GET.orders._id", "POST.orders"), endpoints);
+
+            RestEndpointStatistics endpoint = statistics.getEndpoint(OrderResource.class.getMethod("get", String.class));
+            Assert.assertNotNull(endpoint);
+            Assert.assertEquals("GET /orders/{id}", endpoint.getName());
+            Assert.assertSame(endpoint, statistics.getEndpoint(OrderResource.class.getName(), "GET.orders._id"));
+            Assert.assertNull(statistics.getEndpoint(OrderResource.class.getName(), "GET /orders/{id}"));
+        } finally {
+            RestDeploymentStatistics.unregister(moduleName);
+        }
+        Assert.assertNull(RestDeploymentStatistics.getInstance(moduleName));
+    }
+
+    @Test
+    public void testManagementName() {
+        Assert.assertEquals("GET", RestDeploymentStatistics.managementName("GET /"));
+        Assert.assertEquals("GET.orders._id", RestDeploymentStatistics.managementName("GET /orders/{id}"));
+        Assert.assertEquals("GET-HEAD.orders._id.items", RestDeploymentStatistics.managementName("GET,HEAD /orders/{ id : [0-9]+}/items"));
+        Assert.assertEquals("PUT.files.report_pdf.v1_0", RestDeploymentStatistics.managementName("PUT /files/report.pdf/v1=0"));
+        Assert.assertEquals("GET.a_b_c_", RestDeploymentStatistics.managementName("GET /a:b{c}"));
+    }
+
+    @Path("orders")
+    public static class OrderResource {
+        @GET
+        public String list() {
+            return null;
+        }
+
+        @GET
+        @Path("{id}")
+        public String get(@PathParam("id") String id) {
+            return id;
+        }
+
+        @POST
+        public void create(String order) {
+        }
+    }
+}
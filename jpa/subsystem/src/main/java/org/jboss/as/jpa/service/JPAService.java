@@ -12,6 +12,9 @@ import java.util.Locale;
 import java.util.ResourceBundle;
 import java.util.Set;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
@@ -29,6 +32,7 @@ import org.jboss.as.jpa.subsystem.JPAExtension;
 import org.jboss.as.jpa.util.JPAServiceNames;
 import org.jboss.as.server.deployment.DeploymentModelUtils;
 import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.dmr.ModelNode;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceBuilder;
 import org.jboss.msc.service.ServiceController;
@@ -52,6 +56,17 @@ public class JPAService implements Service<Void> {
     private static volatile String defaultDataSourceName = null;
     private static volatile ExtendedPersistenceInheritance defaultExtendedPersistenceInheritance = null;
     private static final Set<String> existingResourceDescriptionResolver = new HashSet<>();
+
+    // reads the bootstrap time of the persistence unit identified by the address of the provider specific resource
+    private static final OperationStepHandler BOOTSTRAP_TIME_HANDLER = new AbstractRuntimeOnlyHandler() {
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+            Long bootstrapTime = PersistenceUnitBootstrapTimes.INSTANCE.get(context.getCurrentAddressValue());
+            if (bootstrapTime != null) {
+                context.getResult().set(bootstrapTime);
+            }
+        }
+    };
     private final CacheDeploymentHelper cacheDeploymentHelper = new CacheDeploymentHelper();
 
     public static String getDefaultDataSourceName() {
@@ -149,10 +164,12 @@ public class JPAService implements Service<Void> {
                 ManagementResourceRegistration providerResource = deploymentSubsystemRegistration.registerSubModel(
                         new ManagementResourceDefinition(PathElement.pathElement(managementAdaptor.getIdentificationLabel()), resourceDescriptionResolver, statistics, entityManagerFactoryLookup));
                 providerResource.registerReadOnlyAttribute(PersistenceUnitServiceHandler.SCOPED_UNIT_NAME, null);
+                providerResource.registerMetric(PersistenceUnitServiceHandler.BOOTSTRAP_TIME, BOOTSTRAP_TIME_HANDLER);
 
                 providerResource = subdeploymentSubsystemRegistration.registerSubModel(
                         new ManagementResourceDefinition(PathElement.pathElement(managementAdaptor.getIdentificationLabel()), resourceDescriptionResolver, statistics, entityManagerFactoryLookup));
                 providerResource.registerReadOnlyAttribute(PersistenceUnitServiceHandler.SCOPED_UNIT_NAME, null);
+                providerResource.registerMetric(PersistenceUnitServiceHandler.BOOTSTRAP_TIME, BOOTSTRAP_TIME_HANDLER);
 
                 existingResourceDescriptionResolver.add(managementAdaptor.getVersion());
             }
@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bootstrap times of the started persistence units, keyed by scoped persistence unit name,
+ * read by the {@code bootstrap-time} metric of the persistence unit deployment resources.
+ */
+class PersistenceUnitBootstrapTimes {
+
+    static final PersistenceUnitBootstrapTimes INSTANCE = new PersistenceUnitBootstrapTimes();
+
+    private final Map<String, Long> times = new ConcurrentHashMap<>();
+
+    /**
+     * Records the bootstrap time of a started persistence unit.
+     *
+     * @param scopedPersistenceUnitName the scoped name of the persistence unit
+     * @param millis the time spent bootstrapping the persistence unit, including both phases of a two phase bootstrap
+     */
+    void started(String scopedPersistenceUnitName, long millis) {
+        this.times.put(scopedPersistenceUnitName, millis);
+    }
+
+    /**
+     * Discards the bootstrap time of a stopped persistence unit.
+     *
+     * @param scopedPersistenceUnitName the scoped name of the persistence unit
+     */
+    void stopped(String scopedPersistenceUnitName) {
+        this.times.remove(scopedPersistenceUnitName);
+    }
+
+    /**
+     * Returns the bootstrap time of a persistence unit.
+     *
+     * @param scopedPersistenceUnitName the scoped name of the persistence unit
+     * @return the bootstrap time in milliseconds, or null if the persistence unit is not started
+     */
+    Long get(String scopedPersistenceUnitName) {
+        return this.times.get(scopedPersistenceUnitName);
+    }
+}
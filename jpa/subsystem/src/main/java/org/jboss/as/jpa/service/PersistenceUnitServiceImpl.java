@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -126,6 +127,7 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
                                 }
 
                                 try {
+                                    long start = System.nanoTime();
                                     PhaseOnePersistenceUnitServiceImpl phaseOnePersistenceUnitService = phaseOnePersistenceUnitServiceInjectedValue.getOptionalValue();
                                     WritableServiceBasedNamingStore.pushOwner(deploymentUnitServiceName);
                                     Object wrapperBeanManagerLifeCycle=null;
@@ -178,6 +180,12 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
                                         }
                                         entityManagerFactory = createContainerEntityManagerFactory();
                                     }
+                                    long bootstrapTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                                    if (phaseOnePersistenceUnitService != null) {
+                                        bootstrapTime += phaseOnePersistenceUnitService.getBootstrapTime();
+                                    }
+                                    ROOT_LOGGER.debugf("Persistence unit %s bootstrapped in %d ms", pu.getScopedPersistenceUnitName(), bootstrapTime);
+                                    PersistenceUnitBootstrapTimes.INSTANCE.started(getScopedPersistenceUnitName(), bootstrapTime);
                                     persistenceUnitRegistry.add(getScopedPersistenceUnitName(), getValue());
                                     if(wrapperBeanManagerLifeCycle != null) {
                                         beanManagerAfterDeploymentValidation.register(persistenceProviderAdaptor, wrapperBeanManagerLifeCycle);
@@ -255,6 +263,7 @@ public class PersistenceUnitServiceImpl implements Service<PersistenceUnitServic
                                                     pu.setTempClassLoaderFactory(null);
                                                     WritableServiceBasedNamingStore.popOwner();
                                                     persistenceUnitRegistry.remove(getScopedPersistenceUnitName());
+                                                    PersistenceUnitBootstrapTimes.INSTANCE.stopped(getScopedPersistenceUnitName());
                                                 }
                                             }
                                         }
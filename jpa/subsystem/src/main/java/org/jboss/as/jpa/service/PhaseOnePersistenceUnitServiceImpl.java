@@ -12,6 +12,7 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.RejectedExecutionException;
 
 import jakarta.enterprise.inject.spi.BeanManager;
@@ -60,6 +61,8 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
 
     private volatile boolean secondPhaseStarted = false;
 
+    private volatile long bootstrapTime;
+
     public PhaseOnePersistenceUnitServiceImpl(
             final ClassLoader classLoader,
             final PersistenceUnitMetadata pu,
@@ -107,7 +110,9 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
                                     }
 
                                     WritableServiceBasedNamingStore.pushOwner(deploymentUnitServiceName);
+                                    long start = System.nanoTime();
                                     entityManagerFactoryBuilder = createContainerEntityManagerFactoryBuilder();
+                                    bootstrapTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
                                     context.complete();
                                 } catch (Throwable t) {
                                     context.failed(new StartException(t));
@@ -203,6 +208,15 @@ public class PhaseOnePersistenceUnitServiceImpl implements Service<PhaseOnePersi
         return entityManagerFactoryBuilder;
     }
 
+    /**
+     * Get the time spent in the first phase of bootstrapping the persistence unit
+     *
+     * @return the bootstrap time in milliseconds
+     */
+    public long getBootstrapTime() {
+        return bootstrapTime;
+    }
+
     public void setSecondPhaseStarted(boolean secondPhaseStarted) {
         this.secondPhaseStarted = secondPhaseStarted;
     }
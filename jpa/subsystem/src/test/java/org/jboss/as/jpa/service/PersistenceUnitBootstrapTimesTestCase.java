@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jpa.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+/**
+ * Tests the bootstrap times recorded per persistence unit by {@link PersistenceUnitBootstrapTimes}.
+ */
+public class PersistenceUnitBootstrapTimesTestCase {
+
+    @Test
+    public void test() {
+        PersistenceUnitBootstrapTimes times = new PersistenceUnitBootstrapTimes();
+        assertNull(times.get("app.ear/lib.jar#unit"));
+
+        // Each persistence unit has its own bootstrap time, even if units share a name across deployments
+        times.started("app.ear/lib.jar#unit", 120L);
+        times.started("other.war#unit", 40L);
+        assertEquals(Long.valueOf(120L), times.get("app.ear/lib.jar#unit"));
+        assertEquals(Long.valueOf(40L), times.get("other.war#unit"));
+
+        // A restarted persistence unit reports the time of its last bootstrap
+        times.stopped("app.ear/lib.jar#unit");
+        assertNull(times.get("app.ear/lib.jar#unit"));
+        assertEquals(Long.valueOf(40L), times.get("other.war#unit"));
+        times.started("app.ear/lib.jar#unit", 90L);
+        assertEquals(Long.valueOf(90L), times.get("app.ear/lib.jar#unit"));
+    }
+}
@@ -9,9 +9,12 @@ import static org.jboss.as.controller.SimpleAttributeDefinitionBuilder.create;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.dmr.ModelType.BOOLEAN;
+import static org.jboss.dmr.ModelType.INT;
 import static org.jboss.dmr.ModelType.LIST;
 import static org.jboss.dmr.ModelType.STRING;
 import static org.wildfly.extension.messaging.activemq.ActiveMQActivationService.rollbackOperationIfServerNotActive;
+import static org.wildfly.extension.messaging.activemq.CommonAttributes.CORE_ADDRESS;
+import static org.wildfly.extension.messaging.activemq.CommonAttributes.RUNTIME_QUEUE;
 import static org.wildfly.extension.messaging.activemq.ManagementUtil.reportListOfStrings;
 import static org.wildfly.extension.messaging.activemq.ManagementUtil.reportRoles;
 import static org.wildfly.extension.messaging.activemq.ManagementUtil.reportRolesAsJSON;
@@ -30,9 +33,11 @@ import org.jboss.as.controller.RunningMode;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringAllowedValuesValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.msc.service.ServiceController;
@@ -93,6 +98,7 @@ public class ActiveMQServerControlHandler extends AbstractRuntimeOnlyHandler {
     public static final String GET_ROLES_AS_JSON = "get-roles-as-json";
     public static final String GET_ADDRESS_SETTINGS_AS_JSON = "get-address-settings-as-json";
     public static final String FORCE_FAILOVER = "force-failover";
+    public static final String READ_RUNTIME_CHILDREN_NAMES = "read-runtime-children-names";
 
     public static final AttributeDefinition TRANSACTION_AS_BASE_64 = createNonEmptyStringAttribute("transaction-as-base-64");
     public static final AttributeDefinition ADDRESS_MATCH = createNonEmptyStringAttribute("address-match");
@@ -103,6 +109,22 @@ public class ActiveMQServerControlHandler extends AbstractRuntimeOnlyHandler {
             .setRequired(false)
             .setValidator(new StringLengthValidator(1, Integer.MAX_VALUE, true, false))
             .build();
+    public static final AttributeDefinition CHILD_TYPE = SimpleAttributeDefinitionBuilder.create(ModelDescriptionConstants.CHILD_TYPE, ModelType.STRING)
+            .setValidator(new StringAllowedValuesValidator(CORE_ADDRESS, RUNTIME_QUEUE))
+            .build();
+    public static final AttributeDefinition PREFIX = SimpleAttributeDefinitionBuilder.create("prefix", ModelType.STRING)
+            .setRequired(false)
+            .setValidator(new StringLengthValidator(1, Integer.MAX_VALUE, true, false))
+            .build();
+    public static final AttributeDefinition OFFSET = SimpleAttributeDefinitionBuilder.create("offset", INT)
+            .setRequired(false)
+            .setDefaultValue(ModelNode.ZERO)
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+    public static final AttributeDefinition COUNT = SimpleAttributeDefinitionBuilder.create("count", INT)
+            .setRequired(false)
+            .setValidator(new IntRangeValidator(1, true))
+            .build();
 
     private ActiveMQServerControlHandler() {
     }
@@ -126,6 +148,11 @@ public class ActiveMQServerControlHandler extends AbstractRuntimeOnlyHandler {
             return;
         }
 
+        if (READ_RUNTIME_CHILDREN_NAMES.equals(operationName)) {
+            handleReadRuntimeChildrenNames(context, operation);
+            return;
+        }
+
         if (rollbackOperationIfServerNotActive(context, operation)) {
             return;
         }
@@ -318,6 +345,12 @@ public class ActiveMQServerControlHandler extends AbstractRuntimeOnlyHandler {
         registry.registerOperationHandler(runtimeOnlyOperation(FORCE_FAILOVER, resolver)
                 .build(),
                 this);
+        registry.registerOperationHandler(runtimeReadOnlyOperation(READ_RUNTIME_CHILDREN_NAMES, resolver)
+                .setParameters(CHILD_TYPE, PREFIX, OFFSET, COUNT)
+                .setReplyType(LIST)
+                .setReplyValueType(STRING)
+                .build(),
+                this);
 
         registry.registerOperationHandler(runtimeReadOnlyOperation(GET_ROLES, resolver)
                 .setParameters(ADDRESS_MATCH)
@@ -371,6 +404,20 @@ public class ActiveMQServerControlHandler extends AbstractRuntimeOnlyHandler {
         }
     }
 
+    private void handleReadRuntimeChildrenNames(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String childType = CHILD_TYPE.resolveModelAttribute(context, operation).asString();
+        final String prefix = PREFIX.resolveModelAttribute(context, operation).asStringOrNull();
+        final int offset = OFFSET.resolveModelAttribute(context, operation).asInt();
+        final int count = COUNT.resolveModelAttribute(context, operation).asInt(Integer.MAX_VALUE);
+        final ModelNode result = context.getResult().setEmptyList();
+        final Resource resource = context.readResource(PathAddress.EMPTY_ADDRESS, false);
+        if (resource instanceof ActiveMQServerResource) {
+            for (String name : ((ActiveMQServerResource) resource).getChildrenNames(childType, prefix, offset, count)) {
+                result.add(name);
+            }
+        }
+    }
+
     private ActiveMQServerControl getServerControl(final OperationContext context, ModelNode operation) throws OperationFailedException {
         final ServiceName serviceName = MessagingServices.getActiveMQServiceName(PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR)));
         ServiceController<?> service = context.getServiceRegistry(false).getService(serviceName);
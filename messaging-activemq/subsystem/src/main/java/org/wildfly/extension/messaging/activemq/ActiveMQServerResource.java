@@ -11,10 +11,11 @@ import static org.wildfly.extension.messaging.activemq.CommonAttributes.RUNTIME_
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
-import org.apache.activemq.artemis.api.core.management.AddressControl;
-import org.apache.activemq.artemis.api.core.management.QueueControl;
 import org.apache.activemq.artemis.api.core.management.ResourceNames;
 import org.apache.activemq.artemis.core.server.ActiveMQServer;
 import org.apache.activemq.artemis.core.server.management.ManagementService;
@@ -28,12 +29,15 @@ import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
 
 /**
  * Resource representing a ActiveMQ server.
+ * The names of its runtime core address and queue children are maintained by a {@link RuntimeResourceIndex}.
  *
  * @author Brian Stansberry (c) 2011 Red Hat Inc.
  */
 public class ActiveMQServerResource implements Resource {
 
     private final Resource delegate;
+    // Shared by clones of this resource
+    private final AtomicReference<RuntimeResourceIndex> index;
     private volatile ServiceController<ActiveMQServer> activeMQServerServiceController;
 
     public ActiveMQServerResource() {
@@ -41,7 +45,12 @@ public class ActiveMQServerResource implements Resource {
     }
 
     public ActiveMQServerResource(final Resource delegate) {
+        this(delegate, new AtomicReference<>());
+    }
+
+    private ActiveMQServerResource(final Resource delegate, final AtomicReference<RuntimeResourceIndex> index) {
         this.delegate = delegate;
+        this.index = index;
     }
 
     public ServiceController<ActiveMQServer> getActiveMQServerServiceController() {
@@ -158,12 +167,29 @@ public class ActiveMQServerResource implements Resource {
         }
     }
 
+    /**
+     * Returns a page of the sorted names of the runtime children of the specified type.
+     * @param childType either {@link CommonAttributes#CORE_ADDRESS} or {@link CommonAttributes#RUNTIME_QUEUE}
+     * @param prefix if defined, only names starting with this prefix are returned
+     * @param offset the number of matching names to skip
+     * @param count the maximum number of names to return
+     * @return a page of child names
+     */
+    List<String> getChildrenNames(String childType, String prefix, int offset, int count) {
+        final RuntimeResourceIndex index = getIndex();
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        return RuntimeResourceIndex.page(CORE_ADDRESS.equals(childType) ? index.getAddresses() : index.getQueues(), prefix, offset, count);
+    }
+
     @Override
     public Set<ResourceEntry> getChildren(String childType) {
         if (CORE_ADDRESS.equals(childType)) {
-            Set<ResourceEntry> result = new HashSet<ResourceEntry>();
+            final ManagementService managementService = getManagementService();
+            Set<ResourceEntry> result = new LinkedHashSet<ResourceEntry>();
             for (String name : getCoreAddressNames()) {
-                result.add(new CoreAddressResource.CoreAddressResourceEntry(name, getManagementService()));
+                result.add(new CoreAddressResource.CoreAddressResourceEntry(name, managementService));
             }
             return result;
         } else if (RUNTIME_QUEUE.equals(childType)) {
@@ -216,7 +242,7 @@ public class ActiveMQServerResource implements Resource {
 
     @Override
     public Resource clone() {
-        ActiveMQServerResource clone = new ActiveMQServerResource(delegate.clone());
+        ActiveMQServerResource clone = new ActiveMQServerResource(delegate.clone(), index);
         clone.setActiveMQServerServiceController(activeMQServerServiceController);
         return clone;
     }
@@ -231,40 +257,52 @@ public class ActiveMQServerResource implements Resource {
         return managementService == null ? false : managementService.getResource(ResourceNames.QUEUE + name) != null;
     }
 
-    private Set<String> getCoreAddressNames() {
-        final ManagementService managementService = getManagementService();
-        if (managementService == null) {
-            return Collections.emptySet();
-        } else {
-            Set<String> result = new HashSet<String>();
-            for (Object obj : managementService.getResources(AddressControl.class)) {
-                AddressControl ac = AddressControl.class.cast(obj);
-                result.add(ac.getAddress());
-            }
-            return result;
-        }
+    private NavigableSet<String> getCoreAddressNames() {
+        final RuntimeResourceIndex index = getIndex();
+        return index == null ? Collections.emptyNavigableSet() : index.getAddresses();
     }
 
-    private Set<String> getCoreQueueNames() {
-        final ManagementService managementService = getManagementService();
-        if (managementService == null) {
-            return Collections.emptySet();
-        } else {
-            Set<String> result = new HashSet<String>();
-            for (Object obj : managementService.getResources(QueueControl.class)) {
-                QueueControl qc = QueueControl.class.cast(obj);
-                result.add(qc.getName());
+    private NavigableSet<String> getCoreQueueNames() {
+        final RuntimeResourceIndex index = getIndex();
+        return index == null ? Collections.emptyNavigableSet() : index.getQueues();
+    }
+
+    /**
+     * Returns the index of the runtime resources of the server, (re)creating it if the server was (re)started or activated since it was created.
+     */
+    private RuntimeResourceIndex getIndex() {
+        final ActiveMQServer server = getServer();
+        if (server == null) {
+            return null;
+        }
+        final ManagementService managementService = server.getManagementService();
+        final boolean active = server.isActive();
+        RuntimeResourceIndex current = index.get();
+        while (current == null || !current.isCurrent(managementService, active)) {
+            RuntimeResourceIndex newIndex = new RuntimeResourceIndex(managementService, active);
+            if (index.compareAndSet(current, newIndex)) {
+                if (current != null) {
+                    current.close();
+                }
+                return newIndex;
             }
-            return result;
+            newIndex.close();
+            current = index.get();
         }
+        return current;
     }
 
     private ManagementService getManagementService() {
+        final ActiveMQServer server = getServer();
+        return server == null ? null : server.getManagementService();
+    }
+
+    private ActiveMQServer getServer() {
         if (activeMQServerServiceController == null
                 || activeMQServerServiceController.getState() != ServiceController.State.UP) {
             return null;
         } else {
-            return activeMQServerServiceController.getValue().getManagementService();
+            return activeMQServerServiceController.getValue();
         }
     }
 }
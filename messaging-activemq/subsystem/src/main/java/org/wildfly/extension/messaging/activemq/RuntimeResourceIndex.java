@@ -0,0 +1,215 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.management.AddressControl;
+import org.apache.activemq.artemis.api.core.management.CoreNotificationType;
+import org.apache.activemq.artemis.api.core.management.ManagementHelper;
+import org.apache.activemq.artemis.api.core.management.NotificationType;
+import org.apache.activemq.artemis.api.core.management.QueueControl;
+import org.apache.activemq.artemis.core.postoffice.BindingType;
+import org.apache.activemq.artemis.core.server.management.ManagementService;
+import org.apache.activemq.artemis.core.server.management.Notification;
+import org.apache.activemq.artemis.core.server.management.NotificationListener;
+import org.apache.activemq.artemis.utils.collections.TypedProperties;
+import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
+
+/**
+ * Sorted index of the names of the core addresses and queues of an ActiveMQ server, used to expose them as runtime resources.
+ * The index is populated once from the management service of the server, and then maintained incrementally from the management
+ * notifications emitted as addresses and queues are added or removed, instead of iterating over every registered control
+ * on each management read.
+ * <p>
+ * Management notifications can be disabled, in which case the index would silently become stale. The index is therefore verified
+ * against a direct scan of the management service at most once per verification interval. If the index diverged while no notification
+ * was received, notifications are presumed to be disabled, and the names are read from a direct scan of the management service until
+ * a subsequent verification either receives notifications, or observes no further change.
+ */
+class RuntimeResourceIndex implements NotificationListener {
+
+    private static final long VERIFICATION_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+    private final ManagementService managementService;
+    private final boolean active;
+    private final long verificationInterval;
+    private final NavigableSet<String> addresses = new ConcurrentSkipListSet<>();
+    private final NavigableSet<String> queues = new ConcurrentSkipListSet<>();
+    private final AtomicLong verified;
+    private final AtomicLong notifications = new AtomicLong();
+    private volatile boolean scanning = false;
+
+    /**
+     * Creates an index of the resources of the specified management service.
+     * @param managementService the management service of a server
+     * @param active indicates whether the server is active. Notifications are not emitted while a server is not yet active.
+     */
+    RuntimeResourceIndex(ManagementService managementService, boolean active) {
+        this(managementService, active, VERIFICATION_INTERVAL);
+    }
+
+    RuntimeResourceIndex(ManagementService managementService, boolean active, long verificationInterval) {
+        this.managementService = managementService;
+        this.active = active;
+        this.verificationInterval = verificationInterval;
+        // Register listener before populating the index, so that no change is missed
+        managementService.addNotificationListener(this);
+        this.addresses.addAll(this.scanAddresses());
+        this.queues.addAll(this.scanQueues());
+        this.verified = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Indicates whether this index reflects the specified management service.
+     * An index created while its server was not yet active must be recreated once the server is active.
+     */
+    boolean isCurrent(ManagementService managementService, boolean active) {
+        return (this.managementService == managementService) && (this.active || !active);
+    }
+
+    void close() {
+        this.managementService.removeNotificationListener(this);
+    }
+
+    /**
+     * Returns a read-only, sorted view of the names of the core addresses of the server.
+     */
+    NavigableSet<String> getAddresses() {
+        this.verify();
+        return Collections.unmodifiableNavigableSet(this.scanning ? this.scanAddresses() : this.addresses);
+    }
+
+    /**
+     * Returns a read-only, sorted view of the names of the core queues of the server.
+     */
+    NavigableSet<String> getQueues() {
+        this.verify();
+        return Collections.unmodifiableNavigableSet(this.scanning ? this.scanQueues() : this.queues);
+    }
+
+    /**
+     * Indicates whether names are read from a direct scan of the management service, since management notifications appear to be disabled.
+     */
+    boolean isScanning() {
+        return this.scanning;
+    }
+
+    private void verify() {
+        long now = System.nanoTime();
+        long verified = this.verified.get();
+        // Only a single thread verifies the index per interval
+        if ((now - verified < this.verificationInterval) || !this.verified.compareAndSet(verified, now)) return;
+        long notifications = this.notifications.getAndSet(0L);
+        NavigableSet<String> addresses = this.scanAddresses();
+        NavigableSet<String> queues = this.scanQueues();
+        boolean diverged = !addresses.equals(this.addresses) || !queues.equals(this.queues);
+        if (diverged) {
+            // Divergence may also be caused by changes whose notifications are not yet received
+            reconcile(this.addresses, addresses);
+            reconcile(this.queues, queues);
+        }
+        boolean scanning = diverged && (notifications == 0L);
+        if (scanning != this.scanning) {
+            MessagingLogger.ROOT_LOGGER.debug(scanning ? "Runtime resources changed without management notifications, core addresses and queues will be read from the management service" : "Core addresses and queues will be read from the index of runtime resources");
+            this.scanning = scanning;
+        }
+    }
+
+    private NavigableSet<String> scanAddresses() {
+        NavigableSet<String> addresses = new TreeSet<>();
+        for (Object control : this.managementService.getResources(AddressControl.class)) {
+            addresses.add(AddressControl.class.cast(control).getAddress());
+        }
+        return addresses;
+    }
+
+    private NavigableSet<String> scanQueues() {
+        NavigableSet<String> queues = new TreeSet<>();
+        for (Object control : this.managementService.getResources(QueueControl.class)) {
+            queues.add(QueueControl.class.cast(control).getName());
+        }
+        return queues;
+    }
+
+    private static void reconcile(NavigableSet<String> index, NavigableSet<String> names) {
+        index.retainAll(names);
+        index.addAll(names);
+    }
+
+    @Override
+    public void onNotification(Notification notification) {
+        NotificationType type = notification.getType();
+        TypedProperties properties = notification.getProperties();
+        if (!(type instanceof CoreNotificationType) || (properties == null)) return;
+        this.notifications.incrementAndGet();
+        switch ((CoreNotificationType) type) {
+            case ADDRESS_ADDED:
+                update(this.addresses, properties.getSimpleStringProperty(ManagementHelper.HDR_ADDRESS), true);
+                break;
+            case ADDRESS_REMOVED:
+                update(this.addresses, properties.getSimpleStringProperty(ManagementHelper.HDR_ADDRESS), false);
+                break;
+            case BINDING_ADDED:
+                if (isLocalQueue(properties)) {
+                    update(this.queues, properties.getSimpleStringProperty(ManagementHelper.HDR_ROUTING_NAME), true);
+                }
+                break;
+            case BINDING_REMOVED:
+                if (isLocalQueue(properties)) {
+                    update(this.queues, properties.getSimpleStringProperty(ManagementHelper.HDR_ROUTING_NAME), false);
+                }
+                break;
+            default:
+                // Ignore
+        }
+    }
+
+    /**
+     * Returns a page of the specified sorted names.
+     * @param names a sorted set of names
+     * @param prefix if defined, only names starting with this prefix are returned
+     * @param offset the number of matching names to skip
+     * @param count the maximum number of names to return
+     * @return a page of names
+     */
+    static List<String> page(NavigableSet<String> names, String prefix, int offset, int count) {
+        NavigableSet<String> matches = (prefix != null) ? names.subSet(prefix, true, prefix + Character.MAX_VALUE, false) : names;
+        List<String> result = new ArrayList<>(Math.min(count, 128));
+        Iterator<String> iterator = matches.iterator();
+        for (int i = 0; (i < offset) && iterator.hasNext(); ++i) {
+            iterator.next();
+        }
+        while ((result.size() < count) && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    private static boolean isLocalQueue(TypedProperties properties) {
+        // Bindings also include remote queues of a cluster and diverts, neither of which are exposed as runtime queues
+        return properties.containsProperty(ManagementHelper.HDR_BINDING_TYPE) && (properties.getIntProperty(ManagementHelper.HDR_BINDING_TYPE) == BindingType.LOCAL_QUEUE.toInt());
+    }
+
+    private static void update(NavigableSet<String> names, SimpleString name, boolean add) {
+        if (name != null) {
+            if (add) {
+                names.add(name.toString());
+            } else {
+                names.remove(name.toString());
+            }
+        }
+    }
+}
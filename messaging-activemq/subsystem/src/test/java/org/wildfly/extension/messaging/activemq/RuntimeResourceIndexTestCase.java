@@ -0,0 +1,209 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.activemq.artemis.api.core.SimpleString;
+import org.apache.activemq.artemis.api.core.management.AddressControl;
+import org.apache.activemq.artemis.api.core.management.CoreNotificationType;
+import org.apache.activemq.artemis.api.core.management.ManagementHelper;
+import org.apache.activemq.artemis.api.core.management.QueueControl;
+import org.apache.activemq.artemis.core.postoffice.BindingType;
+import org.apache.activemq.artemis.core.server.management.ManagementService;
+import org.apache.activemq.artemis.core.server.management.Notification;
+import org.apache.activemq.artemis.core.server.management.NotificationListener;
+import org.apache.activemq.artemis.utils.collections.TypedProperties;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RuntimeResourceIndexTestCase {
+
+    @Test
+    public void testNotifications() {
+        Broker broker = new Broker(true);
+        broker.addAddress("jms.queue.a");
+        broker.addQueue("jms.queue.a", "a");
+        RuntimeResourceIndex index = new RuntimeResourceIndex(broker.managementService, true, Long.MAX_VALUE);
+        verify(broker.managementService).addNotificationListener(same(index));
+        broker.listener = index;
+        broker.assertIndex(index);
+
+        broker.addAddress("jms.topic.b");
+        broker.addQueue("jms.topic.b", "b1");
+        broker.addQueue("jms.topic.b", "b2");
+        broker.addAddress("c");
+        broker.assertIndex(index);
+
+        // Remote queues of a cluster and diverts are bindings, but not runtime queues
+        broker.send(CoreNotificationType.BINDING_ADDED, ManagementHelper.HDR_ROUTING_NAME, "remote", BindingType.REMOTE_QUEUE);
+        broker.send(CoreNotificationType.BINDING_ADDED, ManagementHelper.HDR_ROUTING_NAME, "divert", BindingType.DIVERT);
+        broker.assertIndex(index);
+
+        broker.removeQueue("jms.topic.b", "b1");
+        broker.removeAddress("c");
+        broker.assertIndex(index);
+        Assert.assertFalse(index.isScanning());
+
+        index.close();
+        verify(broker.managementService).removeNotificationListener(same(index));
+    }
+
+    @Test
+    public void testNotificationsDisabled() {
+        Broker broker = new Broker(false);
+        broker.addAddress("jms.queue.a");
+        broker.addQueue("jms.queue.a", "a");
+        RuntimeResourceIndex index = new RuntimeResourceIndex(broker.managementService, true, 0L);
+        broker.listener = index;
+        broker.assertIndex(index);
+        Assert.assertFalse(index.isScanning());
+
+        // Changes are not notified, so the index falls back to a direct scan of the management service
+        broker.addAddress("jms.topic.b");
+        broker.addQueue("jms.topic.b", "b");
+        Assert.assertEquals(new ArrayList<>(broker.getAddressNames()), new ArrayList<>(index.getAddresses()));
+        Assert.assertTrue(index.isScanning());
+
+        // Once a verification observes no further change, names are read from the reconciled index again
+        Assert.assertEquals(new ArrayList<>(broker.getLocalQueueBindings()), new ArrayList<>(index.getQueues()));
+        Assert.assertFalse(index.isScanning());
+
+        broker.removeQueue("jms.queue.a", "a");
+        broker.removeAddress("jms.queue.a");
+        broker.assertIndex(index);
+        Assert.assertFalse(index.isScanning());
+    }
+
+    @Test
+    public void testNotificationsReenabled() {
+        Broker broker = new Broker(false);
+        RuntimeResourceIndex index = new RuntimeResourceIndex(broker.managementService, true, 0L);
+        broker.listener = index;
+        broker.addAddress("a");
+        Assert.assertEquals(new ArrayList<>(broker.getAddressNames()), new ArrayList<>(index.getAddresses()));
+        Assert.assertTrue(index.isScanning());
+
+        // A divergence observed while notifications are received again is reconciled, and names are read from the index
+        broker.notifications = true;
+        broker.bindings.put("b", new TreeSet<>());
+        broker.addAddress("c");
+        Assert.assertEquals(new ArrayList<>(broker.getAddressNames()), new ArrayList<>(index.getAddresses()));
+        Assert.assertFalse(index.isScanning());
+
+        broker.addQueue("c", "c");
+        broker.assertIndex(index);
+        Assert.assertFalse(index.isScanning());
+    }
+
+    @Test
+    public void testReconcile() {
+        Broker broker = new Broker(true);
+        RuntimeResourceIndex index = new RuntimeResourceIndex(broker.managementService, true, 0L);
+        broker.listener = index;
+        broker.addAddress("a");
+
+        // A change whose notification is not yet received does not disable the index
+        broker.notifications = false;
+        broker.addAddress("b");
+        broker.assertIndex(index);
+        Assert.assertFalse(index.isScanning());
+    }
+
+    @Test
+    public void testPage() {
+        NavigableSet<String> names = new TreeSet<>(List.of("jms.queue.a", "jms.queue.b", "jms.queue.c", "jms.topic.a", "x"));
+        Assert.assertEquals(List.of("jms.queue.a", "jms.queue.b"), RuntimeResourceIndex.page(names, null, 0, 2));
+        Assert.assertEquals(List.of("jms.queue.c", "jms.topic.a", "x"), RuntimeResourceIndex.page(names, null, 2, 10));
+        Assert.assertEquals(List.of("jms.queue.b", "jms.queue.c"), RuntimeResourceIndex.page(names, "jms.queue.", 1, 10));
+        Assert.assertEquals(List.of(), RuntimeResourceIndex.page(names, "jms.queue.", 3, 10));
+        Assert.assertEquals(List.of(), RuntimeResourceIndex.page(names, "y", 0, 10));
+    }
+
+    /**
+     * Emulates the addresses and local queue bindings of a server, along with the controls and notifications of its management service.
+     */
+    private static class Broker {
+        final ManagementService managementService = mock(ManagementService.class);
+        final Map<String, NavigableSet<String>> bindings = new TreeMap<>();
+        boolean notifications;
+        NotificationListener listener;
+
+        Broker(boolean notifications) {
+            this.notifications = notifications;
+            when(this.managementService.getResources(AddressControl.class)).then(invocation -> this.bindings.keySet().stream().map(Broker::addressControl).toArray());
+            when(this.managementService.getResources(QueueControl.class)).then(invocation -> this.bindings.values().stream().flatMap(NavigableSet::stream).map(Broker::queueControl).toArray());
+        }
+
+        private static AddressControl addressControl(String address) {
+            AddressControl control = mock(AddressControl.class);
+            when(control.getAddress()).thenReturn(address);
+            return control;
+        }
+
+        private static QueueControl queueControl(String name) {
+            QueueControl control = mock(QueueControl.class);
+            when(control.getName()).thenReturn(name);
+            return control;
+        }
+
+        // Equivalent of ActiveMQServerControl.getAddressNames()
+        NavigableSet<String> getAddressNames() {
+            return new TreeSet<>(this.bindings.keySet());
+        }
+
+        NavigableSet<String> getLocalQueueBindings() {
+            NavigableSet<String> queues = new TreeSet<>();
+            this.bindings.values().forEach(queues::addAll);
+            return queues;
+        }
+
+        void assertIndex(RuntimeResourceIndex index) {
+            Assert.assertEquals(new ArrayList<>(this.getAddressNames()), new ArrayList<>(index.getAddresses()));
+            Assert.assertEquals(new ArrayList<>(this.getLocalQueueBindings()), new ArrayList<>(index.getQueues()));
+        }
+
+        void addAddress(String address) {
+            this.bindings.put(address, new TreeSet<>());
+            this.send(CoreNotificationType.ADDRESS_ADDED, ManagementHelper.HDR_ADDRESS, address, null);
+        }
+
+        void removeAddress(String address) {
+            this.bindings.remove(address);
+            this.send(CoreNotificationType.ADDRESS_REMOVED, ManagementHelper.HDR_ADDRESS, address, null);
+        }
+
+        void addQueue(String address, String queue) {
+            this.bindings.get(address).add(queue);
+            this.send(CoreNotificationType.BINDING_ADDED, ManagementHelper.HDR_ROUTING_NAME, queue, BindingType.LOCAL_QUEUE);
+        }
+
+        void removeQueue(String address, String queue) {
+            this.bindings.get(address).remove(queue);
+            this.send(CoreNotificationType.BINDING_REMOVED, ManagementHelper.HDR_ROUTING_NAME, queue, BindingType.LOCAL_QUEUE);
+        }
+
+        void send(CoreNotificationType type, SimpleString header, String name, BindingType bindingType) {
+            if (!this.notifications || (this.listener == null)) return;
+            TypedProperties properties = new TypedProperties();
+            properties.putSimpleStringProperty(header, SimpleString.toSimpleString(name));
+            if (bindingType != null) {
+                properties.putIntProperty(ManagementHelper.HDR_BINDING_TYPE, bindingType.toInt());
+            }
+            this.listener.onNotification(new Notification(null, type, properties));
+        }
+    }
+}
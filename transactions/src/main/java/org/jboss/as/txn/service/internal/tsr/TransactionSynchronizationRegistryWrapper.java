@@ -36,8 +36,21 @@ import org.wildfly.transaction.client.ContextTransactionSynchronizationRegistry;
 public class TransactionSynchronizationRegistryWrapper implements TransactionSynchronizationRegistry {
 
     private final Object key = new Object();
+    // Guards the lazy installation of the JCAOrderedLastSynchronizationList of a transaction.
+    // Striped by transaction key, so that registrations within unrelated transactions do not contend on a single monitor.
+    private final Object[] locks;
 
     public TransactionSynchronizationRegistryWrapper() {
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 4) - 1) << 1;
+        this.locks = new Object[stripes];
+        for (int i = 0; i < stripes; ++i) {
+            this.locks[i] = new Object();
+        }
+    }
+
+    private Object getLock(Object transactionKey) {
+        int hash = transactionKey.hashCode();
+        return this.locks[(hash ^ (hash >>> 16)) & (this.locks.length - 1)];
     }
 
     @Override
@@ -51,7 +64,7 @@ public class TransactionSynchronizationRegistryWrapper implements TransactionSyn
             JCAOrderedLastSynchronizationList jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
             if (jcaOrderedLastSynchronization == null) {
                 final ContextTransactionSynchronizationRegistry tsr = ContextTransactionSynchronizationRegistry.getInstance();
-                synchronized (key) {
+                synchronized (this.getLock(tsr.getTransactionKey())) {
                     jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
                     if (jcaOrderedLastSynchronization == null) {
                         jcaOrderedLastSynchronization = new JCAOrderedLastSynchronizationList();
@@ -0,0 +1,97 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.txn.service.internal.tsr;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionManager;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+
+import com.arjuna.ats.arjuna.common.arjPropertyManager;
+import com.arjuna.ats.internal.jta.transaction.arjunacore.jca.XATerminatorImple;
+import com.arjuna.ats.jta.common.jtaPropertyManager;
+import org.jboss.tm.XAResourceRecovery;
+import org.jboss.tm.XAResourceRecoveryRegistry;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.wildfly.transaction.client.ContextTransactionManager;
+import org.wildfly.transaction.client.LocalTransactionContext;
+import org.wildfly.transaction.client.provider.jboss.JBossLocalTransactionProvider;
+
+/**
+ * Tests the registration of interposed synchronizations of concurrent transactions via {@link TransactionSynchronizationRegistryWrapper}.
+ */
+public class TransactionSynchronizationRegistryWrapperTestCase {
+
+    @BeforeClass
+    public static void init() {
+        jtaPropertyManager.getJTAEnvironmentBean().setTransactionManagerClassName("com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionManagerImple");
+        arjPropertyManager.getObjectStoreEnvironmentBean().setObjectStoreDir(System.getProperty("ObjectStoreEnvironmentBean.objectStoreDir"));
+        final JBossLocalTransactionProvider.Builder builder = JBossLocalTransactionProvider.builder();
+        builder.setTransactionManager(com.arjuna.ats.jta.TransactionManager.transactionManager());
+        builder.setExtendedJBossXATerminator(new XATerminatorImple());
+        builder.setXAResourceRecoveryRegistry(new XAResourceRecoveryRegistry() {
+            @Override
+            public void addXAResourceRecovery(XAResourceRecovery xaResourceRecovery) {}
+
+            @Override public void removeXAResourceRecovery(XAResourceRecovery xaResourceRecovery) {}
+        });
+        LocalTransactionContext.getContextManager().setGlobalDefault(new LocalTransactionContext(
+            builder.build()
+        ));
+    }
+
+    @Test
+    public void concurrentTransactions() throws Exception {
+        final TransactionSynchronizationRegistry tsr = new TransactionSynchronizationRegistryWrapper();
+        final TransactionManager transactionManager = ContextTransactionManager.getInstance();
+        final int threads = 16;
+        final int transactions = 200;
+        final AtomicInteger beforeCompletions = new AtomicInteger();
+        final AtomicInteger afterCompletions = new AtomicInteger();
+        final Synchronization sync = new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                beforeCompletions.incrementAndGet();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                afterCompletions.incrementAndGet();
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; ++i) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < transactions; ++j) {
+                        transactionManager.begin();
+                        tsr.registerInterposedSynchronization(sync);
+                        tsr.registerInterposedSynchronization(sync);
+                        transactionManager.commit();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(threads * transactions * 2, beforeCompletions.get());
+        assertEquals(threads * transactions * 2, afterCompletions.get());
+    }
+}
@@ -7,7 +7,10 @@ package org.wildfly.extension.undertow;
 import java.util.Collection;
 import java.util.List;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PersistentResourceDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
@@ -19,9 +22,12 @@ import org.jboss.as.controller.access.management.SensitiveTargetAccessConstraint
 import org.jboss.as.controller.capability.DynamicNameMappers;
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.ValueExpression;
+import org.jboss.msc.service.ServiceController;
 
 /**
  * @author Tomaz Cerar (c) 2013 Red Hat Inc.
@@ -95,6 +101,12 @@ class AccessLogDefinition extends PersistentResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    static final AttributeDefinition DROPPED_RECORDS = new SimpleAttributeDefinitionBuilder("dropped-records", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
+
     static final Collection<AttributeDefinition> ATTRIBUTES = List.of(
             // IMPORTANT -- keep these in xsd order as this order controls marshalling
             WORKER,
@@ -125,6 +137,26 @@ class AccessLogDefinition extends PersistentResourceDefinition {
         return accessConstraints;
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        // Only the asynchronous access log drops records
+        if (AsyncAccessLogWriter.isEnabled()) {
+            resourceRegistration.registerMetric(DROPPED_RECORDS, new AbstractRuntimeOnlyHandler() {
+                @Override
+                protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+                    PathAddress hostAddress = context.getCurrentAddress().getParent();
+                    String serverName = hostAddress.getParent().getLastElement().getValue();
+                    String hostName = hostAddress.getLastElement().getValue();
+                    ServiceController<?> controller = context.getServiceRegistry(false).getService(UndertowService.accessLogServiceName(serverName, hostName));
+                    if (controller != null && controller.getState() == ServiceController.State.UP) {
+                        context.getResult().set(((AccessLogService) controller.getService()).getDroppedRecordCount());
+                    }
+                }
+            });
+        }
+    }
+
     @Override
     public Collection<AttributeDefinition> getAttributes() {
         //noinspection unchecked
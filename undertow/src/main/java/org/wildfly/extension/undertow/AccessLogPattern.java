@@ -0,0 +1,139 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.undertow.attribute.ExchangeAttribute;
+import io.undertow.attribute.ExchangeAttributeParser;
+import io.undertow.attribute.ExchangeAttributeWrapper;
+import io.undertow.attribute.ExchangeAttributes;
+import io.undertow.attribute.SubstituteEmptyWrapper;
+
+/**
+ * An access log pattern split into its literal text and its exchange attributes, so that the attribute values of an
+ * exchange can be captured separately from the formatting of the log record.
+ */
+class AccessLogPattern {
+
+    private static final Map<String, String> COMMON_PATTERNS = Map.of(
+            "common", "%h %l %u %t \"%r\" %s %b",
+            "combined", "%h %l %u %t \"%r\" %s %b \"%{i,Referer}\" \"%{i,User-Agent}\"",
+            "commonobf", "%o %l %u %t \"%r\" %s %b",
+            "combinedobf", "%o %l %u %t \"%r\" %s %b \"%{i,Referer}\" \"%{i,User-Agent}\"");
+
+    // Keys of the structured output, consistent with those of the console-access-log
+    private static final Map<String, String> KEYS = Map.ofEntries(
+            Map.entry("%a", "remoteIp"),
+            Map.entry("%A", "localIp"),
+            Map.entry("%b", "bytesSent"),
+            Map.entry("%B", "bytesSent"),
+            Map.entry("%D", "responseTime"),
+            Map.entry("%h", "remoteHost"),
+            Map.entry("%H", "requestProtocol"),
+            Map.entry("%I", "threadName"),
+            Map.entry("%l", "remoteLogicalUser"),
+            Map.entry("%m", "requestMethod"),
+            Map.entry("%o", "remoteIp"),
+            Map.entry("%p", "localPort"),
+            Map.entry("%q", "queryString"),
+            Map.entry("%r", "requestLine"),
+            Map.entry("%s", "responseCode"),
+            Map.entry("%t", "dateTime"),
+            Map.entry("%T", "responseTime"),
+            Map.entry("%u", "remoteUser"),
+            Map.entry("%U", "requestPath"),
+            Map.entry("%v", "localServerName"));
+
+    private final String[] literals;
+    private final ExchangeAttribute[] attributes;
+    private final String[] keys;
+
+    private AccessLogPattern(List<String> literals, List<ExchangeAttribute> attributes, List<String> keys) {
+        this.literals = literals.toArray(new String[0]);
+        this.attributes = attributes.toArray(new ExchangeAttribute[0]);
+        this.keys = keys.toArray(new String[0]);
+    }
+
+    /**
+     * Parses the specified access log pattern.
+     *
+     * @param pattern an access log pattern, or the name of a common pattern
+     * @param loader the class loader used to locate exchange attribute builders
+     * @return the parsed pattern
+     */
+    static AccessLogPattern parse(String pattern, ClassLoader loader) {
+        String format = COMMON_PATTERNS.getOrDefault(pattern, pattern);
+        ExchangeAttributeParser parser = ExchangeAttributes.parser(loader);
+        ExchangeAttributeWrapper wrapper = new SubstituteEmptyWrapper("-");
+        List<String> literals = new ArrayList<>();
+        List<ExchangeAttribute> attributes = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < format.length()) {
+            char c = format.charAt(i);
+            char next = (i + 1 < format.length()) ? format.charAt(i + 1) : 0;
+            if ((c == '%' || c == '$') && next == c) {
+                literal.append(c);
+                i += 2;
+            } else if ((c == '%' || c == '$') && next == '{') {
+                int end = format.indexOf('}', i + 2);
+                if (end < 0) {
+                    throw new IllegalArgumentException(format);
+                }
+                String token = format.substring(i, end + 1);
+                literals.add(literal.toString());
+                literal.setLength(0);
+                attributes.add(wrapper.wrap(parser.parseSingleToken(token)));
+                keys.add(key(token));
+                i = end + 1;
+            } else if (c == '%' && next != 0) {
+                String token = format.substring(i, i + 2);
+                literals.add(literal.toString());
+                literal.setLength(0);
+                attributes.add(wrapper.wrap(parser.parseSingleToken(token)));
+                keys.add(key(token));
+                i += 2;
+            } else {
+                literal.append(c);
+                i += 1;
+            }
+        }
+        literals.add(literal.toString());
+        return new AccessLogPattern(literals, attributes, keys);
+    }
+
+    private static String key(String token) {
+        String key = KEYS.get(token);
+        if (key != null) return key;
+        if (token.indexOf('{') < 0) return token.substring(1);
+        // e.g. %{i,User-Agent} or %{DATE_TIME}
+        String content = token.substring(token.indexOf('{') + 1, token.length() - 1);
+        int index = content.indexOf(',');
+        return (index >= 0) ? content.substring(index + 1) : content;
+    }
+
+    /**
+     * Returns the literal text surrounding the attributes of this pattern, i.e. one more element than the attributes.
+     */
+    String[] getLiterals() {
+        return this.literals;
+    }
+
+    ExchangeAttribute[] getAttributes() {
+        return this.attributes;
+    }
+
+    /**
+     * Returns the keys of the attributes of this pattern within structured output.
+     */
+    String[] getKeys() {
+        return this.keys;
+    }
+}
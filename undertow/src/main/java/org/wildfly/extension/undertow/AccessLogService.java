@@ -49,6 +49,7 @@ final class AccessLogService implements Service<AccessLogService> {
     private final boolean extended;
     private final Predicate predicate;
     private volatile AccessLogReceiver logReceiver;
+    private volatile AsyncAccessLogWriter asyncWriter;
 
     private PathManager.Callback.Handle callbackHandle;
     private Path directory;
@@ -96,21 +97,31 @@ final class AccessLogService implements Service<AccessLogService> {
                     throw UndertowLogger.ROOT_LOGGER.couldNotCreateLogDirectory(directory, e);
                 }
             }
-            try {
-                DefaultAccessLogReceiver.Builder builder = DefaultAccessLogReceiver.builder().setLogWriteExecutor(worker.get())
-                        .setOutputDirectory(directory)
-                        .setLogBaseName(filePrefix)
-                        .setLogNameSuffix(fileSuffix)
-                        .setRotate(rotate);
-                if(extended) {
-                    builder.setLogFileHeaderGenerator(new ExtendedAccessLogParser.ExtendedAccessLogHeaderGenerator(pattern));
-                    extendedPattern = new ExtendedAccessLogParser(getClass().getClassLoader()).parse(pattern);
-                } else {
-                    extendedPattern = null;
+            if (!extended && AsyncAccessLogWriter.isEnabled()) {
+                asyncWriter = AsyncAccessLogWriter.create(AccessLogPattern.parse(pattern, getClass().getClassLoader()), directory, filePrefix, fileSuffix, rotate, worker.get());
+                try {
+                    asyncWriter.start();
+                } catch (IOException e) {
+                    asyncWriter = null;
+                    throw new StartException(e);
+                }
+            } else {
+                try {
+                    DefaultAccessLogReceiver.Builder builder = DefaultAccessLogReceiver.builder().setLogWriteExecutor(worker.get())
+                            .setOutputDirectory(directory)
+                            .setLogBaseName(filePrefix)
+                            .setLogNameSuffix(fileSuffix)
+                            .setRotate(rotate);
+                    if(extended) {
+                        builder.setLogFileHeaderGenerator(new ExtendedAccessLogParser.ExtendedAccessLogHeaderGenerator(pattern));
+                        extendedPattern = new ExtendedAccessLogParser(getClass().getClassLoader()).parse(pattern);
+                    } else {
+                        extendedPattern = null;
+                    }
+                    logReceiver = builder.build();
+                } catch (IllegalStateException e) {
+                    throw new StartException(e);
                 }
-                logReceiver = builder.build();
-            } catch (IllegalStateException e) {
-                throw new StartException(e);
             }
         }
         host.get().setAccessLogService(this);
@@ -129,9 +140,16 @@ final class AccessLogService implements Service<AccessLogService> {
             IoUtils.safeClose((DefaultAccessLogReceiver) logReceiver);
         }
         logReceiver = null;
+        if (asyncWriter != null) {
+            asyncWriter.close();
+            asyncWriter = null;
+        }
     }
 
-    protected AccessLogHandler configureAccessLogHandler(HttpHandler handler) {
+    protected HttpHandler configureAccessLogHandler(HttpHandler handler) {
+        if (asyncWriter != null) {
+            return new AsyncAccessLogHandler(handler, predicate, asyncWriter);
+        }
         if(extendedPattern != null) {
             return new AccessLogHandler(handler, logReceiver, pattern, extendedPattern, predicate);
         } else {
@@ -139,6 +157,14 @@ final class AccessLogService implements Service<AccessLogService> {
         }
     }
 
+    /**
+     * Returns the number of records dropped by the asynchronous access log, as it could not keep up with requests.
+     */
+    long getDroppedRecordCount() {
+        AsyncAccessLogWriter writer = asyncWriter;
+        return (writer != null) ? writer.getDroppedCount() : 0L;
+    }
+
     boolean isRotate() {
         return rotate;
     }
@@ -0,0 +1,51 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import io.undertow.attribute.ExchangeAttribute;
+import io.undertow.predicate.Predicate;
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+
+/**
+ * An HTTP handler that captures the attribute values of completed exchanges into the ring buffer of an
+ * {@link AsyncAccessLogWriter}, which formats and writes them on the worker of the subsystem.
+ */
+class AsyncAccessLogHandler implements HttpHandler {
+
+    private final HttpHandler next;
+    private final ExchangeCompletionListener exchangeCompletionListener = new AccessLogCompletionListener();
+    private final Predicate predicate;
+    private final ExchangeAttribute[] attributes;
+    private final AsyncAccessLogWriter writer;
+
+    AsyncAccessLogHandler(final HttpHandler next, final Predicate predicate, final AsyncAccessLogWriter writer) {
+        this.next = next;
+        this.predicate = predicate;
+        this.attributes = writer.getPattern().getAttributes();
+        this.writer = writer;
+    }
+
+    @Override
+    public void handleRequest(final HttpServerExchange exchange) throws Exception {
+        exchange.addExchangeCompleteListener(exchangeCompletionListener);
+        next.handleRequest(exchange);
+    }
+
+    private class AccessLogCompletionListener implements ExchangeCompletionListener {
+        @Override
+        public void exchangeEvent(final HttpServerExchange exchange, final NextListener nextListener) {
+            try {
+                if (predicate.resolve(exchange)) {
+                    writer.log(exchange, attributes);
+                }
+            } finally {
+                nextListener.proceed();
+            }
+        }
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.undertow.attribute.ExchangeAttribute;
+import io.undertow.server.HttpServerExchange;
+import org.wildfly.extension.undertow.logging.UndertowLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Writes access log records to a file, formatting them in batches on the executor of the subsystem.
+ * <p>
+ * Request threads only resolve the attribute values of an exchange, and store them into a preallocated slot of a ring
+ * buffer. A single drain task, scheduled on the executor whenever records are pending, formats the records, either as
+ * text according to the access log pattern or as JSON objects, and writes them through a {@link FileChannel}. Records
+ * logged while the task runs are written by the same task, so records are batched under load. Records are dropped, and
+ * counted, if the ring is full.
+ * <p>
+ * This writer is used instead of the default access log receiver if the {@link #ENABLED_PROPERTY} system property is
+ * set to {@code true}.
+ */
+class AsyncAccessLogWriter implements Runnable, Closeable {
+
+    static final String ENABLED_PROPERTY = "jboss.undertow.access-log.async";
+    /**
+     * Either {@code text}, the default, or {@code json}.
+     */
+    static final String FORMAT_PROPERTY = "jboss.undertow.access-log.async.format";
+    /**
+     * The number of records of the ring buffer, rounded up to a power of 2.
+     */
+    static final String RING_SIZE_PROPERTY = "jboss.undertow.access-log.async.ring-size";
+    /**
+     * Whether written records are forced to the storage device.
+     */
+    static final String SYNC_PROPERTY = "jboss.undertow.access-log.async.sync";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long DROP_REPORT_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+    private static final long CLOSE_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
+    private final AccessLogPattern pattern;
+    private final boolean json;
+    private final Path directory;
+    private final String logBaseName;
+    private final String logNameSuffix;
+    private final boolean rotate;
+    private final boolean sync;
+    private final Executor executor;
+
+    private final int mask;
+    private final String[][] slots;
+    private final AtomicLongArray published;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    // Whether the drain task is scheduled or running, remains set once the writer is closed
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final CountDownLatch closedLatch = new CountDownLatch(1);
+    private volatile boolean closed;
+
+    // Only accessed by the drain task
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final StringBuilder record = new StringBuilder(256);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private CharBuffer chars = CharBuffer.allocate(256);
+    private FileChannel channel;
+    private LocalDate date;
+    private long reportedDropped;
+    private long lastReport;
+
+    AsyncAccessLogWriter(AccessLogPattern pattern, boolean json, Path directory, String logBaseName, String logNameSuffix, boolean rotate, int ringSize, boolean sync, Executor executor) {
+        this.pattern = pattern;
+        this.json = json;
+        this.directory = directory;
+        this.logBaseName = logBaseName;
+        this.logNameSuffix = logNameSuffix;
+        this.rotate = rotate;
+        this.sync = sync;
+        this.executor = executor;
+        int capacity = Integer.highestOneBit(Math.max(2, ringSize) - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new String[capacity][pattern.getAttributes().length];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"));
+    }
+
+    /**
+     * Creates a writer configured via system properties, whose records are written by the specified executor.
+     */
+    static AsyncAccessLogWriter create(AccessLogPattern pattern, Path directory, String logBaseName, String logNameSuffix, boolean rotate, Executor executor) {
+        boolean json = "json".equalsIgnoreCase(WildFlySecurityManager.getPropertyPrivileged(FORMAT_PROPERTY, "text"));
+        int ringSize = Integer.parseInt(WildFlySecurityManager.getPropertyPrivileged(RING_SIZE_PROPERTY, "16384"));
+        boolean sync = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(SYNC_PROPERTY, "false"));
+        return new AsyncAccessLogWriter(pattern, json, directory, logBaseName, logNameSuffix, rotate, ringSize, sync, executor);
+    }
+
+    AccessLogPattern getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Opens the log file.
+     */
+    void start() throws IOException {
+        this.open(LocalDate.now());
+    }
+
+    /**
+     * Captures the values of the specified attributes of a completed exchange.
+     */
+    void log(HttpServerExchange exchange, ExchangeAttribute[] attributes) {
+        long capacity = this.mask + 1;
+        long sequence;
+        do {
+            sequence = this.tail.get();
+            if (this.closed || (sequence - this.head.get() >= capacity)) {
+                this.dropped.increment();
+                return;
+            }
+        } while (!this.tail.compareAndSet(sequence, sequence + 1));
+        int index = (int) sequence & this.mask;
+        String[] values = this.slots[index];
+        try {
+            for (int i = 0; i < attributes.length; ++i) {
+                values[i] = attributes[i].readAttribute(exchange);
+            }
+        } finally {
+            // Publish the slot even if an attribute failed, as the writer consumes slots in sequence.
+            // A volatile write, ordered before the read of the scheduled flag, so the drain task cannot miss the record
+            this.published.set(index, sequence + 1);
+        }
+        this.schedule();
+    }
+
+    /**
+     * Returns the number of records dropped as the ring buffer was full.
+     */
+    long getDroppedCount() {
+        return this.dropped.sum();
+    }
+
+    @Override
+    public void run() {
+        do {
+            try {
+                if (this.rotate) {
+                    LocalDate today = LocalDate.now();
+                    if (!today.equals(this.date)) {
+                        this.drain();
+                        this.flush();
+                        this.channel.close();
+                        this.open(today);
+                    }
+                }
+                this.drain();
+                this.flush();
+            } catch (IOException e) {
+                UndertowLogger.ROOT_LOGGER.failedToWriteAccessLog(this.directory, e);
+            }
+            this.reportDropped();
+            // Once closed, no slots are reserved, other than by requests that raced with close()
+            if (this.closed && (this.head.get() == this.tail.get())) {
+                try {
+                    this.channel.close();
+                } catch (IOException e) {
+                    UndertowLogger.ROOT_LOGGER.failedToWriteAccessLog(this.directory, e);
+                }
+                // Leave the scheduled flag set, so that the task never runs again
+                this.closedLatch.countDown();
+                return;
+            }
+            this.scheduled.set(false);
+            // Reschedule ourselves if records were published, or the writer was closed, since the last drain
+        } while ((this.closed || this.isPending()) && this.scheduled.compareAndSet(false, true));
+    }
+
+    private void schedule() {
+        // Read before attempting the update, so that request threads do not contend while the task is running
+        if (!this.scheduled.get() && this.scheduled.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                // The worker is shutting down, pending records are written by the next scheduled task, if any
+                this.scheduled.set(false);
+            }
+        }
+    }
+
+    private boolean isPending() {
+        long sequence = this.head.get();
+        return this.published.get((int) sequence & this.mask) == sequence + 1;
+    }
+
+    private void drain() throws IOException {
+        long sequence = this.head.get();
+        while (true) {
+            int index = (int) sequence & this.mask;
+            if (this.published.get(index) != sequence + 1) return;
+            String[] values = this.slots[index];
+            this.record.setLength(0);
+            if (this.json) {
+                this.formatJson(values);
+            } else {
+                this.formatText(values);
+            }
+            Arrays.fill(values, null);
+            this.head.lazySet(++sequence);
+            this.write();
+        }
+    }
+
+    private void formatText(String[] values) {
+        String[] literals = this.pattern.getLiterals();
+        for (int i = 0; i < values.length; ++i) {
+            this.record.append(literals[i]).append(values[i]);
+        }
+        this.record.append(literals[values.length]).append('\n');
+    }
+
+    private void formatJson(String[] values) {
+        String[] keys = this.pattern.getKeys();
+        this.record.append('{');
+        for (int i = 0; i < values.length; ++i) {
+            if (i > 0) {
+                this.record.append(',');
+            }
+            this.appendJsonString(keys[i]);
+            this.record.append(':');
+            if (values[i] == null) {
+                this.record.append("null");
+            } else {
+                this.appendJsonString(values[i]);
+            }
+        }
+        this.record.append("}\n");
+    }
+
+    private void appendJsonString(String value) {
+        this.record.append('"');
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    this.record.append("\\\"");
+                    break;
+                case '\\':
+                    this.record.append("\\\\");
+                    break;
+                case '\n':
+                    this.record.append("\\n");
+                    break;
+                case '\r':
+                    this.record.append("\\r");
+                    break;
+                case '\t':
+                    this.record.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        this.record.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        this.record.append(c);
+                    }
+            }
+        }
+        this.record.append('"');
+    }
+
+    /**
+     * Encodes the formatted record into the buffer, flushing the buffer whenever it is full.
+     */
+    private void write() throws IOException {
+        int length = this.record.length();
+        if (length > this.chars.capacity()) {
+            this.chars = CharBuffer.allocate(Integer.highestOneBit(length) << 1);
+        }
+        this.chars.clear();
+        this.record.getChars(0, length, this.chars.array(), 0);
+        this.chars.limit(length);
+        while (this.encoder.encode(this.chars, this.buffer, true).isOverflow()) {
+            this.flush();
+        }
+        while (this.encoder.flush(this.buffer).isOverflow()) {
+            this.flush();
+        }
+        this.encoder.reset();
+    }
+
+    private void flush() throws IOException {
+        if (this.buffer.position() == 0) return;
+        this.buffer.flip();
+        try {
+            while (this.buffer.hasRemaining()) {
+                this.channel.write(this.buffer);
+            }
+            if (this.sync) {
+                this.channel.force(false);
+            }
+        } finally {
+            this.buffer.clear();
+        }
+    }
+
+    private void open(LocalDate today) throws IOException {
+        Path file = this.directory.resolve(this.logBaseName + this.logNameSuffix);
+        if (this.rotate && Files.exists(file)) {
+            LocalDate modified = LocalDate.ofInstant(Instant.ofEpochMilli(Files.getLastModifiedTime(file).toMillis()), ZoneId.systemDefault());
+            if (!modified.equals(today)) {
+                // Use the same naming as the default access log receiver
+                Path target = this.directory.resolve(this.logBaseName + modified + "." + this.logNameSuffix);
+                for (int count = 1; Files.exists(target); ++count) {
+                    target = this.directory.resolve(this.logBaseName + modified + "-" + count + "." + this.logNameSuffix);
+                }
+                Files.move(file, target);
+            }
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.date = today;
+    }
+
+    private void reportDropped() {
+        long dropped = this.dropped.sum();
+        if (dropped > this.reportedDropped) {
+            long now = System.nanoTime();
+            if (this.lastReport == 0 || now - this.lastReport >= DROP_REPORT_INTERVAL) {
+                UndertowLogger.ROOT_LOGGER.droppedAccessLogRecords(dropped - this.reportedDropped, this.directory.resolve(this.logBaseName + this.logNameSuffix));
+                this.reportedDropped = dropped;
+                this.lastReport = now;
+            }
+        }
+    }
+
+    /**
+     * Stops accepting records, and waits for the drain task to write the captured records.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.schedule();
+        try {
+            this.closedLatch.await(CLOSE_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 
 import io.undertow.server.session.Session;
 import io.undertow.server.session.SessionManager;
@@ -36,12 +37,16 @@ import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.ee.requestcontroller.AdaptiveConcurrencyLimit;
+import org.jboss.as.ee.security.JaccDecisionCache;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.Property;
 import org.jboss.msc.service.ServiceController;
+import org.wildfly.extension.undertow.deployment.ConcurrencyLimitHandler;
 import org.wildfly.extension.undertow.deployment.UndertowDeploymentService;
 import org.wildfly.extension.undertow.logging.UndertowLogger;
+import org.wildfly.extension.undertow.security.jacc.JACCContextIdHandler;
 
 /**
  * @author Tomaz Cerar
@@ -124,6 +129,34 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
             .setReplyType(ModelType.LONG)
             .build();
 
+    static final AttributeDefinition CONCURRENCY_LIMIT = new SimpleAttributeDefinitionBuilder("concurrency-limit", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition IN_FLIGHT_REQUESTS = new SimpleAttributeDefinitionBuilder("in-flight-requests", ModelType.INT)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition REJECTED_REQUESTS = new SimpleAttributeDefinitionBuilder("rejected-requests", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition JACC_DECISION_CACHE_HITS = new SimpleAttributeDefinitionBuilder("jacc-decision-cache-hits", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
+
+    static final AttributeDefinition JACC_DECISION_CACHE_MISSES = new SimpleAttributeDefinitionBuilder("jacc-decision-cache-misses", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(COUNTER_METRIC)
+            .setStorageRuntime()
+            .build();
+
     DeploymentDefinition() {
         super(new Parameters(PathElement.pathElement(SUBSYSTEM, UndertowExtension.SUBSYSTEM_NAME), DEFAULT_RESOLVER)
                 .setFeature(false).setRuntime());
@@ -138,6 +171,15 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         for (SessionStat stat : SessionStat.values()) {
             resourceRegistration.registerMetric(stat.definition, SessionManagerStatsHandler.getInstance());
         }
+        if (AdaptiveConcurrencyLimit.isEnabled(AdaptiveConcurrencyLimit.WEB)) {
+            resourceRegistration.registerMetric(CONCURRENCY_LIMIT, new ConcurrencyLimitStatsHandler(AdaptiveConcurrencyLimit::getLimit));
+            resourceRegistration.registerMetric(IN_FLIGHT_REQUESTS, new ConcurrencyLimitStatsHandler(AdaptiveConcurrencyLimit::getInFlightCount));
+            resourceRegistration.registerMetric(REJECTED_REQUESTS, new ConcurrencyLimitStatsHandler(AdaptiveConcurrencyLimit::getRejectedCount));
+        }
+        if (JaccDecisionCache.isEnabled()) {
+            resourceRegistration.registerMetric(JACC_DECISION_CACHE_HITS, new JaccDecisionCacheStatsHandler(JaccDecisionCache::getHitCount));
+            resourceRegistration.registerMetric(JACC_DECISION_CACHE_MISSES, new JaccDecisionCacheStatsHandler(JaccDecisionCache::getMissCount));
+        }
     }
 
     @Override
@@ -354,6 +396,70 @@ public class DeploymentDefinition extends SimpleResourceDefinition {
         }
     }
 
+    static class ConcurrencyLimitStatsHandler extends AbstractRuntimeOnlyHandler {
+
+        private final ToLongFunction<AdaptiveConcurrencyLimit> metric;
+
+        ConcurrencyLimitStatsHandler(ToLongFunction<AdaptiveConcurrencyLimit> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
+            final ModelNode subModel = context.readResourceFromRoot(address, false).getModel();
+            final String host = VIRTUAL_HOST.resolveModelAttribute(context, subModel).asString();
+            final String path = CONTEXT_ROOT.resolveModelAttribute(context, subModel).asString();
+            final String server = SERVER.resolveModelAttribute(context, subModel).asString();
+
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(UndertowService.deploymentServiceName(server, host, path));
+            if (controller == null || controller.getState() != ServiceController.State.UP) {
+                return;
+            }
+            final UndertowDeploymentService deploymentService = (UndertowDeploymentService) controller.getService();
+            if (deploymentService == null || deploymentService.getDeployment() == null) {
+                return;
+            }
+            AdaptiveConcurrencyLimit limit = ConcurrencyLimitHandler.getLimit(deploymentService.getDeployment().getDeploymentInfo());
+            if (limit != null) {
+                context.getResult().set(this.metric.applyAsLong(limit));
+            }
+        }
+    }
+
+    static class JaccDecisionCacheStatsHandler extends AbstractRuntimeOnlyHandler {
+
+        private final ToLongFunction<JaccDecisionCache> metric;
+
+        JaccDecisionCacheStatsHandler(ToLongFunction<JaccDecisionCache> metric) {
+            this.metric = metric;
+        }
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
+            final ModelNode subModel = context.readResourceFromRoot(address, false).getModel();
+            final String host = VIRTUAL_HOST.resolveModelAttribute(context, subModel).asString();
+            final String path = CONTEXT_ROOT.resolveModelAttribute(context, subModel).asString();
+            final String server = SERVER.resolveModelAttribute(context, subModel).asString();
+
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(UndertowService.deploymentServiceName(server, host, path));
+            if (controller == null || controller.getState() != ServiceController.State.UP) {
+                return;
+            }
+            final UndertowDeploymentService deploymentService = (UndertowDeploymentService) controller.getService();
+            if (deploymentService == null || deploymentService.getDeployment() == null) {
+                return;
+            }
+            String contextId = JACCContextIdHandler.getContextId(deploymentService.getDeployment().getDeploymentInfo());
+            // The cache of a policy context only exists once a decision was cached
+            JaccDecisionCache cache = (contextId != null) ? JaccDecisionCache.getCache(contextId) : null;
+            if (cache != null) {
+                context.getResult().set(this.metric.applyAsLong(cache));
+            }
+        }
+    }
+
     private static SessionManager getSessionManager(OperationContext context, ModelNode operation) throws OperationFailedException {
         final PathAddress address = PathAddress.pathAddress(operation.get(ModelDescriptionConstants.OP_ADDR));
         final Resource web = context.readResourceFromRoot(address.subAddress(0, address.size()), false);
@@ -0,0 +1,101 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import org.jboss.as.ee.requestcontroller.AdaptiveConcurrencyLimit;
+
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HandlerWrapper;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.servlet.api.DeploymentInfo;
+import io.undertow.util.StatusCodes;
+
+/**
+ * Undertow handler that applies the {@link AdaptiveConcurrencyLimit} of a deployment, responding with a 503 to requests
+ * that exceed it.
+ * <p>
+ * Requests exceeding the limit are dispatched to a worker thread before they wait for a permit, so that IO threads are
+ * never blocked.
+ */
+public class ConcurrencyLimitHandler implements HttpHandler {
+
+    private final HttpHandler next;
+    private final AdaptiveConcurrencyLimit limit;
+
+    public ConcurrencyLimitHandler(HttpHandler next, AdaptiveConcurrencyLimit limit) {
+        this.next = next;
+        this.limit = limit;
+    }
+
+    @Override
+    public void handleRequest(final HttpServerExchange exchange) throws Exception {
+        if (!this.limit.tryAcquire()) {
+            if (this.limit.isQueueing() && exchange.isInIoThread()) {
+                exchange.dispatch(this);
+                return;
+            }
+            if (!this.limit.acquire()) {
+                exchange.setStatusCode(StatusCodes.SERVICE_UNAVAILABLE);
+                exchange.endExchange();
+                return;
+            }
+        }
+        final long start = System.nanoTime();
+        try {
+            this.next.handleRequest(exchange);
+        } finally {
+            if (exchange.isComplete() || !exchange.isDispatched()) {
+                this.limit.release(start);
+            } else {
+                exchange.addExchangeCompleteListener(new ExchangeCompletionListener() {
+                    @Override
+                    public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
+                        limit.release(start);
+                        nextListener.proceed();
+                    }
+                });
+            }
+        }
+    }
+
+    public HttpHandler getNext() {
+        return this.next;
+    }
+
+    /**
+     * Returns the adaptive limit applied to the requests of a deployment, without exposing it to the deployment itself.
+     *
+     * @param deploymentInfo a deployment
+     * @return the adaptive concurrency limit, or null, if none applies to the deployment
+     */
+    public static AdaptiveConcurrencyLimit getLimit(DeploymentInfo deploymentInfo) {
+        for (HandlerWrapper wrapper : deploymentInfo.getOuterHandlerChainWrappers()) {
+            if (wrapper instanceof Wrapper) {
+                return ((Wrapper) wrapper).limit;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Applies an adaptive limit to the handlers wrapped by another wrapper.
+     */
+    static class Wrapper implements HandlerWrapper {
+        private final HandlerWrapper wrapper;
+        private final AdaptiveConcurrencyLimit limit;
+
+        Wrapper(HandlerWrapper wrapper, AdaptiveConcurrencyLimit limit) {
+            this.wrapper = wrapper;
+            this.limit = limit;
+        }
+
+        @Override
+        public HttpHandler wrap(HttpHandler handler) {
+            return this.wrapper.wrap(new ConcurrencyLimitHandler(handler, this.limit));
+        }
+    }
+}
@@ -7,6 +7,7 @@ package org.wildfly.extension.undertow.deployment;
 
 import java.util.List;
 
+import org.jboss.as.ee.requestcontroller.AdaptiveConcurrencyLimit;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 import org.wildfly.extension.requestcontroller.RunResult;
 
@@ -80,6 +81,17 @@ public class GlobalRequestControllerHandler implements HttpHandler {
         return handler -> new GlobalRequestControllerHandler(handler, entryPoint, allowSuspendedRequests);
     }
 
+    /**
+     * Returns a wrapper that additionally applies the specified adaptive concurrency limit to requests admitted by the
+     * entry point.
+     */
+    public static HandlerWrapper wrapper(final ControlPoint entryPoint, List<Predicate> allowSuspendedRequests, AdaptiveConcurrencyLimit limit) {
+        if (limit == null) {
+            return wrapper(entryPoint, allowSuspendedRequests);
+        }
+        return new ConcurrencyLimitHandler.Wrapper(wrapper(entryPoint, allowSuspendedRequests), limit);
+    }
+
     public HttpHandler getNext() {
         return next;
     }
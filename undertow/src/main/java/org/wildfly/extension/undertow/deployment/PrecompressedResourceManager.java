@@ -0,0 +1,585 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.undertow.deployment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.GZIPOutputStream;
+
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.resource.RangeAwareResource;
+import io.undertow.server.handlers.resource.Resource;
+import io.undertow.server.handlers.resource.ResourceChangeEvent;
+import io.undertow.server.handlers.resource.ResourceChangeListener;
+import io.undertow.server.handlers.resource.ResourceManager;
+import io.undertow.util.AttachmentKey;
+import io.undertow.util.ETag;
+import io.undertow.util.ETagUtils;
+import io.undertow.util.HeaderMap;
+import io.undertow.util.HeaderValues;
+import io.undertow.util.Headers;
+import io.undertow.util.MimeMappings;
+import io.undertow.servlet.handlers.ServletRequestContext;
+import io.undertow.util.StatusCodes;
+import org.jboss.as.ee.logging.EeLogger;
+import org.wildfly.extension.undertow.logging.UndertowLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Resource manager that serves compressed variants of the compressible static resources of a deployment.
+ * <p>
+ * On first access of a compressible resource, its uncompressed content is served, and a task is submitted to the worker
+ * of the request that hashes the content to compute a strong entity tag, and computes its gzip variant, held in a direct
+ * buffer. Brotli and gzip variants that were precompressed at build time, i.e. sibling resources with a {@code .br} or
+ * {@code .gz} suffix, are loaded instead if present and not older than the resource. Subsequent requests are served the
+ * variant selected according to their {@code Accept-Encoding} header, which has its own strong entity tag and length,
+ * including {@code HEAD} requests and conditional requests. Range requests are always served the uncompressed content by
+ * the underlying resource manager.
+ * <p>
+ * The total size of the cached variants of a deployment is bounded: once exceeded, the least frequently used resources are
+ * evicted. Access frequencies are halved whenever the number of accesses since the last halving exceeds a multiple of the
+ * number of entries, so that resources that were popular in the past, but no longer are, become eligible for eviction.
+ * Entries are invalidated on change events of the underlying resource manager, i.e. for exploded deployments, and
+ * whenever the last modification time or length of a resource differs from the cached one.
+ */
+public class PrecompressedResourceManager implements ResourceManager {
+
+    /**
+     * System property specifying the maximum number of bytes of compressed variants cached per deployment.
+     * The cache is disabled unless positive.
+     */
+    static final String MAX_SIZE_PROPERTY = "jboss.undertow.static-content-cache.max-size";
+
+    private static final int MAX_ENTRY_SIZE = 1024 * 1024;
+    private static final int MIN_ENTRY_SIZE = 256;
+    private static final String GZIP = "gzip";
+    private static final String BROTLI = "br";
+    // Number of accesses per entry after which all access frequencies are halved
+    private static final int AGING_ACCESSES_PER_ENTRY = 10;
+
+    private final ResourceManager delegate;
+    private final long maxSize;
+    // Executes the computation of entries, or null to use the worker of the current request
+    private final Executor executor;
+    // Guarded by this
+    private final Map<String, Entry> entries = new HashMap<>();
+    // Guarded by this
+    private long size;
+    // Accesses since the last halving of access frequencies, guarded by this
+    private long accesses;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final ResourceChangeListener listener = this::invalidate;
+
+    PrecompressedResourceManager(ResourceManager delegate, long maxSize, Executor executor) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.executor = executor;
+        if (delegate.isResourceChangeListenerSupported()) {
+            delegate.registerResourceChangeListener(this.listener);
+        }
+    }
+
+    /**
+     * Decorates the specified resource manager of a deployment with a cache of compressed variants, if enabled.
+     *
+     * @param resourceManager the resource manager of a deployment
+     * @return a decorated resource manager, or the specified resource manager if the cache is disabled
+     */
+    static ResourceManager wrap(ResourceManager resourceManager) {
+        long maxSize = maxSize();
+        return (maxSize > 0) ? new PrecompressedResourceManager(resourceManager, maxSize, null) : resourceManager;
+    }
+
+    private static long maxSize() {
+        String value = WildFlySecurityManager.getPropertyPrivileged(MAX_SIZE_PROPERTY, null);
+        if (value != null) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                EeLogger.ROOT_LOGGER.invalidSystemPropertyValue(value, MAX_SIZE_PROPERTY);
+            }
+        }
+        return 0L;
+    }
+
+    @Override
+    public Resource getResource(String path) throws IOException {
+        Resource resource = this.delegate.getResource(path);
+        if (resource == null || resource.isDirectory() || !isCompressible(resource)) {
+            return resource;
+        }
+        Long length = resource.getContentLength();
+        if (length == null || length < MIN_ENTRY_SIZE || length > MAX_ENTRY_SIZE) {
+            return resource;
+        }
+        String key = key(resource.getPath());
+        Entry entry = this.get(key);
+        if (entry == null || !entry.matches(resource)) {
+            // Serve the uncompressed content until the entry was computed
+            this.submit(key, resource);
+            return resource;
+        }
+        return new PrecompressedResource(resource, entry);
+    }
+
+    private synchronized Entry get(String key) {
+        Entry entry = this.entries.get(key);
+        if (entry != null) {
+            entry.frequency += 1;
+            if (++this.accesses > (long) AGING_ACCESSES_PER_ENTRY * this.entries.size()) {
+                for (Entry value : this.entries.values()) {
+                    value.frequency >>>= 1;
+                }
+                this.accesses = 0;
+            }
+        }
+        return entry;
+    }
+
+    private void submit(String key, Resource resource) {
+        Executor executor = this.executor;
+        if (executor == null) {
+            HttpServerExchange exchange = currentExchange();
+            if (exchange == null) return;
+            executor = exchange.getConnection().getWorker();
+        }
+        // Compute each entry once, even if requested concurrently
+        if (!this.pending.add(key)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    Entry entry = this.createEntry(resource);
+                    if (entry != null && entry.size() <= this.maxSize) {
+                        this.put(key, entry);
+                    }
+                } catch (IOException e) {
+                    UndertowLogger.ROOT_LOGGER.debugf(e, "Failed to compress %s", resource.getPath());
+                } finally {
+                    this.pending.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.pending.remove(key);
+        }
+    }
+
+    static HttpServerExchange currentExchange() {
+        ServletRequestContext context = ServletRequestContext.current();
+        return (context != null) ? context.getExchange() : null;
+    }
+
+    private static boolean isCompressible(Resource resource) {
+        String contentType = resource.getContentType(MimeMappings.DEFAULT);
+        if (contentType == null) return false;
+        return contentType.startsWith("text/") || contentType.startsWith("application/javascript") || contentType.startsWith("application/json")
+                || contentType.startsWith("application/xml") || contentType.startsWith("image/svg+xml");
+    }
+
+    private static String key(String path) {
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    private Entry createEntry(Resource resource) throws IOException {
+        byte[] content = read(resource);
+        if (content == null) return null;
+        List<Variant> variants = new ArrayList<>(2);
+        ETag etag = new ETag(false, digest(content));
+        byte[] brotli = this.readPrecompressed(resource, BROTLI);
+        if (brotli != null) {
+            variants.add(new Variant(BROTLI, etag, brotli));
+        }
+        byte[] compressed = this.readPrecompressed(resource, "gz");
+        if (compressed == null) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 2);
+            try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+                gzipOutput.write(content);
+            }
+            compressed = output.toByteArray();
+        }
+        // Not worth serving a compressed variant that barely saves anything
+        if (compressed.length < content.length * 9L / 10) {
+            variants.add(new Variant(GZIP, etag, compressed));
+        }
+        return new Entry(resource.getLastModified(), content.length, etag, variants);
+    }
+
+    /**
+     * Reads the sibling of the specified resource with the specified suffix, unless it is older than the resource.
+     */
+    private byte[] readPrecompressed(Resource resource, String suffix) throws IOException {
+        Resource precompressed = this.delegate.getResource(resource.getPath() + '.' + suffix);
+        if (precompressed == null || precompressed.isDirectory()) return null;
+        Date lastModified = resource.getLastModified();
+        Date precompressedLastModified = precompressed.getLastModified();
+        if (lastModified != null && (precompressedLastModified == null || precompressedLastModified.before(lastModified))) {
+            UndertowLogger.ROOT_LOGGER.debugf("Ignoring %s, which is older than %s", precompressed.getPath(), resource.getPath());
+            return null;
+        }
+        return read(precompressed);
+    }
+
+    private static byte[] read(Resource resource) throws IOException {
+        Path path = resource.getFilePath();
+        if (path != null) {
+            return Files.readAllBytes(path);
+        }
+        URL url = resource.getUrl();
+        if (url == null) return null;
+        try (InputStream input = url.openStream()) {
+            return input.readAllBytes();
+        }
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 27);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Caches the specified entry, evicting the least frequently used other entries while the cache exceeds its maximum size.
+     * Evictions scan all entries, but are rare, since entries are only computed on first access, or once changed.
+     */
+    synchronized void put(String key, Entry entry) {
+        Entry previous = this.entries.put(key, entry);
+        if (previous != null) {
+            // A changed resource keeps the access frequency of its previous content
+            entry.frequency = previous.frequency;
+            this.size -= previous.size();
+        }
+        this.size += entry.size();
+        while (this.size > this.maxSize) {
+            Map.Entry<String, Entry> victim = null;
+            for (Map.Entry<String, Entry> candidate : this.entries.entrySet()) {
+                if (candidate.getValue() != entry && (victim == null || candidate.getValue().frequency < victim.getValue().frequency)) {
+                    victim = candidate;
+                }
+            }
+            if (victim == null) break;
+            this.entries.remove(victim.getKey());
+            this.size -= victim.getValue().size();
+        }
+    }
+
+    synchronized long size() {
+        return this.size;
+    }
+
+    private void invalidate(Collection<ResourceChangeEvent> events) {
+        for (ResourceChangeEvent event : events) {
+            String key = key(event.getResource());
+            // A change of a precompressed variant invalidates the resource it belongs to
+            if (key.endsWith(".gz")) {
+                this.remove(key.substring(0, key.length() - ".gz".length()));
+            } else if (key.endsWith('.' + BROTLI)) {
+                this.remove(key.substring(0, key.length() - BROTLI.length() - 1));
+            }
+            this.remove(key);
+        }
+    }
+
+    private synchronized void remove(String key) {
+        Entry entry = this.entries.remove(key);
+        if (entry != null) {
+            this.size -= entry.size();
+        }
+    }
+
+    @Override
+    public boolean isResourceChangeListenerSupported() {
+        return this.delegate.isResourceChangeListenerSupported();
+    }
+
+    @Override
+    public void registerResourceChangeListener(ResourceChangeListener listener) {
+        this.delegate.registerResourceChangeListener(listener);
+    }
+
+    @Override
+    public void removeResourceChangeListener(ResourceChangeListener listener) {
+        this.delegate.removeResourceChangeListener(listener);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.delegate.isResourceChangeListenerSupported()) {
+            this.delegate.removeResourceChangeListener(this.listener);
+        }
+        synchronized (this) {
+            this.entries.clear();
+            this.size = 0;
+            this.accesses = 0;
+        }
+        this.delegate.close();
+    }
+
+    static class Entry {
+        final Date lastModified;
+        final long length;
+        final ETag etag;
+        final List<Variant> variants;
+        // Access frequency, guarded by the resource manager
+        int frequency = 1;
+
+        Entry(Date lastModified, long length, ETag etag, List<Variant> variants) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.etag = etag;
+            this.variants = variants;
+        }
+
+        boolean matches(Resource resource) {
+            return Objects.equals(this.lastModified, resource.getLastModified()) && Long.valueOf(this.length).equals(resource.getContentLength());
+        }
+
+        long size() {
+            long size = 0;
+            for (Variant variant : this.variants) {
+                size += variant.content.capacity();
+            }
+            return size;
+        }
+
+        /**
+         * Selects the variant of the preferred content coding accepted by the request, if any.
+         * Range requests always select the uncompressed content, since ranges refer to it.
+         */
+        Variant select(HttpServerExchange exchange) {
+            if (this.variants.isEmpty() || exchange == null) return null;
+            if (exchange.getRequestHeaders().contains(Headers.RANGE)) return null;
+            HeaderValues values = exchange.getRequestHeaders().get(Headers.ACCEPT_ENCODING);
+            if (values == null) return null;
+            List<String> accepted = new ArrayList<>(2);
+            for (String value : values) {
+                for (String coding : value.split(",")) {
+                    String[] parameters = coding.split(";");
+                    String name = parameters[0].trim().toLowerCase(Locale.ENGLISH);
+                    if (!name.isEmpty() && isAcceptable(parameters)) {
+                        accepted.add(name);
+                    }
+                }
+            }
+            for (Variant variant : this.variants) {
+                if (accepted.contains(variant.encoding)) {
+                    return variant;
+                }
+            }
+            return null;
+        }
+
+        private static boolean isAcceptable(String[] parameters) {
+            for (int i = 1; i < parameters.length; ++i) {
+                String parameter = parameters[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    static class Variant {
+        final String encoding;
+        final ETag etag;
+        final ByteBuffer content;
+
+        Variant(String encoding, ETag etag, byte[] content) {
+            this.encoding = encoding;
+            this.etag = new ETag(false, etag.getTag() + '-' + encoding);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(content.length);
+            buffer.put(content).flip();
+            this.content = buffer.asReadOnlyBuffer();
+        }
+    }
+
+    static class PrecompressedResource implements RangeAwareResource {
+        private static final AttachmentKey<Variant> SELECTED_VARIANT = AttachmentKey.create(Variant.class);
+
+        private final Resource resource;
+        private final Entry entry;
+
+        PrecompressedResource(Resource resource, Entry entry) {
+            this.resource = resource;
+            this.entry = entry;
+        }
+
+        @Override
+        public void serve(Sender sender, HttpServerExchange exchange, IoCallback completionCallback) {
+            Variant variant = this.select(exchange);
+            if (variant == null) {
+                this.resource.serve(sender, exchange, completionCallback);
+                return;
+            }
+            HeaderMap headers = exchange.getResponseHeaders();
+            headers.put(Headers.ETAG, variant.etag.toString());
+            if (!ETagUtils.handleIfNoneMatch(exchange, variant.etag, false)) {
+                exchange.setStatusCode(StatusCodes.NOT_MODIFIED);
+                headers.remove(Headers.CONTENT_LENGTH);
+                headers.remove(Headers.CONTENT_ENCODING);
+                completionCallback.onComplete(exchange, sender);
+                return;
+            }
+            headers.put(Headers.CONTENT_ENCODING, variant.encoding);
+            headers.put(Headers.CONTENT_LENGTH, variant.content.remaining());
+            sender.send(variant.content.duplicate(), completionCallback);
+        }
+
+        /**
+         * Selects the variant served to the specified request, and marks the response as varying by content coding.
+         * The content coding of a selected variant is set once a successful response is committed, since the default servlet
+         * sets the content length of {@code HEAD} responses from {@link #getContentLength()}, but does not serve them.
+         */
+        Variant select(HttpServerExchange exchange) {
+            if (exchange == null) return null;
+            exchange.getResponseHeaders().put(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+            Variant variant = this.entry.select(exchange);
+            if (variant != null && exchange.putAttachment(SELECTED_VARIANT, variant) == null) {
+                exchange.addResponseCommitListener(PrecompressedResource::setContentEncoding);
+            }
+            return variant;
+        }
+
+        static void setContentEncoding(HttpServerExchange exchange) {
+            Variant variant = exchange.getAttachment(SELECTED_VARIANT);
+            if (variant != null && exchange.getStatusCode() == StatusCodes.OK) {
+                exchange.getResponseHeaders().put(Headers.CONTENT_ENCODING, variant.encoding);
+            }
+        }
+
+        /**
+         * Returns the entity tag of the content served to the specified request.
+         * The default servlet evaluates conditional requests against it before serving the resource.
+         */
+        ETag getETag(HttpServerExchange exchange) {
+            Variant variant = this.select(exchange);
+            return (variant != null) ? variant.etag : this.entry.etag;
+        }
+
+        /**
+         * Returns the length of the content served to the specified request.
+         * The default servlet sets the content length of the response from it.
+         */
+        Long getContentLength(HttpServerExchange exchange) {
+            Variant variant = this.select(exchange);
+            return (variant != null) ? (long) variant.content.remaining() : this.resource.getContentLength();
+        }
+
+        @Override
+        public void serveRange(Sender sender, HttpServerExchange exchange, long start, long end, IoCallback completionCallback) {
+            // Ranges always refer to the uncompressed content
+            ((RangeAwareResource) this.resource).serveRange(sender, exchange, start, end, completionCallback);
+        }
+
+        @Override
+        public boolean isRangeSupported() {
+            return (this.resource instanceof RangeAwareResource) && ((RangeAwareResource) this.resource).isRangeSupported();
+        }
+
+        @Override
+        public ETag getETag() {
+            return this.getETag(currentExchange());
+        }
+
+        @Override
+        public String getPath() {
+            return this.resource.getPath();
+        }
+
+        @Override
+        public Date getLastModified() {
+            return this.resource.getLastModified();
+        }
+
+        @Override
+        public String getLastModifiedString() {
+            return this.resource.getLastModifiedString();
+        }
+
+        @Override
+        public String getName() {
+            return this.resource.getName();
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return false;
+        }
+
+        @Override
+        public List<Resource> list() {
+            return this.resource.list();
+        }
+
+        @Override
+        public String getContentType(MimeMappings mimeMappings) {
+            return this.resource.getContentType(mimeMappings);
+        }
+
+        @Override
+        public Long getContentLength() {
+            return this.getContentLength(currentExchange());
+        }
+
+        @Override
+        public String getCacheKey() {
+            return this.resource.getCacheKey();
+        }
+
+        @Override
+        public File getFile() {
+            return this.resource.getFile();
+        }
+
+        @Override
+        public Path getFilePath() {
+            return this.resource.getFilePath();
+        }
+
+        @Override
+        public File getResourceManagerRoot() {
+            return this.resource.getResourceManagerRoot();
+        }
+
+        @Override
+        public Path getResourceManagerRootPath() {
+            return this.resource.getResourceManagerRootPath();
+        }
+
+        @Override
+        public URL getUrl() {
+            return this.resource.getUrl();
+        }
+    }
+}
@@ -54,6 +54,7 @@ import org.apache.jasper.deploy.JspPropertyGroup;
 import org.apache.jasper.deploy.TagLibraryInfo;
 import org.apache.jasper.servlet.JspServlet;
 import org.jboss.as.ee.component.ComponentRegistry;
+import org.jboss.as.ee.requestcontroller.AdaptiveConcurrencyLimit;
 import org.jboss.as.naming.ManagedReference;
 import org.jboss.as.naming.ManagedReferenceFactory;
 import org.jboss.as.server.deployment.SetupAction;
@@ -393,7 +394,8 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
 
             ControlPoint controlPoint = this.controlPoint != null ? this.controlPoint.get() : null;
             if (controlPoint != null) {
-                deploymentInfo.addOuterHandlerChainWrapper(GlobalRequestControllerHandler.wrapper(controlPoint, allowSuspendedRequests));
+                AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.forEntryPoint(AdaptiveConcurrencyLimit.WEB, this.deploymentName);
+                deploymentInfo.addOuterHandlerChainWrapper(GlobalRequestControllerHandler.wrapper(controlPoint, allowSuspendedRequests, limit));
             }
 
             deploymentInfoConsumer.accept(this.deploymentInfo = deploymentInfo);
@@ -490,6 +492,7 @@ public class UndertowDeploymentInfoService implements Service<DeploymentInfo> {
                 ResourceManager resourceManager = new ServletResourceManager(deploymentRoot, overlays, explodedDeployment, mergedMetaData.isSymbolicLinkingEnabled(), servletContainer.isDisableFileWatchService(), externalOverlays);
 
                 resourceManager = new CachingResourceManager(servletContainer.getFileCacheMetadataSize(), servletContainer.getFileCacheMaxFileSize(), servletContainer.getBufferCache(), resourceManager, servletContainer.getFileCacheTimeToLive() == null ? (explodedDeployment ? 2000 : -1) : servletContainer.getFileCacheTimeToLive());
+                resourceManager = PrecompressedResourceManager.wrap(resourceManager);
                 if(externalResources != null && !externalResources.isEmpty()) {
                     //TODO: we don't cache external deployments, as they are intended for development use
                     //should be make this configurable or something?
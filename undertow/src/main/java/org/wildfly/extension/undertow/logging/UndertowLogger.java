@@ -429,4 +429,11 @@ public interface UndertowLogger extends BasicLogger {
     @Message(id = 111, value = "The annotation: '%s' will have no effect on Servlet: '%s'")
     void badAnnotationOnServlet(String annotation, String servlet);
 
+    @LogMessage(level = ERROR)
+    @Message(id = 112, value = "Failed to write access log to %s")
+    void failedToWriteAccessLog(Path directory, @Cause IOException e);
+
+    @LogMessage(level = WARN)
+    @Message(id = 113, value = "Dropped %d access log records for %s as the access log could not keep up with requests")
+    void droppedAccessLogRecords(long count, Path file);
 }
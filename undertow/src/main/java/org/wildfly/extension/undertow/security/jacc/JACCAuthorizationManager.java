@@ -30,6 +30,7 @@ import io.undertow.servlet.api.Deployment;
 import io.undertow.servlet.api.ServletInfo;
 import io.undertow.servlet.api.SingleConstraintMatch;
 import io.undertow.servlet.api.TransportGuaranteeType;
+import org.jboss.as.ee.security.JaccDecisionCache;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
@@ -120,8 +121,8 @@ public class JACCAuthorizationManager implements AuthorizationManager {
 
     private boolean hasPermission(Account account, Deployment deployment, ServletInfo servletInfo, Permission permission) {
         CodeSource codeSource = servletInfo.getServletClass().getProtectionDomain().getCodeSource();
-        ProtectionDomain domain = new ProtectionDomain(codeSource, null, null, getGrantedRoles(account, deployment));
-        return hasPermission(domain, permission);
+        Set<String> roles = getGrantedRoles(account, deployment);
+        return JaccDecisionCache.implies(roles, codeSource, permission, () -> hasPermission(new ProtectionDomain(codeSource, null, null, toPrincipals(roles)), permission));
     }
 
     private boolean hasPermission(ProtectionDomain domain, Permission permission) {
@@ -129,16 +130,22 @@ public class JACCAuthorizationManager implements AuthorizationManager {
         return policy.implies(domain, permission);
     }
 
-    private Principal[] getGrantedRoles(Account account, Deployment deployment) {
+    private Set<String> getGrantedRoles(Account account, Deployment deployment) {
         if (account == null) {
-            return new Principal[] {};
+            return Collections.emptySet();
         }
+        return JaccDecisionCache.roles(account, a -> computeGrantedRoles(a, deployment));
+    }
 
+    private static Set<String> computeGrantedRoles(Account account, Deployment deployment) {
         Set<String> roles = new HashSet<>(account.getRoles());
         Map<String, Set<String>> principalVersusRolesMap = deployment.getDeploymentInfo().getPrincipalVersusRolesMap();
 
         roles.addAll(principalVersusRolesMap.getOrDefault(account.getPrincipal().getName(), Collections.emptySet()));
+        return roles;
+    }
 
+    private static Principal[] toPrincipals(Set<String> roles) {
         Principal[] principals = new Principal[roles.size()];
         int index = 0;
         for (String role : roles) {
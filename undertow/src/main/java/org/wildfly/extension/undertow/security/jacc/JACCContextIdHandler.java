@@ -14,6 +14,7 @@ import io.undertow.server.HandlerWrapper;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.PredicateHandler;
+import io.undertow.servlet.api.DeploymentInfo;
 import io.undertow.servlet.predicate.DispatcherTypePredicate;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -83,13 +84,36 @@ public class JACCContextIdHandler implements HttpHandler {
     }
 
     public static HandlerWrapper wrapper(final String contextId) {
-        return new HandlerWrapper() {
-            @Override
-            public HttpHandler wrap(final HttpHandler handler) {
-                //we only run this on REQUEST or ASYNC invocations
-                return new PredicateHandler(Predicates.or(DispatcherTypePredicate.REQUEST, DispatcherTypePredicate.ASYNC), new JACCContextIdHandler(contextId, handler), handler);
+        return new Wrapper(contextId);
+    }
+
+    /**
+     * Returns the Jakarta Authorization contextId of a deployment.
+     *
+     * @param deploymentInfo a deployment
+     * @return the contextId, or null, if Jakarta Authorization does not apply to the deployment
+     */
+    public static String getContextId(DeploymentInfo deploymentInfo) {
+        for (HandlerWrapper wrapper : deploymentInfo.getOuterHandlerChainWrappers()) {
+            if (wrapper instanceof Wrapper) {
+                return ((Wrapper) wrapper).contextId;
             }
-        };
+        }
+        return null;
+    }
+
+    private static class Wrapper implements HandlerWrapper {
+        private final String contextId;
+
+        Wrapper(String contextId) {
+            this.contextId = contextId;
+        }
+
+        @Override
+        public HttpHandler wrap(final HttpHandler handler) {
+            //we only run this on REQUEST or ASYNC invocations
+            return new PredicateHandler(Predicates.or(DispatcherTypePredicate.REQUEST, DispatcherTypePredicate.ASYNC), new JACCContextIdHandler(this.contextId, handler), handler);
+        }
     }
 
 }
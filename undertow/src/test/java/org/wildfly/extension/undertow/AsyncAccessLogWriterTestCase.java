@@ -0,0 +1,208 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import io.undertow.attribute.ExchangeAttribute;
+import io.undertow.server.HttpServerExchange;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncAccessLogWriterTestCase {
+
+    private static final AccessLogPattern PATTERN = AccessLogPattern.parse("%U %s", AsyncAccessLogWriterTestCase.class.getClassLoader());
+
+    private Path directory;
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+    @Before
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("access-log");
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            paths.sorted(Collections.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private AsyncAccessLogWriter createWriter(int ringSize) throws IOException {
+        // Drain tasks are only run on demand
+        AsyncAccessLogWriter writer = new AsyncAccessLogWriter(PATTERN, false, this.directory, "access.", "log", false, ringSize, false, this.tasks::add);
+        writer.start();
+        return writer;
+    }
+
+    private void runTasks() {
+        for (Runnable task = this.tasks.poll(); task != null; task = this.tasks.poll()) {
+            task.run();
+        }
+    }
+
+    private void close(AsyncAccessLogWriter writer) throws InterruptedException {
+        Thread thread = new Thread(writer::close);
+        thread.start();
+        // Run the final drain task scheduled by close()
+        while (thread.isAlive()) {
+            Runnable task = this.tasks.poll(10, TimeUnit.MILLISECONDS);
+            if (task != null) {
+                task.run();
+            }
+        }
+    }
+
+    private List<String> readLog() throws IOException {
+        return Files.readAllLines(this.directory.resolve("access.log"), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testOverflow() throws Exception {
+        AsyncAccessLogWriter writer = this.createWriter(4);
+        Value path = new Value();
+        ExchangeAttribute[] attributes = new ExchangeAttribute[] { path, new Value("200") };
+        for (int i = 0; i < 6; ++i) {
+            path.value = "/" + i;
+            writer.log(null, attributes);
+        }
+        // A single drain task is scheduled for all pending records
+        Assert.assertEquals(1, this.tasks.size());
+        Assert.assertEquals(2, writer.getDroppedCount());
+
+        this.runTasks();
+        Assert.assertEquals(List.of("/0 200", "/1 200", "/2 200", "/3 200"), this.readLog());
+
+        // Drained slots are reused
+        for (int i = 6; i < 10; ++i) {
+            path.value = "/" + i;
+            writer.log(null, attributes);
+        }
+        Assert.assertEquals(2, writer.getDroppedCount());
+        this.runTasks();
+        Assert.assertEquals(List.of("/0 200", "/1 200", "/2 200", "/3 200", "/6 200", "/7 200", "/8 200", "/9 200"), this.readLog());
+
+        this.close(writer);
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        AsyncAccessLogWriter writer = this.createWriter(16);
+        Value path = new Value();
+        ExchangeAttribute[] attributes = new ExchangeAttribute[] { path, new Value("200") };
+        for (int i = 0; i < 3; ++i) {
+            path.value = "/" + i;
+            writer.log(null, attributes);
+        }
+        Assert.assertTrue(this.readLog().isEmpty());
+
+        // Pending records are written on close
+        this.close(writer);
+        Assert.assertEquals(List.of("/0 200", "/1 200", "/2 200"), this.readLog());
+        Assert.assertEquals(0, writer.getDroppedCount());
+
+        // Records logged after close are dropped, and never schedule a drain task
+        writer.log(null, attributes);
+        Assert.assertTrue(this.tasks.isEmpty());
+        Assert.assertEquals(1, writer.getDroppedCount());
+        Assert.assertEquals(3, this.readLog().size());
+    }
+
+    @Test
+    public void testLargeRecord() throws Exception {
+        AsyncAccessLogWriter writer = this.createWriter(16);
+        // Larger than the write buffer, with multi-byte characters
+        String value = "/" + String.join("", Collections.nCopies(50_000, "\u00e9\u20ac"));
+        writer.log(null, new ExchangeAttribute[] { new Value(value), new Value("200") });
+        writer.log(null, new ExchangeAttribute[] { new Value("/next"), new Value("404") });
+        this.close(writer);
+        Assert.assertEquals(List.of(value + " 200", "/next 404"), this.readLog());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        int producers = 8;
+        int records = 2000;
+        ExecutorService writerExecutor = Executors.newSingleThreadExecutor();
+        ExecutorService producerExecutor = Executors.newFixedThreadPool(producers);
+        try {
+            AsyncAccessLogWriter writer = new AsyncAccessLogWriter(PATTERN, false, this.directory, "access.", "log", false, 64, false, writerExecutor);
+            writer.start();
+            List<Future<Void>> futures = new ArrayList<>(producers);
+            for (int i = 0; i < producers; ++i) {
+                String producer = Integer.toString(i);
+                futures.add(producerExecutor.submit(() -> {
+                    Value sequence = new Value();
+                    ExchangeAttribute[] attributes = new ExchangeAttribute[] { new Value(producer), sequence };
+                    for (int j = 0; j < records; ++j) {
+                        sequence.value = Integer.toString(j);
+                        writer.log(null, attributes);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            writer.close();
+
+            List<String> lines = this.readLog();
+            // Every record is either written or counted as dropped
+            Assert.assertEquals(producers * records, lines.size() + writer.getDroppedCount());
+            // Records of each producer are written intact, and in order
+            int[] last = new int[producers];
+            Arrays.fill(last, -1);
+            for (String line : lines) {
+                String[] values = line.split(" ");
+                Assert.assertEquals(line, 2, values.length);
+                int producer = Integer.parseInt(values[0]);
+                int sequence = Integer.parseInt(values[1]);
+                Assert.assertTrue(line, sequence > last[producer]);
+                last[producer] = sequence;
+            }
+        } finally {
+            producerExecutor.shutdown();
+            writerExecutor.shutdown();
+        }
+    }
+
+    private static class Value implements ExchangeAttribute {
+        volatile String value;
+
+        Value() {
+        }
+
+        Value(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String readAttribute(HttpServerExchange exchange) {
+            return this.value;
+        }
+
+        @Override
+        public void writeAttribute(HttpServerExchange exchange, String newValue) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
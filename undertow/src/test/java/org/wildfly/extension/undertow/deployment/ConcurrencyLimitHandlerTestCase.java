@@ -0,0 +1,135 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.undertow.Undertow;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.servlet.api.DeploymentInfo;
+import io.undertow.util.StatusCodes;
+import org.jboss.as.ee.requestcontroller.AdaptiveConcurrencyLimit;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrencyLimitHandlerTestCase {
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch proceed = new CountDownLatch(1);
+    private Undertow server;
+    private URL url;
+
+    private void start(AdaptiveConcurrencyLimit limit) throws IOException {
+        HttpHandler blocking = new HttpHandler() {
+            @Override
+            public void handleRequest(HttpServerExchange exchange) throws Exception {
+                if (exchange.isInIoThread()) {
+                    exchange.dispatch(this);
+                    return;
+                }
+                entered.countDown();
+                proceed.await(10, TimeUnit.SECONDS);
+                exchange.getResponseSender().send("ok");
+            }
+        };
+        this.server = Undertow.builder().addHttpListener(0, "localhost").setHandler(new ConcurrencyLimitHandler(blocking, limit)).build();
+        this.server.start();
+        InetSocketAddress address = (InetSocketAddress) this.server.getListenerInfo().get(0).getAddress();
+        this.url = new URL("http", address.getHostString(), address.getPort(), "/");
+    }
+
+    @After
+    public void stop() {
+        this.proceed.countDown();
+        if (this.server != null) {
+            this.server.stop();
+        }
+    }
+
+    private CompletableFuture<Integer> request() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                HttpURLConnection connection = (HttpURLConnection) this.url.openConnection();
+                try {
+                    return connection.getResponseCode();
+                } finally {
+                    connection.disconnect();
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void awaitInFlightCount(AdaptiveConcurrencyLimit limit, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limit.getInFlightCount() != count) {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testReject() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 0, TimeUnit.MILLISECONDS);
+        this.start(limit);
+
+        CompletableFuture<Integer> first = this.request();
+        Assert.assertTrue(this.entered.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1, limit.getInFlightCount());
+
+        // Requests exceeding the limit are rejected
+        Assert.assertEquals(StatusCodes.SERVICE_UNAVAILABLE, this.request().get(5, TimeUnit.SECONDS).intValue());
+        Assert.assertEquals(1L, limit.getRejectedCount());
+
+        // The permit of a dispatched request is released once its exchange completes
+        this.proceed.countDown();
+        Assert.assertEquals(StatusCodes.OK, first.get(5, TimeUnit.SECONDS).intValue());
+        awaitInFlightCount(limit, 0);
+        Assert.assertEquals(StatusCodes.OK, this.request().get(5, TimeUnit.SECONDS).intValue());
+        awaitInFlightCount(limit, 0);
+    }
+
+    @Test
+    public void testQueue() throws Exception {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 10, TimeUnit.SECONDS);
+        this.start(limit);
+
+        CompletableFuture<Integer> first = this.request();
+        Assert.assertTrue(this.entered.await(5, TimeUnit.SECONDS));
+
+        // Requests exceeding the limit wait for a permit on a worker thread
+        CompletableFuture<Integer> second = this.request();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (limit.getQueuedCount() == 0) {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+        this.proceed.countDown();
+        Assert.assertEquals(StatusCodes.OK, first.get(5, TimeUnit.SECONDS).intValue());
+        Assert.assertEquals(StatusCodes.OK, second.get(5, TimeUnit.SECONDS).intValue());
+        Assert.assertEquals(0L, limit.getRejectedCount());
+        awaitInFlightCount(limit, 0);
+    }
+
+    @Test
+    public void testGetLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1, 1, 1, 0, TimeUnit.MILLISECONDS);
+        DeploymentInfo deploymentInfo = new DeploymentInfo();
+        Assert.assertNull(ConcurrencyLimitHandler.getLimit(deploymentInfo));
+        deploymentInfo.addOuterHandlerChainWrapper(handler -> handler);
+        deploymentInfo.addOuterHandlerChainWrapper(new ConcurrencyLimitHandler.Wrapper(handler -> handler, limit));
+        Assert.assertSame(limit, ConcurrencyLimitHandler.getLimit(deploymentInfo));
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow.deployment;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.resource.PathResourceManager;
+import io.undertow.server.handlers.resource.Resource;
+import io.undertow.server.handlers.resource.ResourceManager;
+import io.undertow.util.ETag;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PrecompressedResourceManagerTestCase {
+
+    private static final String CONTENT = String.join("", Collections.nCopies(100, "body { color: black; }\n"));
+
+    private Path root;
+    private final List<Runnable> tasks = new ArrayList<>();
+    private ResourceManager manager;
+
+    @Before
+    public void setup() throws IOException {
+        this.root = Files.createTempDirectory("precompressed");
+        this.manager = new PrecompressedResourceManager(this.createDelegate(), Long.MAX_VALUE, this.tasks::add);
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        this.manager.close();
+        try (Stream<Path> paths = Files.walk(this.root)) {
+            paths.sorted(Collections.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private ResourceManager createDelegate() {
+        return PathResourceManager.builder().setBase(this.root).setAllowResourceChangeListeners(false).build();
+    }
+
+    private Resource getResource(String path) throws IOException {
+        Resource resource = this.manager.getResource(path);
+        List<Runnable> tasks = new ArrayList<>(this.tasks);
+        this.tasks.clear();
+        tasks.forEach(Runnable::run);
+        return resource;
+    }
+
+    private static HttpServerExchange exchange(String acceptEncoding) {
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        if (acceptEncoding != null) {
+            exchange.getRequestHeaders().put(Headers.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return exchange;
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return output.toByteArray();
+    }
+
+    private static String gunzip(ByteBuffer buffer) throws IOException {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void testCompressedOffRequest() throws IOException {
+        Files.writeString(this.root.resolve("style.css"), CONTENT);
+
+        // The first request is served the uncompressed content, while the entry is computed by a separate task
+        Resource resource = this.manager.getResource("style.css");
+        Assert.assertFalse(resource instanceof PrecompressedResourceManager.PrecompressedResource);
+        Assert.assertEquals(1, this.tasks.size());
+        // Concurrent requests do not compute the same entry again
+        this.manager.getResource("style.css");
+        Assert.assertEquals(1, this.tasks.size());
+        this.tasks.remove(0).run();
+
+        resource = this.getResource("style.css");
+        Assert.assertTrue(resource instanceof PrecompressedResourceManager.PrecompressedResource);
+        PrecompressedResourceManager.PrecompressedResource precompressed = (PrecompressedResourceManager.PrecompressedResource) resource;
+
+        HttpServerExchange exchange = exchange("br;q=0, gzip");
+        PrecompressedResourceManager.Variant variant = precompressed.select(exchange);
+        Assert.assertNotNull(variant);
+        Assert.assertEquals("gzip", variant.encoding);
+        Assert.assertEquals(CONTENT, gunzip(variant.content));
+    }
+
+    @Test
+    public void testHeaders() throws IOException {
+        Files.writeString(this.root.resolve("style.css"), CONTENT);
+        this.getResource("style.css");
+        PrecompressedResourceManager.PrecompressedResource resource = (PrecompressedResourceManager.PrecompressedResource) this.getResource("style.css");
+
+        // Headers of HEAD requests, as set by the default servlet, match those of the compressed content
+        HttpServerExchange exchange = exchange("gzip");
+        ETag etag = resource.getETag(exchange);
+        Long length = resource.getContentLength(exchange);
+        PrecompressedResourceManager.Variant variant = resource.select(exchange);
+        Assert.assertEquals(variant.etag, etag);
+        Assert.assertEquals(variant.content.remaining(), length.intValue());
+        Assert.assertEquals(Headers.ACCEPT_ENCODING_STRING, exchange.getResponseHeaders().getFirst(Headers.VARY));
+        // The content coding is only set once the response is committed
+        Assert.assertNull(exchange.getResponseHeaders().getFirst(Headers.CONTENT_ENCODING));
+        PrecompressedResourceManager.PrecompressedResource.setContentEncoding(exchange);
+        Assert.assertEquals("gzip", exchange.getResponseHeaders().getFirst(Headers.CONTENT_ENCODING));
+
+        // Responses without content, e.g. to conditional requests, have no content coding
+        exchange = exchange("gzip");
+        resource.select(exchange);
+        exchange.setStatusCode(StatusCodes.NOT_MODIFIED);
+        PrecompressedResourceManager.PrecompressedResource.setContentEncoding(exchange);
+        Assert.assertNull(exchange.getResponseHeaders().getFirst(Headers.CONTENT_ENCODING));
+
+        // Requests not accepting a compressed variant get the uncompressed content
+        exchange = exchange(null);
+        Assert.assertNotEquals(etag, resource.getETag(exchange));
+        Assert.assertEquals(CONTENT.length(), resource.getContentLength(exchange).intValue());
+        Assert.assertNull(exchange.getResponseHeaders().getFirst(Headers.CONTENT_ENCODING));
+        Assert.assertEquals(Headers.ACCEPT_ENCODING_STRING, exchange.getResponseHeaders().getFirst(Headers.VARY));
+
+        // Ranges refer to the uncompressed content
+        exchange = exchange("gzip");
+        exchange.getRequestHeaders().put(Headers.RANGE, "bytes=0-9");
+        Assert.assertEquals(CONTENT.length(), resource.getContentLength(exchange).intValue());
+        Assert.assertNull(exchange.getResponseHeaders().getFirst(Headers.CONTENT_ENCODING));
+    }
+
+    @Test
+    public void testPrecompressedSibling() throws IOException {
+        Path path = Files.writeString(this.root.resolve("style.css"), CONTENT);
+        String precompressedContent = CONTENT.replace("black", "white");
+        Path sibling = Files.write(this.root.resolve("style.css.gz"), gzip(precompressedContent));
+
+        Files.setLastModifiedTime(sibling, FileTime.from(Files.getLastModifiedTime(path).toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS));
+        this.getResource("style.css");
+        PrecompressedResourceManager.PrecompressedResource resource = (PrecompressedResourceManager.PrecompressedResource) this.getResource("style.css");
+        Assert.assertEquals(precompressedContent, gunzip(resource.select(exchange("gzip")).content));
+
+        // A sibling older than its resource is stale, and is ignored
+        this.manager.close();
+        this.manager = new PrecompressedResourceManager(this.createDelegate(), Long.MAX_VALUE, this.tasks::add);
+        Files.setLastModifiedTime(sibling, FileTime.from(Files.getLastModifiedTime(path).toMillis() - TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS));
+        this.getResource("style.css");
+        resource = (PrecompressedResourceManager.PrecompressedResource) this.getResource("style.css");
+        Assert.assertEquals(CONTENT, gunzip(resource.select(exchange("gzip")).content));
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        for (String name : List.of("a.css", "b.css", "c.css")) {
+            Files.writeString(this.root.resolve(name), CONTENT);
+        }
+        this.getResource("a.css");
+        PrecompressedResourceManager.PrecompressedResource resource = (PrecompressedResourceManager.PrecompressedResource) this.getResource("a.css");
+        long entrySize = resource.select(exchange("gzip")).content.remaining();
+
+        // Room for two entries
+        this.manager.close();
+        PrecompressedResourceManager manager = new PrecompressedResourceManager(this.createDelegate(), 2 * entrySize, this.tasks::add);
+        this.manager = manager;
+        this.getResource("a.css");
+        this.getResource("b.css");
+        Assert.assertEquals(2 * entrySize, manager.size());
+        // Access a.css, so that b.css is the least frequently used entry
+        Assert.assertTrue(this.getResource("a.css") instanceof PrecompressedResourceManager.PrecompressedResource);
+        this.getResource("c.css");
+        Assert.assertEquals(2 * entrySize, manager.size());
+        Assert.assertTrue(this.manager.getResource("a.css") instanceof PrecompressedResourceManager.PrecompressedResource);
+        Assert.assertTrue(this.manager.getResource("c.css") instanceof PrecompressedResourceManager.PrecompressedResource);
+        Assert.assertFalse(this.manager.getResource("b.css") instanceof PrecompressedResourceManager.PrecompressedResource);
+    }
+
+    @Test
+    public void testLeastFrequentlyUsedEviction() throws IOException {
+        for (String name : List.of("a.css", "b.css", "c.css")) {
+            Files.writeString(this.root.resolve(name), CONTENT);
+        }
+        this.getResource("a.css");
+        PrecompressedResourceManager.PrecompressedResource resource = (PrecompressedResourceManager.PrecompressedResource) this.getResource("a.css");
+        long entrySize = resource.select(exchange("gzip")).content.remaining();
+
+        // Room for two entries
+        this.manager.close();
+        PrecompressedResourceManager manager = new PrecompressedResourceManager(this.createDelegate(), 2 * entrySize, this.tasks::add);
+        this.manager = manager;
+        this.getResource("a.css");
+        this.getResource("b.css");
+        // a.css is accessed more often, but less recently, than b.css
+        for (int i = 0; i < 5; ++i) {
+            this.getResource("a.css");
+        }
+        this.getResource("b.css");
+        this.getResource("c.css");
+        Assert.assertEquals(2 * entrySize, manager.size());
+        Assert.assertTrue(this.manager.getResource("a.css") instanceof PrecompressedResourceManager.PrecompressedResource);
+        Assert.assertTrue(this.manager.getResource("c.css") instanceof PrecompressedResourceManager.PrecompressedResource);
+        Assert.assertFalse(this.manager.getResource("b.css") instanceof PrecompressedResourceManager.PrecompressedResource);
+    }
+
+    @Test
+    public void testFrequencyHalving() throws IOException {
+        for (String name : List.of("a.css", "b.css", "c.css")) {
+            Files.writeString(this.root.resolve(name), CONTENT);
+        }
+        this.getResource("a.css");
+        PrecompressedResourceManager.PrecompressedResource resource = (PrecompressedResourceManager.PrecompressedResource) this.getResource("a.css");
+        long entrySize = resource.select(exchange("gzip")).content.remaining();
+
+        this.manager.close();
+        PrecompressedResourceManager manager = new PrecompressedResourceManager(this.createDelegate(), 2 * entrySize, this.tasks::add);
+        this.manager = manager;
+        this.getResource("a.css");
+        this.getResource("b.css");
+        // a.css was popular in the past, and was accessed more often in total than b.css
+        for (int i = 0; i < 100; ++i) {
+            this.getResource("a.css");
+        }
+        // b.css is popular now, while the past accesses of a.css are aged by repeated halving
+        for (int i = 0; i < 60; ++i) {
+            this.getResource("b.css");
+        }
+        this.getResource("c.css");
+        Assert.assertTrue(this.manager.getResource("b.css") instanceof PrecompressedResourceManager.PrecompressedResource);
+        Assert.assertTrue(this.manager.getResource("c.css") instanceof PrecompressedResourceManager.PrecompressedResource);
+        Assert.assertFalse(this.manager.getResource("a.css") instanceof PrecompressedResourceManager.PrecompressedResource);
+    }
+}
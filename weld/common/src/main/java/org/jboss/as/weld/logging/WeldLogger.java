@@ -266,4 +266,8 @@ public interface WeldLogger extends BasicLogger {
 
     @Message(id = 63, value = "Original %s does not have a module")
     IllegalArgumentException originalClassDoesNotHaveAModule(Class<?> originalClass);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 64, value = "Weld bootstrap of deployment %s took %d ms (%s)")
+    void weldBootstrapTimings(String deploymentName, long totalMillis, String phaseTimings);
 }
@@ -79,6 +79,7 @@ public class WeldBootstrapService implements Service {
     public static final ServiceName INTERNAL_SERVICE_NAME = ServiceName.of("WeldBootstrapServiceInternal");
 
     private final WeldBootstrap bootstrap;
+    private final WeldBootstrapTimings timings;
     private final WeldDeployment deployment;
     private final Environment environment;
     private final Map<String, BeanDeploymentArchive> beanDeploymentArchives;
@@ -114,6 +115,7 @@ public class WeldBootstrapService implements Service {
         this.deploymentServiceName = deploymentServiceName;
         this.weldBootstrapServiceName = weldBootstrapServiceName;
         this.bootstrap = new WeldBootstrap();
+        this.timings = new WeldBootstrapTimings(deploymentName);
         Map<String, BeanDeploymentArchive> bdas = new HashMap<String, BeanDeploymentArchive>();
         BeanDeploymentArchiveImpl rootBeanDeploymentArchive = null;
         for (BeanDeploymentArchive archive : deployment.getBeanDeploymentArchives()) {
@@ -174,7 +176,7 @@ public class WeldBootstrapService implements Service {
         ClassLoader oldTccl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
         try {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(deployment.getModule().getClassLoader());
-            bootstrap.startContainer(deploymentName, environment, deployment);
+            timings.run(WeldBootstrapTimings.Phase.START_CONTAINER, bootstrap, b -> b.startContainer(deploymentName, environment, deployment));
             WeldProvider.containerInitialized(Container.instance(deploymentName), getBeanManager(), deployment);
         } finally {
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(oldTccl);
@@ -387,4 +389,8 @@ public class WeldBootstrapService implements Service {
     WeldBootstrap getBootstrap() {
         return bootstrap;
     }
+
+    WeldBootstrapTimings getTimings() {
+        return timings;
+    }
 }
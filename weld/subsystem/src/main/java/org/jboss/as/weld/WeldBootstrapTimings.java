@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.weld.bootstrap.WeldBootstrap;
+
+/**
+ * Records the duration of each Weld bootstrap phase of a deployment, so that boot time regressions can be attributed to
+ * a deployment and a phase.
+ * The timings are logged once the last phase completes.
+ */
+class WeldBootstrapTimings {
+
+    enum Phase {
+        START_CONTAINER("start container"),
+        START_INITIALIZATION("start initialization"),
+        DEPLOY_BEANS("deploy beans"),
+        VALIDATE_BEANS("validate beans"),
+        END_INITIALIZATION("end initialization"),
+        ;
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+    }
+
+    private final String deploymentName;
+    private final Map<Phase, Long> durations = new EnumMap<>(Phase.class);
+
+    WeldBootstrapTimings(String deploymentName) {
+        this.deploymentName = deploymentName;
+    }
+
+    /**
+     * Runs the specified bootstrap phase, recording its duration.
+     */
+    void run(Phase phase, WeldBootstrap bootstrap, Consumer<WeldBootstrap> task) {
+        long start = System.nanoTime();
+        try {
+            task.accept(bootstrap);
+        } finally {
+            this.record(phase, System.nanoTime() - start);
+        }
+    }
+
+    synchronized void record(Phase phase, long nanos) {
+        this.durations.put(phase, TimeUnit.NANOSECONDS.toMillis(nanos));
+        if (phase == Phase.END_INITIALIZATION) {
+            WeldLogger.DEPLOYMENT_LOGGER.weldBootstrapTimings(this.deploymentName, this.getTotal(), this.toString());
+        }
+    }
+
+    private long getTotal() {
+        return this.durations.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (Map.Entry<Phase, Long> entry : this.durations.entrySet()) {
+            joiner.add(entry.getKey().description + ": " + entry.getValue() + " ms");
+        }
+        return joiner.toString();
+    }
+}
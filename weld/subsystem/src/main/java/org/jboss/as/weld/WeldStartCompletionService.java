@@ -14,6 +14,7 @@ import org.jboss.msc.Service;
 import org.jboss.msc.service.ServiceName;
 import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StopContext;
+import org.jboss.weld.bootstrap.WeldBootstrap;
 import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -59,7 +60,8 @@ public class WeldStartCompletionService implements Service {
                 action.setup(null);
             }
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
-            bootstrapSupplier.get().getBootstrap().endInitialization();
+            WeldBootstrapService bootstrapService = bootstrapSupplier.get();
+            bootstrapService.getTimings().run(WeldBootstrapTimings.Phase.END_INITIALIZATION, bootstrapService.getBootstrap(), WeldBootstrap::endInitialization);
         } finally {
             for (SetupAction action : setupActions) {try {
                 action.teardown(null);
@@ -21,6 +21,7 @@ import org.jboss.msc.service.StartContext;
 import org.jboss.msc.service.StartException;
 import org.jboss.msc.service.StopContext;
 import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.WeldBootstrap;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
@@ -76,9 +77,11 @@ public class WeldStartService implements Service {
                 action.setup(null);
             }
             WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(classLoader);
-            bootstrapSupplier.get().getBootstrap().startInitialization();
-            bootstrapSupplier.get().getBootstrap().deployBeans();
-            bootstrapSupplier.get().getBootstrap().validateBeans();
+            WeldBootstrapService bootstrapService = bootstrapSupplier.get();
+            WeldBootstrapTimings timings = bootstrapService.getTimings();
+            timings.run(WeldBootstrapTimings.Phase.START_INITIALIZATION, bootstrapService.getBootstrap(), WeldBootstrap::startInitialization);
+            timings.run(WeldBootstrapTimings.Phase.DEPLOY_BEANS, bootstrapService.getBootstrap(), WeldBootstrap::deployBeans);
+            timings.run(WeldBootstrapTimings.Phase.VALIDATE_BEANS, bootstrapService.getBootstrap(), WeldBootstrap::validateBeans);
         } finally {
 
             for (SetupAction action : setupActions) {
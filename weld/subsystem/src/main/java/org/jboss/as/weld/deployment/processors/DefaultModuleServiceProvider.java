@@ -15,6 +15,7 @@ import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.annotation.CompositeIndex;
 import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.as.weld.discovery.PersistentDiscoveryCache;
 import org.jboss.as.weld.discovery.WeldClassFileServices;
 import org.jboss.as.weld.services.bootstrap.WeldResourceInjectionServices;
 import org.jboss.as.weld.spi.ModuleServicesProvider;
@@ -41,7 +42,7 @@ public class DefaultModuleServiceProvider implements ModuleServicesProvider {
         // ClassFileServices
         final CompositeIndex index = deploymentUnit.getAttachment(Attachments.COMPOSITE_ANNOTATION_INDEX);
         if (index != null) {
-            services.add(new WeldClassFileServices(index, module.getClassLoader()));
+            services.add(new WeldClassFileServices(index, module.getClassLoader(), PersistentDiscoveryCache.create(PersistentDiscoveryCache.deploymentName(deploymentUnit), index)));
         }
         return services;
     }
@@ -0,0 +1,351 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.discovery;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.AccessController;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivilegedAction;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.ControlledProcessState;
+import org.jboss.as.controller.ProcessStateNotifier;
+import org.jboss.as.controller.capability.CapabilityServiceSupport;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.annotation.CompositeIndex;
+import org.jboss.as.weld.logging.WeldLogger;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.msc.Service;
+import org.jboss.msc.service.ServiceBuilder;
+import org.jboss.msc.service.ServiceTarget;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StopContext;
+import org.jboss.vfs.VFS;
+import org.jboss.vfs.VirtualFile;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * On-disk cache of the results of CDI type discovery for a single deployment module, reused across server restarts.
+ * <p>
+ * The cache stores the meta-annotations of annotation types that are not part of the deployment index, which otherwise
+ * requires loading those classes, and the results of {@link WeldClassFileInfo#containsAnnotation(Class)}, which walk the type
+ * hierarchy and may fall back to reflection.
+ * <p>
+ * Entries are only reused if the deployment index and the module classes consulted during discovery are unchanged: the cache
+ * file is keyed by a digest of the index, and records the size and modification time of every archive from which a class was
+ * loaded reflectively. If either differs, the cache is discarded and rebuilt.
+ * <p>
+ * The cache file of a deployment module is deleted when the deployment is undeployed, unless the server is stopping or reloading.
+ */
+public class PersistentDiscoveryCache {
+
+    /**
+     * System property enabling the discovery cache.
+     */
+    public static final String ENABLED_PROPERTY = "jboss.weld.discovery.cache";
+
+    private static final String DATA_DIR_PROPERTY = "jboss.server.data.dir";
+    private static final String PROCESS_STATE_NOTIFIER_CAPABILITY = "org.wildfly.management.process-state-notifier";
+    private static final int VERSION = 2;
+    private static final String UNVERIFIABLE = "";
+
+    private final Path file;
+    private final String key;
+    private final Map<String, String> locations = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> metaAnnotations = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> containsAnnotation = new ConcurrentHashMap<>();
+    private volatile boolean dirty;
+
+    /**
+     * Creates the discovery cache of a deployment module, if enabled.
+     *
+     * @param deploymentName the qualified deployment name
+     * @param index the index of the deployment module
+     * @return a cache, or null, if the cache is disabled
+     */
+    public static PersistentDiscoveryCache create(String deploymentName, CompositeIndex index) {
+        if (!Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"))) {
+            return null;
+        }
+        String dataDir = WildFlySecurityManager.getPropertyPrivileged(DATA_DIR_PROPERTY, null);
+        if (dataDir == null) {
+            return null;
+        }
+        return new PersistentDiscoveryCache(file(dataDir, deploymentName), key(deploymentName, index));
+    }
+
+    /**
+     * Returns the qualified name of the specified deployment unit, used to identify its cache.
+     *
+     * @param deploymentUnit a deployment unit
+     * @return the qualified deployment name
+     */
+    public static String deploymentName(DeploymentUnit deploymentUnit) {
+        return (deploymentUnit.getParent() != null) ? deploymentUnit.getParent().getName() + "/" + deploymentUnit.getName() : deploymentUnit.getName();
+    }
+
+    /**
+     * Installs a service that deletes the cache of the specified deployment unit, if the deployment unit is undeployed while the server is running.
+     * Caches are retained while the server is stopping or reloading, so that they can be reused once it restarts.
+     *
+     * @param target the service target of the deployment unit
+     * @param deploymentUnit a deployment unit
+     */
+    public static void installCleanup(ServiceTarget target, DeploymentUnit deploymentUnit) {
+        if (!Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "false"))) {
+            return;
+        }
+        String dataDir = WildFlySecurityManager.getPropertyPrivileged(DATA_DIR_PROPERTY, null);
+        if (dataDir == null) {
+            return;
+        }
+        Path file = file(dataDir, deploymentName(deploymentUnit));
+        CapabilityServiceSupport support = deploymentUnit.getAttachment(Attachments.CAPABILITY_SERVICE_SUPPORT);
+        ServiceBuilder<?> builder = target.addService();
+        builder.provides(deploymentUnit.getServiceName().append("weld", "discovery-cache"));
+        Supplier<ProcessStateNotifier> notifier = builder.requires(support.getCapabilityServiceName(PROCESS_STATE_NOTIFIER_CAPABILITY));
+        builder.setInstance(new Service() {
+            @Override
+            public void start(StartContext context) {
+            }
+
+            @Override
+            public void stop(StopContext context) {
+                if (notifier.get().getCurrentState() != ControlledProcessState.State.STOPPING) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Failed to delete CDI discovery cache %s", file);
+                    }
+                }
+            }
+        });
+        builder.install();
+    }
+
+    private static Path file(String dataDir, String deploymentName) {
+        return Paths.get(dataDir, "weld", "discovery", deploymentName.replaceAll("[^A-Za-z0-9._-]", "_") + ".cache");
+    }
+
+    PersistentDiscoveryCache(Path file, String key) {
+        this.file = file;
+        this.key = key;
+        this.load();
+    }
+
+    /**
+     * Computes a digest of the structure of the specified index, i.e. every class name, its modifiers, supertypes and annotations,
+     * including their targets and values.
+     */
+    static String key(String deploymentName, CompositeIndex index) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(deploymentName.getBytes(StandardCharsets.UTF_8));
+            List<ClassInfo> classes = new ArrayList<>(index.getKnownClasses());
+            classes.sort(Comparator.comparing(ClassInfo::name));
+            StringBuilder builder = new StringBuilder();
+            for (ClassInfo classInfo : classes) {
+                builder.setLength(0);
+                builder.append(classInfo.name()).append(':').append(classInfo.flags()).append(':').append(classInfo.superName());
+                for (DotName interfaceName : classInfo.interfaceNames()) {
+                    builder.append(',').append(interfaceName);
+                }
+                List<DotName> annotationNames = new ArrayList<>(classInfo.annotationsMap().keySet());
+                Collections.sort(annotationNames);
+                for (DotName annotationName : annotationNames) {
+                    builder.append('@').append(annotationName);
+                    for (AnnotationInstance instance : classInfo.annotationsMap().get(annotationName)) {
+                        builder.append('/').append(instance.target());
+                        for (AnnotationValue value : instance.values()) {
+                            builder.append(';').append(value.name()).append('=').append(value);
+                        }
+                    }
+                }
+                digest.update(builder.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            StringBuilder result = new StringBuilder();
+            for (byte b : digest.digest()) {
+                result.append(String.format("%02x", b));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    Set<String> getMetaAnnotations(DotName annotationName) {
+        return this.metaAnnotations.get(annotationName.toString());
+    }
+
+    void putMetaAnnotations(DotName annotationName, Set<String> metaAnnotations) {
+        this.metaAnnotations.put(annotationName.toString(), metaAnnotations);
+        this.dirty = true;
+    }
+
+    Boolean containsAnnotation(String className, DotName annotationName) {
+        return this.containsAnnotation.get(className + '@' + annotationName);
+    }
+
+    void putContainsAnnotation(String className, DotName annotationName, boolean result) {
+        this.containsAnnotation.put(className + '@' + annotationName, result);
+        this.dirty = true;
+    }
+
+    /**
+     * Records the archive of a class that was loaded reflectively during discovery, so that changes to it invalidate this cache.
+     */
+    void classLoaded(Class<?> loadedClass) {
+        ProtectionDomain domain = WildFlySecurityManager.isChecking() ? AccessController.doPrivileged((PrivilegedAction<ProtectionDomain>) loadedClass::getProtectionDomain) : loadedClass.getProtectionDomain();
+        CodeSource source = (domain != null) ? domain.getCodeSource() : null;
+        URL location = (source != null) ? source.getLocation() : null;
+        if (location != null) {
+            this.locations.computeIfAbsent(location.toExternalForm(), PersistentDiscoveryCache::fingerprint);
+        }
+    }
+
+    /**
+     * Computes the size and modification time of the file backing the specified code source location.
+     * Supports {@code file:} URLs, {@code jar:} URLs, e.g. of JBoss Modules resource roots, and {@code vfs:} URLs of deployment content.
+     */
+    static String fingerprint(String location) {
+        try {
+            URL url = new URL(location);
+            switch (url.getProtocol()) {
+                case "file": {
+                    Path path = Paths.get(url.toURI());
+                    return Files.exists(path) ? Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis() : UNVERIFIABLE;
+                }
+                case "jar": {
+                    // jar:<archive URL>!/<entry>
+                    String archive = url.getPath();
+                    int separator = archive.indexOf("!/");
+                    return fingerprint((separator >= 0) ? archive.substring(0, separator) : archive);
+                }
+                case "vfs": {
+                    VirtualFile file = VFS.getChild(url.toURI());
+                    return file.exists() ? file.getSize() + ":" + file.getLastModified() : UNVERIFIABLE;
+                }
+                default:
+                    return UNVERIFIABLE;
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            return UNVERIFIABLE;
+        }
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(this.file)) return;
+        try (InputStream input = Files.newInputStream(this.file)) {
+            DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+            if (data.readInt() != VERSION || !this.key.equals(data.readUTF())) {
+                return;
+            }
+            Map<String, String> locations = new HashMap<>();
+            for (int i = data.readInt(); i > 0; --i) {
+                String location = data.readUTF();
+                String fingerprint = data.readUTF();
+                if (!fingerprint.equals(fingerprint(location))) {
+                    // A module archive changed since this cache was written
+                    return;
+                }
+                locations.put(location, fingerprint);
+            }
+            Map<String, Set<String>> metaAnnotations = new HashMap<>();
+            for (int i = data.readInt(); i > 0; --i) {
+                String name = data.readUTF();
+                int size = data.readInt();
+                Set<String> values = new HashSet<>(size);
+                for (int j = 0; j < size; ++j) {
+                    values.add(data.readUTF());
+                }
+                metaAnnotations.put(name, Collections.unmodifiableSet(values));
+            }
+            Map<String, Boolean> containsAnnotation = new HashMap<>();
+            for (int i = data.readInt(); i > 0; --i) {
+                containsAnnotation.put(data.readUTF(), data.readBoolean());
+            }
+            this.locations.putAll(locations);
+            this.metaAnnotations.putAll(metaAnnotations);
+            this.containsAnnotation.putAll(containsAnnotation);
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Ignoring unreadable CDI discovery cache %s", this.file);
+        }
+    }
+
+    /**
+     * Writes this cache to disk, if any new entries were recorded since it was loaded.
+     */
+    void save() {
+        if (!this.dirty) return;
+        try {
+            Files.createDirectories(this.file.getParent());
+            Path temp = Files.createTempFile(this.file.getParent(), this.file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream output = Files.newOutputStream(temp)) {
+                    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(output));
+                    data.writeInt(VERSION);
+                    data.writeUTF(this.key);
+                    Map<String, String> locations = new HashMap<>(this.locations);
+                    data.writeInt(locations.size());
+                    for (Map.Entry<String, String> entry : locations.entrySet()) {
+                        data.writeUTF(entry.getKey());
+                        data.writeUTF(entry.getValue());
+                    }
+                    Map<String, Set<String>> metaAnnotations = new HashMap<>(this.metaAnnotations);
+                    data.writeInt(metaAnnotations.size());
+                    for (Map.Entry<String, Set<String>> entry : metaAnnotations.entrySet()) {
+                        data.writeUTF(entry.getKey());
+                        data.writeInt(entry.getValue().size());
+                        for (String value : entry.getValue()) {
+                            data.writeUTF(value);
+                        }
+                    }
+                    Map<String, Boolean> containsAnnotation = new HashMap<>(this.containsAnnotation);
+                    data.writeInt(containsAnnotation.size());
+                    for (Map.Entry<String, Boolean> entry : containsAnnotation.entrySet()) {
+                        data.writeUTF(entry.getKey());
+                        data.writeBoolean(entry.getValue());
+                    }
+                    data.flush();
+                }
+                Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            this.dirty = false;
+        } catch (IOException e) {
+            WeldLogger.DEPLOYMENT_LOGGER.debugf(e, "Failed to write CDI discovery cache %s", this.file);
+        }
+    }
+}
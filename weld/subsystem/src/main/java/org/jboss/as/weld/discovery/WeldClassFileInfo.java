@@ -51,6 +51,8 @@ public class WeldClassFileInfo implements ClassFileInfo {
 
     private final ClassLoader classLoader;
 
+    private final PersistentDiscoveryCache discoveryCache;
+
     /**
      *
      * @param className
@@ -58,6 +60,19 @@ public class WeldClassFileInfo implements ClassFileInfo {
      * @param annotationClassAnnotationsCache
      */
     public WeldClassFileInfo(String className, CompositeIndex index, ComputingCache<DotName, Set<String>> annotationClassAnnotationsCache, ClassLoader classLoader) {
+        this(className, index, annotationClassAnnotationsCache, classLoader, null);
+    }
+
+    /**
+     *
+     * @param className
+     * @param index
+     * @param annotationClassAnnotationsCache
+     * @param classLoader
+     * @param discoveryCache a persistent cache of discovery results, or null
+     */
+    public WeldClassFileInfo(String className, CompositeIndex index, ComputingCache<DotName, Set<String>> annotationClassAnnotationsCache, ClassLoader classLoader, PersistentDiscoveryCache discoveryCache) {
+        this.discoveryCache = discoveryCache;
         this.index = index;
         this.annotationClassAnnotationsCache = annotationClassAnnotationsCache;
         this.classInfo = index.getClassByName(DotName.createSimple(className));
@@ -81,7 +96,17 @@ public class WeldClassFileInfo implements ClassFileInfo {
 
     @Override
     public boolean containsAnnotation(Class<? extends Annotation> annotation) {
-        return containsAnnotation(classInfo, DotName.createSimple(annotation.getName()), annotation);
+        DotName annotationName = DotName.createSimple(annotation.getName());
+        if (discoveryCache == null) {
+            return containsAnnotation(classInfo, annotationName, annotation);
+        }
+        Boolean cached = discoveryCache.containsAnnotation(getClassName(), annotationName);
+        if (cached != null) {
+            return cached;
+        }
+        boolean result = containsAnnotation(classInfo, annotationName, annotation);
+        discoveryCache.putContainsAnnotation(getClassName(), annotationName, result);
+        return result;
     }
 
     @Override
@@ -332,7 +357,11 @@ public class WeldClassFileInfo implements ClassFileInfo {
     private Class<?> loadClass(String className) {
         WeldLogger.DEPLOYMENT_LOGGER.tracef("Falling back to reflection for %s", className);
         try {
-            return classLoader.loadClass(className);
+            Class<?> loadedClass = classLoader.loadClass(className);
+            if (discoveryCache != null) {
+                discoveryCache.classLoaded(loadedClass);
+            }
+            return loadedClass;
         } catch (ClassNotFoundException e) {
             throw WeldLogger.ROOT_LOGGER.cannotLoadClass(className, e);
         }
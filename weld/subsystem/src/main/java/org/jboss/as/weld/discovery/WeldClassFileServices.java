@@ -30,6 +30,8 @@ public class WeldClassFileServices implements ClassFileServices {
 
     private final ClassLoader moduleClassLoader;
 
+    private final PersistentDiscoveryCache discoveryCache;
+
     private class AnnotationClassAnnotationLoader implements Function<DotName, Set<String>> {
         @Override
         public Set<String> apply(DotName name) {
@@ -42,11 +44,21 @@ public class WeldClassFileServices implements ClassFileServices {
                     builder.add(annotationName.toString());
                 }
             } else {
+                Set<String> cached = (discoveryCache != null) ? discoveryCache.getMetaAnnotations(name) : null;
+                if (cached != null) {
+                    return cached;
+                }
                 try {
                      Class<?> annotationClass = moduleClassLoader.loadClass(name.toString());
                      for (Annotation annotation : annotationClass.getDeclaredAnnotations()) {
                          builder.add(annotation.annotationType().getName());
                      }
+                     if (discoveryCache != null) {
+                         Set<String> result = builder.build();
+                         discoveryCache.classLoaded(annotationClass);
+                         discoveryCache.putMetaAnnotations(name, result);
+                         return result;
+                     }
                 } catch (ClassNotFoundException e) {
                     WeldLogger.DEPLOYMENT_LOGGER.unableToLoadAnnotation(name.toString());
                 }
@@ -60,21 +72,35 @@ public class WeldClassFileServices implements ClassFileServices {
      * @param index
      */
     public WeldClassFileServices(CompositeIndex index, ClassLoader moduleClassLoader) {
+        this(index, moduleClassLoader, null);
+    }
+
+    /**
+     *
+     * @param index
+     * @param moduleClassLoader
+     * @param discoveryCache a persistent cache of discovery results, or null
+     */
+    public WeldClassFileServices(CompositeIndex index, ClassLoader moduleClassLoader, PersistentDiscoveryCache discoveryCache) {
         if (index == null) {
             throw WeldLogger.ROOT_LOGGER.cannotUseAtRuntime(ClassFileServices.class.getSimpleName());
         }
         this.moduleClassLoader = moduleClassLoader;
+        this.discoveryCache = discoveryCache;
         this.index = index;
         this.annotationClassAnnotationsCache = ComputingCacheBuilder.newBuilder().build(new AnnotationClassAnnotationLoader());
     }
 
     @Override
     public ClassFileInfo getClassFileInfo(String className) {
-        return new WeldClassFileInfo(className, index, annotationClassAnnotationsCache, moduleClassLoader);
+        return new WeldClassFileInfo(className, index, annotationClassAnnotationsCache, moduleClassLoader, discoveryCache);
     }
 
     @Override
     public void cleanupAfterBoot() {
+        if (discoveryCache != null && index != null) {
+            discoveryCache.save();
+        }
         if (annotationClassAnnotationsCache != null) {
             annotationClassAnnotationsCache.clear();
             annotationClassAnnotationsCache = null;
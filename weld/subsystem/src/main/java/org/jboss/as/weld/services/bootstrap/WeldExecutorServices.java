@@ -6,11 +6,20 @@ package org.jboss.as.weld.services.bootstrap;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.jboss.as.naming.context.NamespaceContextSelector;
@@ -29,6 +38,12 @@ import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Weld's ExecutorServices implementation. The executor is shared across all Jakarta Contexts and Dependency Injection enabled deployments and used primarily for parallel Weld bootstrap.
+ * <p>
+ * By default, tasks are executed by a fixed thread pool with a single FIFO queue, thus a deployment must wait for the tasks of
+ * all deployments that started their bootstrap before it. If the {@value #WORK_STEALING_PROPERTY} system property is set to
+ * {@code true}, tasks are executed by a work-stealing pool instead, which takes turns between the tasks submitted by distinct threads.
+ * Since the bootstrap of each deployment submits its tasks from its own thread, the tasks of a deployment that starts its bootstrap
+ * while another deployment is booting do not wait behind all tasks of the latter, but are executed alternately with them.
  *
  * @author Jozef Hartinger
  * @author <a href="mailto:ropalka@redhat.com">Richard Opalka</a>
@@ -37,9 +52,12 @@ public class WeldExecutorServices extends AbstractExecutorServices implements Se
 
     public static final int DEFAULT_BOUND = Runtime.getRuntime().availableProcessors() + 1;
     public static final ServiceName SERVICE_NAME = Services.JBOSS_AS.append("weld", "executor");
+    public static final String WORK_STEALING_PROPERTY = "jboss.weld.executor.work-stealing";
     private static final String THREAD_NAME_PATTERN = "Weld Thread Pool -- %t";
+    private static final String WORK_STEALING_THREAD_NAME_PREFIX = "Weld Thread Pool -- ";
 
     private final int bound;
+    private final boolean workStealing;
     private final Consumer<ExecutorServices> executorServicesConsumer;
     private ExecutorService executor;
 
@@ -48,33 +66,47 @@ public class WeldExecutorServices extends AbstractExecutorServices implements Se
     }
 
     public WeldExecutorServices(final Consumer<ExecutorServices> executorServicesConsumer, int bound) {
+        this(executorServicesConsumer, bound, Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(WORK_STEALING_PROPERTY, "false")));
+    }
+
+    public WeldExecutorServices(final Consumer<ExecutorServices> executorServicesConsumer, int bound, boolean workStealing) {
         this.executorServicesConsumer = executorServicesConsumer;
         this.bound = bound;
+        this.workStealing = workStealing;
     }
 
     @Override
     public void start(final StartContext context) throws StartException {
+        if (workStealing) {
+            this.executor = new WeldWorkStealingExecutor(bound);
+            if (executorServicesConsumer != null) executorServicesConsumer.accept(this);
+            return;
+        }
         final ThreadFactory factory = new JBossThreadFactory(null, Boolean.FALSE, null, THREAD_NAME_PATTERN, null, null);
         // set TCCL to null for new threads to make sure no deployment classloader leaks through this executor's TCCL
         // Weld does not mind having null TCCL in this executor
         this.executor = new WeldExecutor(bound, runnable -> {
             Thread thread = factory.newThread(runnable);
-            if (WildFlySecurityManager.isChecking()) {
-                AccessController.doPrivileged(new PrivilegedAction<Void>() {
-                    public Void run() {
-                        thread.setContextClassLoader(null);
-                        return null;
-                    }
-                });
-            } else {
-                thread.setContextClassLoader(null);
-            }
+            clearContextClassLoader(thread);
             return thread;
         }
         );
         if (executorServicesConsumer != null) executorServicesConsumer.accept(this);
     }
 
+    private static void clearContextClassLoader(Thread thread) {
+        if (WildFlySecurityManager.isChecking()) {
+            AccessController.doPrivileged(new PrivilegedAction<Void>() {
+                public Void run() {
+                    thread.setContextClassLoader(null);
+                    return null;
+                }
+            });
+        } else {
+            thread.setContextClassLoader(null);
+        }
+    }
+
     @Override
     public void stop(final StopContext context) {
         if (executorServicesConsumer != null) executorServicesConsumer.accept(null);
@@ -137,6 +169,153 @@ public class WeldExecutorServices extends AbstractExecutorServices implements Se
         }
     }
 
+    /**
+     * Executes tasks via a {@link ForkJoinPool}, taking turns between the submitting threads.
+     * Tasks are queued per submitting thread, and each submission hands the pool a task that runs the next task of the submitter
+     * whose turn it is, so that a submitter of many tasks cannot delay the tasks of other submitters until all of its tasks completed.
+     */
+    static class WeldWorkStealingExecutor extends AbstractExecutorService {
+
+        private final ForkJoinPool pool;
+        // Guarded by itself
+        private final Map<Object, SubmitterQueue> queues = new HashMap<>();
+        // Non-empty queues, in the order of their turns, guarded by queues
+        private final Deque<SubmitterQueue> turns = new ArrayDeque<>();
+
+        WeldWorkStealingExecutor(int parallelism) {
+            this.pool = new ForkJoinPool(parallelism, new WeldWorkerThreadFactory(), null, false);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (Container.instance().getState() == ContainerState.INITIALIZED) {
+                NamespaceContextSelector selector = NamespaceContextSelector.getCurrentSelector();
+                this.execute(Thread.currentThread(), () -> {
+                    NamespaceContextSelector.pushCurrentSelector(selector);
+                    try {
+                        command.run();
+                    } finally {
+                        NamespaceContextSelector.popCurrentSelector();
+                    }
+                });
+            } else {
+                this.execute(Thread.currentThread(), command);
+            }
+        }
+
+        /**
+         * Queues a task of the specified submitter, to be executed on its next turn.
+         */
+        void execute(Object submitter, Runnable command) {
+            synchronized (this.queues) {
+                SubmitterQueue queue = this.queues.computeIfAbsent(submitter, SubmitterQueue::new);
+                if (queue.tasks.isEmpty()) {
+                    this.turns.addLast(queue);
+                }
+                queue.tasks.addLast(command);
+            }
+            try {
+                this.pool.execute(this::executeNext);
+            } catch (RuntimeException | Error e) {
+                synchronized (this.queues) {
+                    SubmitterQueue queue = this.queues.get(submitter);
+                    queue.tasks.removeLastOccurrence(command);
+                    this.removeIfEmpty(queue);
+                }
+                throw e;
+            }
+        }
+
+        private void executeNext() {
+            Runnable task;
+            synchronized (this.queues) {
+                SubmitterQueue queue = this.turns.pollFirst();
+                task = queue.tasks.pollFirst();
+                if (!queue.tasks.isEmpty()) {
+                    this.turns.addLast(queue);
+                } else {
+                    this.queues.remove(queue.submitter);
+                }
+            }
+            task.run();
+        }
+
+        // Guarded by queues
+        private void removeIfEmpty(SubmitterQueue queue) {
+            if (queue.tasks.isEmpty()) {
+                this.turns.remove(queue);
+                this.queues.remove(queue.submitter);
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            this.pool.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return this.pool.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return this.pool.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return this.pool.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return this.pool.awaitTermination(timeout, unit);
+        }
+    }
+
+    private static class SubmitterQueue {
+        final Object submitter;
+        final Deque<Runnable> tasks = new ArrayDeque<>();
+
+        SubmitterQueue(Object submitter) {
+            this.submitter = submitter;
+        }
+    }
+
+    /**
+     * Creates the worker threads of a {@link WeldWorkStealingExecutor}.
+     * The default factory would create innocuous worker threads under a security manager, whose context class loader cannot be set,
+     * thus workers are created by this factory instead, with privileges, as plain worker threads.
+     */
+    static class WeldWorkerThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            String name = WORK_STEALING_THREAD_NAME_PREFIX + this.count.incrementAndGet();
+            if (WildFlySecurityManager.isChecking()) {
+                return AccessController.doPrivileged(new PrivilegedAction<ForkJoinWorkerThread>() {
+                    public ForkJoinWorkerThread run() {
+                        return new WeldWorkerThread(pool, name);
+                    }
+                });
+            }
+            return new WeldWorkerThread(pool, name);
+        }
+    }
+
+    static class WeldWorkerThread extends ForkJoinWorkerThread {
+
+        WeldWorkerThread(ForkJoinPool pool, String name) {
+            super(pool);
+            this.setName(name);
+            // see WeldExecutorServices.start(...)
+            clearContextClassLoader(this);
+        }
+    }
+
     static class WeldTaskWrapper implements Runnable {
 
         private final Runnable runnable;
@@ -0,0 +1,123 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.discovery;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Target;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import jakarta.enterprise.inject.Vetoed;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.jboss.as.server.deployment.annotation.CompositeIndex;
+import org.jboss.as.weld.discovery.vetoed.Bravo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Indexer;
+import org.jboss.weld.resources.spi.ClassFileServices;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PersistentDiscoveryCacheTest {
+
+    private static final DotName TARGET = DotName.createSimple(Target.class.getName());
+    private static final DotName VETOED = DotName.createSimple(Vetoed.class.getName());
+
+    @Test
+    public void testReuseAcrossRestarts() throws IOException {
+        Path directory = Files.createTempDirectory("weld-discovery");
+        Path file = directory.resolve("test.cache");
+        try {
+            CompositeIndex index = IndexUtils.createIndex(Alpha.class, AlphaImpl.class, AbstractAlpha.class, InnerClasses.class,
+                    Bravo.class, "org/jboss/as/weld/discovery/vetoed/package-info.class", Inject.class, Named.class, Charlie.class);
+            String key = PersistentDiscoveryCache.key("test.war", index);
+            Assert.assertEquals(key, PersistentDiscoveryCache.key("test.war", index));
+            Assert.assertNotEquals(key, PersistentDiscoveryCache.key("other.war", index));
+
+            PersistentDiscoveryCache cache = new PersistentDiscoveryCache(file, key);
+            ClassFileServices services = new WeldClassFileServices(index, Thread.currentThread().getContextClassLoader(), cache);
+            Assert.assertTrue(services.getClassFileInfo(Charlie.class.getName()).containsAnnotation(Target.class));
+            Assert.assertTrue(services.getClassFileInfo(Alpha.class.getName()).containsAnnotation(Vetoed.class));
+            Assert.assertFalse(services.getClassFileInfo(Bravo.class.getName()).containsAnnotation(Vetoed.class));
+            services.cleanupAfterBoot();
+            Assert.assertTrue(Files.exists(file));
+
+            // Simulate a restart with unchanged deployment
+            PersistentDiscoveryCache reloaded = new PersistentDiscoveryCache(file, key);
+            Assert.assertEquals(Boolean.TRUE, reloaded.containsAnnotation(Charlie.class.getName(), TARGET));
+            Assert.assertEquals(Boolean.TRUE, reloaded.containsAnnotation(Alpha.class.getName(), VETOED));
+            Assert.assertEquals(Boolean.FALSE, reloaded.containsAnnotation(Bravo.class.getName(), VETOED));
+            services = new WeldClassFileServices(index, Thread.currentThread().getContextClassLoader(), reloaded);
+            Assert.assertTrue(services.getClassFileInfo(Charlie.class.getName()).containsAnnotation(Target.class));
+            Assert.assertFalse(services.getClassFileInfo(Bravo.class.getName()).containsAnnotation(Vetoed.class));
+
+            // Simulate a restart with a changed deployment
+            CompositeIndex changed = IndexUtils.createIndex(Alpha.class, AlphaImpl.class, AbstractAlpha.class, Charlie.class);
+            String changedKey = PersistentDiscoveryCache.key("test.war", changed);
+            Assert.assertNotEquals(key, changedKey);
+            PersistentDiscoveryCache invalidated = new PersistentDiscoveryCache(file, changedKey);
+            Assert.assertNull(invalidated.containsAnnotation(Charlie.class.getName(), TARGET));
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @Test
+    public void testAnnotationValuesInvalidate() throws IOException {
+        Assert.assertEquals(PersistentDiscoveryCache.key("test.war", createIndex("discovery-alpha")), PersistentDiscoveryCache.key("test.war", createIndex("discovery-alpha")));
+        Assert.assertNotEquals(PersistentDiscoveryCache.key("test.war", createIndex("discovery-alpha")), PersistentDiscoveryCache.key("test.war", createIndex("discovery-bravo")));
+    }
+
+    @Test
+    public void testArchiveFingerprint() throws IOException {
+        Path file = Files.createTempFile("weld-discovery", ".jar");
+        try {
+            Files.write(file, new byte[] { 1, 2, 3 });
+            Files.setLastModifiedTime(file, FileTime.fromMillis(1000000L));
+            String fileLocation = file.toUri().toURL().toExternalForm();
+            String jarLocation = "jar:" + fileLocation + "!/";
+            String fingerprint = PersistentDiscoveryCache.fingerprint(fileLocation);
+            Assert.assertEquals("3:1000000", fingerprint);
+            // Code sources of module resource roots are jar URLs
+            Assert.assertEquals(fingerprint, PersistentDiscoveryCache.fingerprint(jarLocation));
+
+            // Simulate a patched module archive
+            Files.write(file, new byte[] { 1, 2, 3, 4 });
+            Files.setLastModifiedTime(file, FileTime.fromMillis(2000000L));
+            Assert.assertEquals("4:2000000", PersistentDiscoveryCache.fingerprint(jarLocation));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Indexes {@link NamedBean}, replacing the value of its {@link Named} annotation in its class file,
+     * so that the indexes created for distinct names only differ by an annotation value.
+     */
+    private static CompositeIndex createIndex(String name) throws IOException {
+        Assert.assertEquals(NamedBean.NAME.length(), name.length());
+        byte[] bytes;
+        try (InputStream input = NamedBean.class.getResourceAsStream(NamedBean.class.getName().substring(NamedBean.class.getPackageName().length() + 1) + ".class")) {
+            bytes = input.readAllBytes();
+        }
+        // A value of the same length keeps the constant pool of the class file valid
+        String content = new String(bytes, StandardCharsets.ISO_8859_1).replace(NamedBean.NAME, name);
+        Indexer indexer = new Indexer();
+        indexer.index(new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1)));
+        return new CompositeIndex(Collections.singleton(indexer.complete()));
+    }
+
+    @Named(NamedBean.NAME)
+    static class NamedBean {
+        static final String NAME = "discovery-alpha";
+    }
+}
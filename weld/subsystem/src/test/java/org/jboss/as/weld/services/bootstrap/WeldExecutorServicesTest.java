@@ -0,0 +1,110 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.weld.services.bootstrap;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WeldExecutorServicesTest {
+
+    @Test
+    public void testWorkerThreads() throws InterruptedException {
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        // Workers must not inherit the context class loader of the thread that created them
+        Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[0]));
+        ForkJoinPool pool;
+        try {
+            pool = new ForkJoinPool(2, new WeldExecutorServices.WeldWorkerThreadFactory(), null, false);
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+        }
+        try {
+            int tasks = 10;
+            CountDownLatch latch = new CountDownLatch(tasks);
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            Set<ClassLoader> loaders = ConcurrentHashMap.newKeySet();
+            for (int i = 0; i < tasks; ++i) {
+                pool.execute(() -> {
+                    threads.add(Thread.currentThread());
+                    ClassLoader loader = Thread.currentThread().getContextClassLoader();
+                    if (loader != null) {
+                        loaders.add(loader);
+                    }
+                    latch.countDown();
+                });
+            }
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+            Assert.assertTrue(loaders.isEmpty());
+            Assert.assertFalse(threads.isEmpty());
+            for (Thread thread : threads) {
+                Assert.assertTrue(thread instanceof WeldExecutorServices.WeldWorkerThread);
+                Assert.assertTrue(thread.getName(), thread.getName().startsWith("Weld Thread Pool -- "));
+            }
+        } finally {
+            pool.shutdown();
+        }
+        Assert.assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testShutdown() throws InterruptedException {
+        WeldExecutorServices.WeldWorkStealingExecutor executor = new WeldExecutorServices.WeldWorkStealingExecutor(2);
+        Assert.assertFalse(executor.isShutdown());
+        executor.shutdown();
+        Assert.assertTrue(executor.isShutdown());
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertTrue(executor.isTerminated());
+    }
+
+    @Test
+    public void testFairness() throws InterruptedException {
+        WeldExecutorServices.WeldWorkStealingExecutor executor = new WeldExecutorServices.WeldWorkStealingExecutor(1);
+        try {
+            CountDownLatch blocked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            executor.execute("blocker", () -> {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Assert.assertTrue(blocked.await(10, TimeUnit.SECONDS));
+
+            // A deployment submitting its tasks after another one does not wait for all tasks of the latter
+            List<String> order = new ArrayList<>();
+            CountDownLatch completed = new CountDownLatch(6);
+            for (int i = 0; i < 4; ++i) {
+                executor.execute("a", () -> {
+                    order.add("a");
+                    completed.countDown();
+                });
+            }
+            for (int i = 0; i < 2; ++i) {
+                executor.execute("b", () -> {
+                    order.add("b");
+                    completed.countDown();
+                });
+            }
+            release.countDown();
+            Assert.assertTrue(completed.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(List.of("a", "b", "a", "b", "a", "a"), order);
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+}